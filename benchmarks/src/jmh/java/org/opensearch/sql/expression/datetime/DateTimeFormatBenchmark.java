@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.datetime;
+
+import static org.opensearch.sql.data.model.ExprTupleValue.fromExprValueMap;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+import static org.opensearch.sql.expression.DSL.literal;
+
+import com.google.common.collect.ImmutableMap;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.FunctionProperties;
+
+/**
+ * Benchmark of date_format, time_format and str_to_date over a batch of rows. A literal format is
+ * compiled once for the expression, while a computed format, the same literal concatenated with an
+ * empty string, is looked up in the cache of compiled formats for every row.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class DateTimeFormatBenchmark {
+
+  private static final int ROW_COUNT = 10000;
+
+  private static final String DATE_FORMAT = "%Y-%m-%d %H:%i:%s";
+
+  @Param(value = {"literal", "computed"})
+  private String formatType;
+
+  private final FunctionProperties functionProperties = new FunctionProperties();
+
+  private final List<Environment<Expression, ExprValue>> rows = new ArrayList<>(ROW_COUNT);
+
+  @Setup
+  public void setUp() {
+    long start = Instant.parse("2024-01-01T00:00:00Z").getEpochSecond();
+    for (int i = 0; i < ROW_COUNT; i++) {
+      Instant timestamp = Instant.ofEpochSecond(start + i * 3671L);
+      String formatted = timestamp.toString().replace('T', ' ').replace("Z", "");
+      rows.add(
+          fromExprValueMap(
+                  ImmutableMap.of(
+                      "timestamp",
+                      new ExprTimestampValue(timestamp),
+                      "formatted",
+                      new ExprStringValue(formatted)))
+              .bindingTuples());
+    }
+  }
+
+  @Benchmark
+  public void testDateFormat() {
+    run(DSL.date_format(functionProperties, DSL.ref("timestamp", TIMESTAMP), format(DATE_FORMAT)));
+  }
+
+  @Benchmark
+  public void testDateFormatWithSuffix() {
+    run(
+        DSL.date_format(
+            functionProperties, DSL.ref("timestamp", TIMESTAMP), format("%W %D of %M %Y")));
+  }
+
+  @Benchmark
+  public void testTimeFormat() {
+    run(
+        DSL.time_format(
+            functionProperties, DSL.ref("timestamp", TIMESTAMP), format("%h:%i:%s %p")));
+  }
+
+  @Benchmark
+  public void testStrToDate() {
+    run(DSL.str_to_date(functionProperties, DSL.ref("formatted", STRING), format(DATE_FORMAT)));
+  }
+
+  private Expression format(String format) {
+    return "literal".equals(formatType)
+        ? literal(format)
+        : DSL.concat(literal(format), literal(""));
+  }
+
+  private void run(Expression expression) {
+    for (Environment<Expression, ExprValue> row : rows) {
+      expression.valueOf(row);
+    }
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.operator.predicate;
+
+import static org.opensearch.sql.data.model.ExprTupleValue.fromExprValueMap;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.env.Environment;
+
+/**
+ * Benchmark of LIKE, NOT LIKE and REGEXP over a batch of rows. A literal pattern is compiled once
+ * for the expression, while a computed pattern, the same literal concatenated with an empty string,
+ * is looked up in the cache of compiled patterns for every row.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class PatternOperatorBenchmark {
+
+  private static final int ROW_COUNT = 10000;
+
+  @Param(value = {"literal", "computed"})
+  private String patternType;
+
+  private final List<Environment<Expression, ExprValue>> rows = new ArrayList<>(ROW_COUNT);
+
+  @Setup
+  public void setUp() {
+    for (int i = 0; i < ROW_COUNT; i++) {
+      String message = String.format(Locale.ROOT, "GET /opensearch/%d HTTP/1.1 %d", i, i % 500);
+      rows.add(
+          fromExprValueMap(ImmutableMap.of("message", new ExprStringValue(message)))
+              .bindingTuples());
+    }
+  }
+
+  @Benchmark
+  public void testLikeOperator() {
+    run(DSL::like, "%/opensearch/1%");
+  }
+
+  @Benchmark
+  public void testNotLikeOperator() {
+    run(DSL::notLike, "get _opensearch%");
+  }
+
+  @Benchmark
+  public void testRegexpOperator() {
+    run(DSL::regexp, "GET /opensearch/[0-9]+ HTTP/1\\.1 4[0-9]{2}");
+  }
+
+  private void run(BiFunction<Expression, Expression, Expression> dsl, String pattern) {
+    Expression patternArg =
+        "literal".equals(patternType)
+            ? literal(pattern)
+            : DSL.concat(literal(pattern), literal(""));
+    Expression expression = dsl.apply(DSL.ref("message", STRING), patternArg);
+    for (Environment<Expression, ExprValue> row : rows) {
+      expression.valueOf(row);
+    }
+  }
+}
@@ -12,6 +12,10 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.PeekingIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -19,7 +23,9 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.opensearch.sql.common.patterns.BrainLogParser;
@@ -34,6 +40,12 @@ import org.opensearch.sql.expression.window.frame.BufferPatternRowsWindowFrame;
 import org.opensearch.sql.expression.window.frame.CurrentRowWindowFrame;
 import org.opensearch.sql.expression.window.frame.WindowFrame;
 
+/**
+ * Benchmark of the patterns window functions over generated access logs. Pass the GC profiler to
+ * JMH to report the allocation rate next to the time, e.g. {@code java -jar
+ * benchmarks/build/libs/benchmarks-*-jmh.jar PatternsWindowFunctionBenchmark -prof gc} after {@code
+ * ./gradlew :benchmarks:jmhJar}.
+ */
 @Warmup(iterations = 1)
 @Measurement(iterations = 3)
 @BenchmarkMode(Mode.AverageTime)
@@ -55,6 +67,13 @@ public class PatternsWindowFunctionBenchmark {
           + " \\\"-\\\" \\\"Mozilla/5.0 (X11; Linux i686) AppleWebKit/534.24 (KHTML, like Gecko)"
           + " Chrome/11.0.696.50 Safari/534.24\\\"";
 
+  private static final String[] TEST_MESSAGES = {TEST_MESSAGE_1, TEST_MESSAGE_2, TEST_MESSAGE_3};
+
+  @Param({"3", "100000", "1000000"})
+  private int lineCount;
+
+  private List<String> messages;
+  private List<ExprValue> messageTuples;
   private PeekingIterator<ExprValue> tuples;
   private final BufferPatternRowsWindowFrame bufferWindowFrame =
       new BufferPatternRowsWindowFrame(
@@ -62,6 +81,47 @@ public class PatternsWindowFunctionBenchmark {
           new BrainLogParser(),
           new NamedArgumentExpression("message", new ReferenceExpression("message", STRING)));
 
+  /** Generate the log lines, varying the addresses, dates, status and sizes of the samples. */
+  @Setup
+  public void setUp() {
+    Random random = new Random(0);
+    messages = new ArrayList<>(lineCount);
+    messageTuples = new ArrayList<>(lineCount);
+    for (int i = 0; i < lineCount; i++) {
+      String message =
+          i < TEST_MESSAGES.length
+              ? TEST_MESSAGES[i]
+              : TEST_MESSAGES[random.nextInt(TEST_MESSAGES.length)]
+                  .replaceFirst(
+                      "^[0-9.]+",
+                      String.format(
+                          Locale.ROOT,
+                          "%d.%d.%d.%d",
+                          random.nextInt(256),
+                          random.nextInt(256),
+                          random.nextInt(256),
+                          random.nextInt(256)))
+                  .replaceFirst(
+                      "T[0-9:.]+Z",
+                      String.format(
+                          Locale.ROOT,
+                          "T%02d:%02d:%02d.%03dZ",
+                          random.nextInt(24),
+                          random.nextInt(60),
+                          random.nextInt(60),
+                          random.nextInt(1000)))
+                  .replaceFirst(
+                      "\\\\\" [0-9]+ [0-9]+",
+                      String.format(
+                          Locale.ROOT,
+                          "\\\\\" %d %d",
+                          200 + 100 * random.nextInt(4),
+                          random.nextInt(100000)));
+      messages.add(message);
+      messageTuples.add(tuple(message));
+    }
+  }
+
   @Benchmark
   public void testSimplePattern() {
     CurrentRowWindowFrame windowFrame =
@@ -81,11 +141,13 @@ public class PatternsWindowFunctionBenchmark {
     run(windowFrame, DSL.brain(DSL.ref("message", STRING)));
   }
 
+  @Benchmark
+  public Object testBrainLogParser() {
+    return new BrainLogParser().parseAllLogPatterns(messages);
+  }
+
   private void run(WindowFrame windowFrame, Expression windowFunction) {
-    tuples =
-        Iterators.peekingIterator(
-            Iterators.forArray(
-                tuple(TEST_MESSAGE_1), tuple(TEST_MESSAGE_2), tuple(TEST_MESSAGE_3)));
+    tuples = Iterators.peekingIterator(messageTuples.iterator());
     while (tuples.hasNext() || windowFrame.hasNext()) {
       windowFrame.load(tuples);
       windowFunction.valueOf(windowFrame);
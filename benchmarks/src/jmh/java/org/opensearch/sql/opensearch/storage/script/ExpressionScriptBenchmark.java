@@ -0,0 +1,200 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.script;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.index.fielddata.SortedNumericDoubleValues;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
+
+/**
+ * Evaluate a filter expression script over every document of a synthetic leaf reader, whose doc
+ * values are served from in-memory arrays the same way as {@code LeafDocLookup} does.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class ExpressionScriptBenchmark {
+
+  private static final int DOCS = 1_000_000;
+
+  @Param(value = {"integer", "long_and_double"})
+  private String filter;
+
+  private Expression expression;
+
+  private SyntheticLeafDocLookup leafDocLookup;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(0);
+    long[] ages = new long[DOCS];
+    long[] bytes = new long[DOCS];
+    double[] balances = new double[DOCS];
+    for (int i = 0; i < DOCS; i++) {
+      ages[i] = random.nextInt(100);
+      bytes[i] = random.nextInt(10_000);
+      balances[i] = random.nextDouble() * 1000;
+    }
+    leafDocLookup =
+        new SyntheticLeafDocLookup(
+            Map.of(
+                "age", new ScriptDocValues.Longs(new ArrayDocValues(ages)),
+                "bytes", new ScriptDocValues.Longs(new ArrayDocValues(bytes)),
+                "balance", new ScriptDocValues.Doubles(new ArrayDoubleValues(balances))));
+    expression =
+        "integer".equals(filter)
+            ? DSL.greater(ref("age", INTEGER), literal(20))
+            : DSL.and(
+                DSL.greater(ref("bytes", LONG), literal(5000L)),
+                DSL.less(ref("balance", DOUBLE), literal(500.0)));
+  }
+
+  @Benchmark
+  public void executeFilterScript(Blackhole blackhole) {
+    // One script instance per leaf reader, as the script leaf factory does
+    ExpressionScript script = new ExpressionScript(expression);
+    for (int doc = 0; doc < DOCS; doc++) {
+      leafDocLookup.setDocument(doc);
+      script.setDocument(doc);
+      blackhole.consume(
+          script.execute(() -> leafDocLookup, (expr, env) -> expr.valueOf(env)).booleanValue());
+    }
+  }
+
+  /** Doc lookup that positions the doc values on current document when looked up by name. */
+  private static class SyntheticLeafDocLookup extends AbstractMap<String, ScriptDocValues<?>> {
+    private final Map<String, ScriptDocValues<?>> docValues;
+    private int docId;
+
+    SyntheticLeafDocLookup(Map<String, ScriptDocValues<?>> docValues) {
+      this.docValues = docValues;
+    }
+
+    void setDocument(int docId) {
+      this.docId = docId;
+    }
+
+    @Override
+    public ScriptDocValues<?> get(Object key) {
+      ScriptDocValues<?> values = docValues.get(key);
+      try {
+        values.setNextDocId(docId);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return values;
+    }
+
+    @Override
+    public Set<Entry<String, ScriptDocValues<?>>> entrySet() {
+      return docValues.entrySet();
+    }
+  }
+
+  /** Single valued numeric doc values over an in-memory array. */
+  private static class ArrayDocValues extends SortedNumericDocValues {
+    private final long[] values;
+    private int doc = -1;
+
+    ArrayDocValues(long[] values) {
+      this.values = values;
+    }
+
+    @Override
+    public long nextValue() {
+      return values[doc];
+    }
+
+    @Override
+    public int docValueCount() {
+      return 1;
+    }
+
+    @Override
+    public boolean advanceExact(int target) {
+      doc = target;
+      return target < values.length;
+    }
+
+    @Override
+    public int docID() {
+      return doc;
+    }
+
+    @Override
+    public int nextDoc() {
+      return advance(doc + 1);
+    }
+
+    @Override
+    public int advance(int target) {
+      doc = target < values.length ? target : NO_MORE_DOCS;
+      return doc;
+    }
+
+    @Override
+    public long cost() {
+      return values.length;
+    }
+  }
+
+  /** Single valued double doc values over an in-memory array. */
+  private static class ArrayDoubleValues extends SortedNumericDoubleValues {
+    private final double[] values;
+    private int doc = -1;
+
+    ArrayDoubleValues(double[] values) {
+      this.values = values;
+    }
+
+    @Override
+    public boolean advanceExact(int target) {
+      doc = target;
+      return target < values.length;
+    }
+
+    @Override
+    public double nextValue() {
+      return values[doc];
+    }
+
+    @Override
+    public int docValueCount() {
+      return 1;
+    }
+  }
+}
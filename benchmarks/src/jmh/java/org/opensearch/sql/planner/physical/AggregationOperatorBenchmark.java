@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.opensearch.sql.data.model.ExprTupleValue.fromExprValueMap;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.planner.physical.collector.Collector;
+
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class AggregationOperatorBenchmark {
+
+  private static final int ROWS = 500_000;
+
+  @Param(value = {"TREE", "HASH"})
+  private String strategy;
+
+  @Param(value = {"100", "100000"})
+  private int cardinality;
+
+  private final List<NamedExpression> groupByExprList =
+      Arrays.asList(
+          DSL.named("host", DSL.ref("host", STRING)), DSL.named("code", DSL.ref("code", INTEGER)));
+
+  private final List<NamedAggregator> aggregatorList =
+      Arrays.asList(
+          DSL.named("count", DSL.count(DSL.ref("bytes", LONG))),
+          DSL.named("sum", DSL.sum(DSL.ref("bytes", LONG))));
+
+  private List<ExprValue> inputs;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(0);
+    inputs = new ArrayList<>(ROWS);
+    for (int i = 0; i < ROWS; i++) {
+      int group = random.nextInt(cardinality);
+      inputs.add(
+          fromExprValueMap(
+              ImmutableMap.of(
+                  "host", new ExprStringValue("host-" + group / 10),
+                  "code", new ExprIntegerValue(group % 10),
+                  "bytes", new ExprLongValue(random.nextInt(10_000)))));
+    }
+  }
+
+  @Benchmark
+  public void testAggregation(Blackhole blackhole) {
+    PhysicalPlan plan =
+        new AggregationOperator(
+            new InputScan(inputs),
+            aggregatorList,
+            groupByExprList,
+            Collector.Strategy.valueOf(strategy));
+    plan.open();
+    while (plan.hasNext()) {
+      blackhole.consume(plan.next());
+    }
+    plan.close();
+  }
+}
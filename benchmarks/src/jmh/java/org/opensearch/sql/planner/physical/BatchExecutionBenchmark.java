@@ -0,0 +1,129 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.opensearch.sql.data.model.ExprTupleValue.fromExprValueMap;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.monitor.QueryMemoryTracker;
+import org.opensearch.sql.planner.physical.collector.Collector;
+
+/**
+ * Benchmark of eval, where and stats, e.g. {@code eval kb = bytes / 1024, slow = latency > 100 |
+ * where slow | stats sum(kb), avg(latency) by host}, executed row by row or batch by batch. The
+ * mixed evals add expressions which are not vectorized and are evaluated row at a time on the
+ * batch.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class BatchExecutionBenchmark {
+
+  private static final int ROWS = 500_000;
+
+  @Param(value = {"false", "true"})
+  private boolean batchExecution;
+
+  @Param(value = {"vectorized", "mixed"})
+  private String evalType;
+
+  private final List<NamedExpression> groupByExprList =
+      Collections.singletonList(DSL.named("host", DSL.ref("host", STRING)));
+
+  private final List<NamedAggregator> aggregatorList =
+      Arrays.asList(
+          DSL.named("sum(kb)", DSL.sum(DSL.ref("kb", LONG))),
+          DSL.named("avg(latency)", DSL.avg(DSL.ref("latency", INTEGER))));
+
+  private List<ExprValue> inputs;
+
+  private List<Pair<ReferenceExpression, Expression>> evals;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(0);
+    inputs = new ArrayList<>(ROWS);
+    for (int i = 0; i < ROWS; i++) {
+      inputs.add(
+          fromExprValueMap(
+              ImmutableMap.of(
+                  "host", new ExprStringValue("host-" + random.nextInt(100)),
+                  "latency", new ExprIntegerValue(random.nextInt(500)),
+                  "bytes", new ExprLongValue(random.nextInt(1_000_000)))));
+    }
+
+    evals = new ArrayList<>();
+    evals.add(
+        Pair.of(DSL.ref("kb", LONG), DSL.divide(DSL.ref("bytes", LONG), DSL.literal(1024L))));
+    if ("mixed".equals(evalType)) {
+      evals.add(
+          Pair.of(
+              DSL.ref("offset", INTEGER),
+              DSL.abs(DSL.subtract(DSL.ref("latency", INTEGER), DSL.literal(250)))));
+      evals.add(
+          Pair.of(
+              DSL.ref("label", STRING),
+              DSL.concat(DSL.ref("host", STRING), DSL.literal("-"), DSL.literal("slow"))));
+    }
+    evals.add(
+        Pair.of(
+            DSL.ref("slow", BOOLEAN),
+            DSL.greater(DSL.ref("latency", INTEGER), DSL.literal(100))));
+  }
+
+  @Benchmark
+  public void testEvalFilterAggregation(Blackhole blackhole) {
+    PhysicalPlan plan =
+        new AggregationOperator(
+            new FilterOperator(
+                new EvalOperator(new InputScan(inputs), evals), DSL.ref("slow", BOOLEAN)),
+            aggregatorList,
+            groupByExprList,
+            Collector.Strategy.HASH,
+            QueryMemoryTracker.NOOP,
+            batchExecution);
+    plan.open();
+    while (plan.hasNext()) {
+      blackhole.consume(plan.next());
+    }
+    plan.close();
+  }
+}
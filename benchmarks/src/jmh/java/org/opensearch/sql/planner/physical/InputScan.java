@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import org.opensearch.sql.data.model.ExprValue;
+
+/** Scan over pre-generated rows, the input of the physical operator benchmarks. */
+class InputScan extends PhysicalPlan {
+  private final Iterator<ExprValue> iterator;
+
+  InputScan(List<ExprValue> inputs) {
+    this.iterator = inputs.iterator();
+  }
+
+  @Override
+  public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<PhysicalPlan> getChild() {
+    return Collections.emptyList();
+  }
+
+  @Override
+  public boolean hasNext() {
+    return iterator.hasNext();
+  }
+
+  @Override
+  public ExprValue next() {
+    return iterator.next();
+  }
+}
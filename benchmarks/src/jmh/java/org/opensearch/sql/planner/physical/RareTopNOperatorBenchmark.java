@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.opensearch.sql.data.model.ExprTupleValue.fromExprValueMap;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class RareTopNOperatorBenchmark {
+
+  private static final int ROWS = 500_000;
+
+  private static final int NO_OF_RESULTS = 10;
+
+  @Param(value = {"TOP", "RARE"})
+  private String commandType;
+
+  /** Number of distinct field values. */
+  @Param(value = {"100", "100000"})
+  private int cardinality;
+
+  /** Number of groups the field values are counted in. */
+  @Param(value = {"1", "100"})
+  private int groups;
+
+  private final List<Expression> fieldExprList = List.of(DSL.ref("url", STRING));
+
+  private final List<Expression> groupByExprList = List.of(DSL.ref("host", STRING));
+
+  private List<ExprValue> inputs;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(0);
+    inputs = new ArrayList<>(ROWS);
+    for (int i = 0; i < ROWS; i++) {
+      // Skewed towards the low values, so that the counts differ.
+      int url = (int) (cardinality * Math.pow(random.nextDouble(), 3));
+      inputs.add(
+          fromExprValueMap(
+              ImmutableMap.of(
+                  "host", new ExprStringValue("host-" + random.nextInt(groups)),
+                  "url", new ExprStringValue("/url-" + url))));
+    }
+  }
+
+  @Benchmark
+  public void testRareTopN(Blackhole blackhole) {
+    PhysicalPlan plan =
+        new RareTopNOperator(
+            new InputScan(inputs),
+            CommandType.valueOf(commandType),
+            NO_OF_RESULTS,
+            fieldExprList,
+            groupByExprList);
+    plan.open();
+    while (plan.hasNext()) {
+      blackhole.consume(plan.next());
+    }
+    plan.close();
+  }
+}
@@ -5,7 +5,6 @@
 
 package org.opensearch.sql.common.patterns;
 
-import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -19,7 +18,6 @@ import java.util.OptionalLong;
 import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /** Log parser Brain algorithm implementation. See: https://ieeexplore.ieee.org/document/10109145 */
 public class BrainLogParser {
@@ -49,10 +47,10 @@ public class BrainLogParser {
   }
 
   private static final List<String> DEFAULT_DELIMITERS = List.of(",", "+");
-  // counting frequency will be grouped by composite of position and token string
+  // Key format of the token histogram view, composite of position and token string
   private static final String POSITIONED_TOKEN_KEY_FORMAT = "%d-%s";
-  // Token set will be grouped by composite of tokens length per log message, word combination
-  // candidate and token position.
+  // Key format of the group token set view, composite of tokens length per log message, word
+  // combination candidate and token position.
   private static final String GROUP_TOKEN_SET_KEY_FORMAT = "%d-%s-%d";
   // By default, algorithm treats more than 2 different tokens in the group per position as variable
   // token
@@ -63,9 +61,18 @@ public class BrainLogParser {
    */
   private static final float DEFAULT_FREQUENCY_THRESHOLD_PERCENTAGE = 0.3f;
 
-  private final Map<String, Long> tokenFreqMap;
-  private final Map<String, Set<String>> groupTokenSetMap;
-  private final Map<String, String> logIdGroupCandidateMap;
+  // Tokens are interned in a dictionary, so that the counters are keyed by integer token ids
+  private final Map<String, Integer> tokenIds;
+  private final List<String> tokenDictionary;
+  // Token frequency keyed by composite of position and token id
+  private final LongLongHashMap tokenFreqMap;
+  // Each position of a group is a slot, the slots of a group are allocated consecutively
+  private final Map<LogGroup, Integer> groupFirstSlots;
+  // Distinct tokens per slot keyed by composite of slot and token id, and their count per slot
+  private final LongLongHashMap groupTokenSet;
+  private int[] slotTokenCounts;
+  private int slotCount;
+  private final Map<String, LogGroup> logIdGroupMap;
   private final int variableCountThreshold;
   private final float thresholdPercentage;
   private final Map<Pattern, String> filterPatternVariableMap;
@@ -131,9 +138,13 @@ public class BrainLogParser {
     if (thresholdPercentage < 0.0f || thresholdPercentage > 1.0f) {
       throw new IllegalArgumentException("Threshold percentage must be between 0.0 and 1.0");
     }
-    this.tokenFreqMap = new HashMap<>();
-    this.groupTokenSetMap = new HashMap<>();
-    this.logIdGroupCandidateMap = new HashMap<>();
+    this.tokenIds = new HashMap<>();
+    this.tokenDictionary = new ArrayList<>();
+    this.tokenFreqMap = new LongLongHashMap();
+    this.groupFirstSlots = new HashMap<>();
+    this.groupTokenSet = new LongLongHashMap();
+    this.slotTokenCounts = new int[64];
+    this.logIdGroupMap = new HashMap<>();
     this.variableCountThreshold = variableCountThreshold;
     this.thresholdPercentage = thresholdPercentage;
     this.filterPatternVariableMap = filterPatternVariableMap;
@@ -178,8 +189,7 @@ public class BrainLogParser {
   public void processTokenHistogram(List<String> tokens) {
     // Ignore last element since it's designed to be appended logId
     for (int i = 0; i < tokens.size() - 1; i++) {
-      String tokenKey = String.format(Locale.ROOT, POSITIONED_TOKEN_KEY_FORMAT, i, tokens.get(i));
-      tokenFreqMap.compute(tokenKey, (k, v) -> v == null ? 1 : v + 1);
+      tokenFreqMap.addTo(positionedTokenKey(i, internToken(tokens.get(i))), 1);
     }
   }
 
@@ -225,10 +235,10 @@ public class BrainLogParser {
               .sorted()
               .collect(Collectors.toList());
       WordCombination candidate = this.findCandidate(sortedWordCombinations);
-      String groupCandidateStr =
-          String.format(Locale.ROOT, "%d,%d", candidate.wordFreq(), candidate.sameFreqCount());
-      this.logIdGroupCandidateMap.put(tokens.get(tokens.size() - 1), groupCandidateStr);
-      this.updateGroupTokenFreqMap(tokens, groupCandidateStr);
+      LogGroup group =
+          new LogGroup(tokens.size() - 1, candidate.wordFreq(), candidate.sameFreqCount());
+      this.logIdGroupMap.put(tokens.get(tokens.size() - 1), group);
+      this.updateGroupTokenFreqMap(tokens, group);
     }
   }
 
@@ -241,53 +251,40 @@ public class BrainLogParser {
    */
   public List<String> parseLogPattern(List<String> tokens) {
     String logId = tokens.get(tokens.size() - 1);
-    String groupCandidateStr = this.logIdGroupCandidateMap.get(logId);
-    String[] groupCandidate = groupCandidateStr.split(",");
-    Long repFreq = Long.parseLong(groupCandidate[0]); // representative frequency of the group
-    return IntStream.range(0, tokens.size() - 1)
-        .mapToObj(i -> new AbstractMap.SimpleEntry<>(i, tokens.get(i)))
-        .map(
-            entry -> {
-              int index = entry.getKey();
-              String token = entry.getValue();
-              String tokenKey =
-                  String.format(Locale.ROOT, POSITIONED_TOKEN_KEY_FORMAT, index, token);
-              assert this.tokenFreqMap.get(tokenKey) != null
-                  : String.format(Locale.ROOT, "Not found token: %s on position %d", token, index);
-
-              boolean isHigherFrequency = this.tokenFreqMap.get(tokenKey) > repFreq;
-              boolean isLowerFrequency = this.tokenFreqMap.get(tokenKey) < repFreq;
-              String groupTokenKey =
-                  String.format(
-                      Locale.ROOT,
-                      GROUP_TOKEN_SET_KEY_FORMAT,
-                      tokens.size() - 1,
-                      groupCandidateStr,
-                      index);
-              assert this.groupTokenSetMap.get(groupTokenKey) != null
-                  : String.format(Locale.ROOT, "Not found any token in group: %s", groupTokenKey);
-
-              if (isHigherFrequency) {
-                // For higher frequency token that doesn't belong to word combination, it's likely
-                // to be constant token only if
-                // it's unique token on that position within the group
-                boolean isUniqueToken = this.groupTokenSetMap.get(groupTokenKey).size() == 1;
-                if (!isUniqueToken) {
-                  return VARIABLE_DENOTER;
-                }
-              } else if (isLowerFrequency) {
-                // For lower frequency token that doesn't belong to word combination, it's likely to
-                // be constant token only if
-                // it doesn't exceed the preset variable count threshold. For example, some variable
-                // are limited number of enums,
-                // and sometimes they could be treated as constant tokens.
-                if (this.groupTokenSetMap.get(groupTokenKey).size() >= variableCountThreshold) {
-                  return VARIABLE_DENOTER;
-                }
-              }
-              return token;
-            })
-        .collect(Collectors.toList());
+    LogGroup group = this.logIdGroupMap.get(logId);
+    long repFreq = group.wordFreq(); // representative frequency of the group
+    int firstSlot = this.groupFirstSlots.get(group);
+    assert group.length() == tokens.size() - 1
+        : String.format(Locale.ROOT, "Log %s doesn't match the length of its group", logId);
+
+    List<String> logPattern = new ArrayList<>(tokens.size() - 1);
+    for (int index = 0; index < tokens.size() - 1; index++) {
+      String token = tokens.get(index);
+      long tokenFreq = this.tokenFreqMap.get(positionedTokenKey(index, tokenId(token)), 0L);
+      assert tokenFreq > 0
+          : String.format(Locale.ROOT, "Not found token: %s on position %d", token, index);
+      int groupTokenCount = this.slotTokenCounts[firstSlot + index];
+      assert groupTokenCount > 0
+          : String.format(
+              Locale.ROOT, "Not found any token in group: %s", groupTokenKey(group, index));
+
+      boolean isVariable = false;
+      if (tokenFreq > repFreq) {
+        // For higher frequency token that doesn't belong to word combination, it's likely
+        // to be constant token only if
+        // it's unique token on that position within the group
+        isVariable = groupTokenCount != 1;
+      } else if (tokenFreq < repFreq) {
+        // For lower frequency token that doesn't belong to word combination, it's likely to
+        // be constant token only if
+        // it doesn't exceed the preset variable count threshold. For example, some variable
+        // are limited number of enums,
+        // and sometimes they could be treated as constant tokens.
+        isVariable = groupTokenCount >= variableCountThreshold;
+      }
+      logPattern.add(isVariable ? VARIABLE_DENOTER : token);
+    }
+    return logPattern;
   }
 
   /**
@@ -310,38 +307,63 @@ public class BrainLogParser {
   }
 
   /**
-   * Get token histogram
+   * Get token histogram. The map is built from the interned counters on each call, for inspection.
    *
    * @return map of token per position key and its frequency
    */
   public Map<String, Long> getTokenFreqMap() {
-    return this.tokenFreqMap;
+    Map<String, Long> tokenFreqs = new HashMap<>();
+    this.tokenFreqMap.forEach(
+        (key, freq) ->
+            tokenFreqs.put(
+                String.format(
+                    Locale.ROOT,
+                    POSITIONED_TOKEN_KEY_FORMAT,
+                    (int) (key >>> 32),
+                    tokenDictionary.get((int) key)),
+                freq));
+    return tokenFreqs;
   }
 
   /**
-   * Get group per length per position to its token set map
+   * Get group per length per position to its token set map. The map is built from the interned
+   * counters on each call, for inspection.
    *
    * @return map of pattern group per length per position key and its token set
    */
   public Map<String, Set<String>> getGroupTokenSetMap() {
-    return this.groupTokenSetMap;
+    String[] slotKeys = new String[slotCount];
+    this.groupFirstSlots.forEach(
+        (group, firstSlot) -> {
+          for (int i = 0; i < group.length(); i++) {
+            slotKeys[firstSlot + i] = groupTokenKey(group, i);
+          }
+        });
+    Map<String, Set<String>> groupTokenSets = new HashMap<>();
+    this.groupTokenSet.forEach(
+        (key, count) ->
+            groupTokenSets
+                .computeIfAbsent(slotKeys[(int) (key >>> 32)], k -> new HashSet<>())
+                .add(tokenDictionary.get((int) key)));
+    return groupTokenSets;
   }
 
   /**
-   * Get logId to its group candidate map
+   * Get logId to its group candidate map. The map is built on each call, for inspection.
    *
    * @return map of logId and group candidate
    */
   public Map<String, String> getLogIdGroupCandidateMap() {
-    return this.logIdGroupCandidateMap;
+    Map<String, String> groupCandidates = new HashMap<>();
+    this.logIdGroupMap.forEach((logId, group) -> groupCandidates.put(logId, group.candidate()));
+    return groupCandidates;
   }
 
   private Map<Long, Integer> getWordOccurrences(List<String> tokens) {
     Map<Long, Integer> occurrences = new HashMap<>();
     for (int i = 0; i < tokens.size() - 1; i++) {
-      String tokenKey = String.format(Locale.ROOT, POSITIONED_TOKEN_KEY_FORMAT, i, tokens.get(i));
-      Long tokenFreq = tokenFreqMap.get(tokenKey);
-      occurrences.compute(tokenFreq, (k, v) -> v == null ? 1 : v + 1);
+      long tokenFreq = tokenFreqMap.get(positionedTokenKey(i, tokenId(tokens.get(i))), 0L);
+      occurrences.merge(tokenFreq, 1, Integer::sum);
     }
     return occurrences;
   }
@@ -362,15 +384,52 @@ public class BrainLogParser {
     return sortedWordCombinations.get(0);
   }
 
-  private void updateGroupTokenFreqMap(List<String> tokens, String groupCandidateStr) {
-    int tokensLen = tokens.size() - 1;
-    for (int i = 0; i < tokensLen; i++) {
-      String groupTokenFreqKey =
-          String.format(Locale.ROOT, GROUP_TOKEN_SET_KEY_FORMAT, tokensLen, groupCandidateStr, i);
-      this.groupTokenSetMap
-          .computeIfAbsent(groupTokenFreqKey, k -> new HashSet<>())
-          .add(tokens.get(i));
+  private void updateGroupTokenFreqMap(List<String> tokens, LogGroup group) {
+    int firstSlot = this.groupFirstSlots.computeIfAbsent(group, g -> allocateSlots(g.length()));
+    for (int i = 0; i < group.length(); i++) {
+      long slotTokenKey = compositeKey(firstSlot + i, internToken(tokens.get(i)));
+      if (this.groupTokenSet.addTo(slotTokenKey, 1) == 1) {
+        this.slotTokenCounts[firstSlot + i]++;
+      }
+    }
+  }
+
+  private int allocateSlots(int length) {
+    int firstSlot = slotCount;
+    slotCount += length;
+    if (slotCount > slotTokenCounts.length) {
+      slotTokenCounts =
+          Arrays.copyOf(slotTokenCounts, Math.max(slotCount, slotTokenCounts.length << 1));
     }
+    return firstSlot;
+  }
+
+  private int internToken(String token) {
+    return tokenIds.computeIfAbsent(
+        token,
+        t -> {
+          tokenDictionary.add(t);
+          return tokenDictionary.size() - 1;
+        });
+  }
+
+  /** Id of an interned token, -1 if the token has not been seen, which matches no counter. */
+  private int tokenId(String token) {
+    Integer tokenId = tokenIds.get(token);
+    return tokenId == null ? -1 : tokenId;
+  }
+
+  private static long positionedTokenKey(int position, int tokenId) {
+    return compositeKey(position, tokenId);
+  }
+
+  private static long compositeKey(int high, int low) {
+    return ((long) high << 32) | (low & 0xFFFFFFFFL);
+  }
+
+  private static String groupTokenKey(LogGroup group, int position) {
+    return String.format(
+        Locale.ROOT, GROUP_TOKEN_SET_KEY_FORMAT, group.length(), group.candidate(), position);
   }
 
   @Override
@@ -394,6 +453,13 @@ public class BrainLogParser {
         variableCountThreshold, thresholdPercentage, filterPatternVariableMap, delimiters);
   }
 
+  /** Group of logs with the same tokens length and word combination candidate. */
+  private record LogGroup(int length, long wordFreq, int sameFreqCount) {
+    String candidate() {
+      return String.format(Locale.ROOT, "%d,%d", wordFreq, sameFreqCount);
+    }
+  }
+
   private static final class WordCombination implements Comparable<WordCombination> {
     private final Long wordFreq;
     private final Integer sameFreqCount;
@@ -0,0 +1,143 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.common.patterns;
+
+/**
+ * Open addressing hash map from primitive long keys to primitive long values, which avoids boxing
+ * the keys and values of the large counting maps built by {@link BrainLogParser}.
+ */
+final class LongLongHashMap {
+
+  private static final int INITIAL_CAPACITY = 16;
+  private static final float LOAD_FACTOR = 0.5f;
+
+  private long[] keys;
+  private long[] values;
+  private boolean[] used;
+  private int size;
+  private int resizeThreshold;
+
+  LongLongHashMap() {
+    allocate(INITIAL_CAPACITY);
+  }
+
+  /**
+   * Get the value of a key.
+   *
+   * @param key key
+   * @param defaultValue value returned if the key is absent
+   * @return value of the key, or the default value
+   */
+  long get(long key, long defaultValue) {
+    int slot = find(key);
+    return used[slot] ? values[slot] : defaultValue;
+  }
+
+  /**
+   * Add a delta to the value of a key, which starts from 0 if the key is absent.
+   *
+   * @param key key
+   * @param delta delta to add
+   * @return value of the key after the addition
+   */
+  long addTo(long key, long delta) {
+    int slot = find(key);
+    if (used[slot]) {
+      return values[slot] += delta;
+    }
+    insert(slot, key, delta);
+    return delta;
+  }
+
+  /**
+   * Put the value of a key.
+   *
+   * @param key key
+   * @param value value
+   */
+  void put(long key, long value) {
+    int slot = find(key);
+    if (used[slot]) {
+      values[slot] = value;
+    } else {
+      insert(slot, key, value);
+    }
+  }
+
+  /** Number of keys in the map. */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Call the consumer with each key and value, in no particular order.
+   *
+   * @param consumer entry consumer
+   */
+  void forEach(EntryConsumer consumer) {
+    for (int i = 0; i < keys.length; i++) {
+      if (used[i]) {
+        consumer.accept(keys[i], values[i]);
+      }
+    }
+  }
+
+  private int find(long key) {
+    int mask = keys.length - 1;
+    int slot = mix(key) & mask;
+    while (used[slot] && keys[slot] != key) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private void insert(int slot, long key, long value) {
+    keys[slot] = key;
+    values[slot] = value;
+    used[slot] = true;
+    if (++size > resizeThreshold) {
+      rehash();
+    }
+  }
+
+  private void rehash() {
+    long[] oldKeys = keys;
+    long[] oldValues = values;
+    boolean[] oldUsed = used;
+    allocate(keys.length << 1);
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldUsed[i]) {
+        int slot = find(oldKeys[i]);
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+        used[slot] = true;
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    values = new long[capacity];
+    used = new boolean[capacity];
+    resizeThreshold = (int) (capacity * LOAD_FACTOR);
+  }
+
+  /** Finalizer of MurmurHash3, spreading the composite keys over the slots. */
+  private static int mix(long key) {
+    key ^= key >>> 33;
+    key *= 0xff51afd7ed558ccdL;
+    key ^= key >>> 33;
+    key *= 0xc4ceb9fe1a85ec53L;
+    key ^= key >>> 33;
+    return (int) key;
+  }
+
+  /** Consumer of the entries of the map. */
+  @FunctionalInterface
+  interface EntryConsumer {
+    void accept(long key, long value);
+  }
+}
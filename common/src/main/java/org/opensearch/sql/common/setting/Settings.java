@@ -40,6 +40,15 @@ public abstract class Settings {
     /** Common Settings for SQL and PPL. */
     QUERY_MEMORY_LIMIT("plugins.query.memory_limit"),
     QUERY_SIZE_LIMIT("plugins.query.size_limit"),
+    QUERY_SORT_MEMORY_LIMIT("plugins.query.sort.memory_limit"),
+    QUERY_MEMORY_BREAKER_LIMIT("plugins.query.memory_breaker.limit"),
+    QUERY_MEMORY_BREAKER_PER_QUERY_LIMIT("plugins.query.memory_breaker.per_query_limit"),
+    QUERY_ADMISSION_MAX_CONCURRENT_PER_USER("plugins.query.admission.max_concurrent_per_user"),
+    QUERY_ADMISSION_MAX_CONCURRENT_PER_INDEX("plugins.query.admission.max_concurrent_per_index"),
+    QUERY_SCAN_PREFETCH_PAGES("plugins.query.scan.prefetch_pages"),
+    QUERY_SCAN_SLICES("plugins.query.scan.slices"),
+    QUERY_EXECUTOR_VIRTUAL_THREADS("plugins.query.executor.virtual_threads"),
+    QUERY_BATCH_EXECUTION_ENABLED("plugins.query.batch_execution.enabled"),
     ENCYRPTION_MASTER_KEY("plugins.query.datasources.encryption.masterkey"),
     DATASOURCES_URI_HOSTS_DENY_LIST("plugins.query.datasources.uri.hosts.denylist"),
     DATASOURCES_LIMIT("plugins.query.datasources.limit"),
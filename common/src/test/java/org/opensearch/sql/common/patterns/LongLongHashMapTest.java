@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.common.patterns;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class LongLongHashMapTest {
+
+  @Test
+  public void testAddToAndGet() {
+    LongLongHashMap map = new LongLongHashMap();
+    assertEquals(-1L, map.get(0L, -1L));
+    assertEquals(1L, map.addTo(0L, 1));
+    assertEquals(3L, map.addTo(0L, 2));
+    assertEquals(5L, map.addTo(-7L, 5));
+    assertEquals(3L, map.get(0L, -1L));
+    assertEquals(5L, map.get(-7L, -1L));
+    assertEquals(2, map.size());
+  }
+
+  @Test
+  public void testPutOverridesValue() {
+    LongLongHashMap map = new LongLongHashMap();
+    map.put(42L, 1L);
+    map.put(42L, 2L);
+    assertEquals(2L, map.get(42L, 0L));
+    assertEquals(1, map.size());
+  }
+
+  @Test
+  public void testGrowKeepsAllEntries() {
+    LongLongHashMap map = new LongLongHashMap();
+    Map<Long, Long> expected = new HashMap<>();
+    for (long i = 0; i < 10_000; i++) {
+      long key = (i % 100) << 32 | i;
+      map.addTo(key, i);
+      expected.merge(key, i, Long::sum);
+    }
+
+    Map<Long, Long> actual = new HashMap<>();
+    map.forEach(actual::put);
+    assertEquals(expected, actual);
+    assertEquals(expected.size(), map.size());
+  }
+}
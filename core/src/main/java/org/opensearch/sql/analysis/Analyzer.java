@@ -480,15 +480,15 @@ public class Analyzer extends AbstractNodeVisitor<LogicalPlan, AnalysisContext>
     Expression patternExpression = DSL.literal(pattern);
 
     TypeEnvironment curEnv = context.peek();
-    ParseUtils.getNamedGroupCandidates(parseMethod, pattern, arguments)
-        .forEach(
-            group -> {
-              ParseExpression expr =
-                  ParseUtils.createParseExpression(
-                      parseMethod, sourceField, patternExpression, DSL.literal(group));
-              curEnv.define(new Symbol(Namespace.FIELD_NAME, group), expr.type());
-              context.getNamedParseExpressions().add(new NamedExpression(group, expr));
-            });
+    List<String> groups = ParseUtils.getNamedGroupCandidates(parseMethod, pattern, arguments);
+    List<ParseExpression> exprs =
+        ParseUtils.createParseExpressions(parseMethod, sourceField, patternExpression, groups);
+    for (int i = 0; i < groups.size(); i++) {
+      String group = groups.get(i);
+      ParseExpression expr = exprs.get(i);
+      curEnv.define(new Symbol(Namespace.FIELD_NAME, group), expr.type());
+      context.getNamedParseExpressions().add(new NamedExpression(group, expr));
+    }
     return child;
   }
 
@@ -0,0 +1,69 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.udf.udaf;
+
+import java.util.Objects;
+import org.opensearch.sql.calcite.udf.UserDefinedAggFunction;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.expression.aggregation.DistinctCountApproximateAggregator;
+import org.opensearch.sql.expression.aggregation.HyperLogLogPlusPlus;
+
+/**
+ * Approximate distinct count with the same {@link HyperLogLogPlusPlus} sketch as the in-memory
+ * aggregator, the optional second argument is the precision threshold. Dates, times and timestamps
+ * are followed by a flag of their type, so they are hashed by their epoch milliseconds like the
+ * in-memory aggregator does instead of by their string.
+ */
+public class DistinctCountApproxFunction
+    implements UserDefinedAggFunction<DistinctCountApproxFunction.DistinctCountApproxAccumulator> {
+
+  @Override
+  public DistinctCountApproxAccumulator init() {
+    return new DistinctCountApproxAccumulator();
+  }
+
+  @Override
+  public DistinctCountApproxAccumulator add(DistinctCountApproxAccumulator acc, Object... values) {
+    Object targetValue = values[0];
+    if (Objects.isNull(targetValue)) {
+      return acc;
+    }
+    long precisionThreshold =
+        values.length > 1 && values[1] instanceof Number threshold
+            ? threshold.longValue()
+            : HyperLogLogPlusPlus.DEFAULT_PRECISION_THRESHOLD;
+    long hash =
+        values[values.length - 1] instanceof ExprCoreType type
+            ? DistinctCountApproximateAggregator.hash(
+                ExprValueUtils.fromObjectValue(targetValue, type))
+            : HyperLogLogPlusPlus.hash(targetValue);
+    acc.add(hash, precisionThreshold);
+    return acc;
+  }
+
+  @Override
+  public Object result(DistinctCountApproxAccumulator acc) {
+    return acc.value();
+  }
+
+  public static class DistinctCountApproxAccumulator implements Accumulator {
+    // Created with the first value, since the precision threshold is only known from the arguments
+    private HyperLogLogPlusPlus sketch;
+
+    public void add(long hash, long precisionThreshold) {
+      if (sketch == null) {
+        sketch = HyperLogLogPlusPlus.withPrecisionThreshold(precisionThreshold);
+      }
+      sketch.addHash(hash);
+    }
+
+    @Override
+    public Object value(Object... argList) {
+      return sketch == null ? 0L : sketch.cardinality();
+    }
+  }
+}
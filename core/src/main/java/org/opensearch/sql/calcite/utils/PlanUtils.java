@@ -33,8 +33,11 @@ import org.opensearch.sql.ast.expression.SpanUnit;
 import org.opensearch.sql.ast.expression.WindowBound;
 import org.opensearch.sql.ast.expression.WindowFrame;
 import org.opensearch.sql.calcite.CalcitePlanContext;
+import org.opensearch.sql.calcite.type.AbstractExprRelDataType;
+import org.opensearch.sql.calcite.udf.udaf.DistinctCountApproxFunction;
 import org.opensearch.sql.calcite.udf.udaf.PercentileApproxFunction;
 import org.opensearch.sql.calcite.udf.udaf.TakeAggFunction;
+import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
 
 public interface PlanUtils {
@@ -272,6 +275,22 @@ public interface PlanUtils {
             List.of(field),
             newArgList,
             context.relBuilder);
+      case DISTINCT_COUNT_APPROX:
+        List<RexNode> approxArgList = new ArrayList<>(argList);
+        // Only datetime fields get the type flag, so the other calls can still be pushed down
+        if (field.getType() instanceof AbstractExprRelDataType<?> udt
+            && (udt.getExprType() == ExprCoreType.DATE
+                || udt.getExprType() == ExprCoreType.TIME
+                || udt.getExprType() == ExprCoreType.TIMESTAMP)) {
+          approxArgList.add(context.rexBuilder.makeFlag((ExprCoreType) udt.getExprType()));
+        }
+        return TransferUserDefinedAggFunction(
+            DistinctCountApproxFunction.class,
+            "distinct_count_approx",
+            ReturnTypes.BIGINT,
+            List.of(field),
+            approxArgList,
+            context.relBuilder);
       default:
         throw new UnsupportedOperationException(
             "Unexpected aggregation: " + functionName.getName().getFunctionName());
@@ -43,6 +43,11 @@ public class ExprIpValue extends AbstractExprValue {
     return compare(other) == 0;
   }
 
+  @Override
+  public int hashCode() {
+    return IPUtils.hashCode(value);
+  }
+
   @Override
   public String toString() {
     return String.format("IP %s", value());
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.utils;
+
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.data.model.ExprCollectionValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * Rough estimation of the heap size retained by an {@link ExprValue}. The estimation is not exact,
+ * it is only meant for operators to decide when their buffered rows exceed a memory budget.
+ */
+@UtilityClass
+public class ExprValueSizeEstimator {
+
+  /** Object header plus one reference or primitive field. */
+  private static final long SCALAR_SIZE = 16L;
+
+  /** Object header plus backing array header of a String. */
+  private static final long STRING_OVERHEAD = 40L;
+
+  /** LinkedHashMap plus wrapping object. */
+  private static final long TUPLE_OVERHEAD = 64L;
+
+  /** LinkedHashMap entry with key and value references. */
+  private static final long TUPLE_ENTRY_OVERHEAD = 40L;
+
+  /** List plus wrapping object. */
+  private static final long COLLECTION_OVERHEAD = 40L;
+
+  /** Reference in the backing array of a List. */
+  private static final long REFERENCE_SIZE = 8L;
+
+  /**
+   * Estimate the retained heap size of the given value in bytes.
+   *
+   * @param value {@link ExprValue}
+   * @return estimated size in bytes
+   */
+  public static long estimate(ExprValue value) {
+    if (value.isNull() || value.isMissing()) {
+      // NULL and MISSING are singletons
+      return 0L;
+    }
+    if (value instanceof ExprTupleValue) {
+      long size = TUPLE_OVERHEAD;
+      for (Map.Entry<String, ExprValue> entry : value.tupleValue().entrySet()) {
+        size += TUPLE_ENTRY_OVERHEAD + stringSize(entry.getKey()) + estimate(entry.getValue());
+      }
+      return size;
+    }
+    if (value instanceof ExprCollectionValue) {
+      long size = COLLECTION_OVERHEAD;
+      for (ExprValue element : value.collectionValue()) {
+        size += REFERENCE_SIZE + estimate(element);
+      }
+      return size;
+    }
+    if (value instanceof ExprStringValue) {
+      return SCALAR_SIZE + stringSize(value.stringValue());
+    }
+    return SCALAR_SIZE * 2;
+  }
+
+  private static long stringSize(String value) {
+    return STRING_OVERHEAD + value.length();
+  }
+}
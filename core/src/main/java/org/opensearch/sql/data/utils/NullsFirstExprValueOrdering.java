@@ -23,10 +23,16 @@ public class NullsFirstExprValueOrdering extends ExprValueOrdering {
     if (left == right) {
       return 0;
     }
-    if (left.isNull() || left.isMissing()) {
+    boolean leftIsEmpty = left.isNull() || left.isMissing();
+    boolean rightIsEmpty = right.isNull() || right.isMissing();
+    if (leftIsEmpty && rightIsEmpty) {
+      // NULL and MISSING are ranked equally, keep the ordering symmetric for sort algorithms
+      return 0;
+    }
+    if (leftIsEmpty) {
       return RIGHT_IS_GREATER;
     }
-    if (right.isNull() || right.isMissing()) {
+    if (rightIsEmpty) {
       return LEFT_IS_GREATER;
     }
     return ordering.compare(left, right);
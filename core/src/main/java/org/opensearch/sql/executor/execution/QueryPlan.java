@@ -8,10 +8,17 @@
 
 package org.opensearch.sql.executor.execution;
 
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.apache.commons.lang3.NotImplementedException;
+import org.opensearch.sql.ast.Node;
 import org.opensearch.sql.ast.statement.Explain;
+import org.opensearch.sql.ast.tree.FetchCursor;
+import org.opensearch.sql.ast.tree.Join;
 import org.opensearch.sql.ast.tree.Paginate;
+import org.opensearch.sql.ast.tree.Relation;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.executor.ExecutionEngine;
@@ -81,4 +88,33 @@ public class QueryPlan extends AbstractPlan {
       queryService.explain(plan, getQueryType(), listener, format);
     }
   }
+
+  /**
+   * Whether the query fetches the next page of a cursor, which only reads one page and is cheaper
+   * than a query planned from scratch.
+   */
+  public boolean isCursorFetch() {
+    return plan instanceof FetchCursor;
+  }
+
+  /**
+   * Names of the tables read by the query, as given by the user. Empty if the query continues from
+   * a cursor.
+   */
+  public Set<String> getTableNames() {
+    Set<String> tableNames = new LinkedHashSet<>();
+    collectTableNames(plan, tableNames);
+    return tableNames;
+  }
+
+  private void collectTableNames(Node node, Set<String> tableNames) {
+    if (node instanceof Relation relation) {
+      relation.getQualifiedNames().forEach(name -> tableNames.add(name.toString()));
+    }
+    List<? extends Node> children =
+        node instanceof Join join ? join.getChildren() : node.getChild();
+    if (children != null) {
+      children.forEach(child -> collectTableNames(child, tableNames));
+    }
+  }
 }
@@ -14,9 +14,12 @@ import java.io.NotSerializableException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.Base64;
 import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.exception.NoCursorException;
 import org.opensearch.sql.planner.SerializablePlan;
@@ -31,6 +34,12 @@ import org.opensearch.sql.storage.StorageEngine;
 public class PlanSerializer {
   public static final String CURSOR_PREFIX = "n:";
 
+  /** Version of the cursor format, written as the first byte of the encoded data. */
+  private static final byte CURSOR_VERSION = 2;
+
+  /** Hex of the GZIP magic number that data in the legacy format starts with. */
+  private static final String LEGACY_CODE_PREFIX = "1f8b";
+
   private final StorageEngine engine;
 
   /** Converts a physical plan tree to a cursor. */
@@ -45,44 +54,62 @@ public class PlanSerializer {
   }
 
   /**
-   * Serializes and compresses the object.
+   * Serializes and compresses the object. The encoded data starts with a format version byte,
+   * followed by the serialized object compressed by a fast deflate level and is encoded in URL safe
+   * base64, which is 1/3 shorter than hex.
    *
    * @param object The object.
    * @return Encoded binary data.
    */
   protected String serialize(Serializable object) throws NotSerializableException {
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
     try {
       ByteArrayOutputStream output = new ByteArrayOutputStream();
-      ObjectOutputStream objectOutput = new ObjectOutputStream(output);
-      objectOutput.writeObject(object);
-      objectOutput.flush();
-
-      ByteArrayOutputStream out = new ByteArrayOutputStream();
-      // GZIP provides 35-45%, lzma from apache commons-compress has few % better compression
-      GZIPOutputStream gzip =
-          new GZIPOutputStream(out) {
-            {
-              this.def.setLevel(Deflater.BEST_COMPRESSION);
-            }
-          };
-      gzip.write(output.toByteArray());
-      gzip.close();
-
-      return HashCode.fromBytes(out.toByteArray()).toString();
+      output.write(CURSOR_VERSION);
+      try (ObjectOutputStream objectOutput =
+          new ObjectOutputStream(new DeflaterOutputStream(output, deflater))) {
+        objectOutput.writeObject(object);
+      }
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(output.toByteArray());
     } catch (NotSerializableException e) {
       throw e;
     } catch (IOException e) {
       throw new IllegalStateException("Failed to serialize: " + object, e);
+    } finally {
+      deflater.end();
     }
   }
 
   /**
-   * Decompresses and deserializes the binary data.
+   * Decompresses and deserializes the binary data. Data encoded in the legacy format, which is hex
+   * of the GZIP compressed object, is accepted as well.
    *
    * @param code Encoded binary data.
    * @return An object.
    */
   protected Serializable deserialize(String code) {
+    if (code.startsWith(LEGACY_CODE_PREFIX)) {
+      return deserializeLegacy(code);
+    }
+    Inflater inflater = new Inflater();
+    try {
+      byte[] bytes = Base64.getUrlDecoder().decode(code);
+      if (bytes.length == 0 || bytes[0] != CURSOR_VERSION) {
+        throw new IllegalArgumentException("Unsupported cursor version");
+      }
+      InputStream input =
+          new InflaterInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1), inflater);
+      try (ObjectInputStream objectInput = new CursorDeserializationStream(input)) {
+        return (Serializable) objectInput.readObject();
+      }
+    } catch (Exception e) {
+      throw new IllegalStateException("Failed to deserialize object", e);
+    } finally {
+      inflater.end();
+    }
+  }
+
+  private Serializable deserializeLegacy(String code) {
     try {
       GZIPInputStream gzip =
           new GZIPInputStream(new ByteArrayInputStream(HashCode.fromString(code).asBytes()));
@@ -760,6 +760,10 @@ public class DSL {
     return aggregate(BuiltinFunctionName.PERCENTILE_APPROX, expressions);
   }
 
+  public static Aggregator distinctCountApprox(Expression... expressions) {
+    return aggregate(BuiltinFunctionName.DISTINCT_COUNT_APPROX, expressions);
+  }
+
   private static Aggregator aggregate(BuiltinFunctionName functionName, Expression... expressions) {
     return compile(FunctionProperties.None, functionName, expressions);
   }
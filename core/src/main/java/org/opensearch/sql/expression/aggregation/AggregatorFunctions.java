@@ -58,6 +58,7 @@ public class AggregatorFunctions {
     repository.register(stddevPop());
     repository.register(take());
     repository.register(percentileApprox());
+    repository.register(distinctCountApprox());
   }
 
   private static DefaultFunctionResolver avg() {
@@ -278,4 +279,21 @@ public class AggregatorFunctions {
                 .build());
     return functionResolver;
   }
+
+  private static DefaultFunctionResolver distinctCountApprox() {
+    FunctionName functionName = BuiltinFunctionName.DISTINCT_COUNT_APPROX.getName();
+    ImmutableMap.Builder<FunctionSignature, FunctionBuilder> builder = ImmutableMap.builder();
+    for (ExprCoreType type : ExprCoreType.coreTypes()) {
+      builder
+          .put(
+              new FunctionSignature(functionName, ImmutableList.of(type)),
+              (functionProperties, arguments) ->
+                  new DistinctCountApproximateAggregator(arguments, LONG))
+          .put(
+              new FunctionSignature(functionName, ImmutableList.of(type, INTEGER)),
+              (functionProperties, arguments) ->
+                  new DistinctCountApproximateAggregator(arguments, LONG));
+    }
+    return new DefaultFunctionResolver(functionName, builder.build());
+  }
 }
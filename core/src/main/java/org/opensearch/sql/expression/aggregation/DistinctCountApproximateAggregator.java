@@ -0,0 +1,94 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.aggregation;
+
+import static org.opensearch.sql.utils.ExpressionUtils.format;
+
+import java.time.ZoneOffset;
+import java.util.List;
+import org.opensearch.sql.common.utils.StringUtils;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+
+/**
+ * Aggregator to calculate approximate distinct count with a {@link HyperLogLogPlusPlus} sketch,
+ * which keeps a bounded memory per bucket instead of every distinct value. The optional second
+ * argument is the precision threshold of the cardinality aggregation of OpenSearch.
+ */
+public class DistinctCountApproximateAggregator
+    extends Aggregator<DistinctCountApproximateAggregator.DistinctCountApproximateState> {
+
+  public DistinctCountApproximateAggregator(List<Expression> arguments, ExprCoreType returnType) {
+    super(BuiltinFunctionName.DISTINCT_COUNT_APPROX.getName(), arguments, returnType);
+  }
+
+  @Override
+  public DistinctCountApproximateState create() {
+    if (getArguments().size() == 2) {
+      return new DistinctCountApproximateState(getArguments().get(1).valueOf().integerValue());
+    }
+    return new DistinctCountApproximateState(HyperLogLogPlusPlus.DEFAULT_PRECISION_THRESHOLD);
+  }
+
+  @Override
+  protected DistinctCountApproximateState iterate(
+      ExprValue value, DistinctCountApproximateState state) {
+    state.sketch.addHash(hash(value));
+    return state;
+  }
+
+  /**
+   * Hash a value like the cardinality aggregation of OpenSearch does, which hashes dates, times and
+   * timestamps by their epoch milliseconds instead of by their formatted string.
+   *
+   * @param value value, which must not be null or missing
+   * @return 64 bits hash
+   */
+  public static long hash(ExprValue value) {
+    if (ExprCoreType.TIMESTAMP.equals(value.type())) {
+      return HyperLogLogPlusPlus.hash(value.timestampValue().toEpochMilli());
+    }
+    if (ExprCoreType.DATE.equals(value.type())) {
+      return HyperLogLogPlusPlus.hash(
+          value.dateValue().atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli());
+    }
+    if (ExprCoreType.TIME.equals(value.type())) {
+      return HyperLogLogPlusPlus.hash(value.timeValue().toNanoOfDay() / 1_000_000);
+    }
+    return HyperLogLogPlusPlus.hash(value.value());
+  }
+
+  @Override
+  public String toString() {
+    return StringUtils.format("%s(%s)", "distinct_count_approx", format(getArguments()));
+  }
+
+  /** DistinctCountApproximateState holds the sketch of the distinct values of a bucket. */
+  protected static class DistinctCountApproximateState implements AggregationState {
+    private final HyperLogLogPlusPlus sketch;
+
+    DistinctCountApproximateState(long precisionThreshold) {
+      this.sketch = HyperLogLogPlusPlus.withPrecisionThreshold(precisionThreshold);
+    }
+
+    /**
+     * Merge the state of another bucket into this one.
+     *
+     * @param other state of the other bucket
+     */
+    public void merge(DistinctCountApproximateState other) {
+      sketch.merge(other.sketch);
+    }
+
+    @Override
+    public ExprValue result() {
+      return ExprValueUtils.longValue(sketch.cardinality());
+    }
+  }
+}
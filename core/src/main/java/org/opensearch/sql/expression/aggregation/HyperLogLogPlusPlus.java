@@ -0,0 +1,269 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.aggregation;
+
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.util.function.LongConsumer;
+import lombok.Getter;
+
+/**
+ * HyperLogLog++ sketch estimating the number of distinct values, with the same precision semantics
+ * as the <code>cardinality</code> aggregation of OpenSearch: the precision is derived from a
+ * precision threshold, the sketch counts the distinct hashes exactly (linear counting) while they
+ * fit in a quarter of the memory of the registers, and switches to the HyperLogLog registers
+ * afterwards. Sketches of the same precision can be merged.
+ */
+public class HyperLogLogPlusPlus {
+
+  /** Default precision threshold of the cardinality aggregation of OpenSearch. */
+  public static final int DEFAULT_PRECISION_THRESHOLD = 3000;
+
+  /** Maximum precision threshold supported by the cardinality aggregation of OpenSearch. */
+  public static final int MAX_PRECISION_THRESHOLD = 40000;
+
+  static final int MIN_PRECISION = 4;
+  static final int MAX_PRECISION = 18;
+
+  // Estimates of linear counting below these thresholds are used, indexed by precision - 4.
+  private static final long[] LINEAR_COUNTING_THRESHOLDS = {
+    10, 20, 40, 80, 220, 400, 900, 1800, 3100, 6500, 11500, 20000, 50000, 120000, 350000
+  };
+
+  @Getter private final int precision;
+
+  private final int linearCountingCapacity;
+
+  /** Distinct hashes while linear counting, null once the registers are used. */
+  private LongHashSet hashes;
+
+  /** HyperLogLog registers, null while linear counting. */
+  private byte[] registers;
+
+  /**
+   * Create a sketch for the given precision threshold.
+   *
+   * @param precisionThreshold count below which the result is expected to be close to accurate
+   * @return sketch
+   */
+  public static HyperLogLogPlusPlus withPrecisionThreshold(long precisionThreshold) {
+    if (precisionThreshold < 0) {
+      throw new IllegalArgumentException("precision threshold must be non negative");
+    }
+    return new HyperLogLogPlusPlus(
+        precisionFromThreshold(Math.min(precisionThreshold, MAX_PRECISION_THRESHOLD)));
+  }
+
+  /**
+   * Create a sketch of the given precision.
+   *
+   * @param precision number of bits of the hash addressing the registers
+   */
+  public HyperLogLogPlusPlus(int precision) {
+    if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+      throw new IllegalArgumentException(
+          String.format(
+              "precision must be between %d and %d, but got %d",
+              MIN_PRECISION, MAX_PRECISION, precision));
+    }
+    this.precision = precision;
+    this.linearCountingCapacity = (1 << precision) / 4;
+    this.hashes = new LongHashSet();
+  }
+
+  /**
+   * Precision of the sketch for a precision threshold, computed as the cardinality aggregation of
+   * OpenSearch does.
+   *
+   * @param count precision threshold
+   * @return precision
+   */
+  public static int precisionFromThreshold(long count) {
+    long hashTableEntries = (long) Math.ceil(count / 0.75);
+    int precision = Math.max(1, 64 - Long.numberOfLeadingZeros(hashTableEntries * Integer.BYTES));
+    return Math.min(Math.max(precision, MIN_PRECISION), MAX_PRECISION);
+  }
+
+  /**
+   * Hash a value. Numbers are hashed by their bits like the cardinality aggregation does, other
+   * values by the MurmurHash3 of their string representation.
+   *
+   * @param value value
+   * @return 64 bits hash
+   */
+  public static long hash(Object value) {
+    if (value instanceof Byte
+        || value instanceof Short
+        || value instanceof Integer
+        || value instanceof Long) {
+      return mix64(((Number) value).longValue());
+    }
+    if (value instanceof Number number) {
+      return mix64(Double.doubleToLongBits(number.doubleValue()));
+    }
+    return Hashing.murmur3_128().hashString(value.toString(), StandardCharsets.UTF_8).asLong();
+  }
+
+  /**
+   * Add a value to the sketch.
+   *
+   * @param value value, which must not be null
+   */
+  public void add(Object value) {
+    addHash(hash(value));
+  }
+
+  /**
+   * Add the hash of a value to the sketch.
+   *
+   * @param hash 64 bits hash
+   */
+  public void addHash(long hash) {
+    if (registers == null) {
+      hashes.add(hash);
+      if (hashes.size() > linearCountingCapacity) {
+        upgradeToRegisters();
+      }
+    } else {
+      collect(hash);
+    }
+  }
+
+  /**
+   * Merge another sketch of the same precision into this one.
+   *
+   * @param other sketch to merge
+   */
+  public void merge(HyperLogLogPlusPlus other) {
+    if (other.precision != precision) {
+      throw new IllegalArgumentException(
+          String.format(
+              "cannot merge sketches of precision %d and %d", precision, other.precision));
+    }
+    if (other.registers == null) {
+      other.hashes.forEach(this::addHash);
+      return;
+    }
+    if (registers == null) {
+      upgradeToRegisters();
+    }
+    for (int i = 0; i < registers.length; i++) {
+      registers[i] = (byte) Math.max(registers[i], other.registers[i]);
+    }
+  }
+
+  /**
+   * Estimated number of distinct values.
+   *
+   * @return cardinality
+   */
+  public long cardinality() {
+    if (registers == null) {
+      return hashes.size();
+    }
+    int m = registers.length;
+    int zeros = 0;
+    double inverseSum = 0;
+    for (byte register : registers) {
+      if (register == 0) {
+        zeros++;
+      }
+      inverseSum += 1.0 / (1L << register);
+    }
+    if (zeros > 0) {
+      long linearCounting = Math.round(m * Math.log((double) m / zeros));
+      if (linearCounting <= LINEAR_COUNTING_THRESHOLDS[precision - MIN_PRECISION]) {
+        return linearCounting;
+      }
+    }
+    return Math.round(alpha(m) * m * m / inverseSum);
+  }
+
+  private void upgradeToRegisters() {
+    registers = new byte[1 << precision];
+    hashes.forEach(this::collect);
+    hashes = null;
+  }
+
+  private void collect(long hash) {
+    int index = (int) (hash >>> (64 - precision));
+    long bits = (hash << precision) | (1L << (precision - 1));
+    byte runLength = (byte) (Long.numberOfLeadingZeros(bits) + 1);
+    if (registers[index] < runLength) {
+      registers[index] = runLength;
+    }
+  }
+
+  private static double alpha(int m) {
+    return switch (m) {
+      case 16 -> 0.673;
+      case 32 -> 0.697;
+      case 64 -> 0.709;
+      default -> 0.7213 / (1 + 1.079 / m);
+    };
+  }
+
+  /** Bit mixer applied to numbers by the cardinality aggregation of OpenSearch. */
+  private static long mix64(long k) {
+    k = (k ^ (k >>> 32)) * 0x4cd6944c5cc20b6dL;
+    k = (k ^ (k >>> 29)) * 0xfc12c5b19d3259e9L;
+    return k ^ (k >>> 32);
+  }
+
+  /** Open addressing set of the hashes collected while linear counting. */
+  private static class LongHashSet {
+    private long[] keys = new long[16];
+    private boolean[] used = new boolean[16];
+    private int size;
+
+    void add(long key) {
+      int slot = find(keys, used, key);
+      if (!used[slot]) {
+        keys[slot] = key;
+        used[slot] = true;
+        if (++size > keys.length / 2) {
+          grow();
+        }
+      }
+    }
+
+    int size() {
+      return size;
+    }
+
+    void forEach(LongConsumer consumer) {
+      for (int i = 0; i < keys.length; i++) {
+        if (used[i]) {
+          consumer.accept(keys[i]);
+        }
+      }
+    }
+
+    private void grow() {
+      long[] newKeys = new long[keys.length << 1];
+      boolean[] newUsed = new boolean[newKeys.length];
+      for (int i = 0; i < keys.length; i++) {
+        if (used[i]) {
+          int slot = find(newKeys, newUsed, keys[i]);
+          newKeys[slot] = keys[i];
+          newUsed[slot] = true;
+        }
+      }
+      keys = newKeys;
+      used = newUsed;
+    }
+
+    private static int find(long[] keys, boolean[] used, long key) {
+      int mask = keys.length - 1;
+      // hashes are already well mixed
+      int slot = (int) key & mask;
+      while (used[slot] && keys[slot] != key) {
+        slot = (slot + 1) & mask;
+      }
+      return slot;
+    }
+  }
+}
@@ -18,6 +18,8 @@ import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.ResolverStyle;
 import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -27,6 +29,7 @@ import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.function.FunctionProperties;
+import org.opensearch.sql.utils.CompiledCache;
 
 /**
  * This class converts a SQL style DATE_FORMAT format specifier and converts it to a Java
@@ -198,12 +201,24 @@ public class DateTimeFormatterUtil {
   private static final Pattern CHARACTERS_WITH_NO_MOD_LITERAL_BEHIND_PATTERN =
       Pattern.compile("(?<!%)[a-zA-Z&&[^aydmshiHIMYDSEL]]+");
   private static final String MOD_LITERAL = "%";
+  private static final Pattern MOD_LITERAL_PATTERN = Pattern.compile(MOD_LITERAL);
 
-  private DateTimeFormatterUtil() {}
+  /** Formats, formatters and parsers of the formats which are not literal. */
+  private static final CompiledCache<DateTimeFormat> DATE_FORMATS =
+      new CompiledCache<>(DateTimeFormatterUtil::compileDateFormat);
 
-  static StringBuffer getCleanFormat(ExprValue formatExpr) {
-    return getCleanFormat(formatExpr.stringValue());
-  }
+  private static final CompiledCache<DateTimeFormat> TIME_FORMATS =
+      new CompiledCache<>(DateTimeFormatterUtil::compileTimeFormat);
+
+  /** Java formatters by the patterns that the formats produce for the formatted values. */
+  private static final CompiledCache<DateTimeFormatter> FORMATTERS =
+      new CompiledCache<>(javaPattern -> DateTimeFormatter.ofPattern(javaPattern, Locale.ENGLISH));
+
+  /** Java parsers of str_to_date by format. */
+  private static final CompiledCache<DateTimeFormatter> PARSERS =
+      new CompiledCache<>(DateTimeFormatterUtil::compileStrToDateFormat);
+
+  private DateTimeFormatterUtil() {}
 
   /**
    * Cleans the given format string by wrapping characters that are not preceded by a '%' and are
@@ -235,30 +250,36 @@ public class DateTimeFormatterUtil {
    */
   public static ExprValue getFormattedString(
       ExprValue formatExpr, Map<String, DateTimeFormatHandler> handler, LocalDateTime datetime) {
-    StringBuffer cleanFormat = getCleanFormat(formatExpr);
-
-    final Matcher matcher = pattern.matcher(cleanFormat.toString());
-    final StringBuffer format = new StringBuffer();
-    try {
-      while (matcher.find()) {
-        matcher.appendReplacement(
-            format,
-            handler
-                .getOrDefault(
-                    matcher.group(),
-                    (d) -> String.format("'%s'", matcher.group().replaceFirst(MOD_LITERAL, "")))
-                .getFormat(datetime));
-      }
-    } catch (Exception e) {
-      return ExprNullValue.of();
+    String format = formatExpr.stringValue();
+    DateTimeFormat compiled;
+    if (handler == DATE_HANDLERS) {
+      compiled = DATE_FORMATS.get(format);
+    } else if (handler == TIME_HANDLERS) {
+      compiled = TIME_FORMATS.get(format);
+    } else {
+      compiled = new DateTimeFormat(format, handler);
     }
-    matcher.appendTail(format);
+    return compiled.format(datetime);
+  }
+
+  /**
+   * Compile a DATE_FORMAT format, to format many values without parsing it again.
+   *
+   * @param format the format of String type.
+   * @return compiled format.
+   */
+  public static DateTimeFormat compileDateFormat(String format) {
+    return new DateTimeFormat(format, DATE_HANDLERS);
+  }
 
-    // English Locale matches SQL requirements.
-    // 'AM'/'PM' instead of 'a.m.'/'p.m.'
-    // 'Sat' instead of 'Sat.' etc
-    return new ExprStringValue(
-        datetime.format(DateTimeFormatter.ofPattern(format.toString(), Locale.ENGLISH)));
+  /**
+   * Compile a TIME_FORMAT format, to format many values without parsing it again.
+   *
+   * @param format the format of String type.
+   * @return compiled format.
+   */
+  public static DateTimeFormat compileTimeFormat(String format) {
+    return new DateTimeFormat(format, TIME_HANDLERS);
   }
 
   /**
@@ -285,6 +306,17 @@ public class DateTimeFormatterUtil {
     return getFormattedString(formatExpr, DATE_HANDLERS, date);
   }
 
+  /**
+   * Format the date using a compiled date format.
+   *
+   * @param dateExpr the date ExprValue of Date/Timestamp/String type.
+   * @param format the format compiled by {@link #compileDateFormat(String)}.
+   * @return Date formatted using format and returned as a String.
+   */
+  public static ExprValue getFormattedDate(ExprValue dateExpr, DateTimeFormat format) {
+    return format.format(dateExpr.timestampValue().atZone(ZoneOffset.UTC).toLocalDateTime());
+  }
+
   public static ExprValue getFormattedDateOfToday(
       ExprValue formatExpr, ExprValue time, Clock current) {
     final LocalDateTime date = LocalDateTime.of(LocalDate.now(current), time.timeValue());
@@ -292,6 +324,11 @@ public class DateTimeFormatterUtil {
     return getFormattedString(formatExpr, DATE_HANDLERS, date);
   }
 
+  public static ExprValue getFormattedDateOfToday(
+      DateTimeFormat format, ExprValue time, Clock current) {
+    return format.format(LocalDateTime.of(LocalDate.now(current), time.timeValue()));
+  }
+
   /**
    * Format the date using the date format String.
    *
@@ -307,6 +344,17 @@ public class DateTimeFormatterUtil {
     return getFormattedString(formatExpr, TIME_HANDLERS, time);
   }
 
+  /**
+   * Format the time using a compiled time format.
+   *
+   * @param timeExpr the date ExprValue of Date/Datetime/Timestamp/String type.
+   * @param format the format compiled by {@link #compileTimeFormat(String)}.
+   * @return Time formatted using format and returned as a String.
+   */
+  public static ExprValue getFormattedTime(ExprValue timeExpr, DateTimeFormat format) {
+    return format.format(LocalDateTime.of(LocalDate.now(), timeExpr.timeValue()));
+  }
+
   private static boolean canGetDate(TemporalAccessor ta) {
     return (ta.isSupported(ChronoField.YEAR)
         && ta.isSupported(ChronoField.MONTH_OF_YEAR)
@@ -321,9 +369,19 @@ public class DateTimeFormatterUtil {
 
   static ExprValue parseStringWithDateOrTime(
       FunctionProperties fp, ExprValue datetimeStringExpr, ExprValue formatExpr) {
+    return parseStringWithDateOrTime(fp, datetimeStringExpr, PARSERS.get(formatExpr.stringValue()));
+  }
 
+  /**
+   * Compile a STR_TO_DATE format into a Java parser, to parse many values without converting it
+   * again.
+   *
+   * @param formatStr the format of String type.
+   * @return strict parser of the format.
+   */
+  static DateTimeFormatter compileStrToDateFormat(String formatStr) {
     // Replace patterns with % for Java DateTimeFormatter
-    StringBuffer cleanFormat = getCleanFormat(formatExpr);
+    StringBuffer cleanFormat = getCleanFormat(formatStr);
     final Matcher matcher = pattern.matcher(cleanFormat.toString());
     final StringBuffer format = new StringBuffer();
 
@@ -336,16 +394,20 @@ public class DateTimeFormatterUtil {
     }
     matcher.appendTail(format);
 
+    return new DateTimeFormatterBuilder()
+        .appendPattern(format.toString())
+        .toFormatter()
+        .withResolverStyle(ResolverStyle.STRICT);
+  }
+
+  static ExprValue parseStringWithDateOrTime(
+      FunctionProperties fp, ExprValue datetimeStringExpr, DateTimeFormatter parser) {
     TemporalAccessor taWithMissingFields;
     // Return NULL for invalid parse in string to align with MySQL
     try {
       // Get Temporal Accessor to initially parse string without default values
       taWithMissingFields =
-          new DateTimeFormatterBuilder()
-              .appendPattern(format.toString())
-              .toFormatter()
-              .withResolverStyle(ResolverStyle.STRICT)
-              .parseUnresolved(datetimeStringExpr.stringValue(), new ParsePosition(0));
+          parser.parseUnresolved(datetimeStringExpr.stringValue(), new ParsePosition(0));
       if (taWithMissingFields == null) {
         throw new DateTimeException("Input string could not be parsed properly.");
       }
@@ -399,6 +461,79 @@ public class DateTimeFormatterUtil {
     return new ExprTimestampValue(output);
   }
 
+  /**
+   * SQL style format split into the handlers of its parts. The format is cleaned and matched once,
+   * formatting a value only joins the Java patterns of the parts, whose formatters are cached.
+   */
+  public static class DateTimeFormat {
+
+    /** Handlers of the literal text and the specifiers of the format, in order. */
+    private final List<DateTimeFormatHandler> parts = new ArrayList<>();
+
+    DateTimeFormat(String formatStr, Map<String, DateTimeFormatHandler> handler) {
+      final String cleanFormat = getCleanFormat(formatStr).toString();
+      final Matcher matcher = pattern.matcher(cleanFormat);
+      int end = 0;
+      while (matcher.find()) {
+        addLiteral(cleanFormat.substring(end, matcher.start()));
+        String specifier = matcher.group();
+        DateTimeFormatHandler specifierHandler = handler.get(specifier);
+        parts.add(
+            specifierHandler != null
+                ? specifierHandler
+                : unknownSpecifier(String.format("'%s'", specifier.replaceFirst(MOD_LITERAL, ""))));
+        end = matcher.end();
+      }
+      addLiteral(cleanFormat.substring(end));
+    }
+
+    /**
+     * Format the datetime.
+     *
+     * @param datetime the datetime to be formatted
+     * @return A formatted string expression, NULL if a part can't be formatted
+     */
+    public ExprValue format(LocalDateTime datetime) {
+      final StringBuilder format = new StringBuilder();
+      try {
+        for (DateTimeFormatHandler part : parts) {
+          String partFormat = part.getFormat(datetime);
+          if (partFormat == null) {
+            return ExprNullValue.of();
+          }
+          format.append(partFormat);
+        }
+      } catch (Exception e) {
+        return ExprNullValue.of();
+      }
+
+      // English Locale matches SQL requirements.
+      // 'AM'/'PM' instead of 'a.m.'/'p.m.'
+      // 'Sat' instead of 'Sat.' etc
+      return new ExprStringValue(datetime.format(FORMATTERS.get(format.toString())));
+    }
+
+    private void addLiteral(String literal) {
+      if (!literal.isEmpty()) {
+        parts.add(date -> literal);
+      }
+    }
+
+    /**
+     * Literal of an unknown specifier, which is its character quoted. It is unescaped as a regex
+     * replacement like when the specifiers were replaced by a matcher: a '\' escapes the next
+     * character, and a '$' is an invalid group reference which makes the value NULL.
+     */
+    private static DateTimeFormatHandler unknownSpecifier(String replacement) {
+      try {
+        String literal = MOD_LITERAL_PATTERN.matcher(MOD_LITERAL).replaceFirst(replacement);
+        return date -> literal;
+      } catch (IllegalArgumentException e) {
+        return date -> null;
+      }
+    }
+  }
+
   /**
    * Returns English suffix of incoming value.
    *
@@ -24,7 +24,9 @@ import static org.opensearch.sql.data.type.ExprCoreType.TIME;
 import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 import static org.opensearch.sql.expression.function.FunctionDSL.define;
 import static org.opensearch.sql.expression.function.FunctionDSL.impl;
+import static org.opensearch.sql.expression.function.FunctionDSL.implWithLiteral;
 import static org.opensearch.sql.expression.function.FunctionDSL.implWithProperties;
+import static org.opensearch.sql.expression.function.FunctionDSL.implWithPropertiesAndLiteral;
 import static org.opensearch.sql.expression.function.FunctionDSL.nullMissingHandling;
 import static org.opensearch.sql.expression.function.FunctionDSL.nullMissingHandlingWithProperties;
 import static org.opensearch.sql.utils.DateTimeFormatters.*;
@@ -71,6 +73,7 @@ import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.exception.ExpressionEvaluationException;
+import org.opensearch.sql.expression.datetime.DateTimeFormatterUtil.DateTimeFormat;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.expression.function.DefaultFunctionResolver;
@@ -827,10 +830,18 @@ public class DateTimeFunctions {
   private DefaultFunctionResolver str_to_date() {
     return define(
         BuiltinFunctionName.STR_TO_DATE.getName(),
-        implWithProperties(
+        implWithPropertiesAndLiteral(
             nullMissingHandlingWithProperties(
                 (functionProperties, arg, format) ->
                     DateTimeFunctions.exprStrToDate(functionProperties, arg, format)),
+            (functionProperties, format) -> {
+              DateTimeFormatter parser =
+                  DateTimeFormatterUtil.compileStrToDateFormat(format.stringValue());
+              return nullMissingHandling(
+                  arg ->
+                      DateTimeFormatterUtil.parseStringWithDateOrTime(
+                          functionProperties, arg, parser));
+            },
             TIMESTAMP,
             STRING,
             STRING));
@@ -1096,23 +1107,48 @@ public class DateTimeFunctions {
   private DefaultFunctionResolver date_format() {
     return define(
         BuiltinFunctionName.DATE_FORMAT.getName(),
-        impl(nullMissingHandling(DateTimeFormatterUtil::getFormattedDate), STRING, STRING, STRING),
-        impl(nullMissingHandling(DateTimeFormatterUtil::getFormattedDate), STRING, DATE, STRING),
-        implWithProperties(
+        implWithLiteral(
+            nullMissingHandling(DateTimeFormatterUtil::getFormattedDate),
+            DateTimeFunctions::dateFormatOf,
+            STRING,
+            STRING,
+            STRING),
+        implWithLiteral(
+            nullMissingHandling(DateTimeFormatterUtil::getFormattedDate),
+            DateTimeFunctions::dateFormatOf,
+            STRING,
+            DATE,
+            STRING),
+        implWithPropertiesAndLiteral(
             nullMissingHandlingWithProperties(
                 (functionProperties, time, formatString) ->
                     DateTimeFormatterUtil.getFormattedDateOfToday(
                         formatString, time, functionProperties.getQueryStartClock())),
+            (functionProperties, formatString) -> {
+              DateTimeFormat format =
+                  DateTimeFormatterUtil.compileDateFormat(formatString.stringValue());
+              return nullMissingHandling(
+                  time ->
+                      DateTimeFormatterUtil.getFormattedDateOfToday(
+                          format, time, functionProperties.getQueryStartClock()));
+            },
             STRING,
             TIME,
             STRING),
-        impl(
+        implWithLiteral(
             nullMissingHandling(DateTimeFormatterUtil::getFormattedDate),
+            DateTimeFunctions::dateFormatOf,
             STRING,
             TIMESTAMP,
             STRING));
   }
 
+  /** DATE_FORMAT of a literal format, compiled once for the expression. */
+  private SerializableFunction<ExprValue, ExprValue> dateFormatOf(ExprValue formatString) {
+    DateTimeFormat format = DateTimeFormatterUtil.compileDateFormat(formatString.stringValue());
+    return nullMissingHandling(date -> DateTimeFormatterUtil.getFormattedDate(date, format));
+  }
+
   private ExprValue dayOfMonthToday(Clock clock) {
     return new ExprIntegerValue(LocalDateTime.now(clock).getDayOfMonth());
   }
@@ -1179,16 +1215,38 @@ public class DateTimeFunctions {
   private DefaultFunctionResolver time_format() {
     return define(
         BuiltinFunctionName.TIME_FORMAT.getName(),
-        impl(nullMissingHandling(DateTimeFormatterUtil::getFormattedTime), STRING, STRING, STRING),
-        impl(nullMissingHandling(DateTimeFormatterUtil::getFormattedTime), STRING, DATE, STRING),
-        impl(nullMissingHandling(DateTimeFormatterUtil::getFormattedTime), STRING, TIME, STRING),
-        impl(
+        implWithLiteral(
             nullMissingHandling(DateTimeFormatterUtil::getFormattedTime),
+            DateTimeFunctions::timeFormatOf,
+            STRING,
+            STRING,
+            STRING),
+        implWithLiteral(
+            nullMissingHandling(DateTimeFormatterUtil::getFormattedTime),
+            DateTimeFunctions::timeFormatOf,
+            STRING,
+            DATE,
+            STRING),
+        implWithLiteral(
+            nullMissingHandling(DateTimeFormatterUtil::getFormattedTime),
+            DateTimeFunctions::timeFormatOf,
+            STRING,
+            TIME,
+            STRING),
+        implWithLiteral(
+            nullMissingHandling(DateTimeFormatterUtil::getFormattedTime),
+            DateTimeFunctions::timeFormatOf,
             STRING,
             TIMESTAMP,
             STRING));
   }
 
+  /** TIME_FORMAT of a literal format, compiled once for the expression. */
+  private SerializableFunction<ExprValue, ExprValue> timeFormatOf(ExprValue formatString) {
+    DateTimeFormat format = DateTimeFormatterUtil.compileTimeFormat(formatString.stringValue());
+    return nullMissingHandling(time -> DateTimeFormatterUtil.getFormattedTime(time, format));
+  }
+
   /**
    * ADDDATE function implementation for ExprValue.
    *
@@ -17,6 +17,7 @@ import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
 import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.expression.function.DefaultFunctionResolver.DefaultFunctionResolverBuilder;
 
@@ -279,6 +280,103 @@ public class FunctionDSL {
         (fp, arg1, arg2) -> function.apply(arg1, arg2), returnType, args1Type, args2Type);
   }
 
+  /**
+   * Binary Function Implementation specialized for a literal second argument, such as a pattern or
+   * a format which is costly to compile for every row.
+   *
+   * @param function {@link ExprValue} based binary function.
+   * @param specialization function of the first argument built from the literal second argument.
+   * @param returnType return type.
+   * @param args1Type argument type.
+   * @param args2Type argument type.
+   * @return Binary Function Implementation.
+   * @see #implWithPropertiesAndLiteral
+   */
+  public static SerializableFunction<FunctionName, Pair<FunctionSignature, FunctionBuilder>>
+      implWithLiteral(
+          SerializableBiFunction<ExprValue, ExprValue, ExprValue> function,
+          SerializableFunction<ExprValue, SerializableFunction<ExprValue, ExprValue>>
+              specialization,
+          ExprType returnType,
+          ExprType args1Type,
+          ExprType args2Type) {
+
+    return implWithPropertiesAndLiteral(
+        (fp, arg1, arg2) -> function.apply(arg1, arg2),
+        (fp, literal) -> specialization.apply(literal),
+        returnType,
+        args1Type,
+        args2Type);
+  }
+
+  /**
+   * Implementation of a function that takes two arguments, requires FunctionProperties, and is
+   * specialized for a literal second argument. If the second argument is a literal other than NULL
+   * or MISSING, the specialization is built from its value on the first evaluation of the
+   * expression, and then applied to the first argument of every row. Otherwise, the function is
+   * applied to both arguments. The specialization is not serialized with the expression, it is
+   * built again after deserialization.
+   *
+   * @param function {@link ExprValue} based binary function.
+   * @param specialization function of the first argument built from the literal second argument.
+   * @param returnType return type.
+   * @param args1Type first argument type.
+   * @param args2Type second argument type.
+   * @return Binary Function Implementation.
+   */
+  public static SerializableFunction<FunctionName, Pair<FunctionSignature, FunctionBuilder>>
+      implWithPropertiesAndLiteral(
+          SerializableTriFunction<FunctionProperties, ExprValue, ExprValue, ExprValue> function,
+          SerializableBiFunction<
+                  FunctionProperties, ExprValue, SerializableFunction<ExprValue, ExprValue>>
+              specialization,
+          ExprType returnType,
+          ExprType args1Type,
+          ExprType args2Type) {
+
+    return functionName -> {
+      FunctionSignature functionSignature =
+          new FunctionSignature(functionName, Arrays.asList(args1Type, args2Type));
+      FunctionBuilder functionBuilder =
+          (functionProperties, arguments) ->
+              new FunctionExpression(functionName, arguments) {
+                /** Specialization for the literal, not serialized but built again. */
+                private transient volatile Function<ExprValue, ExprValue> specialized;
+
+                @Override
+                public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+                  ExprValue arg1 = arguments.get(0).valueOf(valueEnv);
+                  ExprValue arg2 = arguments.get(1).valueOf(valueEnv);
+                  if (!(arguments.get(1) instanceof LiteralExpression)
+                      || arg2.isNull()
+                      || arg2.isMissing()) {
+                    return function.apply(functionProperties, arg1, arg2);
+                  }
+                  Function<ExprValue, ExprValue> current = specialized;
+                  if (current == null) {
+                    current = specialization.apply(functionProperties, arg2);
+                    specialized = current;
+                  }
+                  return current.apply(arg1);
+                }
+
+                @Override
+                public ExprType type() {
+                  return returnType;
+                }
+
+                @Override
+                public String toString() {
+                  return String.format(
+                      "%s(%s)",
+                      functionName,
+                      arguments.stream().map(Object::toString).collect(Collectors.joining(", ")));
+                }
+              };
+      return Pair.of(functionSignature, functionBuilder);
+    };
+  }
+
   /**
    * Triple Function Implementation.
    *
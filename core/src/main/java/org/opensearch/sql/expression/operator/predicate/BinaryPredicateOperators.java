@@ -14,10 +14,12 @@ import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.expression.function.FunctionDSL.define;
 import static org.opensearch.sql.expression.function.FunctionDSL.impl;
+import static org.opensearch.sql.expression.function.FunctionDSL.implWithLiteral;
 import static org.opensearch.sql.expression.function.FunctionDSL.nullMissingHandling;
 
 import com.google.common.collect.ImmutableTable;
 import com.google.common.collect.Table;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.experimental.UtilityClass;
 import org.opensearch.sql.data.model.ExprBooleanValue;
@@ -387,21 +389,42 @@ public class BinaryPredicateOperators {
   private static DefaultFunctionResolver like() {
     return define(
         BuiltinFunctionName.LIKE.getName(),
-        impl(nullMissingHandling(OperatorUtils::matches), BOOLEAN, STRING, STRING));
+        implWithLiteral(
+            nullMissingHandling(OperatorUtils::matches),
+            pattern -> {
+              Pattern compiled = OperatorUtils.likePattern(pattern.stringValue());
+              return nullMissingHandling(text -> OperatorUtils.matches(text, compiled));
+            },
+            BOOLEAN,
+            STRING,
+            STRING));
   }
 
   private static DefaultFunctionResolver regexp() {
     return define(
         BuiltinFunctionName.REGEXP.getName(),
-        impl(nullMissingHandling(OperatorUtils::matchesRegexp), INTEGER, STRING, STRING));
+        implWithLiteral(
+            nullMissingHandling(OperatorUtils::matchesRegexp),
+            pattern -> {
+              Pattern compiled = Pattern.compile(pattern.stringValue());
+              return nullMissingHandling(text -> OperatorUtils.matchesRegexp(text, compiled));
+            },
+            INTEGER,
+            STRING,
+            STRING));
   }
 
   private static DefaultFunctionResolver notLike() {
     return define(
         BuiltinFunctionName.NOT_LIKE.getName(),
-        impl(
+        implWithLiteral(
             nullMissingHandling(
                 (v1, v2) -> UnaryPredicateOperators.not(OperatorUtils.matches(v1, v2))),
+            pattern -> {
+              Pattern compiled = OperatorUtils.likePattern(pattern.stringValue());
+              return nullMissingHandling(
+                  text -> UnaryPredicateOperators.not(OperatorUtils.matches(text, compiled)));
+            },
             BOOLEAN,
             STRING,
             STRING));
@@ -31,7 +31,7 @@ public class GrokExpression extends ParseExpression {
     grokCompiler.registerDefaultPatterns();
   }
 
-  @EqualsAndHashCode.Exclude private final Grok grok;
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final GrokMatcher matcher;
 
   /**
    * GrokExpression.
@@ -41,20 +41,31 @@ public class GrokExpression extends ParseExpression {
    * @param identifier derived field
    */
   public GrokExpression(Expression sourceField, Expression pattern, Expression identifier) {
+    this(sourceField, pattern, identifier, new GrokMatcher(pattern.valueOf().stringValue()));
+  }
+
+  /**
+   * GrokExpression sharing the matcher with the expressions of the other named groups.
+   *
+   * @param sourceField source text field
+   * @param pattern pattern used for parsing
+   * @param identifier derived field
+   * @param matcher matcher of the pattern
+   */
+  public GrokExpression(
+      Expression sourceField, Expression pattern, Expression identifier, GrokMatcher matcher) {
     super("grok", sourceField, pattern, identifier);
-    this.grok = grokCompiler.compile(pattern.valueOf().stringValue());
+    this.matcher = matcher;
   }
 
   @Override
   ExprValue parseValue(ExprValue value) throws ExpressionEvaluationException {
-    String rawString = value.stringValue();
-    Match grokMatch = grok.match(rawString);
-    Map<String, Object> capture = grokMatch.capture();
-    Object match = capture.get(identifierStr);
+    Map<String, Object> captures = matcher.captures(value.stringValue());
+    Object match = captures.get(identifierStr);
     if (match != null) {
       return new ExprStringValue(match.toString());
     }
-    log.debug("failed to extract pattern {} from input ***", grok.getOriginalGrokPattern());
+    log.debug("failed to extract pattern {} from input ***", matcher.pattern());
     return new ExprStringValue("");
   }
 
@@ -71,4 +82,24 @@ public class GrokExpression extends ParseExpression {
         .filter(group -> !group.equals("UNWANTED"))
         .collect(Collectors.toUnmodifiableList());
   }
+
+  /** Matcher of a grok pattern, capturing all the named groups at once. */
+  public static class GrokMatcher extends ParseMatcher {
+    private final Grok grok;
+
+    public GrokMatcher(String pattern) {
+      this.grok = grokCompiler.compile(pattern);
+    }
+
+    @Override
+    protected Map<String, Object> match(String input) {
+      Match grokMatch = grok.match(input);
+      return grokMatch.capture();
+    }
+
+    @Override
+    public String pattern() {
+      return grok.getOriginalGrokPattern();
+    }
+  }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.parse;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * Compiled pattern of a parse command, shared by the {@link ParseExpression} of each derived field.
+ * The captures of the last source string are remembered, so that the source field of a row is
+ * matched once for all the derived fields instead of once per field. The last match is replaced as
+ * a whole, which keeps the matcher safe to share between the threads running the same script.
+ */
+public abstract class ParseMatcher implements Serializable {
+
+  private transient volatile LastMatch lastMatch;
+
+  /**
+   * Captures of the named groups in the given string.
+   *
+   * @param input source string
+   * @return captured values by group name, null if the string doesn't match the pattern
+   */
+  public Map<String, Object> captures(String input) {
+    LastMatch last = lastMatch;
+    if (last != null && (last.input == input || last.input.equals(input))) {
+      return last.captures;
+    }
+    Map<String, Object> captures = match(input);
+    lastMatch = new LastMatch(input, captures);
+    return captures;
+  }
+
+  /**
+   * Match the pattern against the given string.
+   *
+   * @param input source string
+   * @return captured values by group name, null if the string doesn't match the pattern
+   */
+  protected abstract Map<String, Object> match(String input);
+
+  /**
+   * Original pattern, for logging.
+   *
+   * @return pattern
+   */
+  public abstract String pattern();
+
+  private record LastMatch(String input, Map<String, Object> captures) {}
+}
@@ -6,7 +6,9 @@
 package org.opensearch.sql.expression.parse;
 
 import com.google.common.collect.ImmutableList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import lombok.EqualsAndHashCode;
@@ -26,6 +28,7 @@ public class RegexExpression extends ParseExpression {
   private static final Logger log = LogManager.getLogger(RegexExpression.class);
   private static final Pattern GROUP_PATTERN = Pattern.compile("\\(\\?<([a-zA-Z][a-zA-Z0-9]*)>");
   @Getter @EqualsAndHashCode.Exclude private final Pattern regexPattern;
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final RegexMatcher matcher;
 
   /**
    * RegexExpression.
@@ -35,18 +38,31 @@ public class RegexExpression extends ParseExpression {
    * @param identifier derived field
    */
   public RegexExpression(Expression sourceField, Expression pattern, Expression identifier) {
+    this(sourceField, pattern, identifier, new RegexMatcher(pattern.valueOf().stringValue()));
+  }
+
+  /**
+   * RegexExpression sharing the matcher with the expressions of the other named groups.
+   *
+   * @param sourceField source text field
+   * @param pattern pattern used for parsing
+   * @param identifier derived field
+   * @param matcher matcher of the pattern
+   */
+  public RegexExpression(
+      Expression sourceField, Expression pattern, Expression identifier, RegexMatcher matcher) {
     super("regex", sourceField, pattern, identifier);
-    this.regexPattern = Pattern.compile(pattern.valueOf().stringValue());
+    this.regexPattern = matcher.regexPattern;
+    this.matcher = matcher;
   }
 
   @Override
   ExprValue parseValue(ExprValue value) throws ExpressionEvaluationException {
-    String rawString = value.stringValue();
-    Matcher matcher = regexPattern.matcher(rawString);
-    if (matcher.matches()) {
-      return new ExprStringValue(matcher.group(identifierStr));
+    Map<String, Object> captures = matcher.captures(value.stringValue());
+    if (captures != null) {
+      return new ExprStringValue((String) captures.get(identifierStr));
     }
-    log.debug("failed to extract pattern {} from input ***", regexPattern.pattern());
+    log.debug("failed to extract pattern {} from input ***", matcher.pattern());
     return new ExprStringValue("");
   }
 
@@ -64,4 +80,31 @@ public class RegexExpression extends ParseExpression {
     }
     return namedGroups.build();
   }
+
+  /** Matcher of a regex, capturing all the named groups at once. */
+  public static class RegexMatcher extends ParseMatcher {
+    private final Pattern regexPattern;
+
+    public RegexMatcher(String pattern) {
+      this.regexPattern = Pattern.compile(pattern);
+    }
+
+    @Override
+    protected Map<String, Object> match(String input) {
+      Matcher matcher = regexPattern.matcher(input);
+      if (!matcher.matches()) {
+        return null;
+      }
+      Map<String, Object> captures = new HashMap<>();
+      regexPattern
+          .namedGroups()
+          .forEach((group, index) -> captures.put(group, matcher.group(index)));
+      return captures;
+    }
+
+    @Override
+    public String pattern() {
+      return regexPattern.pattern();
+    }
+  }
 }
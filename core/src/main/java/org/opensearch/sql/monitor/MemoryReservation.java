@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+import lombok.Getter;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueSizeEstimator;
+
+/**
+ * Memory reserved by one operator from the {@link QueryMemoryTracker} of its query. It remembers
+ * how much was reserved so that the operator can give everything back when closed.
+ */
+public class MemoryReservation {
+
+  private final QueryMemoryTracker tracker;
+
+  /** Bytes currently reserved by the operator. */
+  @Getter private long bytes = 0L;
+
+  public MemoryReservation(QueryMemoryTracker tracker) {
+    this.tracker = tracker;
+  }
+
+  /**
+   * Whether reservations are accounted. Operators can skip estimating sizes if not.
+   *
+   * @return false if the tracker is {@link QueryMemoryTracker#NOOP}
+   */
+  public boolean isEnabled() {
+    return tracker != QueryMemoryTracker.NOOP;
+  }
+
+  /**
+   * Reserve the given number of bytes.
+   *
+   * @param bytes bytes to reserve
+   */
+  public void reserve(long bytes) {
+    if (bytes > 0) {
+      tracker.reserve(bytes);
+      this.bytes += bytes;
+    }
+  }
+
+  /**
+   * Reserve the estimated size of the given value.
+   *
+   * @param value value buffered by the operator
+   */
+  public void reserve(ExprValue value) {
+    if (isEnabled()) {
+      reserve(ExprValueSizeEstimator.estimate(value));
+    }
+  }
+
+  /**
+   * Release the given number of bytes, at most what is reserved.
+   *
+   * @param bytes bytes to release
+   */
+  public void release(long bytes) {
+    long released = Math.min(bytes, this.bytes);
+    if (released > 0) {
+      tracker.release(released);
+      this.bytes -= released;
+    }
+  }
+
+  /** Release everything reserved. */
+  public void releaseAll() {
+    release(bytes);
+  }
+}
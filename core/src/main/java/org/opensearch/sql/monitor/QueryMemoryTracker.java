@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+/**
+ * Tracker of the memory buffered by the operators of one query. Operators reserve the estimated
+ * size of the rows or states they keep, and release it once they are closed. A reservation that
+ * crosses the memory budget fails with a runtime exception, so only the query that asks for the
+ * memory is rejected. A tracker is used by one query at a time and is not thread safe.
+ */
+public interface QueryMemoryTracker {
+
+  /** Tracker that doesn't account anything. */
+  QueryMemoryTracker NOOP =
+      new QueryMemoryTracker() {
+        @Override
+        public void reserve(long bytes) {}
+
+        @Override
+        public void release(long bytes) {}
+
+        @Override
+        public long reservedBytes() {
+          return 0L;
+        }
+      };
+
+  /**
+   * Reserve memory for the query.
+   *
+   * @param bytes number of bytes to reserve
+   */
+  void reserve(long bytes);
+
+  /**
+   * Release memory previously reserved.
+   *
+   * @param bytes number of bytes to release
+   */
+  void release(long bytes);
+
+  /**
+   * Total memory reserved by the query.
+   *
+   * @return reserved bytes
+   */
+  long reservedBytes();
+}
@@ -16,6 +16,9 @@ import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.aggregation.Aggregator;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.monitor.MemoryReservation;
+import org.opensearch.sql.monitor.QueryMemoryTracker;
+import org.opensearch.sql.planner.physical.batch.Batch;
 import org.opensearch.sql.planner.physical.collector.Collector;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
@@ -30,11 +33,22 @@ public class AggregationOperator extends PhysicalPlan {
   @Getter private final List<NamedAggregator> aggregatorList;
   @Getter private final List<NamedExpression> groupByExprList;
 
+  @Getter @EqualsAndHashCode.Exclude @ToString.Exclude private final Collector.Strategy strategy;
+
+  @Getter @EqualsAndHashCode.Exclude @ToString.Exclude
+  private final QueryMemoryTracker memoryTracker;
+
+  /** Whether to drain a vectorized input batch by batch rather than row by row. */
+  @Getter @EqualsAndHashCode.Exclude @ToString.Exclude private final boolean batchExecution;
+
   /** {@link BindingTuple} Collector. */
   @EqualsAndHashCode.Exclude private final Collector collector;
 
   @EqualsAndHashCode.Exclude private Iterator<ExprValue> iterator;
 
+  /** Memory reserved for the groups collected. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final MemoryReservation reservation;
+
   /**
    * AggregationOperator Constructor.
    *
@@ -46,10 +60,70 @@ public class AggregationOperator extends PhysicalPlan {
       PhysicalPlan input,
       List<NamedAggregator> aggregatorList,
       List<NamedExpression> groupByExprList) {
+    this(input, aggregatorList, groupByExprList, Collector.Strategy.HASH);
+  }
+
+  /**
+   * AggregationOperator Constructor.
+   *
+   * @param input Input {@link PhysicalPlan}
+   * @param aggregatorList List of {@link Aggregator}
+   * @param groupByExprList List of group by {@link Expression}
+   * @param strategy {@link Collector.Strategy} used to group the input
+   */
+  public AggregationOperator(
+      PhysicalPlan input,
+      List<NamedAggregator> aggregatorList,
+      List<NamedExpression> groupByExprList,
+      Collector.Strategy strategy) {
+    this(input, aggregatorList, groupByExprList, strategy, QueryMemoryTracker.NOOP);
+  }
+
+  /**
+   * AggregationOperator Constructor, which reserves the memory of the collected groups from the
+   * query memory tracker.
+   *
+   * @param input Input {@link PhysicalPlan}
+   * @param aggregatorList List of {@link Aggregator}
+   * @param groupByExprList List of group by {@link Expression}
+   * @param strategy {@link Collector.Strategy} used to group the input
+   * @param memoryTracker memory tracker of the query
+   */
+  public AggregationOperator(
+      PhysicalPlan input,
+      List<NamedAggregator> aggregatorList,
+      List<NamedExpression> groupByExprList,
+      Collector.Strategy strategy,
+      QueryMemoryTracker memoryTracker) {
+    this(input, aggregatorList, groupByExprList, strategy, memoryTracker, false);
+  }
+
+  /**
+   * AggregationOperator Constructor, which reserves the memory of the collected groups from the
+   * query memory tracker and optionally drains a vectorized input batch by batch.
+   *
+   * @param input Input {@link PhysicalPlan}
+   * @param aggregatorList List of {@link Aggregator}
+   * @param groupByExprList List of group by {@link Expression}
+   * @param strategy {@link Collector.Strategy} used to group the input
+   * @param memoryTracker memory tracker of the query
+   * @param batchExecution whether to collect the batches of a vectorized input
+   */
+  public AggregationOperator(
+      PhysicalPlan input,
+      List<NamedAggregator> aggregatorList,
+      List<NamedExpression> groupByExprList,
+      Collector.Strategy strategy,
+      QueryMemoryTracker memoryTracker,
+      boolean batchExecution) {
     this.input = input;
     this.aggregatorList = aggregatorList;
     this.groupByExprList = groupByExprList;
-    this.collector = Collector.Builder.build(groupByExprList, this.aggregatorList);
+    this.strategy = strategy;
+    this.memoryTracker = memoryTracker;
+    this.batchExecution = batchExecution;
+    this.collector = Collector.Builder.build(groupByExprList, this.aggregatorList, strategy);
+    this.reservation = new MemoryReservation(memoryTracker);
   }
 
   @Override
@@ -75,9 +149,35 @@ public class AggregationOperator extends PhysicalPlan {
   @Override
   public void open() {
     super.open();
-    while (input.hasNext()) {
-      collector.collect(input.next().bindingTuples());
+    if (batchExecution && input.isVectorized()) {
+      collectBatches();
+    } else {
+      while (input.hasNext()) {
+        collector.collect(input.next().bindingTuples());
+        reservation.reserve(collector.estimatedSize() - reservation.getBytes());
+      }
     }
     iterator = collector.results().iterator();
   }
+
+  /**
+   * Collect the selected rows of the input batches without materializing them, the memory of the
+   * groups is reserved once per batch.
+   */
+  private void collectBatches() {
+    for (Batch batch = input.nextBatch(Batch.DEFAULT_SIZE);
+        !batch.isEmpty();
+        batch = input.nextBatch(Batch.DEFAULT_SIZE)) {
+      for (int i = 0; i < batch.getSelectedCount(); i++) {
+        collector.collect(batch.bindingTuplesAt(batch.getSelected(i)));
+      }
+      reservation.reserve(collector.estimatedSize() - reservation.getBytes());
+    }
+  }
+
+  @Override
+  public void close() {
+    reservation.releaseAll();
+    super.close();
+  }
 }
@@ -18,6 +18,8 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.monitor.MemoryReservation;
+import org.opensearch.sql.monitor.QueryMemoryTracker;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
@@ -35,6 +37,10 @@ public class DedupeOperator extends PhysicalPlan {
 
   @EqualsAndHashCode.Exclude private final Deduper<List<ExprValue>> deduper;
   @EqualsAndHashCode.Exclude private ExprValue next;
+  @EqualsAndHashCode.Exclude private final QueryMemoryTracker memoryTracker;
+
+  /** Memory reserved for the keys remembered by historical deduper. */
+  @EqualsAndHashCode.Exclude private final MemoryReservation reservation;
 
   private static final Integer ALL_ONE_DUPLICATION = 1;
   private static final Boolean IGNORE_EMPTY = false;
@@ -42,6 +48,9 @@ public class DedupeOperator extends PhysicalPlan {
   private static final Predicate<ExprValue> NULL_OR_MISSING = v -> v.isNull() || v.isMissing();
   private static final Integer SEEN_FIRST_TIME = 1;
 
+  /** Rough size of a key remembered besides its values: map entry, counter and list. */
+  private static final long SEEN_KEY_OVERHEAD = 80L;
+
   @NonNull
   public DedupeOperator(PhysicalPlan input, List<Expression> dedupeList) {
     this(input, dedupeList, ALL_ONE_DUPLICATION, IGNORE_EMPTY, NON_CONSECUTIVE);
@@ -63,11 +72,35 @@ public class DedupeOperator extends PhysicalPlan {
       Integer allowedDuplication,
       Boolean keepEmpty,
       Boolean consecutive) {
+    this(input, dedupeList, allowedDuplication, keepEmpty, consecutive, QueryMemoryTracker.NOOP);
+  }
+
+  /**
+   * Dedup Constructor which reserves the memory of the keys remembered from the query memory
+   * tracker.
+   *
+   * @param input input {@link PhysicalPlan}
+   * @param dedupeList list of dedupe {@link Expression}
+   * @param allowedDuplication max allowed duplication
+   * @param keepEmpty keep empty
+   * @param consecutive consecutive mode
+   * @param memoryTracker memory tracker of the query
+   */
+  @NonNull
+  public DedupeOperator(
+      PhysicalPlan input,
+      List<Expression> dedupeList,
+      Integer allowedDuplication,
+      Boolean keepEmpty,
+      Boolean consecutive,
+      QueryMemoryTracker memoryTracker) {
     this.input = input;
     this.dedupeList = dedupeList;
     this.allowedDuplication = allowedDuplication;
     this.keepEmpty = keepEmpty;
     this.consecutive = consecutive;
+    this.memoryTracker = memoryTracker;
+    this.reservation = new MemoryReservation(memoryTracker);
     this.deduper = this.consecutive ? Deduper.consecutiveDeduper() : Deduper.historicalDeduper();
   }
 
@@ -98,6 +131,12 @@ public class DedupeOperator extends PhysicalPlan {
     return this.next;
   }
 
+  @Override
+  public void close() {
+    reservation.releaseAll();
+    super.close();
+  }
+
   /**
    * Test the {@link ExprValue} should be keep or ignore
    *
@@ -119,6 +158,11 @@ public class DedupeOperator extends PhysicalPlan {
     }
     List<ExprValue> dedupeKey = dedupeKeyBuilder.build();
     int seenTimes = deduper.seenTimes(dedupeKey);
+    if (!consecutive && seenTimes == SEEN_FIRST_TIME && reservation.isEnabled()) {
+      // consecutive deduper only remembers the last key, historical one remembers all
+      reservation.reserve(SEEN_KEY_OVERHEAD);
+      dedupeKey.forEach(reservation::reserve);
+    }
     return seenTimes <= allowedDuplication;
   }
 
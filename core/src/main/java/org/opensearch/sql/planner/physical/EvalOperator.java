@@ -26,6 +26,8 @@ import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.planner.physical.batch.Batch;
+import org.opensearch.sql.planner.physical.batch.BatchExpressionEvaluator;
 
 /**
  * The eval operator evaluate the {@link EvalOperator#expressionList} and put the result into to
@@ -81,6 +83,27 @@ public class EvalOperator extends PhysicalPlan {
     }
   }
 
+  /**
+   * Evaluate the expressions in the {@link EvalOperator#expressionList} column at a time, each
+   * result is a column of the batch which the later expressions can reference.
+   */
+  @Override
+  public Batch nextBatch(int maxSize) {
+    Batch batch = input.nextBatch(maxSize);
+    if (!batch.isEmpty()) {
+      for (Pair<ReferenceExpression, Expression> pair : expressionList) {
+        batch.putColumn(
+            pair.getKey().toString(), BatchExpressionEvaluator.evaluate(pair.getValue(), batch));
+      }
+    }
+    return batch;
+  }
+
+  @Override
+  public boolean isVectorized() {
+    return true;
+  }
+
   /**
    * Evaluate the expression in the {@link EvalOperator#expressionList} with {@link Environment}.
    *
@@ -0,0 +1,255 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueSizeEstimator;
+import org.opensearch.sql.monitor.MemoryReservation;
+import org.opensearch.sql.monitor.QueryMemoryTracker;
+
+/**
+ * Sort {@link ExprValue}s within a bounded memory budget. Rows are buffered in memory until their
+ * estimated size crosses the budget, then the buffer is sorted and spilled to a temporary file as
+ * a sorted run. On read, all the runs are k-way merged. If nothing was spilled, the buffer is
+ * sorted and returned in memory directly.
+ */
+public class ExternalSorter implements AutoCloseable {
+
+  private static final String RUN_FILE_PREFIX = "opensearch-sql-sort-";
+
+  /** Reset the object stream every N rows to release its back reference table. */
+  private static final int RESET_INTERVAL = 1024;
+
+  private final Comparator<ExprValue> comparator;
+
+  /** Memory budget in bytes, no spilling if not positive. */
+  private final long memoryLimit;
+
+  private final List<ExprValue> buffer = new ArrayList<>();
+
+  private long bufferedBytes = 0L;
+
+  private final List<Path> runFiles = new ArrayList<>();
+
+  private final List<RunReader> runReaders = new ArrayList<>();
+
+  /** Memory reserved from the query for the rows buffered in memory. */
+  private final MemoryReservation reservation;
+
+  /**
+   * Constructor of {@link ExternalSorter}.
+   *
+   * @param comparator comparator of rows
+   * @param memoryLimit memory budget in bytes, no spilling if not positive
+   */
+  public ExternalSorter(Comparator<ExprValue> comparator, long memoryLimit) {
+    this(comparator, memoryLimit, new MemoryReservation(QueryMemoryTracker.NOOP));
+  }
+
+  /**
+   * Constructor of {@link ExternalSorter} which reserves the memory of buffered rows.
+   *
+   * @param comparator comparator of rows
+   * @param memoryLimit memory budget in bytes, no spilling if not positive
+   * @param reservation reservation charged for the rows buffered in memory
+   */
+  public ExternalSorter(
+      Comparator<ExprValue> comparator, long memoryLimit, MemoryReservation reservation) {
+    this.comparator = comparator;
+    this.memoryLimit = memoryLimit;
+    this.reservation = reservation;
+  }
+
+  /**
+   * Add a row, spill the buffered rows if memory budget is crossed.
+   *
+   * @param value row
+   */
+  public void add(ExprValue value) {
+    buffer.add(value);
+    if (memoryLimit > 0 || reservation.isEnabled()) {
+      long bytes = ExprValueSizeEstimator.estimate(value);
+      bufferedBytes += bytes;
+      if (memoryLimit > 0 && bufferedBytes > memoryLimit) {
+        spill();
+      } else {
+        reservation.reserve(bytes);
+      }
+    }
+  }
+
+  /**
+   * Number of runs spilled to disk.
+   *
+   * @return number of runs
+   */
+  public int spilledRuns() {
+    return runFiles.size();
+  }
+
+  /**
+   * Sorted iterator over all the added rows.
+   *
+   * @return sorted iterator
+   */
+  public Iterator<ExprValue> sorted() {
+    buffer.sort(comparator);
+    if (runFiles.isEmpty()) {
+      return buffer.iterator();
+    }
+
+    List<Iterator<ExprValue>> runs = new ArrayList<>();
+    for (Path file : runFiles) {
+      RunReader reader = new RunReader(file);
+      runReaders.add(reader);
+      runs.add(reader);
+    }
+    runs.add(buffer.iterator());
+    return new MergeIterator(runs);
+  }
+
+  /** Close opened runs and delete the temporary files. */
+  @Override
+  public void close() {
+    runReaders.forEach(RunReader::close);
+    runReaders.clear();
+    for (Path file : runFiles) {
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException e) {
+        // best effort, the temporary file is left for the OS to clean up
+      }
+    }
+    runFiles.clear();
+    buffer.clear();
+    bufferedBytes = 0L;
+    reservation.releaseAll();
+  }
+
+  private void spill() {
+    buffer.sort(comparator);
+    try {
+      Path file = Files.createTempFile(RUN_FILE_PREFIX, ".run");
+      runFiles.add(file);
+      try (ObjectOutputStream out =
+          new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+        out.writeInt(buffer.size());
+        for (int i = 0; i < buffer.size(); i++) {
+          out.writeObject(buffer.get(i));
+          if ((i + 1) % RESET_INTERVAL == 0) {
+            out.reset();
+          }
+        }
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to spill sorted run to disk", e);
+    }
+    buffer.clear();
+    bufferedBytes = 0L;
+    reservation.releaseAll();
+  }
+
+  /** Sequential reader of a sorted run file. */
+  private static class RunReader implements Iterator<ExprValue> {
+    private final ObjectInputStream in;
+    private int remaining;
+
+    RunReader(Path file) {
+      try {
+        this.in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file)));
+        this.remaining = in.readInt();
+      } catch (IOException e) {
+        throw new IllegalStateException("Failed to open sorted run " + file, e);
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return remaining > 0;
+    }
+
+    @Override
+    public ExprValue next() {
+      if (remaining <= 0) {
+        throw new NoSuchElementException();
+      }
+      try {
+        remaining--;
+        return (ExprValue) in.readObject();
+      } catch (IOException | ClassNotFoundException e) {
+        throw new IllegalStateException("Failed to read sorted run", e);
+      }
+    }
+
+    void close() {
+      try {
+        in.close();
+      } catch (IOException e) {
+        // ignore
+      }
+    }
+  }
+
+  /** K-way merge of sorted runs. Ties are broken by run order to keep the sort stable. */
+  private class MergeIterator implements Iterator<ExprValue> {
+    private final PriorityQueue<RunHead> heads;
+
+    MergeIterator(List<Iterator<ExprValue>> runs) {
+      heads =
+          new PriorityQueue<>(
+              Math.max(1, runs.size()),
+              (left, right) -> {
+                int result = comparator.compare(left.value, right.value);
+                return result != 0 ? result : Integer.compare(left.index, right.index);
+              });
+      for (int i = 0; i < runs.size(); i++) {
+        Iterator<ExprValue> run = runs.get(i);
+        if (run.hasNext()) {
+          heads.add(new RunHead(i, run.next(), run));
+        }
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !heads.isEmpty();
+    }
+
+    @Override
+    public ExprValue next() {
+      RunHead head = heads.poll();
+      if (head == null) {
+        throw new NoSuchElementException();
+      }
+      ExprValue result = head.value;
+      if (head.run.hasNext()) {
+        heads.add(new RunHead(head.index, head.run.next(), head.run));
+      }
+      return result;
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static class RunHead {
+    private final int index;
+    private final ExprValue value;
+    private final Iterator<ExprValue> run;
+  }
+}
@@ -14,6 +14,10 @@ import lombok.ToString;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.operator.predicate.BinaryPredicateOperators;
+import org.opensearch.sql.planner.physical.batch.Batch;
+import org.opensearch.sql.planner.physical.batch.BatchExpressionEvaluator;
+import org.opensearch.sql.planner.physical.batch.BooleanVector;
+import org.opensearch.sql.planner.physical.batch.ColumnVector;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
@@ -59,6 +63,42 @@ public class FilterOperator extends PhysicalPlan {
     return result;
   }
 
+  /** Narrow the selection of the input batches to the positions the conditions hold for. */
+  @Override
+  public Batch nextBatch(int maxSize) {
+    Batch batch = input.nextBatch(maxSize);
+    while (!batch.isEmpty()) {
+      ColumnVector column = BatchExpressionEvaluator.evaluate(conditions, batch);
+      int[] selection = new int[batch.getSelectedCount()];
+      int count = 0;
+      for (int i = 0; i < batch.getSelectedCount(); i++) {
+        int position = batch.getSelected(i);
+        if (isTrue(column, position)) {
+          selection[count++] = position;
+        }
+      }
+      if (count > 0) {
+        batch.select(selection, count);
+        return batch;
+      }
+      batch = input.nextBatch(maxSize);
+    }
+    return batch;
+  }
+
+  @Override
+  public boolean isVectorized() {
+    return true;
+  }
+
+  private static boolean isTrue(ColumnVector column, int position) {
+    if (column instanceof BooleanVector booleans) {
+      return booleans.isTrue(position);
+    }
+    ExprValue exprValue = column.get(position);
+    return !(exprValue.isNull() || exprValue.isMissing()) && exprValue.booleanValue();
+  }
+
   private void prepareNext() {
     while (input.hasNext()) {
       ExprValue inputValue = input.next();
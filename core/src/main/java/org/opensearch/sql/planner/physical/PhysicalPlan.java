@@ -9,6 +9,7 @@ import java.util.Iterator;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.planner.PlanNode;
+import org.opensearch.sql.planner.physical.batch.Batch;
 import org.opensearch.sql.storage.split.Split;
 
 /** Physical plan. */
@@ -37,6 +38,29 @@ public abstract class PhysicalPlan
     getChild().forEach(child -> child.add(split));
   }
 
+  /**
+   * Get the next batch of at most maxSize rows, an alternative to {@link #hasNext()} and {@link
+   * #next()} for consumers which drain the whole input. The two must not be mixed on the same
+   * plan. The default batch collects the rows of {@link #next()}, which is how table scans produce
+   * their batches.
+   *
+   * @param maxSize maximum number of rows
+   * @return batch, empty if the input is exhausted
+   */
+  public Batch nextBatch(int maxSize) {
+    return Batch.collect(this, maxSize);
+  }
+
+  /**
+   * Whether the plan evaluates {@link #nextBatch(int)} column at a time. Consumers use the batches
+   * of vectorized inputs only, rows are cheaper for the others.
+   *
+   * @return true if the plan is vectorized
+   */
+  public boolean isVectorized() {
+    return false;
+  }
+
   public ExecutionEngine.Schema schema() {
     throw new IllegalStateException(
         String.format(
@@ -11,7 +11,9 @@ import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
@@ -25,6 +27,9 @@ import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.parse.ParseExpression;
 import org.opensearch.sql.planner.SerializablePlan;
+import org.opensearch.sql.planner.physical.batch.Batch;
+import org.opensearch.sql.planner.physical.batch.BatchExpressionEvaluator;
+import org.opensearch.sql.planner.physical.batch.ColumnVector;
 
 /** Project the fields specified in {@link ProjectOperator#projectList} from input. */
 @ToString
@@ -89,6 +94,31 @@ public class ProjectOperator extends PhysicalPlan implements SerializablePlan {
     return ExprTupleValue.fromExprValueMap(mapBuilder.build());
   }
 
+  /**
+   * Evaluate the {@link ProjectOperator#projectList} column at a time. The parse expressions are
+   * only evaluated row at a time.
+   */
+  @Override
+  public Batch nextBatch(int maxSize) {
+    if (!namedParseExpressions.isEmpty()) {
+      return Batch.collect(this, maxSize);
+    }
+    Batch batch = input.nextBatch(maxSize);
+    if (batch.isEmpty()) {
+      return batch;
+    }
+    Map<String, ColumnVector> columns = new LinkedHashMap<>();
+    for (NamedExpression expr : projectList) {
+      columns.put(expr.getNameOrAlias(), BatchExpressionEvaluator.evaluate(expr, batch));
+    }
+    return batch.project(columns);
+  }
+
+  @Override
+  public boolean isVectorized() {
+    return namedParseExpressions.isEmpty();
+  }
+
   @Override
   public ExecutionEngine.Schema schema() {
     return new ExecutionEngine.Schema(
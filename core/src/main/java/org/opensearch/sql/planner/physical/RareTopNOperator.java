@@ -16,6 +16,7 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -25,6 +26,8 @@ import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.monitor.MemoryReservation;
+import org.opensearch.sql.monitor.QueryMemoryTracker;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
@@ -44,8 +47,17 @@ public class RareTopNOperator extends PhysicalPlan {
   @EqualsAndHashCode.Exclude private final Group group;
   @EqualsAndHashCode.Exclude private Iterator<ExprValue> iterator;
 
+  @Getter @EqualsAndHashCode.Exclude @ToString.Exclude
+  private final QueryMemoryTracker memoryTracker;
+
+  /** Memory reserved for the groups and field values counted. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final MemoryReservation reservation;
+
   private static final Integer DEFAULT_NO_OF_RESULTS = 10;
 
+  /** Rough size of a counted key besides its values: map entry, counter and value list. */
+  private static final long KEY_OVERHEAD = 80L;
+
   public RareTopNOperator(
       PhysicalPlan input,
       CommandType commandType,
@@ -69,11 +81,34 @@ public class RareTopNOperator extends PhysicalPlan {
       int noOfResults,
       List<Expression> fieldExprList,
       List<Expression> groupByExprList) {
+    this(input, commandType, noOfResults, fieldExprList, groupByExprList, QueryMemoryTracker.NOOP);
+  }
+
+  /**
+   * RareTopNOperator Constructor which reserves the memory of counted values from the query memory
+   * tracker.
+   *
+   * @param input Input {@link PhysicalPlan}
+   * @param commandType Enum for Rare/TopN command.
+   * @param noOfResults Number of results
+   * @param fieldExprList List of {@link Expression}
+   * @param groupByExprList List of group by {@link Expression}
+   * @param memoryTracker memory tracker of the query
+   */
+  public RareTopNOperator(
+      PhysicalPlan input,
+      CommandType commandType,
+      int noOfResults,
+      List<Expression> fieldExprList,
+      List<Expression> groupByExprList,
+      QueryMemoryTracker memoryTracker) {
     this.input = input;
     this.commandType = commandType;
     this.noOfResults = noOfResults;
     this.fieldExprList = fieldExprList;
     this.groupByExprList = groupByExprList;
+    this.memoryTracker = memoryTracker;
+    this.reservation = new MemoryReservation(memoryTracker);
     this.group = new Group();
   }
 
@@ -106,34 +141,41 @@ public class RareTopNOperator extends PhysicalPlan {
     iterator = group.result().iterator();
   }
 
+  @Override
+  public void close() {
+    reservation.releaseAll();
+    super.close();
+  }
+
   @VisibleForTesting
   @RequiredArgsConstructor
   public class Group {
 
-    private final Map<Key, Map<Key, Integer>> groupListMap = new HashMap<>();
+    private final Map<Key, Map<Key, Counter>> groupListMap = new HashMap<>();
 
     /** Push the BindingTuple to Group. */
     public void push(ExprValue inputValue) {
-      Key groupKey = new Key(inputValue, groupByExprList);
-      Key fieldKey = new Key(inputValue, fieldExprList);
-      groupListMap.computeIfAbsent(
-          groupKey,
-          k -> {
-            Map<Key, Integer> map = new HashMap<>();
-            map.put(fieldKey, 1);
-            return map;
-          });
-      groupListMap.computeIfPresent(
-          groupKey,
-          (key, map) -> {
-            map.computeIfAbsent(fieldKey, f -> 1);
-            map.computeIfPresent(
-                fieldKey,
-                (field, count) -> {
-                  return count + 1;
-                });
-            return map;
-          });
+      Map<Key, Counter> counters =
+          groupListMap.computeIfAbsent(
+              new Key(inputValue, groupByExprList),
+              groupKey -> {
+                reserve(groupKey);
+                return new HashMap<>();
+              });
+      counters.computeIfAbsent(
+              new Key(inputValue, fieldExprList),
+              fieldKey -> {
+                reserve(fieldKey);
+                return new Counter();
+              })
+          .count++;
+    }
+
+    private void reserve(Key key) {
+      if (reservation.isEnabled()) {
+        reservation.reserve(KEY_OVERHEAD);
+        key.valueList.forEach(reservation::reserve);
+      }
     }
 
     /** Get the list of {@link BindingTuple} for each group. */
@@ -142,11 +184,12 @@ public class RareTopNOperator extends PhysicalPlan {
 
       groupListMap.forEach(
           (groups, fieldMap) -> {
+            Map<String, ExprValue> groupMap = groups.keyMap(groupByExprList);
             Map<String, ExprValue> map = new LinkedHashMap<>();
             List<Key> result = find(fieldMap);
             result.forEach(
                 field -> {
-                  map.putAll(groups.keyMap(groupByExprList));
+                  map.putAll(groupMap);
                   map.putAll(field.keyMap(fieldExprList));
                   resultBuilder.add(ExprTupleValue.fromExprValueMap(map));
                 });
@@ -155,23 +198,48 @@ public class RareTopNOperator extends PhysicalPlan {
       return resultBuilder.build();
     }
 
-    /** Get a list of result. */
-    public List<Key> find(Map<Key, Integer> map) {
-      Comparator<Map.Entry<Key, Integer>> valueComparator;
-      if (CommandType.TOP.equals(commandType)) {
-        valueComparator = Map.Entry.comparingByValue(Comparator.reverseOrder());
-      } else {
-        valueComparator = Map.Entry.comparingByValue();
+    /**
+     * Get the first {@link RareTopNOperator#noOfResults} field keys by count, in descending order
+     * for top and in ascending order for rare, from a bounded heap instead of sorting all the
+     * counted keys. Keys of the same count are kept in the iteration order of the map.
+     */
+    public List<Key> find(Map<Key, Counter> counters) {
+      Comparator<Ranked> order =
+          CommandType.TOP.equals(commandType)
+              ? Comparator.comparingLong(Ranked::count).reversed()
+              : Comparator.comparingLong(Ranked::count);
+      order = order.thenComparingInt(Ranked::index);
+
+      // The head of the heap is the worst key retained so far.
+      PriorityQueue<Ranked> heap = new PriorityQueue<>(order.reversed());
+      int index = 0;
+      for (Map.Entry<Key, Counter> entry : counters.entrySet()) {
+        long count = entry.getValue().count;
+        if (heap.size() < noOfResults) {
+          heap.add(new Ranked(entry.getKey(), count, index));
+        } else if (!heap.isEmpty() && isBefore(count, heap.peek().count())) {
+          heap.poll();
+          heap.add(new Ranked(entry.getKey(), count, index));
+        }
+        index++;
       }
+      return heap.stream().sorted(order).map(Ranked::key).collect(Collectors.toList());
+    }
 
-      return map.entrySet().stream()
-          .sorted(valueComparator)
-          .limit(noOfResults)
-          .map(Map.Entry::getKey)
-          .collect(Collectors.toList());
+    /** Whether a key of the count comes before a key of the retained count seen earlier. */
+    private boolean isBefore(long count, long retained) {
+      return CommandType.TOP.equals(commandType) ? count > retained : count < retained;
     }
   }
 
+  /** Number of occurrences of a field key, mutable to count without boxing. */
+  private static class Counter {
+    private long count;
+  }
+
+  /** Field key ranked by its count and its position in the iteration order of the counters. */
+  private record Ranked(Key key, long count, int index) {}
+
   /** Key. */
   @EqualsAndHashCode
   @VisibleForTesting
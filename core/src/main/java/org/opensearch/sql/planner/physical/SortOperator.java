@@ -9,7 +9,6 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
-import java.util.PriorityQueue;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -17,6 +16,8 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.monitor.MemoryReservation;
+import org.opensearch.sql.monitor.QueryMemoryTracker;
 
 /**
  * Sort Operator.The input data is sorted by the sort fields in the {@link SortOperator#sortList}.
@@ -29,7 +30,13 @@ public class SortOperator extends PhysicalPlan {
   @Getter private final PhysicalPlan input;
 
   @Getter private final List<Pair<SortOption, Expression>> sortList;
-  @EqualsAndHashCode.Exclude private final Comparator<ExprValue> sorter;
+  @Getter @EqualsAndHashCode.Exclude private final long memoryLimit;
+
+  @Getter @EqualsAndHashCode.Exclude @ToString.Exclude
+  private final QueryMemoryTracker memoryTracker;
+
+  @EqualsAndHashCode.Exclude private final Comparator<ExprValue> comparator;
+  @EqualsAndHashCode.Exclude private ExternalSorter sorter;
   @EqualsAndHashCode.Exclude private Iterator<ExprValue> iterator;
 
   /**
@@ -40,9 +47,43 @@ public class SortOperator extends PhysicalPlan {
    *     with {@link SortOption}
    */
   public SortOperator(PhysicalPlan input, List<Pair<SortOption, Expression>> sortList) {
+    this(input, sortList, 0L);
+  }
+
+  /**
+   * Sort Operator Constructor with a memory budget. Once the estimated size of the buffered rows
+   * crosses the budget, they are sorted and spilled to disk, then merged when read.
+   *
+   * @param input input {@link PhysicalPlan}
+   * @param sortList list of sort sort field. The sort field is specified by the {@link Expression}
+   *     with {@link SortOption}
+   * @param memoryLimit memory budget in bytes, sort in memory only if not positive
+   */
+  public SortOperator(
+      PhysicalPlan input, List<Pair<SortOption, Expression>> sortList, long memoryLimit) {
+    this(input, sortList, memoryLimit, QueryMemoryTracker.NOOP);
+  }
+
+  /**
+   * Sort Operator Constructor with a memory budget, which reserves the memory of rows buffered in
+   * memory from the query memory tracker.
+   *
+   * @param input input {@link PhysicalPlan}
+   * @param sortList list of sort sort field. The sort field is specified by the {@link Expression}
+   *     with {@link SortOption}
+   * @param memoryLimit memory budget in bytes, sort in memory only if not positive
+   * @param memoryTracker memory tracker of the query
+   */
+  public SortOperator(
+      PhysicalPlan input,
+      List<Pair<SortOption, Expression>> sortList,
+      long memoryLimit,
+      QueryMemoryTracker memoryTracker) {
     this.input = input;
     this.sortList = sortList;
-    this.sorter = SortHelper.constructExprComparator(sortList);
+    this.memoryLimit = memoryLimit;
+    this.memoryTracker = memoryTracker;
+    this.comparator = SortHelper.constructExprComparator(sortList);
   }
 
   @Override
@@ -53,12 +94,20 @@ public class SortOperator extends PhysicalPlan {
   @Override
   public void open() {
     super.open();
-    PriorityQueue<ExprValue> sorted = new PriorityQueue<>(1, sorter::compare);
+    sorter = new ExternalSorter(comparator, memoryLimit, new MemoryReservation(memoryTracker));
     while (input.hasNext()) {
-      sorted.add(input.next());
+      sorter.add(input.next());
     }
 
-    iterator = iterator(sorted);
+    iterator = sorter.sorted();
+  }
+
+  @Override
+  public void close() {
+    if (sorter != null) {
+      sorter.close();
+    }
+    super.close();
   }
 
   @Override
@@ -75,18 +124,4 @@ public class SortOperator extends PhysicalPlan {
   public ExprValue next() {
     return iterator.next();
   }
-
-  private Iterator<ExprValue> iterator(PriorityQueue<ExprValue> result) {
-    return new Iterator<ExprValue>() {
-      @Override
-      public boolean hasNext() {
-        return !result.isEmpty();
-      }
-
-      @Override
-      public ExprValue next() {
-        return result.poll();
-      }
-    };
-  }
 }
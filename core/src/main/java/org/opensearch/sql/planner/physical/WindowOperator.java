@@ -12,6 +12,7 @@ import java.util.Collections;
 import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
@@ -19,6 +20,8 @@ import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.WindowFunctionExpression;
 import org.opensearch.sql.expression.window.frame.WindowFrame;
+import org.opensearch.sql.monitor.MemoryReservation;
+import org.opensearch.sql.monitor.QueryMemoryTracker;
 
 /** Physical operator for window function computation. */
 @EqualsAndHashCode(callSuper = false)
@@ -39,6 +42,16 @@ public class WindowOperator extends PhysicalPlan {
   @EqualsAndHashCode.Exclude @ToString.Exclude
   private final PeekingIterator<ExprValue> peekingIterator;
 
+  @Getter @EqualsAndHashCode.Exclude @ToString.Exclude
+  private final QueryMemoryTracker memoryTracker;
+
+  /**
+   * Memory reserved for the rows consumed by the window frame since it was last reloaded, which are
+   * the rows buffered by the frame. A row peeked by the frame is reserved only once it is consumed,
+   * so that it is not released together with the previous frame.
+   */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final MemoryReservation reservation;
+
   /**
    * Initialize window operator.
    *
@@ -48,11 +61,31 @@ public class WindowOperator extends PhysicalPlan {
    */
   public WindowOperator(
       PhysicalPlan input, NamedExpression windowFunction, WindowDefinition windowDefinition) {
+    this(input, windowFunction, windowDefinition, QueryMemoryTracker.NOOP);
+  }
+
+  /**
+   * Initialize window operator which reserves the memory of rows buffered by the window frame.
+   *
+   * @param input child operator
+   * @param windowFunction window function
+   * @param windowDefinition window definition
+   * @param memoryTracker memory tracker of the query
+   */
+  public WindowOperator(
+      PhysicalPlan input,
+      NamedExpression windowFunction,
+      WindowDefinition windowDefinition,
+      QueryMemoryTracker memoryTracker) {
     this.input = input;
     this.windowFunction = windowFunction;
     this.windowDefinition = windowDefinition;
+    this.memoryTracker = memoryTracker;
+    this.reservation = new MemoryReservation(memoryTracker);
     this.windowFrame = createWindowFrame();
-    this.peekingIterator = Iterators.peekingIterator(input);
+    PeekingIterator<ExprValue> rows = Iterators.peekingIterator(input);
+    this.peekingIterator =
+        reservation.isEnabled() ? new ReservingIterator(rows, reservation) : rows;
   }
 
   @Override
@@ -72,10 +105,20 @@ public class WindowOperator extends PhysicalPlan {
 
   @Override
   public ExprValue next() {
+    if (!windowFrame.hasNext()) {
+      // rows of the previous frame are dropped when the frame is reloaded
+      reservation.releaseAll();
+    }
     windowFrame.load(peekingIterator);
     return enrichCurrentRowByWindowFunctionResult();
   }
 
+  @Override
+  public void close() {
+    reservation.releaseAll();
+    super.close();
+  }
+
   private WindowFrame createWindowFrame() {
     return ((WindowFunctionExpression) windowFunction.getDelegated())
         .createWindowFrame(windowDefinition);
@@ -97,4 +140,34 @@ public class WindowOperator extends PhysicalPlan {
     ExprValue exprValue = windowFunction.valueOf(windowFrame);
     mapBuilder.put(windowFunction.getName(), exprValue);
   }
+
+  /** Peeking iterator which reserves the memory of each row consumed from it. */
+  @RequiredArgsConstructor
+  private static class ReservingIterator implements PeekingIterator<ExprValue> {
+    private final PeekingIterator<ExprValue> delegate;
+
+    private final MemoryReservation reservation;
+
+    @Override
+    public boolean hasNext() {
+      return delegate.hasNext();
+    }
+
+    @Override
+    public ExprValue peek() {
+      return delegate.peek();
+    }
+
+    @Override
+    public ExprValue next() {
+      ExprValue row = delegate.next();
+      reservation.reserve(row);
+      return row;
+    }
+
+    @Override
+    public void remove() {
+      delegate.remove();
+    }
+  }
 }
@@ -0,0 +1,268 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.batch;
+
+import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+/**
+ * A batch of rows processed column at a time by {@link
+ * org.opensearch.sql.planner.physical.PhysicalPlan#nextBatch}.
+ *
+ * <p>A batch is made of the input rows and of the columns computed from them, e.g. by an eval,
+ * which override the fields of the same name. A projected batch has columns only. The selection
+ * vector lists the positions which are still part of the batch, a filter narrows it instead of
+ * copying the rows. The columns are decoded from the rows on first reference. Expressions
+ * evaluated row at a time resolve their references through {@link #bindingTuplesAt(int)}, so the
+ * rows are materialized from the columns only when a consumer asks for whole rows.
+ */
+public class Batch {
+  /** Default number of rows of a batch. */
+  public static final int DEFAULT_SIZE = 1024;
+
+  /** Input rows, null for a batch of columns only. */
+  private final List<ExprValue> rows;
+
+  /** Number of positions. */
+  @Getter private final int size;
+
+  /** Computed columns by name, in the order of the fields of the materialized rows. */
+  private final Map<String, ColumnVector> columns = new LinkedHashMap<>();
+
+  /** Columns decoded from the input rows by reference name. */
+  private final Map<String, ColumnVector> decoded = new HashMap<>();
+
+  /** Rows materialized from the input rows and the computed columns. */
+  private final ExprValue[] materialized;
+
+  /** Selected positions, the first {@link #selectedCount} entries are valid. */
+  private int[] selection;
+
+  @Getter private int selectedCount;
+
+  private Batch(List<ExprValue> rows, int size, int[] selection, int selectedCount) {
+    this.rows = rows;
+    this.size = size;
+    this.materialized = new ExprValue[size];
+    this.selection = selection;
+    this.selectedCount = selectedCount;
+  }
+
+  /**
+   * Create a batch with all the rows selected.
+   *
+   * @param rows rows
+   * @return batch
+   */
+  public static Batch of(List<ExprValue> rows) {
+    int[] selection = new int[rows.size()];
+    for (int i = 0; i < selection.length; i++) {
+      selection[i] = i;
+    }
+    return new Batch(rows, rows.size(), selection, selection.length);
+  }
+
+  /**
+   * Collect the next rows of the iterator into a batch.
+   *
+   * @param iterator row iterator
+   * @param maxSize maximum number of rows
+   * @return batch, empty if the iterator is exhausted
+   */
+  public static Batch collect(Iterator<ExprValue> iterator, int maxSize) {
+    List<ExprValue> rows = new ArrayList<>(Math.min(maxSize, DEFAULT_SIZE));
+    while (rows.size() < maxSize && iterator.hasNext()) {
+      rows.add(iterator.next());
+    }
+    return of(rows);
+  }
+
+  /**
+   * Create a batch of columns only, with the positions and the selection of this batch. Its rows
+   * are tuples of the columns.
+   *
+   * @param columns columns by name
+   * @return batch
+   */
+  public Batch project(Map<String, ColumnVector> columns) {
+    Batch batch = new Batch(null, size, selection, selectedCount);
+    batch.columns.putAll(columns);
+    return batch;
+  }
+
+  /** Whether no position is selected. An empty batch marks the end of the input. */
+  public boolean isEmpty() {
+    return selectedCount == 0;
+  }
+
+  /**
+   * Get the i-th selected position.
+   *
+   * @param i index in the selection, less than {@link #getSelectedCount()}
+   * @return position
+   */
+  public int getSelected(int i) {
+    return selection[i];
+  }
+
+  /**
+   * Narrow the selection to the given positions.
+   *
+   * @param positions selected positions, a subset of the current selection in the same order
+   * @param count number of valid entries in positions
+   */
+  public void select(int[] positions, int count) {
+    this.selection = positions;
+    this.selectedCount = count;
+  }
+
+  /**
+   * Get the column of the reference. A computed column of the same name takes precedence,
+   * otherwise the values are resolved from the rows of the selected positions.
+   *
+   * @param ref reference
+   * @return column vector
+   */
+  public ColumnVector column(ReferenceExpression ref) {
+    ColumnVector column = columns.get(ref.getAttr());
+    if (column != null) {
+      return column;
+    }
+    return decoded.computeIfAbsent(ref.getAttr(), attr -> decode(ref));
+  }
+
+  /**
+   * Put a computed column, which overrides the field of the same name in the rows.
+   *
+   * @param name column name
+   * @param column column vector
+   */
+  public void putColumn(String name, ColumnVector column) {
+    columns.put(name, column);
+    decoded.keySet().removeIf(attr -> attr.equals(name) || attr.startsWith(name + "."));
+    Arrays.fill(materialized, null);
+  }
+
+  /**
+   * Get the row at the position, which includes the computed columns.
+   *
+   * @param position position
+   * @return row
+   */
+  public ExprValue rowAt(int position) {
+    if (columns.isEmpty()) {
+      return rows.get(position);
+    }
+    ExprValue row = materialized[position];
+    if (row == null) {
+      row = materialize(position);
+      materialized[position] = row;
+    }
+    return row;
+  }
+
+  /**
+   * Get the environment of the row at the position, which resolves a reference to the computed
+   * column of the same name, or else to the field of the input row, without materializing the row.
+   *
+   * @param position position
+   * @return binding tuple of the row
+   */
+  public BindingTuple bindingTuplesAt(int position) {
+    if (columns.isEmpty()) {
+      return rows.get(position).bindingTuples();
+    }
+    return new BindingTuple() {
+      @Override
+      public ExprValue resolve(ReferenceExpression ref) {
+        ColumnVector column = columns.get(ref.getAttr());
+        if (column != null) {
+          return column.get(position);
+        }
+        boolean overridden = rows == null || columns.containsKey(ref.getPaths().get(0));
+        // a path into a computed column is resolved on the materialized row
+        ExprValue row = overridden ? rowAt(position) : rows.get(position);
+        return ref.valueOf(row.bindingTuples());
+      }
+    };
+  }
+
+  /** Get the rows of the selected positions. */
+  public List<ExprValue> selectedRows() {
+    List<ExprValue> selected = new ArrayList<>(selectedCount);
+    for (int i = 0; i < selectedCount; i++) {
+      selected.add(rowAt(selection[i]));
+    }
+    return selected;
+  }
+
+  /**
+   * Decode the values of the reference from the rows of the selected positions, into a primitive
+   * column if all the values have the type of the reference.
+   */
+  private ColumnVector decode(ReferenceExpression ref) {
+    boolean overridden = rows == null || columns.containsKey(ref.getPaths().get(0));
+    ExprValue[] values = new ExprValue[size];
+    boolean typed = true;
+    for (int i = 0; i < selectedCount; i++) {
+      int position = selection[i];
+      ExprValue row = overridden ? rowAt(position) : rows.get(position);
+      ExprValue value = ref.valueOf(row.bindingTuples());
+      values[position] = value;
+      typed &= value.isNull() || value.isMissing() || value.type() == ref.type();
+    }
+    ColumnVector column =
+        typed ? ColumnVector.create(ref.type(), size) : new ValueVector(ref.type(), size);
+    for (int i = 0; i < selectedCount; i++) {
+      column.set(selection[i], values[selection[i]]);
+    }
+    return column;
+  }
+
+  /**
+   * Materialize the row at the position the way {@link
+   * org.opensearch.sql.planner.physical.EvalOperator} and {@link
+   * org.opensearch.sql.planner.physical.ProjectOperator} build their output rows.
+   */
+  private ExprValue materialize(int position) {
+    ImmutableMap.Builder<String, ExprValue> builder = new ImmutableMap.Builder<>();
+    if (rows == null) {
+      columns.forEach((name, column) -> builder.put(name, column.get(position)));
+      return ExprTupleValue.fromExprValueMap(builder.build());
+    }
+
+    ExprValue row = rows.get(position);
+    if (STRUCT != row.type()) {
+      return row;
+    }
+    Map<String, ExprValue> tuple = ExprValueUtils.getTupleValue(row);
+    for (Map.Entry<String, ExprValue> field : tuple.entrySet()) {
+      ColumnVector column = columns.get(field.getKey());
+      builder.put(field.getKey(), column == null ? field.getValue() : column.get(position));
+    }
+    columns.forEach(
+        (name, column) -> {
+          if (!tuple.containsKey(name)) {
+            builder.put(name, column.get(position));
+          }
+        });
+    return ExprTupleValue.fromExprValueMap(builder.build());
+  }
+}
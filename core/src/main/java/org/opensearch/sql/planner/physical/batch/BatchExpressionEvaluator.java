@@ -0,0 +1,370 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.batch;
+
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.LongBinaryOperator;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+
+/**
+ * Evaluate an {@link Expression} over the selected positions of a {@link Batch}.
+ *
+ * <p>References, literals and the arithmetic, comparison, logical and numeric cast functions over
+ * INTEGER, LONG, DOUBLE and BOOLEAN operands are evaluated column at a time on primitive columns,
+ * with the same results, including the NULL and MISSING handling, overflow errors and division by
+ * zero, as their row at a time implementations. Any other expression is evaluated row at a time,
+ * its references resolved from the columns and the input rows of the batch.
+ */
+@UtilityClass
+public class BatchExpressionEvaluator {
+
+  private enum Arithmetic {
+    ADD(Math::addExact, Math::addExact, Double::sum),
+    SUBTRACT(Math::subtractExact, Math::subtractExact, (a, b) -> a - b),
+    MULTIPLY(Math::multiplyExact, Math::multiplyExact, (a, b) -> a * b),
+    DIVIDE((a, b) -> a / b, (a, b) -> a / b, (a, b) -> a / b),
+    MODULUS((a, b) -> a % b, (a, b) -> a % b, (a, b) -> a % b);
+
+    private final LongBinaryOperator longOperator;
+    private final LongBinaryOperator integerOperator;
+    private final DoubleBinaryOperator doubleOperator;
+
+    Arithmetic(
+        LongBinaryOperator longOperator,
+        IntegerBinaryOperator integerOperator,
+        DoubleBinaryOperator doubleOperator) {
+      this.longOperator = longOperator;
+      this.integerOperator = (a, b) -> integerOperator.apply((int) a, (int) b);
+      this.doubleOperator = doubleOperator;
+    }
+
+    /** DIVIDE and MODULUS return NULL for a zero divisor. */
+    private boolean isNullOnZeroDivisor() {
+      return this == DIVIDE || this == MODULUS;
+    }
+  }
+
+  @FunctionalInterface
+  private interface IntegerBinaryOperator {
+    int apply(int a, int b);
+  }
+
+  private static final Map<String, Arithmetic> ARITHMETIC_FUNCTIONS =
+      new ImmutableMap.Builder<String, Arithmetic>()
+          .put(name(BuiltinFunctionName.ADD), Arithmetic.ADD)
+          .put(name(BuiltinFunctionName.ADDFUNCTION), Arithmetic.ADD)
+          .put(name(BuiltinFunctionName.SUBTRACT), Arithmetic.SUBTRACT)
+          .put(name(BuiltinFunctionName.SUBTRACTFUNCTION), Arithmetic.SUBTRACT)
+          .put(name(BuiltinFunctionName.MULTIPLY), Arithmetic.MULTIPLY)
+          .put(name(BuiltinFunctionName.MULTIPLYFUNCTION), Arithmetic.MULTIPLY)
+          .put(name(BuiltinFunctionName.DIVIDE), Arithmetic.DIVIDE)
+          .put(name(BuiltinFunctionName.DIVIDEFUNCTION), Arithmetic.DIVIDE)
+          .put(name(BuiltinFunctionName.MOD), Arithmetic.MODULUS)
+          .put(name(BuiltinFunctionName.MODULUS), Arithmetic.MODULUS)
+          .put(name(BuiltinFunctionName.MODULUSFUNCTION), Arithmetic.MODULUS)
+          .build();
+
+  /** Comparison functions by name, as predicates on the result of the value comparison. */
+  private static final Map<String, IntPredicate> COMPARISON_FUNCTIONS =
+      new ImmutableMap.Builder<String, IntPredicate>()
+          .put(name(BuiltinFunctionName.EQUAL), c -> c == 0)
+          .put(name(BuiltinFunctionName.NOTEQUAL), c -> c != 0)
+          .put(name(BuiltinFunctionName.LESS), c -> c < 0)
+          .put(name(BuiltinFunctionName.LTE), c -> c <= 0)
+          .put(name(BuiltinFunctionName.GREATER), c -> c > 0)
+          .put(name(BuiltinFunctionName.GTE), c -> c >= 0)
+          .build();
+
+  private static final Map<String, ExprType> CAST_FUNCTIONS =
+      ImmutableMap.of(
+          name(BuiltinFunctionName.CAST_TO_LONG), LONG,
+          name(BuiltinFunctionName.CAST_TO_DOUBLE), DOUBLE);
+
+  private static final String AND = name(BuiltinFunctionName.AND);
+
+  private static final String OR = name(BuiltinFunctionName.OR);
+
+  private static final String NOT = name(BuiltinFunctionName.NOT);
+
+  private static final Set<ExprType> NUMERIC_TYPES = Set.of(INTEGER, LONG, DOUBLE);
+
+  /**
+   * Evaluate the expression over the selected positions of the batch.
+   *
+   * @param expression expression
+   * @param batch batch
+   * @return column of the results, undefined at the positions which are not selected
+   */
+  public static ColumnVector evaluate(Expression expression, Batch batch) {
+    if (isVectorized(expression)) {
+      return vectorize(expression, batch);
+    }
+    return evaluateRows(expression, batch);
+  }
+
+  /**
+   * Whether the expression, including all of its arguments, is evaluated column at a time.
+   *
+   * @param expression expression
+   * @return true if the expression is evaluated column at a time
+   */
+  public static boolean isVectorized(Expression expression) {
+    if (expression instanceof NamedExpression named) {
+      return isVectorized(named.getDelegated());
+    }
+    if (expression instanceof ReferenceExpression || expression instanceof LiteralExpression) {
+      return true;
+    }
+    if (!(expression instanceof FunctionExpression function)
+        || !function.getArguments().stream().allMatch(BatchExpressionEvaluator::isVectorized)) {
+      return false;
+    }
+
+    String name = function.getFunctionName().getFunctionName();
+    List<Expression> args = function.getArguments();
+    if (ARITHMETIC_FUNCTIONS.containsKey(name) || COMPARISON_FUNCTIONS.containsKey(name)) {
+      return args.size() == 2
+          && NUMERIC_TYPES.contains(args.get(0).type())
+          && args.get(0).type() == args.get(1).type();
+    } else if (CAST_FUNCTIONS.containsKey(name)) {
+      return args.size() == 1 && NUMERIC_TYPES.contains(args.get(0).type());
+    } else if (AND.equals(name) || OR.equals(name) || NOT.equals(name)) {
+      return args.size() == (NOT.equals(name) ? 1 : 2)
+          && args.stream().allMatch(arg -> arg.type() == BOOLEAN);
+    }
+    return false;
+  }
+
+  private static ColumnVector vectorize(Expression expression, Batch batch) {
+    if (expression instanceof NamedExpression named) {
+      return vectorize(named.getDelegated(), batch);
+    } else if (expression instanceof ReferenceExpression ref) {
+      return batch.column(ref);
+    } else if (expression instanceof LiteralExpression literal) {
+      return constant(literal.valueOf(), batch);
+    }
+
+    FunctionExpression function = (FunctionExpression) expression;
+    String name = function.getFunctionName().getFunctionName();
+    List<ColumnVector> args =
+        function.getArguments().stream().map(arg -> vectorize(arg, batch)).toList();
+    if (ARITHMETIC_FUNCTIONS.containsKey(name)) {
+      return arithmetic(ARITHMETIC_FUNCTIONS.get(name), args.get(0), args.get(1), batch);
+    } else if (COMPARISON_FUNCTIONS.containsKey(name)) {
+      return compare(COMPARISON_FUNCTIONS.get(name), args.get(0), args.get(1), batch);
+    } else if (CAST_FUNCTIONS.containsKey(name)) {
+      return cast(CAST_FUNCTIONS.get(name), args.get(0), batch);
+    } else if (NOT.equals(name)) {
+      return not(toBoolean(args.get(0), batch), batch);
+    }
+    return AND.equals(name)
+        ? and(toBoolean(args.get(0), batch), toBoolean(args.get(1), batch), batch)
+        : or(toBoolean(args.get(0), batch), toBoolean(args.get(1), batch), batch);
+  }
+
+  private static ColumnVector evaluateRows(Expression expression, Batch batch) {
+    ColumnVector result = new ValueVector(expression.type(), batch.getSize());
+    for (int i = 0; i < batch.getSelectedCount(); i++) {
+      int position = batch.getSelected(i);
+      result.set(position, expression.valueOf(batch.bindingTuplesAt(position)));
+    }
+    return result;
+  }
+
+  private static ColumnVector constant(ExprValue value, Batch batch) {
+    ColumnVector result = ColumnVector.create(value.type(), batch.getSize());
+    for (int i = 0; i < batch.getSelectedCount(); i++) {
+      result.set(batch.getSelected(i), value);
+    }
+    return result;
+  }
+
+  private static ColumnVector arithmetic(
+      Arithmetic arithmetic, ColumnVector left, ColumnVector right, Batch batch) {
+    if (left.getType() == DOUBLE) {
+      DoubleVector l = toDouble(left, batch);
+      DoubleVector r = toDouble(right, batch);
+      DoubleVector result = new DoubleVector(batch.getSize());
+      for (int i = 0; i < batch.getSelectedCount(); i++) {
+        int position = batch.getSelected(i);
+        if (!result.propagateNullMissing(position, l, r)) {
+          continue;
+        }
+        double divisor = r.getDouble(position);
+        if (arithmetic.isNullOnZeroDivisor() && divisor == 0) {
+          result.setNull(position);
+        } else {
+          result.setDouble(
+              position, arithmetic.doubleOperator.applyAsDouble(l.getDouble(position), divisor));
+        }
+      }
+      return result;
+    }
+
+    ExprType type = left.getType();
+    LongBinaryOperator operator =
+        type == INTEGER ? arithmetic.integerOperator : arithmetic.longOperator;
+    LongVector l = toLong(left, type, batch);
+    LongVector r = toLong(right, type, batch);
+    LongVector result = new LongVector(type, batch.getSize());
+    for (int i = 0; i < batch.getSelectedCount(); i++) {
+      int position = batch.getSelected(i);
+      if (!result.propagateNullMissing(position, l, r)) {
+        continue;
+      }
+      long divisor = r.getLong(position);
+      if (arithmetic.isNullOnZeroDivisor() && divisor == 0) {
+        result.setNull(position);
+      } else {
+        result.setLong(position, operator.applyAsLong(l.getLong(position), divisor));
+      }
+    }
+    return result;
+  }
+
+  private static ColumnVector compare(
+      IntPredicate predicate, ColumnVector left, ColumnVector right, Batch batch) {
+    BooleanVector result = new BooleanVector(batch.getSize());
+    if (left.getType() == DOUBLE) {
+      DoubleVector l = toDouble(left, batch);
+      DoubleVector r = toDouble(right, batch);
+      for (int i = 0; i < batch.getSelectedCount(); i++) {
+        int position = batch.getSelected(i);
+        if (result.propagateNullMissing(position, l, r)) {
+          result.setBoolean(
+              position,
+              predicate.test(Double.compare(l.getDouble(position), r.getDouble(position))));
+        }
+      }
+    } else {
+      LongVector l = toLong(left, left.getType(), batch);
+      LongVector r = toLong(right, left.getType(), batch);
+      for (int i = 0; i < batch.getSelectedCount(); i++) {
+        int position = batch.getSelected(i);
+        if (result.propagateNullMissing(position, l, r)) {
+          result.setBoolean(
+              position, predicate.test(Long.compare(l.getLong(position), r.getLong(position))));
+        }
+      }
+    }
+    return result;
+  }
+
+  private static ColumnVector cast(ExprType type, ColumnVector operand, Batch batch) {
+    ColumnVector result = ColumnVector.create(type, batch.getSize());
+    DoubleVector doubles = operand.getType() == DOUBLE ? toDouble(operand, batch) : null;
+    LongVector longs = doubles == null ? toLong(operand, operand.getType(), batch) : null;
+    for (int i = 0; i < batch.getSelectedCount(); i++) {
+      int position = batch.getSelected(i);
+      if (!result.propagateNullMissing(position, operand)) {
+        continue;
+      }
+      if (type == LONG) {
+        long value = doubles != null ? (long) doubles.getDouble(position) : longs.getLong(position);
+        ((LongVector) result).setLong(position, value);
+      } else {
+        double value = doubles != null ? doubles.getDouble(position) : longs.getLong(position);
+        ((DoubleVector) result).setDouble(position, value);
+      }
+    }
+    return result;
+  }
+
+  /** AND: FALSE if any operand is FALSE, otherwise MISSING, NULL, then TRUE. */
+  private static ColumnVector and(BooleanVector left, BooleanVector right, Batch batch) {
+    BooleanVector result = new BooleanVector(batch.getSize());
+    for (int i = 0; i < batch.getSelectedCount(); i++) {
+      int position = batch.getSelected(i);
+      if (left.isFalse(position) || right.isFalse(position)) {
+        result.setBoolean(position, false);
+      } else if (left.isMissing(position) || right.isMissing(position)) {
+        result.setMissing(position);
+      } else if (left.isNull(position) || right.isNull(position)) {
+        result.setNull(position);
+      } else {
+        result.setBoolean(position, true);
+      }
+    }
+    return result;
+  }
+
+  /** OR: TRUE if any operand is TRUE, otherwise NULL, MISSING, then FALSE. */
+  private static ColumnVector or(BooleanVector left, BooleanVector right, Batch batch) {
+    BooleanVector result = new BooleanVector(batch.getSize());
+    for (int i = 0; i < batch.getSelectedCount(); i++) {
+      int position = batch.getSelected(i);
+      if (left.isTrue(position) || right.isTrue(position)) {
+        result.setBoolean(position, true);
+      } else if (left.isNull(position) || right.isNull(position)) {
+        result.setNull(position);
+      } else if (left.isMissing(position) || right.isMissing(position)) {
+        result.setMissing(position);
+      } else {
+        result.setBoolean(position, false);
+      }
+    }
+    return result;
+  }
+
+  private static ColumnVector not(BooleanVector operand, Batch batch) {
+    BooleanVector result = new BooleanVector(batch.getSize());
+    for (int i = 0; i < batch.getSelectedCount(); i++) {
+      int position = batch.getSelected(i);
+      if (result.propagateNullMissing(position, operand)) {
+        result.setBoolean(position, !operand.getBoolean(position));
+      }
+    }
+    return result;
+  }
+
+  /** Copy a column whose values do not have the type of their expression to a long column. */
+  private static LongVector toLong(ColumnVector column, ExprType type, Batch batch) {
+    return column instanceof LongVector longs ? longs : (LongVector) copy(column, type, batch);
+  }
+
+  private static DoubleVector toDouble(ColumnVector column, Batch batch) {
+    return column instanceof DoubleVector doubles
+        ? doubles
+        : (DoubleVector) copy(column, DOUBLE, batch);
+  }
+
+  private static BooleanVector toBoolean(ColumnVector column, Batch batch) {
+    return column instanceof BooleanVector booleans
+        ? booleans
+        : (BooleanVector) copy(column, BOOLEAN, batch);
+  }
+
+  private static ColumnVector copy(ColumnVector column, ExprType type, Batch batch) {
+    ColumnVector result = ColumnVector.create(type, batch.getSize());
+    for (int i = 0; i < batch.getSelectedCount(); i++) {
+      int position = batch.getSelected(i);
+      result.set(position, column.get(position));
+    }
+    return result;
+  }
+
+  private static String name(BuiltinFunctionName functionName) {
+    return functionName.getName().getFunctionName();
+  }
+}
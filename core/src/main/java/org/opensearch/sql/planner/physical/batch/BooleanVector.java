@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.batch;
+
+import java.util.BitSet;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+
+/** Column of BOOLEAN values backed by a bitmap. */
+public class BooleanVector extends ColumnVector {
+  private final BitSet values = new BitSet();
+
+  public BooleanVector(int size) {
+    super(ExprCoreType.BOOLEAN, size);
+  }
+
+  public boolean getBoolean(int position) {
+    return values.get(position);
+  }
+
+  public void setBoolean(int position, boolean value) {
+    values.set(position, value);
+  }
+
+  /** Whether the position holds TRUE, i.e. it is neither NULL, MISSING nor FALSE. */
+  public boolean isTrue(int position) {
+    return isValid(position) && values.get(position);
+  }
+
+  /** Whether the position holds FALSE, i.e. it is neither NULL, MISSING nor TRUE. */
+  public boolean isFalse(int position) {
+    return isValid(position) && !values.get(position);
+  }
+
+  @Override
+  protected ExprValue getValue(int position) {
+    return ExprBooleanValue.of(values.get(position));
+  }
+
+  @Override
+  protected void setValue(int position, ExprValue value) {
+    values.set(position, value.booleanValue());
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.batch;
+
+import java.util.BitSet;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+
+/**
+ * The values of one column for the positions of a {@link Batch}. NULL and MISSING are tracked in
+ * bitmaps, the value stored at a NULL or MISSING position is undefined.
+ */
+@RequiredArgsConstructor
+public abstract class ColumnVector {
+  /** Type of the values in the column. */
+  @Getter private final ExprType type;
+
+  /** Number of positions in the column. */
+  @Getter private final int size;
+
+  private final BitSet nulls = new BitSet();
+
+  private final BitSet missing = new BitSet();
+
+  /**
+   * Create an empty column for values of the given type, backed by primitive arrays for the
+   * integral, floating point and boolean types.
+   *
+   * @param type value type
+   * @param size number of positions
+   * @return column vector
+   */
+  public static ColumnVector create(ExprType type, int size) {
+    if (type == ExprCoreType.INTEGER || type == ExprCoreType.LONG) {
+      return new LongVector(type, size);
+    } else if (type == ExprCoreType.DOUBLE) {
+      return new DoubleVector(size);
+    } else if (type == ExprCoreType.BOOLEAN) {
+      return new BooleanVector(size);
+    } else {
+      return new ValueVector(type, size);
+    }
+  }
+
+  public boolean isNull(int position) {
+    return nulls.get(position);
+  }
+
+  public boolean isMissing(int position) {
+    return missing.get(position);
+  }
+
+  /** Whether the position holds a value, i.e. it is neither NULL nor MISSING. */
+  public boolean isValid(int position) {
+    return !nulls.get(position) && !missing.get(position);
+  }
+
+  public void setNull(int position) {
+    nulls.set(position);
+  }
+
+  public void setMissing(int position) {
+    missing.set(position);
+  }
+
+  /**
+   * Propagate NULL and MISSING of the operands of a function with the NULL and MISSING handling of
+   * {@link org.opensearch.sql.expression.function.FunctionDSL#nullMissingHandling}: MISSING if any
+   * operand is MISSING, otherwise NULL if any operand is NULL.
+   *
+   * @param position position
+   * @param operands operand columns
+   * @return true if the position holds a value for all the operands
+   */
+  boolean propagateNullMissing(int position, ColumnVector... operands) {
+    boolean isNull = false;
+    for (ColumnVector operand : operands) {
+      if (operand.isMissing(position)) {
+        setMissing(position);
+        return false;
+      }
+      isNull |= operand.isNull(position);
+    }
+    if (isNull) {
+      setNull(position);
+    }
+    return !isNull;
+  }
+
+  /**
+   * Get the value at the position.
+   *
+   * @param position position
+   * @return value, NULL or MISSING
+   */
+  public ExprValue get(int position) {
+    if (missing.get(position)) {
+      return ExprValueUtils.missingValue();
+    } else if (nulls.get(position)) {
+      return ExprValueUtils.nullValue();
+    }
+    return getValue(position);
+  }
+
+  /**
+   * Set the value at the position.
+   *
+   * @param position position
+   * @param value value, NULL or MISSING
+   */
+  public void set(int position, ExprValue value) {
+    if (value.isMissing()) {
+      setMissing(position);
+    } else if (value.isNull()) {
+      setNull(position);
+    } else {
+      setValue(position, value);
+    }
+  }
+
+  /** Get the value at a position which is neither NULL nor MISSING. */
+  protected abstract ExprValue getValue(int position);
+
+  /** Set the value at a position, the value is neither NULL nor MISSING. */
+  protected abstract void setValue(int position, ExprValue value);
+}
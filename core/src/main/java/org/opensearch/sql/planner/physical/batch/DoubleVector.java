@@ -0,0 +1,38 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.batch;
+
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+
+/** Column of DOUBLE values backed by a double array. */
+public class DoubleVector extends ColumnVector {
+  private final double[] values;
+
+  public DoubleVector(int size) {
+    super(ExprCoreType.DOUBLE, size);
+    this.values = new double[size];
+  }
+
+  public double getDouble(int position) {
+    return values[position];
+  }
+
+  public void setDouble(int position, double value) {
+    values[position] = value;
+  }
+
+  @Override
+  protected ExprValue getValue(int position) {
+    return new ExprDoubleValue(values[position]);
+  }
+
+  @Override
+  protected void setValue(int position, ExprValue value) {
+    values[position] = value.doubleValue();
+  }
+}
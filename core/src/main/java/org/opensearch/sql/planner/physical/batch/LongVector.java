@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.batch;
+
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+
+/** Column of INTEGER or LONG values backed by a long array. */
+public class LongVector extends ColumnVector {
+  private final long[] values;
+
+  /**
+   * Constructor of LongVector.
+   *
+   * @param type {@link ExprCoreType#INTEGER} or {@link ExprCoreType#LONG}
+   * @param size number of positions
+   */
+  public LongVector(ExprType type, int size) {
+    super(type, size);
+    if (type != ExprCoreType.INTEGER && type != ExprCoreType.LONG) {
+      throw new IllegalArgumentException(
+          String.format("long vector expects INTEGER or LONG values, but got %s", type));
+    }
+    this.values = new long[size];
+  }
+
+  public long getLong(int position) {
+    return values[position];
+  }
+
+  public void setLong(int position, long value) {
+    values[position] = value;
+  }
+
+  @Override
+  protected ExprValue getValue(int position) {
+    return getType() == ExprCoreType.INTEGER
+        ? new ExprIntegerValue((int) values[position])
+        : new ExprLongValue(values[position]);
+  }
+
+  @Override
+  protected void setValue(int position, ExprValue value) {
+    values[position] = getType() == ExprCoreType.INTEGER ? value.integerValue() : value.longValue();
+  }
+}
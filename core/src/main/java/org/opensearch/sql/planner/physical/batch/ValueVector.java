@@ -0,0 +1,29 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.batch;
+
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+
+/** Column of values of any type, used for the types without a primitive column. */
+public class ValueVector extends ColumnVector {
+  private final ExprValue[] values;
+
+  public ValueVector(ExprType type, int size) {
+    super(type, size);
+    this.values = new ExprValue[size];
+  }
+
+  @Override
+  protected ExprValue getValue(int position) {
+    return values[position];
+  }
+
+  @Override
+  protected void setValue(int position, ExprValue value) {
+    values[position] = value;
+  }
+}
@@ -18,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueSizeEstimator;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
@@ -25,6 +26,9 @@ import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 @RequiredArgsConstructor
 public class BucketCollector implements Collector {
 
+  /** Rough size of a bucket besides its key: tree map entry, nested collector and its states. */
+  private static final long BUCKET_OVERHEAD = 96L;
+
   /** Bucket Expression. */
   private final NamedExpression bucketExpr;
 
@@ -40,6 +44,9 @@ public class BucketCollector implements Collector {
   /** Bucket Index. */
   private int bucketIndex = 0;
 
+  /** Estimated size of the buckets and their nested collectors. */
+  private long estimatedSize = 0L;
+
   /**
    * Collect Bucket from {@link BindingTuple}. If bucket not exist, create new bucket and {@link
    * Collector}. If bucket exist, let {@link Collector} in the bucket collect from {@link
@@ -50,8 +57,20 @@ public class BucketCollector implements Collector {
   @Override
   public void collect(BindingTuple input) {
     ExprValue bucketKey = bucketKey(input);
-    collectorMap.putIfAbsent(bucketKey, supplier.get());
-    collectorMap.get(bucketKey).collect(input);
+    Collector collector = collectorMap.get(bucketKey);
+    if (collector == null) {
+      collector = supplier.get();
+      collectorMap.put(bucketKey, collector);
+      estimatedSize += BUCKET_OVERHEAD + ExprValueSizeEstimator.estimate(bucketKey);
+    }
+    long nestedSize = collector.estimatedSize();
+    collector.collect(input);
+    estimatedSize += collector.estimatedSize() - nestedSize;
+  }
+
+  @Override
+  public long estimatedSize() {
+    return estimatedSize;
   }
 
   /**
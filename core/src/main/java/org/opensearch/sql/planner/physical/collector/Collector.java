@@ -30,18 +30,67 @@ public interface Collector {
    */
   List<ExprValue> results();
 
+  /**
+   * Rough estimation of the heap size retained by the collected groups, for operators to reserve
+   * memory for their query. Collectors without memory of their own, e.g. a single group of metric
+   * aggregations, return 0.
+   *
+   * @return estimated size in bytes
+   */
+  default long estimatedSize() {
+    return 0L;
+  }
+
+  /** Strategy to group the {@link BindingTuple}s into buckets. */
+  enum Strategy {
+    /** Nested {@link BucketCollector} per group by level, results sorted by key. */
+    TREE,
+    /** Single {@link HashCollector} on the composite key, results sorted by key. */
+    HASH,
+    /** Single {@link HashCollector} on the composite key, results in arrival order. */
+    HASH_UNSORTED
+  }
+
   /** {@link Collector} tree builder. */
   @UtilityClass
   class Builder {
     /** build {@link Collector}. */
     public static Collector build(
         List<NamedExpression> buckets, List<NamedAggregator> aggregators) {
+      return build(buckets, aggregators, Strategy.TREE);
+    }
+
+    /**
+     * build {@link Collector} with the given {@link Strategy}.
+     *
+     * @param buckets group by expressions.
+     * @param aggregators aggregators.
+     * @param strategy {@link Strategy} to group the buckets.
+     * @return {@link Collector}.
+     */
+    public static Collector build(
+        List<NamedExpression> buckets, List<NamedAggregator> aggregators, Strategy strategy) {
+      if (buckets.isEmpty()) {
+        return new MetricCollector(aggregators);
+      }
+      switch (strategy) {
+        case HASH:
+          return new HashCollector(buckets, aggregators, true);
+        case HASH_UNSORTED:
+          return new HashCollector(buckets, aggregators, false);
+        default:
+          return buildTree(buckets, aggregators);
+      }
+    }
+
+    private static Collector buildTree(
+        List<NamedExpression> buckets, List<NamedAggregator> aggregators) {
       if (buckets.isEmpty()) {
         return new MetricCollector(aggregators);
       } else {
         return new BucketCollector(
             buckets.get(0),
-            () -> build(ImmutableList.copyOf(buckets.subList(1, buckets.size())), aggregators));
+            () -> buildTree(ImmutableList.copyOf(buckets.subList(1, buckets.size())), aggregators));
       }
     }
   }
@@ -0,0 +1,218 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueSizeEstimator;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.AggregationState;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+/**
+ * Collect buckets from {@link BindingTuple} with a single hash table keyed on the composite group
+ * key, instead of one {@link java.util.TreeMap} per group by level as {@link BucketCollector}
+ * does. Groups are stored in insertion order with their aggregation states in one flat array, and
+ * sorted by key only when results are emitted, so the output order matches {@link
+ * BucketCollector}.
+ */
+public class HashCollector implements Collector {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private static final float LOAD_FACTOR = 0.5f;
+
+  /** Marker of an empty slot in the hash table. */
+  private static final int EMPTY = -1;
+
+  /** Rough size of a group besides its key values: slots, hash, key array and state references. */
+  private static final long GROUP_OVERHEAD = 48L;
+
+  /** Rough size of an aggregation state. */
+  private static final long STATE_SIZE = 32L;
+
+  /** Bucket Expressions. */
+  private final List<NamedExpression> buckets;
+
+  /** List of {@link NamedAggregator}. */
+  private final List<NamedAggregator> aggregators;
+
+  /** Whether groups are sorted by key before emitting results. */
+  private final boolean sorted;
+
+  /** Open-addressing table from slot to group index, {@link #EMPTY} if slot is free. */
+  private int[] table;
+
+  /** Hash code of each group key, indexed by group. */
+  private int[] hashes;
+
+  /** Composite key of each group, indexed by group. */
+  private ExprValue[][] keys;
+
+  /** Aggregation states of all the groups, group i owns [i * n, (i + 1) * n). */
+  private AggregationState[] states;
+
+  /** Number of groups collected. */
+  private int size = 0;
+
+  /** Estimated size of the collected groups. */
+  private long estimatedSize = 0L;
+
+  /**
+   * Constructor of {@link HashCollector}.
+   *
+   * @param buckets group by expressions.
+   * @param aggregators aggregators.
+   * @param sorted sort groups by key when emitting results.
+   */
+  public HashCollector(
+      List<NamedExpression> buckets, List<NamedAggregator> aggregators, boolean sorted) {
+    this.buckets = buckets;
+    this.aggregators = aggregators;
+    this.sorted = sorted;
+    this.table = new int[INITIAL_CAPACITY];
+    Arrays.fill(table, EMPTY);
+    this.hashes = new int[INITIAL_CAPACITY];
+    this.keys = new ExprValue[INITIAL_CAPACITY][];
+    this.states = new AggregationState[INITIAL_CAPACITY * aggregators.size()];
+  }
+
+  /**
+   * Collect from {@link BindingTuple}. Locate the group of the composite key, create the group and
+   * its aggregation states if not exist, then let each aggregator iterate on the tuple.
+   *
+   * @param input {@link BindingTuple}.
+   */
+  @Override
+  public void collect(BindingTuple input) {
+    ExprValue[] key = new ExprValue[buckets.size()];
+    int hash = 1;
+    for (int i = 0; i < key.length; i++) {
+      key[i] = buckets.get(i).valueOf(input);
+      hash = 31 * hash + key[i].hashCode();
+    }
+    hash ^= (hash >>> 16);
+
+    int group = findOrInsert(key, hash);
+    int offset = group * aggregators.size();
+    for (int i = 0; i < aggregators.size(); i++) {
+      aggregators.get(i).iterate(input, states[offset + i]);
+    }
+  }
+
+  /**
+   * Get result from all the groups.
+   *
+   * @return list of {@link ExprValue}.
+   */
+  @Override
+  public List<ExprValue> results() {
+    Integer[] order = new Integer[size];
+    for (int i = 0; i < size; i++) {
+      order[i] = i;
+    }
+    if (sorted) {
+      Arrays.sort(order, (left, right) -> compareKey(keys[left], keys[right]));
+    }
+
+    List<ExprValue> results = new ArrayList<>(size);
+    for (int group : order) {
+      LinkedHashMap<String, ExprValue> map = new LinkedHashMap<>();
+      for (int i = 0; i < buckets.size(); i++) {
+        map.put(buckets.get(i).getNameOrAlias(), keys[group][i]);
+      }
+      int offset = group * aggregators.size();
+      for (int i = 0; i < aggregators.size(); i++) {
+        map.put(aggregators.get(i).getName(), states[offset + i].result());
+      }
+      results.add(ExprTupleValue.fromExprValueMap(map));
+    }
+    return results;
+  }
+
+  @Override
+  public long estimatedSize() {
+    return estimatedSize;
+  }
+
+  private int findOrInsert(ExprValue[] key, int hash) {
+    int mask = table.length - 1;
+    int slot = hash & mask;
+    while (table[slot] != EMPTY) {
+      int group = table[slot];
+      if (hashes[group] == hash && Arrays.equals(keys[group], key)) {
+        return group;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    int group = size++;
+    ensureGroupCapacity();
+    hashes[group] = hash;
+    keys[group] = key;
+    estimatedSize += GROUP_OVERHEAD + STATE_SIZE * aggregators.size();
+    for (ExprValue value : key) {
+      estimatedSize += ExprValueSizeEstimator.estimate(value);
+    }
+    int offset = group * aggregators.size();
+    for (int i = 0; i < aggregators.size(); i++) {
+      states[offset + i] = aggregators.get(i).create();
+    }
+    table[slot] = group;
+    if (size > table.length * LOAD_FACTOR) {
+      rehash();
+    }
+    return group;
+  }
+
+  private void ensureGroupCapacity() {
+    if (size > keys.length) {
+      int capacity = keys.length * 2;
+      hashes = Arrays.copyOf(hashes, capacity);
+      keys = Arrays.copyOf(keys, capacity);
+      states = Arrays.copyOf(states, capacity * aggregators.size());
+    }
+  }
+
+  private void rehash() {
+    int[] newTable = new int[table.length * 2];
+    Arrays.fill(newTable, EMPTY);
+    int mask = newTable.length - 1;
+    for (int group = 0; group < size; group++) {
+      int slot = hashes[group] & mask;
+      while (newTable[slot] != EMPTY) {
+        slot = (slot + 1) & mask;
+      }
+      newTable[slot] = group;
+    }
+    table = newTable;
+  }
+
+  /** Compare composite keys level by level, NULL and MISSING go first. */
+  private static int compareKey(ExprValue[] left, ExprValue[] right) {
+    for (int i = 0; i < left.length; i++) {
+      int result = compareValue(left[i], right[i]);
+      if (result != 0) {
+        return result;
+      }
+    }
+    return 0;
+  }
+
+  private static int compareValue(ExprValue left, ExprValue right) {
+    int leftRank = left.isNull() ? 0 : left.isMissing() ? 1 : 2;
+    int rightRank = right.isNull() ? 0 : right.isMissing() ? 1 : 2;
+    if (leftRank != 2 || rightRank != 2) {
+      return Integer.compare(leftRank, rightRank);
+    }
+    return left.compareTo(right);
+  }
+}
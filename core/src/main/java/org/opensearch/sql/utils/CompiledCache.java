@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Bounded cache of the values compiled from strings, such as patterns and formats which are read
+ * from rows instead of given as literals.
+ *
+ * @param <T> type of the compiled values
+ */
+@RequiredArgsConstructor
+public class CompiledCache<T> {
+
+  /** Max number of compiled values cached. */
+  private static final int MAX_SIZE = 256;
+
+  private final Cache<String, T> cache = CacheBuilder.newBuilder().maximumSize(MAX_SIZE).build();
+
+  private final Function<String, T> compiler;
+
+  /**
+   * Get the compiled value of a string, compiled and cached if absent.
+   *
+   * @param key string to compile
+   * @return compiled value
+   */
+  public T get(String key) {
+    T compiled = cache.getIfPresent(key);
+    if (compiled == null) {
+      // Compiled outside of a cache loader, so that the exception of an invalid key is thrown as is
+      compiled = compiler.apply(key);
+      cache.put(key, compiled);
+    }
+    return compiled;
+  }
+}
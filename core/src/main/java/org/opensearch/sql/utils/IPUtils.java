@@ -11,6 +11,7 @@ import inet.ipaddr.IPAddressString;
 import inet.ipaddr.IPAddressStringParameters;
 import inet.ipaddr.ipv4.IPv4Address;
 import inet.ipaddr.ipv6.IPv6Address;
+import java.util.Arrays;
 import lombok.experimental.UtilityClass;
 import org.opensearch.sql.exception.SemanticCheckException;
 
@@ -88,6 +89,14 @@ public class IPUtils {
     return ipv6A.compareTo(ipv6B);
   }
 
+  /**
+   * Returns a hash code for the given {@link IPAddress} that is consistent with {@link
+   * #compare(IPAddress, IPAddress)}: IPv4 addresses are hashed as their IPv6 mapped form.
+   */
+  public static int hashCode(IPAddress a) {
+    return Arrays.hashCode(toIPv6Address(a).getBytes());
+  }
+
   /** Returns the {@link IPv6Address} corresponding to the given {@link IPAddress}. */
   private static IPv6Address toIPv6Address(IPAddress ipAddress) {
     return ipAddress instanceof IPv4Address iPv4Address
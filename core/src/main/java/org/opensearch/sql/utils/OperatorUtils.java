@@ -13,6 +13,18 @@ import org.opensearch.sql.data.model.ExprValue;
 
 @UtilityClass
 public class OperatorUtils {
+
+  /**
+   * Compiled LIKE patterns by pattern string. A pattern literal is compiled once per expression,
+   * see {@link #likePattern(String)}, the cache spares the compilation of patterns read from rows.
+   */
+  private static final CompiledCache<Pattern> LIKE_PATTERNS =
+      new CompiledCache<>(OperatorUtils::likePattern);
+
+  /** Compiled REGEXP patterns by pattern string. */
+  private static final CompiledCache<Pattern> REGEXP_PATTERNS =
+      new CompiledCache<>(Pattern::compile);
+
   /**
    * Wildcard pattern matcher util.<br>
    * Percent (%) character for wildcard,<br>
@@ -22,10 +34,27 @@ public class OperatorUtils {
    * @return if text matches pattern returns true; else return false.
    */
   public static ExprBooleanValue matches(ExprValue text, ExprValue pattern) {
-    return ExprBooleanValue.of(
-        Pattern.compile(patternToRegex(pattern.stringValue()), Pattern.CASE_INSENSITIVE)
-            .matcher(text.stringValue())
-            .matches());
+    return matches(text, LIKE_PATTERNS.get(pattern.stringValue()));
+  }
+
+  /**
+   * Wildcard pattern matcher util with a compiled pattern.
+   *
+   * @param pattern pattern compiled by {@link #likePattern(String)}.
+   * @return if text matches pattern returns true; else return false.
+   */
+  public static ExprBooleanValue matches(ExprValue text, Pattern pattern) {
+    return ExprBooleanValue.of(pattern.matcher(text.stringValue()).matches());
+  }
+
+  /**
+   * Compile a wildcard pattern of LIKE.
+   *
+   * @param pattern string pattern.
+   * @return case-insensitive regular expression of the pattern.
+   */
+  public static Pattern likePattern(String pattern) {
+    return Pattern.compile(patternToRegex(pattern), Pattern.CASE_INSENSITIVE);
   }
 
   /**
@@ -35,8 +64,17 @@ public class OperatorUtils {
    * @return if text matches pattern returns true; else return false.
    */
   public static ExprIntegerValue matchesRegexp(ExprValue text, ExprValue pattern) {
-    return new ExprIntegerValue(
-        Pattern.compile(pattern.stringValue()).matcher(text.stringValue()).matches() ? 1 : 0);
+    return matchesRegexp(text, REGEXP_PATTERNS.get(pattern.stringValue()));
+  }
+
+  /**
+   * Checks if text matches a compiled regular expression.
+   *
+   * @param pattern compiled regular expression.
+   * @return if text matches pattern returns true; else return false.
+   */
+  public static ExprIntegerValue matchesRegexp(ExprValue text, Pattern pattern) {
+    return new ExprIntegerValue(pattern.matcher(text.stringValue()).matches() ? 1 : 0);
   }
 
   private static final char DEFAULT_ESCAPE = '\\';
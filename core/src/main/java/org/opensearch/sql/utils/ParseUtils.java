@@ -8,9 +8,11 @@ package org.opensearch.sql.utils;
 import com.google.common.collect.ImmutableMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import lombok.experimental.UtilityClass;
 import org.opensearch.sql.ast.expression.Literal;
 import org.opensearch.sql.ast.expression.ParseMethod;
+import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
 import org.opensearch.sql.expression.parse.GrokExpression;
@@ -47,6 +49,38 @@ public class ParseUtils {
     return FACTORY_MAP.get(parseMethod).initialize(sourceField, pattern, identifier);
   }
 
+  /**
+   * Construct the ParseExpressions of the given derived fields. The expressions of a regex or grok
+   * pattern share one matcher, so that the source field is matched once per row for all of them.
+   *
+   * @param parseMethod method used to parse
+   * @param sourceField source text field
+   * @param pattern pattern used for parsing
+   * @param identifiers derived fields
+   * @return {@link ParseExpression} of each derived field
+   */
+  public static List<ParseExpression> createParseExpressions(
+      ParseMethod parseMethod,
+      Expression sourceField,
+      Expression pattern,
+      List<String> identifiers) {
+    String patternStr = pattern.valueOf().stringValue();
+    Function<Expression, ParseExpression> factory =
+        switch (parseMethod) {
+          case REGEX -> {
+            RegexExpression.RegexMatcher matcher = new RegexExpression.RegexMatcher(patternStr);
+            yield identifier -> new RegexExpression(sourceField, pattern, identifier, matcher);
+          }
+          case GROK -> {
+            GrokExpression.GrokMatcher matcher = new GrokExpression.GrokMatcher(patternStr);
+            yield identifier -> new GrokExpression(sourceField, pattern, identifier, matcher);
+          }
+          default ->
+              identifier -> createParseExpression(parseMethod, sourceField, pattern, identifier);
+        };
+    return identifiers.stream().map(identifier -> factory.apply(DSL.literal(identifier))).toList();
+  }
+
   /**
    * Get list of derived fields based on parse pattern.
    *
@@ -120,6 +120,14 @@ public class ExprIpValueTest {
     ipv6GreaterStrings.forEach((s) -> assertNotEquals(exprIpv6Value, ExprValueUtils.ipValue(s)));
   }
 
+  @Test
+  public void testHashCode() {
+    ipv4EqualStrings.forEach(
+        (s) -> assertEquals(exprIpv4Value.hashCode(), ExprValueUtils.ipValue(s).hashCode()));
+    ipv6EqualStrings.forEach(
+        (s) -> assertEquals(exprIpv6Value.hashCode(), ExprValueUtils.ipValue(s).hashCode()));
+  }
+
   @Test
   public void testToString() {
     ipv4EqualStrings.forEach(
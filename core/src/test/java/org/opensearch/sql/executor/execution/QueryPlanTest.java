@@ -8,6 +8,8 @@
 
 package org.opensearch.sql.executor.execution;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -15,7 +17,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.opensearch.sql.ast.dsl.AstDSL.filter;
+import static org.opensearch.sql.ast.dsl.AstDSL.relation;
 
+import java.util.Optional;
+import java.util.Set;
 import org.apache.commons.lang3.NotImplementedException;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -23,7 +29,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.ast.dsl.AstDSL;
 import org.opensearch.sql.ast.statement.Explain;
+import org.opensearch.sql.ast.tree.FetchCursor;
+import org.opensearch.sql.ast.tree.Join;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.executor.DefaultExecutionEngine;
@@ -129,4 +138,31 @@ class QueryPlanTest {
             },
             format);
   }
+
+  @Test
+  public void table_names_of_query() {
+    UnresolvedPlan join =
+        new Join(
+                relation("users"),
+                Optional.empty(),
+                Optional.empty(),
+                Join.JoinType.INNER,
+                Optional.empty(),
+                new Join.JoinHint())
+            .attach(filter(relation("logs"), AstDSL.booleanLiteral(true)));
+    QueryPlan query = new QueryPlan(queryId, queryType, join, queryService, queryListener);
+
+    assertEquals(Set.of("logs", "users"), query.getTableNames());
+    assertFalse(query.isCursorFetch());
+  }
+
+  @Test
+  public void cursor_fetch_has_no_table_names() {
+    QueryPlan query =
+        new QueryPlan(
+            queryId, queryType, new FetchCursor("n:cursor"), queryService, queryListener);
+
+    assertTrue(query.getTableNames().isEmpty());
+    assertTrue(query.isCursorFetch());
+  }
 }
@@ -13,10 +13,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
+import com.google.common.hash.HashCode;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.zip.GZIPOutputStream;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -81,6 +83,32 @@ public class PlanSerializerTest {
     }
   }
 
+  @Test
+  void serialize_to_url_safe_string() {
+    var compressed = serialize("n:" + "a".repeat(1000) + "?/+=");
+    assertTrue(compressed.matches("[A-Za-z0-9_-]+"));
+  }
+
+  @Test
+  @SneakyThrows
+  void deserialize_legacy_format() {
+    var obj = new SerializableTestClass();
+    obj.field = 42;
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutput = new ObjectOutputStream(new GZIPOutputStream(output))) {
+      objectOutput.writeObject(obj);
+    }
+    String legacy = HashCode.fromBytes(output.toByteArray()).toString();
+
+    assertEquals(obj, deserialize(legacy));
+    assertTrue(serialize(obj).length() < legacy.length());
+  }
+
+  @Test
+  void deserialize_throws_on_unknown_version() {
+    assertThrows(IllegalStateException.class, () -> deserialize("BwAA"));
+  }
+
   @Test
   void serialize_deserialize_obj() {
     var obj = new SerializableTestClass();
@@ -100,10 +128,14 @@ public class PlanSerializerTest {
   @Test
   void deserialize_throws() {
     assertAll(
-        // from gzip - damaged header
+        // from version check
         () -> assertThrows(Throwable.class, () -> deserialize("00")),
-        // from HashCode::fromString
-        () -> assertThrows(Throwable.class, () -> deserialize("000")));
+        // from base64 decoder
+        () -> assertThrows(Throwable.class, () -> deserialize("0")),
+        // from legacy gzip - damaged header
+        () -> assertThrows(Throwable.class, () -> deserialize("1f8b00")),
+        // from legacy HashCode::fromString
+        () -> assertThrows(Throwable.class, () -> deserialize("1f8b0")));
   }
 
   @Test
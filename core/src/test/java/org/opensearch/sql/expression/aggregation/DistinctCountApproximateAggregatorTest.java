@@ -0,0 +1,158 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.aggregation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.type.ExprCoreType.ARRAY;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprDateValue;
+import org.opensearch.sql.data.model.ExprTimeValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.expression.DSL;
+
+class DistinctCountApproximateAggregatorTest extends AggregationTest {
+
+  @Test
+  public void distinct_count_approx() {
+    ExprValue result =
+        aggregation(
+            DSL.distinctCountApprox(DSL.ref("integer_value", INTEGER)), tuples_with_duplicates);
+    assertEquals(3L, result.value());
+    assertEquals(LONG, result.type());
+  }
+
+  @Test
+  public void distinct_count_approx_with_precision_threshold() {
+    ExprValue result =
+        aggregation(
+            DSL.distinctCountApprox(DSL.ref("double_value", DOUBLE), DSL.literal(10)), tuples);
+    assertEquals(4L, result.value());
+  }
+
+  @Test
+  public void distinct_count_approx_of_any_type() {
+    ExprValue result =
+        aggregation(
+            DSL.distinctCountApprox(DSL.ref("struct_value", STRUCT)), tuples_with_duplicates);
+    assertEquals(3L, result.value());
+    result =
+        aggregation(
+            DSL.distinctCountApprox(DSL.ref("array_value", ARRAY)), tuples_with_duplicates);
+    assertEquals(3L, result.value());
+  }
+
+  @Test
+  public void filtered_distinct_count_approx() {
+    ExprValue result =
+        aggregation(
+            DSL.distinctCountApprox(DSL.ref("integer_value", INTEGER))
+                .condition(DSL.greater(DSL.ref("double_value", DOUBLE), DSL.literal(1d))),
+            tuples_with_duplicates);
+    assertEquals(2L, result.value());
+  }
+
+  @Test
+  public void distinct_count_approx_with_null_and_missing() {
+    ExprValue result =
+        aggregation(
+            DSL.distinctCountApprox(DSL.ref("integer_value", INTEGER)),
+            tuples_with_null_and_missing);
+    assertEquals(2L, result.value());
+  }
+
+  @Test
+  public void hash_datetime_by_epoch_millis_like_cardinality_aggregation() {
+    assertEquals(
+        HyperLogLogPlusPlus.hash(1577880000000L),
+        DistinctCountApproximateAggregator.hash(new ExprTimestampValue("2020-01-01 12:00:00")));
+    assertEquals(
+        HyperLogLogPlusPlus.hash(1577836800000L),
+        DistinctCountApproximateAggregator.hash(new ExprDateValue("2020-01-01")));
+    assertEquals(
+        HyperLogLogPlusPlus.hash(43200000L),
+        DistinctCountApproximateAggregator.hash(new ExprTimeValue("12:00:00")));
+    assertEquals(
+        HyperLogLogPlusPlus.hash("2020-01-01"),
+        DistinctCountApproximateAggregator.hash(ExprValueUtils.stringValue("2020-01-01")));
+  }
+
+  @Test
+  public void test_to_string() {
+    Aggregator aggregator = DSL.distinctCountApprox(DSL.ref("string_value", STRING));
+    assertEquals("distinct_count_approx(string_value)", aggregator.toString());
+  }
+
+  @Test
+  public void precision_from_threshold_matches_cardinality_aggregation() {
+    assertEquals(4, HyperLogLogPlusPlus.precisionFromThreshold(0));
+    assertEquals(14, HyperLogLogPlusPlus.precisionFromThreshold(3000));
+    assertEquals(18, HyperLogLogPlusPlus.precisionFromThreshold(40000));
+    assertEquals(
+        18,
+        HyperLogLogPlusPlus.withPrecisionThreshold(Long.MAX_VALUE).getPrecision(),
+        "threshold is capped like the cardinality aggregation");
+  }
+
+  @Test
+  public void exact_below_linear_counting_capacity() {
+    HyperLogLogPlusPlus sketch = HyperLogLogPlusPlus.withPrecisionThreshold(3000);
+    for (int i = 0; i < 2000; i++) {
+      sketch.add(i);
+      sketch.add("value" + i);
+    }
+    assertEquals(4000, sketch.cardinality());
+  }
+
+  @Test
+  public void estimate_within_error_above_precision_threshold() {
+    HyperLogLogPlusPlus sketch = HyperLogLogPlusPlus.withPrecisionThreshold(3000);
+    int count = 1_000_000;
+    for (long i = 0; i < count; i++) {
+      sketch.add(i);
+    }
+    double error = Math.abs(sketch.cardinality() - count) / (double) count;
+    assertTrue(error < 0.02, "relative error " + error);
+  }
+
+  @Test
+  public void merge_sketches_of_buckets() {
+    HyperLogLogPlusPlus first = HyperLogLogPlusPlus.withPrecisionThreshold(100);
+    HyperLogLogPlusPlus second = HyperLogLogPlusPlus.withPrecisionThreshold(100);
+    HyperLogLogPlusPlus all = HyperLogLogPlusPlus.withPrecisionThreshold(100);
+    for (long i = 0; i < 100_000; i++) {
+      (i % 3 == 0 ? first : second).add(i);
+      all.add(i);
+    }
+    first.merge(second);
+    assertEquals(all.cardinality(), first.cardinality());
+
+    HyperLogLogPlusPlus small = HyperLogLogPlusPlus.withPrecisionThreshold(100);
+    small.add(1L);
+    small.add(2L);
+    small.merge(HyperLogLogPlusPlus.withPrecisionThreshold(100));
+    assertEquals(2, small.cardinality());
+  }
+
+  @Test
+  public void merge_sketches_of_different_precision() {
+    HyperLogLogPlusPlus sketch = HyperLogLogPlusPlus.withPrecisionThreshold(100);
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> sketch.merge(HyperLogLogPlusPlus.withPrecisionThreshold(3000)));
+    assertEquals("cannot merge sketches of precision 10 and 14", exception.getMessage());
+  }
+}
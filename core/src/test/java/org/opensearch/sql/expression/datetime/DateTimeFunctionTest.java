@@ -1383,6 +1383,49 @@ class DateTimeFunctionTest extends ExpressionTestBase {
     assertEquals(dft.getFormatted(), eval(expr).stringValue());
   }
 
+  @Test
+  public void date_format_with_literal_and_computed_format() {
+    ExprValue timestamp = new ExprTimestampValue("1998-01-31 13:14:15.012345");
+    for (String format : List.of("%Y-%m-%d %H:%i:%s", "%D of %M, week %U", "%f%%%Q", "%\\")) {
+      FunctionExpression literal =
+          DSL.date_format(functionProperties, DSL.literal(timestamp), DSL.literal(format));
+      FunctionExpression computed =
+          DSL.date_format(
+              functionProperties,
+              DSL.literal(timestamp),
+              DSL.concat(DSL.literal(format), DSL.literal("")));
+      assertEquals(eval(computed), eval(literal));
+      assertEquals(eval(literal), eval(literal));
+    }
+
+    assertEquals(
+        stringValue("1998-01-31 13:14:15"),
+        eval(
+            DSL.date_format(
+                functionProperties, DSL.literal(timestamp), DSL.literal("%Y-%m-%d %H:%i:%s"))));
+    assertEquals(
+        stringValue("'"),
+        eval(DSL.date_format(functionProperties, DSL.literal(timestamp), DSL.literal("%\\"))));
+    assertEquals(
+        nullValue(),
+        eval(DSL.date_format(functionProperties, DSL.literal(timestamp), DSL.literal("%$"))));
+  }
+
+  @Test
+  public void time_format_with_literal_and_computed_format() {
+    ExprValue time = new ExprTimeValue("13:14:15.012345");
+    for (String format : List.of("%H:%i:%s %f", "%T %p", "%Y %W")) {
+      FunctionExpression literal =
+          DSL.time_format(functionProperties, DSL.literal(time), DSL.literal(format));
+      FunctionExpression computed =
+          DSL.time_format(
+              functionProperties,
+              DSL.literal(time),
+              DSL.concat(DSL.literal(format), DSL.literal("")));
+      assertEquals(eval(computed), eval(literal));
+    }
+  }
+
   @Test
   public void testDateFormatWithTimeType() {
     FunctionExpression expr =
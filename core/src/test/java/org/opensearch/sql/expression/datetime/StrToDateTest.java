@@ -86,6 +86,13 @@ class StrToDateTest extends ExpressionTestBase {
 
     assertEquals(expectedType, result.type());
     assertEquals(expectedResult, result);
+
+    FunctionExpression computedFormat =
+        DSL.str_to_date(
+            functionProperties,
+            DSL.literal(new ExprStringValue(datetime)),
+            DSL.concat(DSL.literal(format), DSL.literal("")));
+    assertEquals(expectedResult, eval(computedFormat));
   }
 
   private static LocalDateTime getExpectedTimeResult(int hour, int minute, int seconds) {
@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+
+class FunctionDSLimplWithLiteralTest extends FunctionDSLimplTestBase {
+
+  private final AtomicInteger specialized = new AtomicInteger();
+
+  private final AtomicInteger applied = new AtomicInteger();
+
+  @Override
+  SerializableFunction<FunctionName, Pair<FunctionSignature, FunctionBuilder>>
+      getImplementationGenerator() {
+    SerializableBiFunction<ExprValue, ExprValue, ExprValue> functionBody =
+        (arg1, arg2) -> {
+          applied.incrementAndGet();
+          return ANY;
+        };
+    SerializableFunction<ExprValue, SerializableFunction<ExprValue, ExprValue>> specialization =
+        literal -> {
+          specialized.incrementAndGet();
+          return arg -> ANY;
+        };
+    return FunctionDSL.implWithLiteral(functionBody, specialization, ANY_TYPE, ANY_TYPE, ANY_TYPE);
+  }
+
+  @Override
+  List<Expression> getSampleArguments() {
+    return List.of(DSL.literal(ANY), DSL.literal(ANY));
+  }
+
+  @Override
+  String getExpected_toString() {
+    return "sample(ANY, ANY)";
+  }
+
+  @Test
+  void specialize_literal_once() {
+    FunctionExpression expression = build(DSL.literal(ANY));
+
+    assertEquals(ANY, expression.valueOf(null));
+    assertEquals(ANY, expression.valueOf(null));
+    assertEquals(1, specialized.get());
+    assertEquals(0, applied.get());
+  }
+
+  @Test
+  void apply_function_to_non_literal() {
+    Expression argument = mock(Expression.class);
+    when(argument.valueOf(any())).thenReturn(ANY);
+    FunctionExpression expression = build(argument);
+
+    assertEquals(ANY, expression.valueOf(null));
+    assertEquals(ANY, expression.valueOf(null));
+    assertEquals(0, specialized.get());
+    assertEquals(2, applied.get());
+  }
+
+  @Test
+  void apply_function_to_null_or_missing_literal() {
+    build(DSL.literal(ExprValueUtils.nullValue())).valueOf(null);
+    build(DSL.literal(ExprValueUtils.missingValue())).valueOf(null);
+
+    assertEquals(0, specialized.get());
+    assertEquals(2, applied.get());
+  }
+
+  private FunctionExpression build(Expression secondArgument) {
+    return (FunctionExpression)
+        getImplementation()
+            .getValue()
+            .apply(functionProperties, List.of(DSL.literal(ANY), secondArgument));
+  }
+}
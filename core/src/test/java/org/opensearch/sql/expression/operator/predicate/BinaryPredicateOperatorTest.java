@@ -19,6 +19,7 @@ import static org.opensearch.sql.data.model.ExprValueUtils.fromObjectValue;
 import static org.opensearch.sql.data.type.ExprCoreType.ARRAY;
 import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
 import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 import static org.opensearch.sql.utils.ComparisonUtil.compare;
@@ -584,6 +585,32 @@ class BinaryPredicateOperatorTest extends ExpressionTestBase {
     assertEquals(stringPatternPair.regExpTest(), expression.valueOf(valueEnv()).integerValue());
   }
 
+  @Test
+  void test_like_and_regexp_with_pattern_of_row() {
+    Expression pattern = DSL.ref("string_value", STRING);
+    assertTrue(DSL.like(DSL.literal("STR"), pattern).valueOf(valueEnv()).booleanValue());
+    assertFalse(DSL.notLike(DSL.literal("str"), pattern).valueOf(valueEnv()).booleanValue());
+    assertEquals(1, DSL.regexp(DSL.literal("str"), pattern).valueOf(valueEnv()).integerValue());
+    assertEquals(0, DSL.regexp(DSL.literal("STR"), pattern).valueOf(valueEnv()).integerValue());
+  }
+
+  @Test
+  void test_like_with_literal_pattern_after_serialization() throws Exception {
+    Expression like = DSL.like(DSL.ref("string_value", STRING), DSL.literal("s_r%"));
+    assertTrue(like.valueOf(valueEnv()).booleanValue());
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ObjectOutputStream objectOutput = new ObjectOutputStream(output);
+    objectOutput.writeObject(like);
+    objectOutput.flush();
+    ObjectInputStream objectInput =
+        new ObjectInputStream(new ByteArrayInputStream(output.toByteArray()));
+    Expression deserialized = (Expression) objectInput.readObject();
+
+    assertEquals(like, deserialized);
+    assertTrue(deserialized.valueOf(valueEnv()).booleanValue());
+  }
+
   /** Todo. remove this test cases after script serialization implemented. */
   @Test
   public void serializationTest() throws Exception {
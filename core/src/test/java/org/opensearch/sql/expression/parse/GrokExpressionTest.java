@@ -25,12 +25,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.ast.expression.ParseMethod;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionTestBase;
 import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.utils.ParseUtils;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -132,4 +134,21 @@ class GrokExpressionTest extends ExpressionTestBase {
                     DSL.literal("request"))
                 .valueOf(valueEnv()));
   }
+
+  @Test
+  public void resolve_parsed_values_with_shared_matcher() {
+    when(DSL.ref("log_value", STRING).valueOf(env))
+        .thenReturn(stringValue("145.128.75.121 GET /deliverables"));
+
+    List<ParseExpression> expressions =
+        ParseUtils.createParseExpressions(
+            ParseMethod.GROK,
+            DSL.ref("log_value", STRING),
+            DSL.literal("%{IP:clientip} %{WORD:verb} %{URIPATH:path}"),
+            List.of("clientip", "verb", "path"));
+
+    assertEquals(stringValue("145.128.75.121"), expressions.get(0).valueOf(env));
+    assertEquals(stringValue("GET"), expressions.get(1).valueOf(env));
+    assertEquals(stringValue("/deliverables"), expressions.get(2).valueOf(env));
+  }
 }
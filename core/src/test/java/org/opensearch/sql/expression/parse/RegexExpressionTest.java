@@ -19,6 +19,7 @@ import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
@@ -129,4 +130,32 @@ class RegexExpressionTest extends ExpressionTestBase {
                     DSL.literal("group"))
                 .valueOf(valueEnv()));
   }
+
+  @Test
+  public void match_once_per_row_for_all_named_groups() {
+    AtomicInteger matches = new AtomicInteger();
+    RegexExpression.RegexMatcher matcher =
+        new RegexExpression.RegexMatcher("(?<first>\\w+) (?<last>\\w+)") {
+          @Override
+          protected Map<String, Object> match(String input) {
+            matches.incrementAndGet();
+            return super.match(input);
+          }
+        };
+    Expression pattern = DSL.literal("(?<first>\\w+) (?<last>\\w+)");
+    RegexExpression first =
+        new RegexExpression(DSL.ref("name", STRING), pattern, DSL.literal("first"), matcher);
+    RegexExpression last =
+        new RegexExpression(DSL.ref("name", STRING), pattern, DSL.literal("last"), matcher);
+
+    when(DSL.ref("name", STRING).valueOf(env)).thenReturn(stringValue("Ada Lovelace"));
+    assertEquals(stringValue("Ada"), first.valueOf(env));
+    assertEquals(stringValue("Lovelace"), last.valueOf(env));
+    assertEquals(1, matches.get());
+
+    when(DSL.ref("name", STRING).valueOf(env)).thenReturn(stringValue("Alan Turing"));
+    assertEquals(stringValue("Alan"), first.valueOf(env));
+    assertEquals(stringValue("Turing"), last.valueOf(env));
+    assertEquals(2, matches.get());
+  }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprValueUtils;
+
+@ExtendWith(MockitoExtension.class)
+class MemoryReservationTest {
+
+  @Mock private QueryMemoryTracker tracker;
+
+  @Test
+  void reserve_and_release() {
+    MemoryReservation reservation = new MemoryReservation(tracker);
+    reservation.reserve(100L);
+    reservation.reserve(50L);
+    assertEquals(150L, reservation.getBytes());
+
+    reservation.release(30L);
+    assertEquals(120L, reservation.getBytes());
+    reservation.releaseAll();
+    assertEquals(0L, reservation.getBytes());
+
+    verify(tracker).reserve(100L);
+    verify(tracker).reserve(50L);
+    verify(tracker).release(30L);
+    verify(tracker).release(120L);
+  }
+
+  @Test
+  void release_at_most_reserved_bytes() {
+    MemoryReservation reservation = new MemoryReservation(tracker);
+    reservation.reserve(10L);
+    reservation.release(100L);
+    reservation.release(100L);
+
+    verify(tracker).release(10L);
+    assertEquals(0L, reservation.getBytes());
+  }
+
+  @Test
+  void ignore_non_positive_bytes() {
+    MemoryReservation reservation = new MemoryReservation(tracker);
+    reservation.reserve(0L);
+    reservation.reserve(-10L);
+    reservation.releaseAll();
+
+    verify(tracker, never()).reserve(anyLong());
+    verify(tracker, never()).release(anyLong());
+  }
+
+  @Test
+  void failed_reservation_is_not_recorded() {
+    doThrow(IllegalStateException.class).when(tracker).reserve(100L);
+    MemoryReservation reservation = new MemoryReservation(tracker);
+
+    assertThrows(IllegalStateException.class, () -> reservation.reserve(100L));
+    assertEquals(0L, reservation.getBytes());
+  }
+
+  @Test
+  void reserve_estimated_size_of_value() {
+    MemoryReservation reservation = new MemoryReservation(tracker);
+    assertTrue(reservation.isEnabled());
+    reservation.reserve(ExprValueUtils.stringValue("hello"));
+    assertTrue(reservation.getBytes() > 0);
+  }
+
+  @Test
+  void noop_tracker_is_disabled() {
+    MemoryReservation reservation = new MemoryReservation(QueryMemoryTracker.NOOP);
+    assertFalse(reservation.isEnabled());
+    reservation.reserve(ExprValueUtils.stringValue("hello"));
+    assertEquals(0L, reservation.getBytes());
+  }
+}
@@ -9,10 +9,12 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsInRelativeOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.data.type.ExprCoreType.DATE;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.IP;
 import static org.opensearch.sql.data.type.ExprCoreType.LONG;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.data.type.ExprCoreType.TIME;
@@ -27,9 +29,14 @@ import org.opensearch.sql.data.model.ExprDateValue;
 import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprTimeValue;
 import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.monitor.QueryMemoryTracker;
+import org.opensearch.sql.planner.physical.collector.Collector;
 
 class AggregationOperatorTest extends PhysicalPlanTestBase {
 
@@ -765,4 +772,106 @@ class AggregationOperatorTest extends PhysicalPlanTestBase {
 
     assertEquals(plan, copy);
   }
+
+  @Test
+  public void hash_strategy_should_return_same_order_as_tree_strategy() {
+    List<NamedExpression> groupBy =
+        Arrays.asList(
+            DSL.named("action", DSL.ref("action", STRING)),
+            DSL.named("ip", DSL.ref("ip", STRING)));
+    List<NamedAggregator> aggregators =
+        Collections.singletonList(
+            DSL.named("avg(response)", DSL.avg(DSL.ref("response", INTEGER))));
+
+    List<ExprValue> tree =
+        execute(
+            new AggregationOperator(new TestScan(), aggregators, groupBy, Collector.Strategy.TREE));
+    List<ExprValue> hash =
+        execute(
+            new AggregationOperator(new TestScan(), aggregators, groupBy, Collector.Strategy.HASH));
+    assertEquals(tree, hash);
+  }
+
+  @Test
+  public void hash_unsorted_strategy_should_return_all_groups() {
+    PhysicalPlan plan =
+        new AggregationOperator(
+            new TestScan(),
+            Collections.singletonList(
+                DSL.named("sum(response)", DSL.sum(DSL.ref("response", INTEGER)))),
+            Collections.singletonList(DSL.named("action", DSL.ref("action", STRING))),
+            Collector.Strategy.HASH_UNSORTED);
+    List<ExprValue> result = execute(plan);
+    assertEquals(2, result.size());
+    assertThat(
+        result,
+        containsInAnyOrder(
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "sum(response)", 804)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "sum(response)", 700))));
+  }
+
+  @Test
+  public void avg_with_one_groups_over_vectorized_input() {
+    PhysicalPlan input =
+        new FilterOperator(
+            new TestScan(), DSL.greater(DSL.ref("response", INTEGER), DSL.literal(200)));
+    PhysicalPlan plan =
+        new AggregationOperator(
+            input,
+            Collections.singletonList(
+                DSL.named("avg(response)", DSL.avg(DSL.ref("response", INTEGER)))),
+            Collections.singletonList(DSL.named("action", DSL.ref("action", STRING))),
+            Collector.Strategy.HASH,
+            QueryMemoryTracker.NOOP,
+            true);
+    List<ExprValue> result = execute(plan);
+
+    assertTrue(input.isVectorized());
+    assertTrue(((AggregationOperator) plan).isBatchExecution());
+    assertThat(
+        result,
+        containsInAnyOrder(
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "avg(response)", 404d)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "avg(response)", 500d))));
+  }
+
+  @Test
+  public void hash_strategy_should_group_equal_ip_values_together() {
+    List<ExprValue> inputs =
+        Arrays.asList(
+            ExprTupleValue.fromExprValueMap(
+                ImmutableMap.of(
+                    "ip",
+                    ExprValueUtils.ipValue("1.2.3.4"),
+                    "bytes",
+                    ExprValueUtils.integerValue(1))),
+            ExprTupleValue.fromExprValueMap(
+                ImmutableMap.of(
+                    "ip",
+                    ExprValueUtils.ipValue("::ffff:1.2.3.4"),
+                    "bytes",
+                    ExprValueUtils.integerValue(2))),
+            ExprTupleValue.fromExprValueMap(
+                ImmutableMap.of(
+                    "ip",
+                    ExprValueUtils.ipValue("::ffff:102:304"),
+                    "bytes",
+                    ExprValueUtils.integerValue(3))));
+    PhysicalPlan plan =
+        new AggregationOperator(
+            new TestScan(inputs),
+            Collections.singletonList(DSL.named("sum(bytes)", DSL.sum(DSL.ref("bytes", INTEGER)))),
+            Collections.singletonList(DSL.named("ip", DSL.ref("ip", IP))),
+            Collector.Strategy.HASH);
+    List<ExprValue> result = execute(plan);
+    assertEquals(
+        Collections.singletonList(
+            ExprTupleValue.fromExprValueMap(
+                ImmutableMap.of(
+                    "ip",
+                    ExprValueUtils.ipValue("1.2.3.4"),
+                    "sum(bytes)",
+                    ExprValueUtils.integerValue(6)))),
+        result);
+  }
 }
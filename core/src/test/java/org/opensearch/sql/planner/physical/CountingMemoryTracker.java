@@ -0,0 +1,28 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import org.opensearch.sql.monitor.QueryMemoryTracker;
+
+/** Memory tracker which only counts the reserved bytes, to check what operators reserve. */
+class CountingMemoryTracker implements QueryMemoryTracker {
+  private long reservedBytes = 0L;
+
+  @Override
+  public void reserve(long bytes) {
+    reservedBytes += bytes;
+  }
+
+  @Override
+  public void release(long bytes) {
+    reservedBytes -= bytes;
+  }
+
+  @Override
+  public long reservedBytes() {
+    return reservedBytes;
+  }
+}
@@ -9,6 +9,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.iterableWithSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -18,6 +20,7 @@ import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.eval;
 import com.google.common.collect.ImmutableMap;
 import java.util.List;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -25,6 +28,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ReferenceExpression;
 
 @ExtendWith(MockitoExtension.class)
 class EvalOperatorTest extends PhysicalPlanTestBase {
@@ -130,4 +135,21 @@ class EvalOperatorTest extends PhysicalPlanTestBase {
 
     assertThat(result, allOf(iterableWithSize(1), hasItems(ExprValueUtils.integerValue(1))));
   }
+
+  @Test
+  public void nextBatch_evaluates_fields_column_at_a_time() {
+    List<Pair<ReferenceExpression, Expression>> expressions =
+        List.of(
+            ImmutablePair.of(
+                DSL.ref("double_response", INTEGER),
+                DSL.multiply(DSL.ref("response", INTEGER), DSL.literal(2))),
+            ImmutablePair.of(
+                DSL.ref("response", INTEGER),
+                DSL.add(DSL.ref("double_response", INTEGER), DSL.literal(1))),
+            ImmutablePair.of(DSL.ref("referer", STRING), DSL.ref("ip", STRING)));
+    PhysicalPlan plan = new EvalOperator(testScan(inputs), expressions);
+
+    assertTrue(plan.isVectorized());
+    assertEquals(execute(new EvalOperator(testScan(inputs), expressions)), executeBatches(plan, 2));
+  }
 }
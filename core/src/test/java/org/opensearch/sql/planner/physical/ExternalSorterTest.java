@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprValue;
+
+class ExternalSorterTest {
+
+  private final Comparator<ExprValue> comparator =
+      SortHelper.constructExprComparator(
+          ImmutableList.of(Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER))));
+
+  @Test
+  public void sort_in_memory_without_budget() {
+    try (ExternalSorter sorter = new ExternalSorter(comparator, 0L)) {
+      List<ExprValue> expected = addRows(sorter, 100);
+      assertEquals(0, sorter.spilledRuns());
+      assertEquals(expected, drain(sorter.sorted()));
+    }
+  }
+
+  @Test
+  public void spill_and_merge_when_budget_exceeded() {
+    try (ExternalSorter sorter = new ExternalSorter(comparator, 1024L)) {
+      List<ExprValue> expected = addRows(sorter, 1000);
+      assertTrue(sorter.spilledRuns() > 1);
+      assertEquals(expected, drain(sorter.sorted()));
+    }
+  }
+
+  @Test
+  public void merge_keeps_insertion_order_of_equal_rows() {
+    try (ExternalSorter sorter = new ExternalSorter(comparator, 256L)) {
+      List<ExprValue> expected = new ArrayList<>();
+      for (int i = 0; i < 50; i++) {
+        ExprValue row = tupleValue(ImmutableMap.of("id", i, "response", 200));
+        sorter.add(row);
+        expected.add(row);
+      }
+      assertTrue(sorter.spilledRuns() > 0);
+      assertEquals(expected, drain(sorter.sorted()));
+    }
+  }
+
+  /** Add rows in reverse order of response, return them in expected sorted order. */
+  private List<ExprValue> addRows(ExternalSorter sorter, int count) {
+    List<ExprValue> expected = new ArrayList<>();
+    for (int i = count - 1; i >= 0; i--) {
+      ExprValue row = tupleValue(ImmutableMap.of("response", i));
+      sorter.add(row);
+      expected.add(0, row);
+    }
+    return expected;
+  }
+
+  private List<ExprValue> drain(Iterator<ExprValue> iterator) {
+    List<ExprValue> result = new ArrayList<>();
+    iterator.forEachRemaining(result::add);
+    return result;
+  }
+}
@@ -20,6 +20,7 @@ import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.filter;
 
 import com.google.common.collect.ImmutableMap;
@@ -166,4 +167,31 @@ class FilterOperatorTest extends PhysicalPlanTestBase {
         filterOperator.next(),
         "next() should return the matching input value even if hasNext() was not called");
   }
+
+  @Test
+  public void nextBatch_narrows_selection_to_matching_rows() {
+    Expression condition =
+        DSL.and(
+            DSL.greater(DSL.ref("response", INTEGER), DSL.literal(200)),
+            DSL.less(DSL.ref("response", INTEGER), DSL.literal(500)));
+    FilterOperator plan = new FilterOperator(testScan(inputs), condition);
+
+    assertTrue(plan.isVectorized());
+    assertEquals(execute(new FilterOperator(testScan(inputs), condition)), executeBatches(plan, 2));
+  }
+
+  @Test
+  public void nextBatch_skips_batches_without_matching_rows() {
+    Expression condition = DSL.equal(DSL.ref("action", STRING), DSL.literal("POST"));
+
+    assertEquals(
+        execute(new FilterOperator(testScan(inputs), condition)),
+        executeBatches(new FilterOperator(testScan(inputs), condition), 3));
+    assertEquals(
+        List.of(),
+        executeBatches(
+            new FilterOperator(
+                testScan(inputs), DSL.less(DSL.ref("response", INTEGER), DSL.literal(0))),
+            2));
+  }
 }
@@ -24,6 +24,7 @@ import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.planner.SerializablePlan;
+import org.opensearch.sql.planner.physical.batch.Batch;
 
 public class PhysicalPlanTestBase {
 
@@ -290,6 +291,18 @@ public class PhysicalPlanTestBase {
     return builder.build();
   }
 
+  protected List<ExprValue> executeBatches(PhysicalPlan plan, int batchSize) {
+    ImmutableList.Builder<ExprValue> builder = new ImmutableList.Builder<>();
+    plan.open();
+    for (Batch batch = plan.nextBatch(batchSize);
+        !batch.isEmpty();
+        batch = plan.nextBatch(batchSize)) {
+      builder.addAll(batch.selectedRows());
+    }
+    plan.close();
+    return builder.build();
+  }
+
   protected static PhysicalPlan testScan(List<ExprValue> inputs) {
     return new TestScan(inputs);
   }
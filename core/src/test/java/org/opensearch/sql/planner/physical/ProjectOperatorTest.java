@@ -11,6 +11,8 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.iterableWithSize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
 import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
@@ -259,4 +261,44 @@ class ProjectOperatorTest extends PhysicalPlanTestBase {
     var roundTripPlan = (ProjectOperator) objectInput.readObject();
     assertEquals(project, roundTripPlan);
   }
+
+  @Test
+  public void nextBatch_projects_fields_column_at_a_time() {
+    PhysicalPlan plan =
+        project(
+            testScan(inputs),
+            DSL.named("action", DSL.ref("action", STRING)),
+            DSL.named("response + 1", DSL.add(DSL.ref("response", INTEGER), DSL.literal(1))),
+            DSL.named("referer", DSL.ref("referer", STRING)));
+
+    assertTrue(plan.isVectorized());
+    assertEquals(
+        execute(
+            project(
+                testScan(inputs),
+                DSL.named("action", DSL.ref("action", STRING)),
+                DSL.named("response + 1", DSL.add(DSL.ref("response", INTEGER), DSL.literal(1))),
+                DSL.named("referer", DSL.ref("referer", STRING)))),
+        executeBatches(plan, 2));
+  }
+
+  @Test
+  public void nextBatch_with_parse_expressions_projects_rows() {
+    PhysicalPlan plan =
+        project(
+            testScan(List.of(ExprValueUtils.tupleValue(ImmutableMap.of("response", "GET 200")))),
+            ImmutableList.of(DSL.named("action", DSL.ref("action", STRING))),
+            ImmutableList.of(
+                DSL.named(
+                    "action",
+                    DSL.regex(
+                        DSL.ref("response", STRING),
+                        DSL.literal("(?<action>\\w+) (?<response>\\d+)"),
+                        DSL.literal("action")))));
+
+    assertFalse(plan.isVectorized());
+    assertEquals(
+        List.of(ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET"))),
+        executeBatches(plan, 2));
+  }
 }
@@ -10,6 +10,7 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -106,4 +107,96 @@ public class RareTopNOperatorTest extends PhysicalPlanTestBase {
             ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "response", 200)),
             ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 200))));
   }
+
+  @Test
+  public void top_n_ordered_by_count() {
+    PhysicalPlan plan =
+        new RareTopNOperator(
+            testScan(countedValues()),
+            CommandType.TOP,
+            3,
+            Collections.singletonList(DSL.ref("value", ExprCoreType.INTEGER)),
+            Collections.emptyList());
+    assertEquals(
+        List.of(
+            ExprValueUtils.tupleValue(ImmutableMap.of("value", 50)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("value", 49)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("value", 48))),
+        execute(plan));
+  }
+
+  @Test
+  public void rare_n_ordered_by_count() {
+    PhysicalPlan plan =
+        new RareTopNOperator(
+            testScan(countedValues()),
+            CommandType.RARE,
+            3,
+            Collections.singletonList(DSL.ref("value", ExprCoreType.INTEGER)),
+            Collections.emptyList());
+    assertEquals(
+        List.of(
+            ExprValueUtils.tupleValue(ImmutableMap.of("value", 1)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("value", 2)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("value", 3))),
+        execute(plan));
+  }
+
+  @Test
+  public void top_n_more_than_distinct_values() {
+    PhysicalPlan plan =
+        new RareTopNOperator(
+            testScan(countedValues()),
+            CommandType.TOP,
+            100,
+            Collections.singletonList(DSL.ref("value", ExprCoreType.INTEGER)),
+            Collections.emptyList());
+    List<ExprValue> result = execute(plan);
+    assertEquals(50, result.size());
+    assertEquals(ExprValueUtils.tupleValue(ImmutableMap.of("value", 50)), result.get(0));
+    assertEquals(ExprValueUtils.tupleValue(ImmutableMap.of("value", 1)), result.get(49));
+  }
+
+  @Test
+  public void first_row_of_group_counted_once() {
+    // in each group, the first value occurs once and the second value twice
+    List<ExprValue> values =
+        List.of(
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 200)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 404)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "response", 500)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 404)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "response", 201)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "response", 201)));
+    assertThat(
+        execute(rareTopN(values, CommandType.TOP)),
+        containsInAnyOrder(
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 404)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "response", 201))));
+    assertThat(
+        execute(rareTopN(values, CommandType.RARE)),
+        containsInAnyOrder(
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 200)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "response", 500))));
+  }
+
+  private PhysicalPlan rareTopN(List<ExprValue> values, CommandType commandType) {
+    return new RareTopNOperator(
+        testScan(values),
+        commandType,
+        1,
+        Collections.singletonList(DSL.ref("response", ExprCoreType.INTEGER)),
+        Collections.singletonList(DSL.ref("action", ExprCoreType.STRING)));
+  }
+
+  /** Each value from 1 to 50 occurs value times, in an interleaved order. */
+  private static List<ExprValue> countedValues() {
+    List<ExprValue> values = new ArrayList<>();
+    for (int round = 1; round <= 50; round++) {
+      for (int value = round; value <= 50; value++) {
+        values.add(ExprValueUtils.tupleValue(ImmutableMap.of("value", value)));
+      }
+    }
+    return values;
+  }
 }
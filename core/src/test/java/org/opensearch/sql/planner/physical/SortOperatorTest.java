@@ -8,6 +8,7 @@ package org.opensearch.sql.planner.physical;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -16,6 +17,7 @@ import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
@@ -264,4 +266,25 @@ class SortOperatorTest extends PhysicalPlanTestBase {
         0,
         execute(sort(inputPlan, Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))).size());
   }
+
+  @Test
+  public void sort_reserves_memory_of_buffered_rows_until_closed() {
+    when(inputPlan.hasNext()).thenReturn(true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)));
+    CountingMemoryTracker memoryTracker = new CountingMemoryTracker();
+
+    SortOperator sort =
+        new SortOperator(
+            inputPlan,
+            List.of(Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER))),
+            0L,
+            memoryTracker);
+    sort.open();
+    assertTrue(memoryTracker.reservedBytes() > 0);
+
+    sort.close();
+    assertEquals(0L, memoryTracker.reservedBytes());
+  }
 }
@@ -26,7 +26,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.utils.ExprValueSizeEstimator;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
@@ -213,6 +215,34 @@ class WindowOperatorTest extends PhysicalPlanTestBase {
         .done();
   }
 
+  @Test
+  void test_reserve_rows_of_current_partition_only() {
+    CountingMemoryTracker memoryTracker = new CountingMemoryTracker();
+    WindowOperator windowOperator =
+        new WindowOperator(
+            new TestScan(),
+            DSL.named(new AggregateWindowFunction(DSL.sum(ref("response", INTEGER)))),
+            new WindowDefinition(List.of(ref("action", STRING)), List.of()),
+            memoryTracker);
+    windowOperator.open();
+
+    // first row of the POST partition is peeked but not buffered by the GET partition
+    windowOperator.next();
+    assertEquals(estimate(inputs.subList(0, 3)), memoryTracker.reservedBytes());
+
+    windowOperator.next();
+    windowOperator.next();
+    windowOperator.next();
+    assertEquals(estimate(inputs.subList(3, 5)), memoryTracker.reservedBytes());
+
+    windowOperator.close();
+    assertEquals(0L, memoryTracker.reservedBytes());
+  }
+
+  private static long estimate(List<ExprValue> rows) {
+    return rows.stream().mapToLong(ExprValueSizeEstimator::estimate).sum();
+  }
+
   private WindowOperatorAssertion window(Expression windowFunction) {
     return new WindowOperatorAssertion(windowFunction);
   }
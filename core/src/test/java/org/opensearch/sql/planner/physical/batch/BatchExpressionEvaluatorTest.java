@@ -0,0 +1,191 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ReferenceExpression;
+
+class BatchExpressionEvaluatorTest {
+
+  private static final ReferenceExpression I = DSL.ref("i", INTEGER);
+  private static final ReferenceExpression J = DSL.ref("j", INTEGER);
+  private static final ReferenceExpression L = DSL.ref("l", LONG);
+  private static final ReferenceExpression D = DSL.ref("d", DOUBLE);
+  private static final ReferenceExpression B = DSL.ref("b", BOOLEAN);
+  private static final ReferenceExpression S = DSL.ref("s", STRING);
+
+  /** Rows with NULL and MISSING (absent) fields and zero divisors. */
+  private static final List<ExprValue> rows =
+      List.of(
+          row(3, 2, 7L, 1.5, true, "a"),
+          row(-7, 0, 0L, 0.0, false, "b"),
+          row(null, 5, null, null, null, null),
+          row(4, null, -3L, -0.0, true, "c"),
+          ExprValueUtils.tupleValue(Map.of("j", 1, "s", "d")),
+          row(0, -4, 9L, Double.NaN, false, "e"));
+
+  private static Stream<Arguments> expressions() {
+    return Stream.of(
+        Arguments.of(DSL.add(I, J), true),
+        Arguments.of(DSL.subtract(L, L), true),
+        Arguments.of(DSL.multiply(D, D), true),
+        Arguments.of(DSL.divide(I, J), true),
+        Arguments.of(DSL.divide(D, D), true),
+        Arguments.of(DSL.modulus(L, DSL.literal(2L)), true),
+        Arguments.of(DSL.mod(I, J), true),
+        Arguments.of(DSL.modulus(D, DSL.literal(1.0)), true),
+        Arguments.of(DSL.equal(I, DSL.literal(3)), true),
+        Arguments.of(DSL.notequal(D, D), true),
+        Arguments.of(DSL.less(D, DSL.literal(0.5)), true),
+        Arguments.of(DSL.lte(I, J), true),
+        Arguments.of(DSL.greater(L, DSL.literal(0L)), true),
+        Arguments.of(DSL.gte(D, DSL.literal(-0.0)), true),
+        Arguments.of(DSL.and(B, DSL.less(I, J)), true),
+        Arguments.of(DSL.or(DSL.not(B), DSL.greater(I, J)), true),
+        Arguments.of(DSL.not(B), true),
+        Arguments.of(DSL.castLong(D), true),
+        Arguments.of(DSL.castDouble(L), true),
+        Arguments.of(DSL.add(DSL.castLong(I), L), true),
+        Arguments.of(DSL.named("sum", DSL.add(I, J)), true),
+        Arguments.of(I, true),
+        Arguments.of(DSL.literal("x"), true),
+        Arguments.of(DSL.abs(I), false),
+        Arguments.of(DSL.add(DSL.abs(I), J), false),
+        Arguments.of(DSL.equal(S, DSL.literal("a")), false));
+  }
+
+  @ParameterizedTest
+  @MethodSource("expressions")
+  void batch_results_match_row_results(Expression expression, boolean vectorized) {
+    assertEquals(vectorized, BatchExpressionEvaluator.isVectorized(expression));
+
+    Batch batch = Batch.of(rows);
+    ColumnVector column = BatchExpressionEvaluator.evaluate(expression, batch);
+    for (int position = 0; position < rows.size(); position++) {
+      assertEquals(
+          expression.valueOf(rows.get(position).bindingTuples()),
+          column.get(position),
+          "position " + position);
+    }
+  }
+
+  @Test
+  void evaluate_selected_positions_only() {
+    List<ExprValue> overflow =
+        List.of(
+            ExprValueUtils.tupleValue(Map.of("i", Integer.MAX_VALUE, "j", 1)),
+            ExprValueUtils.tupleValue(Map.of("i", 1, "j", 1)));
+    Expression expression = DSL.add(I, J);
+
+    ArithmeticException rowException =
+        assertThrows(
+            ArithmeticException.class, () -> expression.valueOf(overflow.get(0).bindingTuples()));
+    ArithmeticException batchException =
+        assertThrows(
+            ArithmeticException.class,
+            () -> BatchExpressionEvaluator.evaluate(expression, Batch.of(overflow)));
+    assertEquals(rowException.getMessage(), batchException.getMessage());
+
+    Batch batch = Batch.of(overflow);
+    batch.select(new int[] {1}, 1);
+    ColumnVector column = BatchExpressionEvaluator.evaluate(expression, batch);
+    assertEquals(ExprValueUtils.integerValue(2), column.get(1));
+  }
+
+  @Test
+  void evaluate_values_not_of_the_reference_type() {
+    ReferenceExpression ref = DSL.ref("l", LONG);
+    Batch batch =
+        Batch.of(
+            List.of(
+                ExprValueUtils.tupleValue(Map.of("l", 1)),
+                ExprValueUtils.tupleValue(Map.of("l", 2L))));
+
+    assertInstanceOf(ValueVector.class, batch.column(ref));
+    Expression expression = DSL.add(ref, DSL.literal(1L));
+    ColumnVector column = BatchExpressionEvaluator.evaluate(expression, batch);
+    assertInstanceOf(LongVector.class, column);
+    assertEquals(ExprValueUtils.longValue(2L), column.get(0));
+    assertEquals(ExprValueUtils.longValue(3L), column.get(1));
+  }
+
+  @Test
+  void computed_columns_override_the_row_fields() {
+    Batch batch = Batch.of(List.of(ExprValueUtils.tupleValue(ImmutableMap.of("i", 1, "j", 2))));
+    LongVector column = new LongVector(INTEGER, 1);
+    column.setLong(0, 10);
+    batch.putColumn("i", column);
+    batch.putColumn("k", column);
+
+    assertSame(column, batch.column(I));
+    assertEquals(ExprValueUtils.integerValue(10), batch.rowAt(0).tupleValue().get("i"));
+    assertEquals(List.of("i", "j", "k"), new ArrayList<>(batch.rowAt(0).tupleValue().keySet()));
+
+    Batch projected = batch.project(Map.of("k", column));
+    assertEquals(List.of(ExprValueUtils.tupleValue(Map.of("k", 10))), projected.selectedRows());
+    assertFalse(projected.isEmpty());
+  }
+
+  @Test
+  void row_expressions_resolve_computed_columns() {
+    Batch batch = Batch.of(List.of(ExprValueUtils.tupleValue(ImmutableMap.of("i", -1, "s", "a"))));
+    LongVector column = new LongVector(INTEGER, 1);
+    column.setLong(0, -10);
+    batch.putColumn("k", column);
+    batch.putColumn(
+        "abs", BatchExpressionEvaluator.evaluate(DSL.abs(DSL.ref("k", INTEGER)), batch));
+
+    assertEquals(ExprValueUtils.integerValue(10), batch.column(DSL.ref("abs", INTEGER)).get(0));
+    assertEquals(
+        ExprValueUtils.integerValue(-1), batch.bindingTuplesAt(0).resolve(DSL.ref("i", INTEGER)));
+    assertEquals(
+        ExprValueUtils.LITERAL_TRUE,
+        BatchExpressionEvaluator.evaluate(DSL.equal(S, DSL.literal("a")), batch).get(0));
+    assertEquals(
+        ExprValueUtils.missingValue(),
+        batch.bindingTuplesAt(0).resolve(DSL.ref("missing", INTEGER)));
+  }
+
+  @Test
+  void long_vector_rejects_other_types() {
+    assertThrows(IllegalArgumentException.class, () -> new LongVector(DOUBLE, 1));
+  }
+
+  private static ExprValue row(Integer i, Integer j, Long l, Double d, Boolean b, String s) {
+    Map<String, Object> map = new LinkedHashMap<>();
+    Object[] values = {i, j, l, d, b, s};
+    List<String> names = Arrays.asList("i", "j", "l", "d", "b", "s");
+    for (int k = 0; k < names.size(); k++) {
+      map.put(names.get(k), values[k]);
+    }
+    return ExprValueUtils.tupleValue(map);
+  }
+}
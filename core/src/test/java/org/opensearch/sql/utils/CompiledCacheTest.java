@@ -0,0 +1,41 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.junit.jupiter.api.Test;
+
+class CompiledCacheTest {
+
+  @Test
+  void compile_once_per_key() {
+    AtomicInteger compilations = new AtomicInteger();
+    CompiledCache<Pattern> cache =
+        new CompiledCache<>(
+            regex -> {
+              compilations.incrementAndGet();
+              return Pattern.compile(regex);
+            });
+
+    Pattern pattern = cache.get("a.*");
+    assertSame(pattern, cache.get("a.*"));
+    cache.get("b.*");
+    assertEquals(2, compilations.get());
+  }
+
+  @Test
+  void throw_compilation_exception_as_is() {
+    CompiledCache<Pattern> cache = new CompiledCache<>(Pattern::compile);
+    assertThrows(PatternSyntaxException.class, () -> cache.get("("));
+    assertThrows(PatternSyntaxException.class, () -> cache.get("("));
+  }
+}
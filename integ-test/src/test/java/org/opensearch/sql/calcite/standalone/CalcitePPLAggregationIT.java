@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.calcite.standalone;
 
+import static org.opensearch.sql.legacy.TestsConstants.TEST_INDEX_ACCOUNT;
 import static org.opensearch.sql.legacy.TestsConstants.TEST_INDEX_BANK;
 import static org.opensearch.sql.legacy.TestsConstants.TEST_INDEX_BANK_WITH_NULL_VALUES;
 import static org.opensearch.sql.legacy.TestsConstants.TEST_INDEX_CALCS;
@@ -19,7 +20,6 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 import org.json.JSONObject;
-import org.junit.Ignore;
 import org.junit.jupiter.api.Test;
 import org.opensearch.client.Request;
 
@@ -29,6 +29,7 @@ public class CalcitePPLAggregationIT extends CalcitePPLIntegTestCase {
   public void init() throws IOException {
     super.init();
 
+    loadIndex(Index.ACCOUNT);
     loadIndex(Index.BANK);
     loadIndex(Index.BANK_WITH_NULL_VALUES);
     loadIndex(Index.CALCS);
@@ -524,12 +525,47 @@ public class CalcitePPLAggregationIT extends CalcitePPLIntegTestCase {
     verifyDataRows(actual, rows(3, "F"), rows(4, "M"));
   }
 
-  @Ignore("https://github.com/opensearch-project/sql/issues/3353")
+  @Test
   public void testApproxCountDistinct() {
+    // below the precision threshold, the pushed-down and in-memory sketches count exactly
     JSONObject actual =
         executeQuery(
             String.format(
                 "source=%s | stats distinct_count_approx(state) by gender", TEST_INDEX_BANK));
+    verifySchema(
+        actual, schema("gender", "string"), schema("distinct_count_approx(state)", "long"));
+    verifyDataRows(actual, rows(3, "F"), rows(4, "M"));
+
+    actual =
+        executeQuery(
+            String.format(
+                "source=%s | stats distinct_count_approx(account_number) as dc",
+                TEST_INDEX_ACCOUNT));
+    verifyWithinError(1000, actual, 0.01);
+
+    // the timestamps are hashed by their epoch milliseconds like the cardinality aggregation
+    actual =
+        executeQuery(
+            String.format("source=%s | stats distinct_count_approx(birthdate)", TEST_INDEX_BANK));
+    verifyDataRows(actual, rows(7));
+  }
+
+  @Test
+  public void testApproxCountDistinctWithPrecisionThreshold() {
+    // 1024 registers estimate with a standard error of 1.04 / sqrt(1024), about 3%
+    JSONObject actual =
+        executeQuery(
+            String.format(
+                "source=%s | stats estdc(account_number, 100) as dc", TEST_INDEX_ACCOUNT));
+    verifySchema(actual, schema("dc", "long"));
+    verifyWithinError(1000, actual, 0.1);
+  }
+
+  private static void verifyWithinError(long expected, JSONObject actual, double relativeError) {
+    long estimate = actual.getJSONArray("datarows").getJSONArray(0).getLong(0);
+    assertTrue(
+        String.format("estimate %d of %d", estimate, expected),
+        Math.abs(estimate - expected) <= expected * relativeError);
   }
 
   @Test
@@ -43,6 +43,15 @@ public class HintFactory {
     if (hintAsString.equals("! HASH_WITH_TERMS_FILTER")) {
       return new Hint(HintType.HASH_WITH_TERMS_FILTER, null);
     }
+    if (hintAsString.startsWith("! HASH_JOIN_MEMORY_BUDGET")) {
+      String[] megabytes = getParamsFromHint(hintAsString, "! HASH_JOIN_MEMORY_BUDGET");
+      if (megabytes == null || megabytes.length != 1 || Integer.parseInt(megabytes[0]) <= 0) {
+        throw new SqlParseException(
+            "HASH_JOIN_MEMORY_BUDGET hint expects a positive number of megabytes");
+      }
+      return new Hint(
+          HintType.HASH_JOIN_MEMORY_BUDGET, new Object[] {Integer.parseInt(megabytes[0])});
+    }
     if (hintAsString.startsWith("! JOIN_TABLES_LIMIT")) {
       String[] numbers = getParamsFromHint(hintAsString, "! JOIN_TABLES_LIMIT");
       // todo: check if numbers etc..
@@ -8,6 +8,7 @@ package org.opensearch.sql.legacy.domain.hints;
 /** Created by Eliran on 29/8/2015. */
 public enum HintType {
   HASH_WITH_TERMS_FILTER,
+  HASH_JOIN_MEMORY_BUDGET,
   JOIN_LIMIT,
   USE_NESTED_LOOPS,
   NL_MULTISEARCH_SIZE,
@@ -22,6 +22,7 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.legacy.esdomain.mapping.IndexMappings;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.transport.client.Client;
 
@@ -51,6 +52,9 @@ public class LocalClusterState {
 
   private OpenSearchSettings pluginSettings;
 
+  /** Node level cache of the parsed index mappings */
+  private IndexMappingCache indexMappingCache = IndexMappingCache.NONE;
+
   /** Latest setting value for each registered key. Thread-safe is required. */
   private final Map<String, Object> latestSettings = new ConcurrentHashMap<>();
 
@@ -84,6 +88,19 @@ public class LocalClusterState {
     this.client = client;
   }
 
+  /**
+   * Sets the cache of the parsed index mappings shared with the new engine.
+   *
+   * @param indexMappingCache The non-null index mapping cache
+   */
+  public void setIndexMappingCache(@NonNull IndexMappingCache indexMappingCache) {
+    this.indexMappingCache = indexMappingCache;
+  }
+
+  public IndexMappingCache getIndexMappingCache() {
+    return indexMappingCache;
+  }
+
   /**
    * Sets the plugin's settings.
    *
@@ -143,7 +160,7 @@ public class LocalClusterState {
               .actionGet(0, TimeUnit.NANOSECONDS)
               .mappings();
 
-      IndexMappings mappings = new IndexMappings(mappingMetadata);
+      IndexMappings mappings = new IndexMappings(mappingMetadata, indexMappingCache);
 
       LOG.debug("Found mappings: {}", mappings);
       return mappings;
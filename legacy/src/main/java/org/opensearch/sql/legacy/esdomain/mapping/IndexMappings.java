@@ -9,8 +9,10 @@ import static java.util.Collections.emptyMap;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
 
 /**
  *
@@ -55,6 +57,26 @@ public class IndexMappings implements Mappings<FieldMappings> {
     this.indexMappings = buildMappings(mappings, FieldMappings::new);
   }
 
+  /**
+   * Build the field mappings of the indices, reusing the ones already parsed by the node.
+   *
+   * @param mappings mappings by index name
+   * @param cache node level cache of the parsed mappings
+   */
+  public IndexMappings(Map<String, MappingMetadata> mappings, IndexMappingCache cache) {
+    this.indexMappings =
+        mappings.entrySet().stream()
+            .collect(
+                Collectors.toUnmodifiableMap(
+                    Map.Entry::getKey,
+                    entry ->
+                        cache.get(
+                            entry.getKey(),
+                            entry.getValue(),
+                            FieldMappings.class,
+                            FieldMappings::new)));
+  }
+
   @Override
   public Map<String, FieldMappings> data() {
     return indexMappings;
@@ -7,8 +7,10 @@ package org.opensearch.sql.legacy.executor.join;
 
 import com.alibaba.druid.sql.ast.statement.SQLJoinTableSource;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -37,6 +39,7 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
   private final HashJoinElasticRequestBuilder requestBuilder;
   private boolean useQueryTermsFilterOptimization = false;
   private final int MAX_RESULTS_FOR_FIRST_TABLE = 100000;
+  private static final int SPILL_PARTITION_COUNT = 32;
   final HashJoinComparisonStructure hashJoinComparisonStructure;
   private final Set<String> alreadyMatched;
 
@@ -50,6 +53,15 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
   }
 
   public List<SearchHit> innerRun() throws IOException, SqlParseException {
+    if (requestBuilder.getMemoryBudgetInBytes() > 0) {
+      try (SpillingHashJoinTable table =
+          new SpillingHashJoinTable(
+              requestBuilder.getMemoryBudgetInBytes(),
+              SPILL_PARTITION_COUNT,
+              Path.of(System.getProperty("java.io.tmpdir")))) {
+        return innerRunWithMemoryBudget(table);
+      }
+    }
     Map<String, Map<String, List<Object>>> optimizationTermsFilterStructure =
         initOptimizationStructure();
 
@@ -81,6 +93,232 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
           t1Alias,
           t2Alias);
     }
+    sortIfOrdered(firstTableRequest, combinedResult);
+    return combinedResult;
+  }
+
+  /**
+   * Hash join with the first table rows bounded by a memory budget. Rows over the budget are
+   * spilled to local files and joined once the second table is read, see {@link
+   * SpillingHashJoinTable}. Both tables are read page by page without keeping the pages.
+   */
+  private List<SearchHit> innerRunWithMemoryBudget(SpillingHashJoinTable table)
+      throws IOException, SqlParseException {
+    Map<String, Map<String, List<Object>>> optimizationTermsFilterStructure =
+        initOptimizationStructure();
+    List<Map.Entry<String, List<Map.Entry<Field, Field>>>> comparisons =
+        new ArrayList<>(this.hashJoinComparisonStructure.getComparisons().entrySet());
+
+    updateFirstTableLimitIfNeeded();
+    TableInJoinRequestBuilder firstTableRequest = requestBuilder.getFirstTable();
+    buildSpillingHashTable(table, comparisons, optimizationTermsFilterStructure, firstTableRequest);
+
+    TableInJoinRequestBuilder secondTableRequest = requestBuilder.getSecondTable();
+    if (needToOptimize(optimizationTermsFilterStructure)) {
+      updateRequestWithTermsFilter(optimizationTermsFilterStructure, secondTableRequest);
+    }
+
+    List<SearchHit> combinedResult = new ArrayList<>();
+    BitSet matchedFirstTableRows = new BitSet();
+    int totalLimit = requestBuilder.getTotalLimit();
+    boolean limitNotReached =
+        probeSpillingHashTable(
+                table, comparisons, secondTableRequest, combinedResult, matchedFirstTableRows)
+            && table.joinSpilled(
+                (probeRow, matches) ->
+                    addMatches(
+                        combinedResult,
+                        matchedFirstTableRows,
+                        matches,
+                        probeRow.id(),
+                        toSearchHit(probeRow, probeRow.id()).getSourceAsMap()));
+
+    if (limitNotReached
+        && requestBuilder.getJoinType() == SQLJoinTableSource.JoinType.LEFT_OUTER_JOIN) {
+      String t1Alias = firstTableRequest.getAlias();
+      String t2Alias = secondTableRequest.getAlias();
+      table.forEachRow(
+          0,
+          row -> {
+            if (!matchedFirstTableRows.get(row.docId())) {
+              combinedResult.add(
+                  createUnmachedResult(
+                      secondTableRequest.getReturnedFields(),
+                      row.docId(),
+                      t1Alias,
+                      t2Alias,
+                      toFirstTableHit(row, row.id())));
+            }
+            return combinedResult.size() < totalLimit;
+          });
+    }
+    sortIfOrdered(firstTableRequest, combinedResult);
+    return combinedResult;
+  }
+
+  private void buildSpillingHashTable(
+      SpillingHashJoinTable table,
+      List<Map.Entry<String, List<Map.Entry<Field, Field>>>> comparisons,
+      Map<String, Map<String, List<Object>>> optimizationTermsFilterStructure,
+      TableInJoinRequestBuilder firstTableRequest)
+      throws IOException {
+    Integer hintLimit = firstTableRequest.getHintLimit();
+    int pageSize = getPageSize(hintLimit);
+    int docId = 0;
+    SearchHit lastHit = null;
+    do {
+      SearchHit[] hits = nextPage(firstTableRequest, pageSize, lastHit);
+      for (int h = 0; h < hits.length && (hintLimit == null || docId < hintLimit); h++) {
+        SearchHit hit = hits[h];
+        SpillingHashJoinTable.Row row = new SpillingHashJoinTable.Row(++docId, hit);
+        for (int i = 0; i < comparisons.size(); i++) {
+          Map.Entry<String, List<Map.Entry<Field, Field>>> comparison = comparisons.get(i);
+          String key =
+              getComparisonKey(
+                  comparison.getValue(),
+                  hit,
+                  true,
+                  optimizationTermsFilterStructure.get(comparison.getKey()));
+          table.add(i, key, row);
+        }
+      }
+      lastHit = hits.length < pageSize ? null : hits[hits.length - 1];
+    } while (lastHit != null && (hintLimit == null || docId < hintLimit));
+    LOG.debug(
+        "Built hash table of {} rows with {} bytes in memory and {} spilled partitions",
+        docId,
+        table.getMemoryUsedBytes(),
+        table.getSpilledPartitionCount());
+  }
+
+  /**
+   * Probe the rows of the second table in memory, the rows of spilled partitions are spilled.
+   *
+   * @return false if the total limit is reached
+   */
+  private boolean probeSpillingHashTable(
+      SpillingHashJoinTable table,
+      List<Map.Entry<String, List<Map.Entry<Field, Field>>>> comparisons,
+      TableInJoinRequestBuilder secondTableRequest,
+      List<SearchHit> combinedResult,
+      BitSet matchedFirstTableRows)
+      throws IOException {
+    Integer hintLimit = secondTableRequest.getHintLimit();
+    int pageSize = getPageSize(hintLimit);
+    int fetched = 0;
+    SearchHit lastHit = null;
+    do {
+      SearchHit[] hits = nextPage(secondTableRequest, pageSize, lastHit);
+      for (int h = 0; h < hits.length && (hintLimit == null || fetched < hintLimit); h++) {
+        SearchHit hit = hits[h];
+        fetched++;
+        SpillingHashJoinTable.Row probeRow = new SpillingHashJoinTable.Row(-1, hit);
+        for (int i = 0; i < comparisons.size(); i++) {
+          String key = getComparisonKey(comparisons.get(i).getValue(), hit, false, null);
+          List<SpillingHashJoinTable.Row> matches = table.probe(i, key, probeRow);
+          if (!matches.isEmpty()
+              && !addMatches(
+                  combinedResult,
+                  matchedFirstTableRows,
+                  matches,
+                  hit.getId(),
+                  hit.getSourceAsMap())) {
+            return false;
+          }
+        }
+      }
+      lastHit = hits.length < pageSize ? null : hits[hits.length - 1];
+    } while (lastHit != null && (hintLimit == null || fetched < hintLimit));
+    return true;
+  }
+
+  /**
+   * Add the joined hits of a second table hit and its matched first table rows.
+   *
+   * @return false if the total limit is reached
+   */
+  private boolean addMatches(
+      List<SearchHit> combinedResult,
+      BitSet matchedFirstTableRows,
+      List<SpillingHashJoinTable.Row> matches,
+      String secondTableId,
+      Map<String, Object> secondTableSource) {
+    TableInJoinRequestBuilder secondTableRequest = requestBuilder.getSecondTable();
+    for (SpillingHashJoinTable.Row match : matches) {
+      matchedFirstTableRows.set(match.docId());
+      String combinedId = match.id() + "|" + secondTableId;
+      // in order to prevent same matching when using OR on hashJoins.
+      if (!this.alreadyMatched.add(combinedId)) {
+        continue;
+      }
+
+      Map<String, Object> copiedSource = new HashMap<>();
+      copyMaps(copiedSource, secondTableSource);
+      onlyReturnedFields(
+          copiedSource,
+          secondTableRequest.getReturnedFields(),
+          secondTableRequest.getOriginalSelect().isSelectAll());
+
+      SearchHit searchHit = toFirstTableHit(match, combinedId);
+      mergeSourceAndAddAliases(
+          copiedSource,
+          searchHit,
+          requestBuilder.getFirstTable().getAlias(),
+          secondTableRequest.getAlias());
+      combinedResult.add(searchHit);
+      if (combinedResult.size() >= requestBuilder.getTotalLimit()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private SearchHit toFirstTableHit(SpillingHashJoinTable.Row row, String id) {
+    TableInJoinRequestBuilder firstTableRequest = requestBuilder.getFirstTable();
+    SearchHit searchHit = toSearchHit(row, id);
+    onlyReturnedFields(
+        searchHit.getSourceAsMap(),
+        firstTableRequest.getReturnedFields(),
+        firstTableRequest.getOriginalSelect().isSelectAll());
+    return searchHit;
+  }
+
+  private SearchHit toSearchHit(SpillingHashJoinTable.Row row, String id) {
+    Map<String, DocumentField> documentFields = new HashMap<>();
+    Map<String, DocumentField> metaFields = new HashMap<>();
+    row.fields()
+        .forEach(
+            (fieldName, docField) ->
+                (MapperService.META_FIELDS_BEFORE_7DOT8.contains(fieldName)
+                        ? metaFields
+                        : documentFields)
+                    .put(fieldName, docField));
+    SearchHit searchHit = new SearchHit(row.docId(), id, documentFields, metaFields);
+    searchHit.sourceRef(row.source());
+    return searchHit;
+  }
+
+  private int getPageSize(Integer hintLimit) {
+    return hintLimit != null && hintLimit < MAX_RESULTS_ON_ONE_FETCH
+        ? hintLimit
+        : MAX_RESULTS_ON_ONE_FETCH;
+  }
+
+  /** Fetch the page of hits after the last hit of the previous page, or the first page. */
+  private SearchHit[] nextPage(
+      TableInJoinRequestBuilder tableRequest, int pageSize, SearchHit lastHit) {
+    SearchResponse response;
+    if (lastHit == null) {
+      response = getResponseWithHits(tableRequest, pageSize, null);
+    } else {
+      response = tableRequest.getRequestBuilder().searchAfter(lastHit.getSortValues()).get();
+    }
+    updateMetaSearchResults(response);
+    return response.getHits().getHits();
+  }
+
+  private void sortIfOrdered(
+      TableInJoinRequestBuilder firstTableRequest, List<SearchHit> combinedResult) {
     if (firstTableRequest.getOriginalSelect().isOrderdSelect()) {
       Collections.sort(
           combinedResult,
@@ -91,7 +329,6 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
             }
           });
     }
-    return combinedResult;
   }
 
   private Map<String, Map<String, List<Object>>> initOptimizationStructure() {
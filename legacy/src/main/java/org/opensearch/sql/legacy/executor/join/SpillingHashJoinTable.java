@@ -0,0 +1,556 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.executor.join;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.InputStreamStreamInput;
+import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.search.SearchHit;
+
+/**
+ * Hash table of the first table rows of a hash join bounded by a memory budget (grace hash join).
+ * Rows are partitioned by the 64 bit hash of their join key and looked up by comparing the hashes
+ * before the keys. Whenever the estimated size of the rows in memory exceeds the budget, the
+ * largest partition in memory is spilled to a local file. Second table rows probing a spilled
+ * partition are spilled along with it, and spilled partitions are joined one by one after the
+ * second table is fully read. A spilled partition whose rows exceed the budget is re-partitioned
+ * with a different hash seed, recursively, until its partitions fit in the budget.
+ */
+public class SpillingHashJoinTable implements Closeable {
+
+  /** Estimated size of a row in memory besides its id, key and source. */
+  private static final long ROW_OVERHEAD_BYTES = 128;
+
+  /**
+   * Maximum number of times a spilled partition is re-partitioned. Rows of the same key always
+   * fall in the same partition, so a partition still over the budget at this depth is made of a
+   * few keys with too many rows.
+   */
+  private static final int MAX_REPARTITION_DEPTH = 4;
+
+  private final long memoryBudgetBytes;
+
+  /** Number of times the rows of this table were re-partitioned, the seed of its hash function. */
+  private final int depth;
+
+  private final HashFunction hashFunction;
+
+  private final Partition[] partitions;
+
+  private final Path spillParent;
+
+  private Path spillDirectory;
+
+  private long memoryUsedBytes;
+
+  /**
+   * Constructor.
+   *
+   * @param memoryBudgetBytes budget of the rows kept in memory
+   * @param partitionCount number of partitions, a power of two
+   * @param spillParent directory to create the spill files in
+   */
+  public SpillingHashJoinTable(long memoryBudgetBytes, int partitionCount, Path spillParent) {
+    this(memoryBudgetBytes, partitionCount, spillParent, 0);
+  }
+
+  private SpillingHashJoinTable(
+      long memoryBudgetBytes, int partitionCount, Path spillParent, int depth) {
+    if (Integer.bitCount(partitionCount) != 1) {
+      throw new IllegalArgumentException(
+          "Number of hash join partitions must be a power of two, got " + partitionCount);
+    }
+    this.memoryBudgetBytes = memoryBudgetBytes;
+    this.depth = depth;
+    this.hashFunction = Hashing.murmur3_128(depth);
+    this.spillParent = spillParent;
+    this.partitions = new Partition[partitionCount];
+    for (int i = 0; i < partitionCount; i++) {
+      partitions[i] = new Partition(i);
+    }
+  }
+
+  /**
+   * Add a first table row under its key of a comparison, spill partitions if over the budget.
+   *
+   * @param comparison index of the comparison the key is made of
+   * @param key join key
+   * @param row first table row
+   */
+  public void add(int comparison, String key, Row row) throws IOException {
+    long hash = hash(comparison, key);
+    Partition partition = partitionOf(hash);
+    if (partition.isSpilled()) {
+      partition.spillBuild(comparison, key, row);
+      return;
+    }
+    long bytes = row.estimatedBytes(key);
+    partition.table.add(hash, comparison, key, row);
+    partition.memoryBytes += bytes;
+    memoryUsedBytes += bytes;
+    while (memoryUsedBytes > memoryBudgetBytes) {
+      Partition largest =
+          Arrays.stream(partitions)
+              .filter(p -> !p.isSpilled())
+              .max(Comparator.comparingLong(p -> p.memoryBytes))
+              .orElseThrow();
+      memoryUsedBytes -= largest.memoryBytes;
+      largest.spill();
+    }
+  }
+
+  /**
+   * Find the first table rows matching a second table row. A second table row probing a spilled
+   * partition is spilled and matched later by {@link #joinSpilled(MatchHandler)}.
+   *
+   * @param comparison index of the comparison the key is made of
+   * @param key join key of the second table row
+   * @param probeRow second table row
+   * @return matched first table rows, empty if none or the partition is spilled
+   */
+  public List<Row> probe(int comparison, String key, Row probeRow) throws IOException {
+    long hash = hash(comparison, key);
+    Partition partition = partitionOf(hash);
+    if (partition.isSpilled()) {
+      partition.spillProbe(comparison, key, probeRow);
+      return Collections.emptyList();
+    }
+    return partition.table.match(hash, comparison, key);
+  }
+
+  /**
+   * Join the spilled partitions one by one, by loading their first table rows in memory and
+   * matching the spilled second table rows against them. A partition whose first table rows exceed
+   * the budget is re-partitioned instead of loaded.
+   *
+   * @param handler handler of the second table rows with any match
+   * @return false if the handler stopped the join
+   */
+  public boolean joinSpilled(MatchHandler handler) throws IOException {
+    for (Partition partition : partitions) {
+      if (!partition.isSpilled() || partition.probeRows == 0) {
+        continue;
+      }
+      partition.closeOutputs();
+      boolean joined =
+          partition.spilledBytes > memoryBudgetBytes
+              ? joinRepartitioned(partition, handler)
+              : joinInMemory(partition, handler);
+      if (!joined) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean joinInMemory(Partition partition, MatchHandler handler) throws IOException {
+    Table table = new Table();
+    try (StreamInput in = open(partition.buildFile)) {
+      for (long i = 0; i < partition.buildRows; i++) {
+        int comparison = in.readVInt();
+        String key = in.readString();
+        table.add(hash(comparison, key), comparison, key, new Row(in));
+      }
+    }
+    try (StreamInput in = open(partition.probeFile)) {
+      for (long i = 0; i < partition.probeRows; i++) {
+        int comparison = in.readVInt();
+        String key = in.readString();
+        Row probeRow = new Row(in);
+        List<Row> matches = table.match(hash(comparison, key), comparison, key);
+        if (!matches.isEmpty() && !handler.onMatch(probeRow, matches)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Join a spilled partition over the budget by adding its rows to a table with the next hash
+   * seed, which keeps the partitions that fit in memory and spills, then joins, the others.
+   */
+  private boolean joinRepartitioned(Partition partition, MatchHandler handler) throws IOException {
+    if (depth == MAX_REPARTITION_DEPTH) {
+      throw new IllegalStateException(
+          "Hash join partition of "
+              + partition.buildRows
+              + " rows still exceeds the memory budget of "
+              + memoryBudgetBytes
+              + " bytes after "
+              + depth
+              + " re-partitions, too many rows share the same join key. Increase the"
+              + " HASH_JOIN_MEMORY_BUDGET hint.");
+    }
+    try (SpillingHashJoinTable table =
+        new SpillingHashJoinTable(
+            memoryBudgetBytes, partitions.length, spillDirectory(), depth + 1)) {
+      try (StreamInput in = open(partition.buildFile)) {
+        for (long i = 0; i < partition.buildRows; i++) {
+          int comparison = in.readVInt();
+          String key = in.readString();
+          table.add(comparison, key, new Row(in));
+        }
+      }
+      try (StreamInput in = open(partition.probeFile)) {
+        for (long i = 0; i < partition.probeRows; i++) {
+          int comparison = in.readVInt();
+          String key = in.readString();
+          Row probeRow = new Row(in);
+          List<Row> matches = table.probe(comparison, key, probeRow);
+          if (!matches.isEmpty() && !handler.onMatch(probeRow, matches)) {
+            return false;
+          }
+        }
+      }
+      // rows kept in memory are fully matched, drop them before joining the spilled ones
+      table.releaseMemory();
+      return table.joinSpilled(handler);
+    }
+  }
+
+  /**
+   * Visit all the first table rows added for a comparison, in memory first then spilled.
+   *
+   * @param comparison index of the comparison
+   * @param visitor visitor of the rows
+   */
+  public void forEachRow(int comparison, RowVisitor visitor) throws IOException {
+    for (Partition partition : partitions) {
+      if (!partition.isSpilled() && !partition.table.forEachRow(comparison, visitor)) {
+        return;
+      }
+    }
+    for (Partition partition : partitions) {
+      if (!partition.isSpilled()) {
+        continue;
+      }
+      partition.closeOutputs();
+      try (StreamInput in = open(partition.buildFile)) {
+        for (long i = 0; i < partition.buildRows; i++) {
+          int rowComparison = in.readVInt();
+          in.readString();
+          Row row = new Row(in);
+          if (rowComparison == comparison && !visitor.visit(row)) {
+            return;
+          }
+        }
+      }
+    }
+  }
+
+  /** Estimated size of the first table rows in memory. */
+  public long getMemoryUsedBytes() {
+    return memoryUsedBytes;
+  }
+
+  /** Number of partitions spilled to disk. */
+  public int getSpilledPartitionCount() {
+    return (int) Arrays.stream(partitions).filter(Partition::isSpilled).count();
+  }
+
+  /** Release the rows in memory and delete the spill files. */
+  @Override
+  public void close() throws IOException {
+    releaseMemory();
+    for (Partition partition : partitions) {
+      partition.closeOutputs();
+    }
+    if (spillDirectory != null) {
+      try (Stream<Path> files = Files.list(spillDirectory)) {
+        for (Path file : (Iterable<Path>) files::iterator) {
+          Files.deleteIfExists(file);
+        }
+      }
+      Files.deleteIfExists(spillDirectory);
+      spillDirectory = null;
+    }
+  }
+
+  private void releaseMemory() {
+    for (Partition partition : partitions) {
+      partition.table = null;
+      partition.memoryBytes = 0;
+    }
+    memoryUsedBytes = 0;
+  }
+
+  private Partition partitionOf(long hash) {
+    return partitions[(int) (hash >>> 32) & (partitions.length - 1)];
+  }
+
+  private Path spillDirectory() throws IOException {
+    if (spillDirectory == null) {
+      spillDirectory = Files.createTempDirectory(spillParent, "hash-join-");
+    }
+    return spillDirectory;
+  }
+
+  private static StreamInput open(Path file) throws IOException {
+    return new InputStreamStreamInput(new BufferedInputStream(Files.newInputStream(file)));
+  }
+
+  private long hash(int comparison, String key) {
+    return hashFunction.newHasher().putInt(comparison).putUnencodedChars(key).hash().asLong();
+  }
+
+  /** Handler of a spilled second table row and its matches. */
+  @FunctionalInterface
+  public interface MatchHandler {
+    /**
+     * Handle the first table rows matched by a spilled second table row.
+     *
+     * @param probeRow second table row
+     * @param matches matched first table rows
+     * @return false to stop joining
+     */
+    boolean onMatch(Row probeRow, List<Row> matches) throws IOException;
+  }
+
+  /** Visitor of the first table rows. */
+  @FunctionalInterface
+  public interface RowVisitor {
+    /**
+     * Visit a first table row.
+     *
+     * @param row first table row
+     * @return false to stop visiting
+     */
+    boolean visit(Row row) throws IOException;
+  }
+
+  /**
+   * Row of a table in the join, the parts of a search hit needed to build the joined hits.
+   *
+   * @param docId doc id of the joined hits, the order of first table rows
+   * @param id document id
+   * @param source document source, null if not fetched
+   * @param fields document fields
+   */
+  public record Row(
+      int docId, String id, BytesReference source, Map<String, DocumentField> fields) {
+
+    public Row(int docId, SearchHit hit) {
+      this(docId, hit.getId(), hit.getSourceRef(), hit.getFields());
+    }
+
+    Row(StreamInput in) throws IOException {
+      this(in.readVInt(), in.readOptionalString(), in.readOptionalBytesReference(), readFields(in));
+    }
+
+    void writeTo(StreamOutput out) throws IOException {
+      out.writeVInt(docId);
+      out.writeOptionalString(id);
+      out.writeOptionalBytesReference(source);
+      out.writeVInt(fields.size());
+      for (Map.Entry<String, DocumentField> field : fields.entrySet()) {
+        out.writeString(field.getKey());
+        field.getValue().writeTo(out);
+      }
+    }
+
+    long estimatedBytes(String key) {
+      return ROW_OVERHEAD_BYTES
+          + 2L * key.length()
+          + (id == null ? 0 : 2L * id.length())
+          + (source == null ? 0 : source.length())
+          + fields.size() * ROW_OVERHEAD_BYTES;
+    }
+
+    private static Map<String, DocumentField> readFields(StreamInput in) throws IOException {
+      int size = in.readVInt();
+      Map<String, DocumentField> fields = new HashMap<>();
+      for (int i = 0; i < size; i++) {
+        fields.put(in.readString(), new DocumentField(in));
+      }
+      return fields;
+    }
+  }
+
+  private class Partition {
+    private final int index;
+
+    /** Rows in memory, null once spilled. */
+    private Table table = new Table();
+
+    private long memoryBytes;
+
+    /** Estimated size of the spilled first table rows. */
+    private long spilledBytes;
+
+    private Path buildFile;
+
+    private Path probeFile;
+
+    private StreamOutput buildOut;
+
+    private StreamOutput probeOut;
+
+    private long buildRows;
+
+    private long probeRows;
+
+    Partition(int index) {
+      this.index = index;
+    }
+
+    boolean isSpilled() {
+      return buildFile != null;
+    }
+
+    void spill() throws IOException {
+      buildFile = spillDirectory().resolve("build-" + index);
+      probeFile = spillDirectory().resolve("probe-" + index);
+      Table spilled = table;
+      table = null;
+      memoryBytes = 0;
+      for (int i = 0; i < spilled.size; i++) {
+        spillBuild(spilled.comparisons[i], spilled.keys[i], spilled.rows[i]);
+      }
+    }
+
+    void spillBuild(int comparison, String key, Row row) throws IOException {
+      if (buildOut == null) {
+        buildOut = append(buildFile);
+      }
+      write(buildOut, comparison, key, row);
+      buildRows++;
+      spilledBytes += row.estimatedBytes(key);
+    }
+
+    void spillProbe(int comparison, String key, Row row) throws IOException {
+      if (probeOut == null) {
+        probeOut = append(probeFile);
+      }
+      write(probeOut, comparison, key, row);
+      probeRows++;
+    }
+
+    void closeOutputs() throws IOException {
+      if (buildOut != null) {
+        buildOut.close();
+        buildOut = null;
+      }
+      if (probeOut != null) {
+        probeOut.close();
+        probeOut = null;
+      }
+    }
+
+    private StreamOutput append(Path file) throws IOException {
+      return new OutputStreamStreamOutput(
+          new BufferedOutputStream(
+              Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+    }
+
+    private void write(StreamOutput out, int comparison, String key, Row row) throws IOException {
+      out.writeVInt(comparison);
+      out.writeString(key);
+      row.writeTo(out);
+    }
+  }
+
+  /**
+   * Chained hash table over parallel arrays. Entries are looked up by their 64 bit key hash and
+   * only compared by key when the hashes are equal.
+   */
+  private static class Table {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] buckets = newBuckets(INITIAL_CAPACITY);
+    private long[] hashes = new long[INITIAL_CAPACITY];
+    private int[] next = new int[INITIAL_CAPACITY];
+    private int[] comparisons = new int[INITIAL_CAPACITY];
+    private String[] keys = new String[INITIAL_CAPACITY];
+    private Row[] rows = new Row[INITIAL_CAPACITY];
+    private int size;
+
+    void add(long hash, int comparison, String key, Row row) {
+      if (size == hashes.length) {
+        grow();
+      }
+      int bucket = bucket(hash, buckets.length);
+      hashes[size] = hash;
+      comparisons[size] = comparison;
+      keys[size] = key;
+      rows[size] = row;
+      next[size] = buckets[bucket];
+      buckets[bucket] = size++;
+    }
+
+    List<Row> match(long hash, int comparison, String key) {
+      List<Row> matches = null;
+      for (int i = buckets[bucket(hash, buckets.length)]; i >= 0; i = next[i]) {
+        if (hashes[i] == hash && comparisons[i] == comparison && keys[i].equals(key)) {
+          if (matches == null) {
+            matches = new ArrayList<>();
+          }
+          matches.add(rows[i]);
+        }
+      }
+      if (matches == null) {
+        return Collections.emptyList();
+      }
+      // chains are in reverse insertion order
+      Collections.reverse(matches);
+      return matches;
+    }
+
+    boolean forEachRow(int comparison, RowVisitor visitor) throws IOException {
+      for (int i = 0; i < size; i++) {
+        if (comparisons[i] == comparison && !visitor.visit(rows[i])) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private void grow() {
+      int capacity = hashes.length * 2;
+      hashes = Arrays.copyOf(hashes, capacity);
+      next = Arrays.copyOf(next, capacity);
+      comparisons = Arrays.copyOf(comparisons, capacity);
+      keys = Arrays.copyOf(keys, capacity);
+      rows = Arrays.copyOf(rows, capacity);
+      buckets = newBuckets(capacity);
+      for (int i = 0; i < size; i++) {
+        int bucket = bucket(hashes[i], capacity);
+        next[i] = buckets[bucket];
+        buckets[bucket] = i;
+      }
+    }
+
+    private static int[] newBuckets(int capacity) {
+      int[] buckets = new int[capacity];
+      Arrays.fill(buckets, -1);
+      return buckets;
+    }
+
+    private static int bucket(long hash, int capacity) {
+      return (int) hash & (capacity - 1);
+    }
+  }
+}
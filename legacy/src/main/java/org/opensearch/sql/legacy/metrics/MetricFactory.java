@@ -5,7 +5,9 @@
 
 package org.opensearch.sql.legacy.metrics;
 
+import org.opensearch.sql.legacy.esdomain.LocalClusterState;
 import org.opensearch.sql.legacy.query.join.BackOffRetryStrategy;
+import org.opensearch.sql.opensearch.executor.QueryQueueStats;
 
 public class MetricFactory {
 
@@ -16,9 +18,29 @@ public class MetricFactory {
       case DEFAULT_CURSOR_REQUEST_TOTAL:
       case DEFAULT:
       case PPL_REQ_TOTAL:
+      case PROMETHEUS_RANGE_CACHE_HIT_COUNT:
+      case PROMETHEUS_RANGE_CACHE_MISS_COUNT:
+      case PROMETHEUS_RANGE_CACHE_SAMPLE_HIT_COUNT:
+      case PROMETHEUS_RANGE_CACHE_SAMPLE_MISS_COUNT:
+      case PROMETHEUS_METADATA_CACHE_HIT_COUNT:
+      case PROMETHEUS_METADATA_CACHE_MISS_COUNT:
         return new NumericMetric<>(name.getName(), new BasicCounter());
       case CIRCUIT_BREAKER:
         return new GaugeMetric<>(name.getName(), BackOffRetryStrategy.GET_CB_STATE);
+      case QUERY_STARTED_COUNT:
+        return new GaugeMetric<>(name.getName(), QueryQueueStats::startedCount);
+      case QUERY_QUEUE_TIME_TOTAL:
+        return new GaugeMetric<>(name.getName(), QueryQueueStats::queueTimeMillis);
+      case QUERY_QUEUE_TIME_MAX:
+        return new GaugeMetric<>(name.getName(), QueryQueueStats::maxQueueTimeMillis);
+      case QUERY_REJECTED_COUNT:
+        return new GaugeMetric<>(name.getName(), QueryQueueStats::rejectedCount);
+      case MAPPING_CACHE_HIT_COUNT:
+        return new GaugeMetric<>(
+            name.getName(), () -> LocalClusterState.state().getIndexMappingCache().hitCount());
+      case MAPPING_CACHE_MISS_COUNT:
+        return new GaugeMetric<>(
+            name.getName(), () -> LocalClusterState.state().getIndexMappingCache().missCount());
       case REQ_COUNT_TOTAL:
       case DEFAULT_CURSOR_REQUEST_COUNT_TOTAL:
       case FAILED_REQ_COUNT_CUS:
@@ -48,7 +48,19 @@ public enum MetricName {
   EMR_STREAMING_QUERY_JOBS_CREATION_COUNT("emr_streaming_jobs_creation_count"),
   EMR_INTERACTIVE_QUERY_JOBS_CREATION_COUNT("emr_interactive_jobs_creation_count"),
   EMR_BATCH_QUERY_JOBS_CREATION_COUNT("emr_batch_jobs_creation_count"),
-  STREAMING_JOB_HOUSEKEEPER_TASK_FAILURE_COUNT("streaming_job_housekeeper_task_failure_count");
+  STREAMING_JOB_HOUSEKEEPER_TASK_FAILURE_COUNT("streaming_job_housekeeper_task_failure_count"),
+  QUERY_STARTED_COUNT("query_started_count"),
+  QUERY_QUEUE_TIME_TOTAL("query_queue_time_total_millis"),
+  QUERY_QUEUE_TIME_MAX("query_queue_time_max_millis"),
+  QUERY_REJECTED_COUNT("query_rejected_count"),
+  MAPPING_CACHE_HIT_COUNT("mapping_cache_hit_count"),
+  MAPPING_CACHE_MISS_COUNT("mapping_cache_miss_count"),
+  PROMETHEUS_RANGE_CACHE_HIT_COUNT("prometheus_range_cache_hit_count"),
+  PROMETHEUS_RANGE_CACHE_MISS_COUNT("prometheus_range_cache_miss_count"),
+  PROMETHEUS_RANGE_CACHE_SAMPLE_HIT_COUNT("prometheus_range_cache_sample_hit_count"),
+  PROMETHEUS_RANGE_CACHE_SAMPLE_MISS_COUNT("prometheus_range_cache_sample_miss_count"),
+  PROMETHEUS_METADATA_CACHE_HIT_COUNT("prometheus_metadata_cache_hit_count"),
+  PROMETHEUS_METADATA_CACHE_MISS_COUNT("prometheus_metadata_cache_miss_count");
 
   private final String name;
 
@@ -93,6 +105,12 @@ public enum MetricName {
           .add(ASYNC_QUERY_GET_API_REQUEST_COUNT)
           .add(ASYNC_QUERY_CANCEL_API_REQUEST_COUNT)
           .add(STREAMING_JOB_HOUSEKEEPER_TASK_FAILURE_COUNT)
+          .add(PROMETHEUS_RANGE_CACHE_HIT_COUNT)
+          .add(PROMETHEUS_RANGE_CACHE_MISS_COUNT)
+          .add(PROMETHEUS_RANGE_CACHE_SAMPLE_HIT_COUNT)
+          .add(PROMETHEUS_RANGE_CACHE_SAMPLE_MISS_COUNT)
+          .add(PROMETHEUS_METADATA_CACHE_HIT_COUNT)
+          .add(PROMETHEUS_METADATA_CACHE_MISS_COUNT)
           .build();
 
   public boolean isNumerical() {
@@ -9,11 +9,16 @@ import static org.opensearch.core.rest.RestStatus.OK;
 import static org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
 
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.function.BiConsumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.common.inject.Injector;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.BytesRestResponse;
@@ -183,12 +188,19 @@ public class RestSQLQueryAction extends BaseRestHandler {
     return new ResponseListener<QueryResponse>() {
       @Override
       public void onResponse(QueryResponse response) {
-        sendResponse(
-            channel,
-            OK,
-            formatter.format(
-                new QueryResult(response.getSchema(), response.getResults(), response.getCursor())),
-            formatter.contentType());
+        QueryResult result =
+            new QueryResult(response.getSchema(), response.getResults(), response.getCursor());
+        // Write rows straight into the response bytes instead of building a string copy first
+        BytesStreamOutput content = new BytesStreamOutput();
+        try {
+          Writer writer = new OutputStreamWriter(content, StandardCharsets.UTF_8);
+          formatter.format(result, writer);
+          writer.flush();
+        } catch (IOException e) {
+          errorHandler.accept(channel, e);
+          return;
+        }
+        channel.sendResponse(new BytesRestResponse(OK, formatter.contentType(), content.bytes()));
       }
 
       @Override
@@ -15,6 +15,9 @@ public class HashJoinElasticRequestBuilder extends JoinRequestBuilder {
   private List<List<Map.Entry<Field, Field>>> t1ToT2FieldsComparison;
   private boolean useTermFiltersOptimization;
 
+  /** Memory budget of the first table rows, 0 to keep all of them in memory */
+  private long memoryBudgetInBytes;
+
   public HashJoinElasticRequestBuilder() {}
 
   @Override
@@ -38,4 +41,12 @@ public class HashJoinElasticRequestBuilder extends JoinRequestBuilder {
   public void setUseTermFiltersOptimization(boolean useTermFiltersOptimization) {
     this.useTermFiltersOptimization = useTermFiltersOptimization;
   }
+
+  public long getMemoryBudgetInBytes() {
+    return memoryBudgetInBytes;
+  }
+
+  public void setMemoryBudgetInBytes(long memoryBudgetInBytes) {
+    this.memoryBudgetInBytes = memoryBudgetInBytes;
+  }
 }
@@ -40,7 +40,8 @@ public class OpenSearchHashJoinQueryAction extends OpenSearchJoinQueryAction {
 
   @Override
   protected JoinRequestBuilder createSpecificBuilder() {
-    if (isLegacy()) {
+    // the memory budget is only supported by the legacy hash join
+    if (isLegacy() || hasHint(HintType.HASH_JOIN_MEMORY_BUDGET)) {
       return new HashJoinElasticRequestBuilder();
     }
     return new HashJoinQueryPlanRequestBuilder(client, sqlRequest);
@@ -53,13 +54,22 @@ public class OpenSearchHashJoinQueryAction extends OpenSearchJoinQueryAction {
       if (hint.getType() == HintType.HASH_WITH_TERMS_FILTER) {
         ((HashJoinElasticRequestBuilder) requestBuilder).setUseTermFiltersOptimization(true);
       }
+      if (hint.getType() == HintType.HASH_JOIN_MEMORY_BUDGET) {
+        long megabytes = (Integer) hint.getParams()[0];
+        ((HashJoinElasticRequestBuilder) requestBuilder)
+            .setMemoryBudgetInBytes(megabytes * 1024 * 1024);
+      }
     }
   }
 
   /** Keep the option to run legacy hash join algorithm mainly for the comparison */
   private boolean isLegacy() {
+    return hasHint(HintType.JOIN_ALGORITHM_USE_LEGACY);
+  }
+
+  private boolean hasHint(HintType hintType) {
     for (Hint hint : joinSelect.getHints()) {
-      if (hint.getType() == HintType.JOIN_ALGORITHM_USE_LEGACY) {
+      if (hint.getType() == hintType) {
         return true;
       }
     }
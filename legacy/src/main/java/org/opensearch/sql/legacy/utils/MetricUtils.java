@@ -19,4 +19,12 @@ public class MetricUtils {
       LOG.error("Error while adding metric: {}", throwable.getMessage());
     }
   }
+
+  public static void incrementNumericalMetric(MetricName metricName, long n) {
+    try {
+      Metrics.getInstance().getNumericalMetric(metricName).increment(n);
+    } catch (Throwable throwable) {
+      LOG.error("Error while adding metric: {}", throwable.getMessage());
+    }
+  }
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.unittest.executor.join;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.sql.legacy.executor.join.SpillingHashJoinTable;
+import org.opensearch.sql.legacy.executor.join.SpillingHashJoinTable.Row;
+
+public class SpillingHashJoinTableTest {
+
+  @Rule public TemporaryFolder spillFolder = new TemporaryFolder();
+
+  @Test
+  public void matchInMemoryWithinBudget() throws IOException {
+    try (SpillingHashJoinTable table = newTable(Long.MAX_VALUE)) {
+      for (int docId = 1; docId <= 100; docId++) {
+        table.add(0, key(docId), row(docId));
+      }
+      table.add(0, key(1), row(101));
+
+      assertEquals(0, table.getSpilledPartitionCount());
+      assertEquals(List.of(1, 101), docIds(table.probe(0, key(1), row(-1))));
+      assertEquals(List.of(), docIds(table.probe(1, key(1), row(-1))));
+      assertEquals(List.of(), docIds(table.probe(0, key(1000), row(-1))));
+      assertTrue(table.joinSpilled((probeRow, matches) -> false));
+    }
+  }
+
+  @Test
+  public void joinSpilledPartitionsOverBudget() throws IOException {
+    Map<String, List<Integer>> joined = new TreeMap<>();
+    try (SpillingHashJoinTable table = newTable(4096)) {
+      for (int docId = 1; docId <= 1000; docId++) {
+        table.add(0, key(docId % 100), row(docId));
+      }
+      assertTrue(table.getSpilledPartitionCount() > 0);
+      assertTrue(table.getMemoryUsedBytes() <= 4096);
+
+      for (int i = 0; i < 100; i++) {
+        Row probeRow = row(-1, "probe" + i);
+        joined.computeIfAbsent(probeRow.id(), id -> new ArrayList<>());
+        joined.get(probeRow.id()).addAll(docIds(table.probe(0, key(i), probeRow)));
+      }
+      assertTrue(
+          table.joinSpilled(
+              (probeRow, matches) -> joined.get(probeRow.id()).addAll(docIds(matches))));
+    }
+
+    assertEquals(100, joined.size());
+    for (int i = 0; i < 100; i++) {
+      List<Integer> expected = new ArrayList<>();
+      for (int docId = i == 0 ? 100 : i; docId <= 1000; docId += 100) {
+        expected.add(docId);
+      }
+      assertEquals(expected, joined.get("probe" + i).stream().sorted().toList());
+    }
+  }
+
+  @Test
+  public void repartitionSpilledPartitionsOverBudget() throws IOException {
+    Map<String, List<Integer>> joined = new TreeMap<>();
+    try (SpillingHashJoinTable table = newTable(4096)) {
+      for (int docId = 1; docId <= 2000; docId++) {
+        table.add(0, key(docId % 500), row(docId));
+      }
+      for (int i = 0; i < 500; i++) {
+        Row probeRow = row(-1, "probe" + i);
+        joined.put(probeRow.id(), docIds(table.probe(0, key(i), probeRow)));
+      }
+      assertTrue(
+          table.joinSpilled(
+              (probeRow, matches) -> joined.get(probeRow.id()).addAll(docIds(matches))));
+    }
+
+    for (int i = 0; i < 500; i++) {
+      List<Integer> expected = new ArrayList<>();
+      for (int docId = i == 0 ? 500 : i; docId <= 2000; docId += 500) {
+        expected.add(docId);
+      }
+      assertEquals(expected, joined.get("probe" + i).stream().sorted().toList());
+    }
+  }
+
+  @Test
+  public void joinSpilledFailsIfOneKeyExceedsBudget() throws IOException {
+    try (SpillingHashJoinTable table = newTable(1024)) {
+      for (int docId = 1; docId <= 100; docId++) {
+        table.add(0, "key", row(docId));
+      }
+      table.probe(0, "key", row(-1));
+
+      IllegalStateException exception =
+          assertThrows(
+              IllegalStateException.class, () -> table.joinSpilled((probeRow, matches) -> true));
+      assertTrue(exception.getMessage().contains("HASH_JOIN_MEMORY_BUDGET"));
+    }
+  }
+
+  @Test
+  public void spilledRowsKeepTheirContent() throws IOException {
+    Row row =
+        new Row(
+            7,
+            "id7",
+            new BytesArray("{\"name\":\"x\"}"),
+            Map.of("_routing", new DocumentField("_routing", List.of("r1"))));
+    try (SpillingHashJoinTable table = newTable(0)) {
+      table.add(0, "key", row);
+      assertEquals(1, table.getSpilledPartitionCount());
+      assertEquals(0, table.getMemoryUsedBytes());
+      assertEquals(List.of(), table.probe(0, "key", new Row(-1, null, null, new HashMap<>())));
+
+      List<Row> matched = new ArrayList<>();
+      List<Row> probed = new ArrayList<>();
+      table.joinSpilled(
+          (probeRow, matches) -> {
+            probed.add(probeRow);
+            return matched.addAll(matches);
+          });
+      assertEquals(1, matched.size());
+      Row spilled = matched.get(0);
+      assertEquals(7, spilled.docId());
+      assertEquals("id7", spilled.id());
+      assertEquals(row.source().utf8ToString(), spilled.source().utf8ToString());
+      assertEquals(List.of("r1"), spilled.fields().get("_routing").getValues());
+      assertNull(probed.get(0).id());
+      assertNull(probed.get(0).source());
+    }
+  }
+
+  @Test
+  public void joinSpilledStopsWhenHandlerReturnsFalse() throws IOException {
+    try (SpillingHashJoinTable table = newTable(0)) {
+      for (int docId = 1; docId <= 10; docId++) {
+        table.add(0, key(docId), row(docId));
+      }
+      for (int docId = 1; docId <= 10; docId++) {
+        table.probe(0, key(docId), row(-1));
+      }
+      List<Row> matched = new ArrayList<>();
+      assertFalse(table.joinSpilled((probeRow, matches) -> !matched.addAll(matches)));
+      assertEquals(1, matched.size());
+    }
+  }
+
+  @Test
+  public void forEachRowVisitsRowsInMemoryAndSpilled() throws IOException {
+    try (SpillingHashJoinTable table = newTable(2048)) {
+      for (int docId = 1; docId <= 100; docId++) {
+        table.add(0, key(docId), row(docId));
+        table.add(1, key(docId), row(docId));
+      }
+      assertTrue(table.getSpilledPartitionCount() > 0);
+
+      List<Integer> visited = new ArrayList<>();
+      table.forEachRow(
+          0,
+          row -> {
+            visited.add(row.docId());
+            return true;
+          });
+      assertEquals(100, visited.size());
+      assertEquals(100, visited.stream().distinct().count());
+
+      visited.clear();
+      table.forEachRow(1, row -> visited.add(row.docId()) && visited.size() < 10);
+      assertEquals(10, visited.size());
+    }
+  }
+
+  @Test
+  public void closeDeletesSpillFiles() throws IOException {
+    SpillingHashJoinTable table = newTable(0);
+    table.add(0, "key", row(1));
+    table.probe(0, "key", row(-1));
+    try (var files = Files.list(spillFolder.getRoot().toPath())) {
+      assertEquals(1, files.count());
+    }
+    table.close();
+    try (var files = Files.list(spillFolder.getRoot().toPath())) {
+      assertEquals(0, files.count());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void partitionCountMustBePowerOfTwo() {
+    new SpillingHashJoinTable(0, 3, spillFolder.getRoot().toPath());
+  }
+
+  private SpillingHashJoinTable newTable(long memoryBudgetBytes) {
+    return new SpillingHashJoinTable(memoryBudgetBytes, 32, spillFolder.getRoot().toPath());
+  }
+
+  private static String key(int value) {
+    return "|" + value + "|";
+  }
+
+  private static Row row(int docId) {
+    return row(docId, "id" + docId);
+  }
+
+  private static Row row(int docId, String id) {
+    return new Row(docId, id, new BytesArray("{\"id\":" + docId + "}"), new HashMap<>());
+  }
+
+  private static List<Integer> docIds(List<Row> rows) {
+    return rows.stream().map(Row::docId).collect(Collectors.toList());
+  }
+}
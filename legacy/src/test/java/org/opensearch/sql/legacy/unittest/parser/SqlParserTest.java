@@ -481,6 +481,40 @@ public class SqlParserTest {
     Assert.assertEquals(HintType.JOIN_LIMIT, thirdHint.getType());
   }
 
+  @Test
+  public void hashJoinMemoryBudgetHint() throws SqlParseException {
+    String query =
+        String.format(
+            Locale.ROOT,
+            "select /*! HASH_JOIN_MEMORY_BUDGET(64) */ "
+                + "c.name.firstname, h.name from %s/gotCharacters c "
+                + "JOIN %s/gotCharacters h "
+                + "on c.name.lastname = h.name",
+            TEST_INDEX_GAME_OF_THRONES,
+            TEST_INDEX_GAME_OF_THRONES);
+    JoinSelect joinSelect = parser.parseJoinSelect((SQLQueryExpr) queryToExpr(query));
+    List<Hint> hints = joinSelect.getHints();
+    Assert.assertEquals(1, hints.size());
+    Assert.assertEquals(HintType.HASH_JOIN_MEMORY_BUDGET, hints.get(0).getType());
+    Assert.assertEquals(64, hints.get(0).getParams()[0]);
+  }
+
+  @Test
+  public void hashJoinMemoryBudgetHintWithoutBudget() throws SqlParseException {
+    thrown.expect(SqlParseException.class);
+    thrown.expectMessage("HASH_JOIN_MEMORY_BUDGET hint expects a positive number of megabytes");
+    String query =
+        String.format(
+            Locale.ROOT,
+            "select /*! HASH_JOIN_MEMORY_BUDGET(0) */ "
+                + "c.name.firstname, h.name from %s/gotCharacters c "
+                + "JOIN %s/gotCharacters h "
+                + "on c.name.lastname = h.name",
+            TEST_INDEX_GAME_OF_THRONES,
+            TEST_INDEX_GAME_OF_THRONES);
+    parser.parseJoinSelect((SQLQueryExpr) queryToExpr(query));
+  }
+
   @Test
   public void searchWithOdbcTimeFormatParse() throws SqlParseException {
     String query =
@@ -7,6 +7,7 @@ package org.opensearch.sql.opensearch.client;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.opensearch.action.search.CreatePitRequest;
 import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
@@ -62,6 +63,17 @@ public interface OpenSearchClient {
    */
   OpenSearchResponse search(OpenSearchRequest request);
 
+  /**
+   * Perform search query in the search request in the background. The default implementation
+   * searches synchronously on the calling thread and returns a completed future.
+   *
+   * @param request search request
+   * @return future of the search response
+   */
+  default CompletableFuture<OpenSearchResponse> searchAsync(OpenSearchRequest request) {
+    return CompletableFuture.completedFuture(search(request));
+  }
+
   /**
    * Get the combination of the indices and the alias.
    *
@@ -11,7 +11,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -23,12 +25,16 @@ import org.opensearch.action.admin.indices.get.GetIndexResponse;
 import org.opensearch.action.admin.indices.mapping.get.GetMappingsResponse;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
 import org.opensearch.action.search.*;
+import org.opensearch.action.support.ContextPreservingActionListener;
 import org.opensearch.cluster.metadata.AliasMetadata;
 import org.opensearch.common.action.ActionFuture;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
@@ -43,9 +49,18 @@ public class OpenSearchNodeClient implements OpenSearchClient {
   /** Node client provided by OpenSearch container. */
   private final NodeClient client;
 
+  /** Node level cache of the parsed index mappings. */
+  private final IndexMappingCache indexMappingCache;
+
   /** Constructor of OpenSearchNodeClient. */
   public OpenSearchNodeClient(NodeClient client) {
+    this(client, IndexMappingCache.NONE);
+  }
+
+  /** Constructor of OpenSearchNodeClient which reuses the index mappings parsed by the node. */
+  public OpenSearchNodeClient(NodeClient client, IndexMappingCache indexMappingCache) {
     this.client = client;
+    this.indexMappingCache = indexMappingCache;
   }
 
   @Override
@@ -74,8 +89,8 @@ public class OpenSearchNodeClient implements OpenSearchClient {
    * Get field mappings of index by an index expression. Majority is copied from legacy
    * LocalClusterState.
    *
-   * <p>For simplicity, removed type (deprecated) and field filter in argument list. Also removed
-   * mapping cache, cluster state listener (mainly for performance and debugging).
+   * <p>For simplicity, removed type (deprecated) and field filter in argument list. The parsed
+   * mappings are shared through the node level {@link IndexMappingCache}.
    *
    * @param indexExpression index name expression
    * @return index mapping(s) in our class to isolate OpenSearch API. IndexNotFoundException is
@@ -89,7 +104,13 @@ public class OpenSearchNodeClient implements OpenSearchClient {
       return mappingsResponse.mappings().entrySet().stream()
           .collect(
               Collectors.toUnmodifiableMap(
-                  Map.Entry::getKey, cursor -> new IndexMapping(cursor.getValue())));
+                  Map.Entry::getKey,
+                  cursor ->
+                      indexMappingCache.get(
+                          cursor.getKey(),
+                          cursor.getValue(),
+                          IndexMapping.class,
+                          IndexMapping::new)));
     } catch (IndexNotFoundException e) {
       // Re-throw directly to be treated as client error finally
       throw e;
@@ -134,6 +155,32 @@ public class OpenSearchNodeClient implements OpenSearchClient {
         req -> client.search(req).actionGet(), req -> client.searchScroll(req).actionGet());
   }
 
+  /**
+   * Start the search without waiting for its response. The response completes the future on the
+   * thread which receives it, in the thread context of the caller, so no thread is held while the
+   * search runs on the shards.
+   */
+  @Override
+  public CompletableFuture<OpenSearchResponse> searchAsync(OpenSearchRequest request) {
+    return request.searchAsync(
+        req -> listen(listener -> client.search(req, listener)),
+        req -> listen(listener -> client.searchScroll(req, listener)));
+  }
+
+  private <T> CompletableFuture<T> listen(Consumer<ActionListener<T>> action) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    try {
+      ThreadContext threadContext = client.threadPool().getThreadContext();
+      action.accept(
+          new ContextPreservingActionListener<>(
+              threadContext.newRestorableContext(false),
+              ActionListener.wrap(future::complete, future::completeExceptionally)));
+    } catch (Exception e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
   /**
    * Get the combination of the indices and the alias.
    *
@@ -20,10 +20,13 @@ import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 import static org.opensearch.sql.utils.DateTimeFormatters.STRICT_HOUR_MINUTE_SECOND_FORMATTER;
 import static org.opensearch.sql.utils.DateTimeFormatters.STRICT_YEAR_MONTH_DAY_FORMATTER;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -38,10 +41,12 @@ import java.util.Optional;
 import java.util.function.BiFunction;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.common.time.DateFormatter;
 import org.opensearch.common.time.DateFormatters;
 import org.opensearch.common.time.FormatNames;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.index.mapper.DateFieldMapper;
 import org.opensearch.sql.data.model.ExprBooleanValue;
 import org.opensearch.sql.data.model.ExprByteValue;
@@ -172,6 +177,58 @@ public class OpenSearchExprValueFactory {
     }
   }
 
+  /**
+   * Construct ExprValue from the raw JSON source bytes of a search hit. Different from {@link
+   * #construct(String, boolean)}, the bytes are tokenized directly without being decoded into a
+   * String first, and the top level fields not required by includes are skipped at token level
+   * without building their JSON tree.
+   *
+   * @param source JSON source bytes
+   * @param includes required fields, all the fields are constructed if empty
+   * @param supportArrays Parsing the whole array if array is type nested.
+   * @return ExprValue
+   */
+  public ExprValue construct(BytesReference source, List<String> includes, boolean supportArrays) {
+    BytesRef bytes = source.toBytesRef();
+    try (JsonParser parser =
+        OBJECT_MAPPER.getFactory().createParser(bytes.bytes, bytes.offset, bytes.length)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IllegalStateException("invalid json source, expect an object.");
+      }
+      boolean filter = !includes.isEmpty() && includes.stream().noneMatch(i -> i.contains("*"));
+      ObjectNode root = OBJECT_MAPPER.createObjectNode();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        parser.nextToken();
+        if (!filter || isIncluded(field, includes)) {
+          root.set(field, OBJECT_MAPPER.readTree(parser));
+        } else {
+          parser.skipChildren();
+        }
+      }
+      return parse(
+          new OpenSearchJsonContent(root),
+          TOP_PATH,
+          Optional.of(STRUCT),
+          fieldTypeTolerance || supportArrays);
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          String.format("invalid json: %s.", source.utf8ToString()), e);
+    }
+  }
+
+  /** A top level source field is required if it is, or is a parent or child of, any include. */
+  private static boolean isIncluded(String field, List<String> includes) {
+    for (String include : includes) {
+      if (include.equals(field)
+          || include.startsWith(field + ".")
+          || field.startsWith(include + ".")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Construct ExprValue from field and its value object. Throw exception if trying to construct
    * from field of unsupported type.<br>
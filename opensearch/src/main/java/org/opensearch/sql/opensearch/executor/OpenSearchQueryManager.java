@@ -9,33 +9,133 @@
 package org.opensearch.sql.opensearch.executor;
 
 import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.ThreadContext;
-import org.opensearch.common.unit.TimeValue;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.executor.QueryId;
 import org.opensearch.sql.executor.QueryManager;
 import org.opensearch.sql.executor.execution.AbstractPlan;
+import org.opensearch.sql.executor.execution.QueryPlan;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.node.NodeClient;
 
-/** QueryManager implemented in OpenSearch cluster. */
+/**
+ * QueryManager implemented in OpenSearch cluster. Queries run on the {@link
+ * #SQL_WORKER_THREAD_POOL_NAME} pool once admitted by the {@link QueryAdmissionController}, while
+ * explains, cursor fetches and commands, which are short, run on the {@link
+ * #SQL_INTERACTIVE_THREAD_POOL_NAME} pool so that they are not queued behind heavy queries.
+ *
+ * <p>If {@link Settings.Key#QUERY_EXECUTOR_VIRTUAL_THREADS} is positive, up to that many queries
+ * run on virtual threads instead. A virtual thread waiting for a search response releases its
+ * carrier thread, so the number of queries waiting on the cluster is not bound to the size of the
+ * worker pool. The queries beyond the limit still go to the worker pool.
+ */
 @RequiredArgsConstructor
 public class OpenSearchQueryManager implements QueryManager {
 
+  public static final String SQL_WORKER_THREAD_POOL_NAME = "sql-worker";
+
+  public static final String SQL_INTERACTIVE_THREAD_POOL_NAME = "sql-interactive-worker";
+
+  /** Factory of the virtual threads running queries, named after the worker pool. */
+  private static final ThreadFactory VIRTUAL_THREADS =
+      Thread.ofVirtual().name(SQL_WORKER_THREAD_POOL_NAME + "-virtual-", 0).factory();
+
+  /** Thread context transient in which the security plugin puts the authenticated user. */
+  private static final String USER_INFO_TRANSIENT = "_opendistro_security_user_info";
+
   private final NodeClient nodeClient;
 
-  private static final String SQL_WORKER_THREAD_POOL_NAME = "sql-worker";
+  private final QueryAdmissionController admissionController;
+
+  private final Settings settings;
+
+  /** Number of queries running on virtual threads. */
+  private final AtomicInteger virtualQueries = new AtomicInteger();
 
   @Override
   public QueryId submit(AbstractPlan queryPlan) {
-    schedule(nodeClient, () -> queryPlan.execute());
+    if (queryPlan instanceof QueryPlan query && !query.isCursorFetch()) {
+      Releasable admission = admissionController.admit(currentUser(), query.getTableNames());
+      if (!startVirtual(queryPlan::execute, admission)) {
+        schedule(SQL_WORKER_THREAD_POOL_NAME, queryPlan::execute, admission);
+      }
+    } else {
+      schedule(SQL_INTERACTIVE_THREAD_POOL_NAME, queryPlan::execute, () -> {});
+    }
 
     return queryPlan.getQueryId();
   }
 
-  private void schedule(NodeClient client, Runnable task) {
-    ThreadPool threadPool = client.threadPool();
-    threadPool.schedule(withCurrentContext(task), new TimeValue(0), SQL_WORKER_THREAD_POOL_NAME);
+  private void schedule(String threadPoolName, Runnable task, Releasable admission) {
+    ThreadPool threadPool = nodeClient.threadPool();
+    try {
+      threadPool.executor(threadPoolName).execute(track(task, admission));
+    } catch (OpenSearchRejectedExecutionException e) {
+      admission.close();
+      QueryQueueStats.recordRejection();
+      throw new OpenSearchStatusException(
+          "The queue of " + threadPoolName + " thread pool is full. Please retry later.",
+          RestStatus.TOO_MANY_REQUESTS,
+          e);
+    }
+  }
+
+  /**
+   * Start the query on a virtual thread, unless virtual threads are disabled or already run as many
+   * queries as allowed.
+   *
+   * @return true if the query is started
+   */
+  private boolean startVirtual(Runnable task, Releasable admission) {
+    Integer limit = settings.getSettingValue(Settings.Key.QUERY_EXECUTOR_VIRTUAL_THREADS);
+    if (limit == null || limit <= 0) {
+      return false;
+    }
+    if (virtualQueries.incrementAndGet() > limit) {
+      virtualQueries.decrementAndGet();
+      return false;
+    }
+    Releasable release =
+        () -> {
+          virtualQueries.decrementAndGet();
+          admission.close();
+        };
+    // Unlike the thread pools, a virtual thread doesn't inherit the thread context of the caller
+    Runnable query =
+        nodeClient.threadPool().getThreadContext().preserveContext(track(task, release));
+    VIRTUAL_THREADS.newThread(query).start();
+    return true;
+  }
+
+  /** Run the task in the current logging context, record its wait and release its admission. */
+  private Runnable track(Runnable task, Releasable admission) {
+    long queuedNanos = System.nanoTime();
+    return withCurrentContext(
+        () -> {
+          QueryQueueStats.recordStart(System.nanoTime() - queuedNanos);
+          try {
+            task.run();
+          } finally {
+            admission.close();
+          }
+        });
+  }
+
+  private String currentUser() {
+    String userInfo = nodeClient.threadPool().getThreadContext().getTransient(USER_INFO_TRANSIENT);
+    if (userInfo == null) {
+      return null;
+    }
+    // user info is formatted as name|backend roles|roles|tenant
+    int end = userInfo.indexOf('|');
+    return end < 0 ? userInfo : userInfo.substring(0, end);
   }
 
   private Runnable withCurrentContext(final Runnable task) {
@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.sql.common.setting.Settings;
+
+/**
+ * Admission control of the queries running on a node. A query is rejected up front if its user,
+ * or one of the indices it reads, already has as many running queries as allowed. This way a burst
+ * of heavy queries from one user or against one index cannot occupy all the workers, and the
+ * client is told to back off instead of waiting in the queue.
+ */
+@RequiredArgsConstructor
+public class QueryAdmissionController {
+
+  private static final String USER_KEY_PREFIX = "user:";
+
+  private static final String INDEX_KEY_PREFIX = "index:";
+
+  private final Settings settings;
+
+  /** Number of running queries by user or index key. */
+  private final Map<String, Integer> running = new HashMap<>();
+
+  /**
+   * Admit a query, which must be released once the query completes.
+   *
+   * @param user user name, null if unknown
+   * @param indices indices read by the query
+   * @return releasable giving back the admission
+   * @throws OpenSearchStatusException with status 429 if a limit is reached
+   */
+  public Releasable admit(String user, Collection<String> indices) {
+    int userLimit = limit(Settings.Key.QUERY_ADMISSION_MAX_CONCURRENT_PER_USER);
+    int indexLimit = limit(Settings.Key.QUERY_ADMISSION_MAX_CONCURRENT_PER_INDEX);
+    List<String> keys = new ArrayList<>();
+    if (userLimit > 0 && user != null) {
+      keys.add(USER_KEY_PREFIX + user);
+    }
+    if (indexLimit > 0) {
+      indices.forEach(index -> keys.add(INDEX_KEY_PREFIX + index));
+    }
+    if (keys.isEmpty()) {
+      return () -> {};
+    }
+
+    synchronized (this) {
+      for (String key : keys) {
+        int limit = key.startsWith(USER_KEY_PREFIX) ? userLimit : indexLimit;
+        if (running.getOrDefault(key, 0) >= limit) {
+          QueryQueueStats.recordRejection();
+          throw new OpenSearchStatusException(
+              String.format(
+                  "Too many concurrent queries for %s, at most %d are allowed. Please retry later.",
+                  key.replace(":", " "), limit),
+              RestStatus.TOO_MANY_REQUESTS);
+        }
+      }
+      keys.forEach(key -> running.merge(key, 1, Integer::sum));
+    }
+
+    AtomicBoolean released = new AtomicBoolean(false);
+    return () -> {
+      if (released.compareAndSet(false, true)) {
+        release(keys);
+      }
+    };
+  }
+
+  /**
+   * Number of queries running for the given user or index key.
+   *
+   * @param key key prefixed by <code>user:</code> or <code>index:</code>
+   * @return running queries
+   */
+  synchronized int running(String key) {
+    return running.getOrDefault(key, 0);
+  }
+
+  private synchronized void release(List<String> keys) {
+    keys.forEach(key -> running.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null));
+  }
+
+  private int limit(Settings.Key key) {
+    Integer limit = settings.getSettingValue(key);
+    return limit == null ? 0 : limit;
+  }
+}
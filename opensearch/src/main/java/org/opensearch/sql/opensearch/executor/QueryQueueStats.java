@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Node level statistics of the time the queries wait in the queue of the worker thread pools
+ * before they start, and of the queries rejected by admission control or a full queue. They are
+ * reported in the plugin stats.
+ */
+@UtilityClass
+public class QueryQueueStats {
+
+  private static final LongAdder started = new LongAdder();
+
+  private static final LongAdder queueTimeMillis = new LongAdder();
+
+  private static final AtomicLong maxQueueTimeMillis = new AtomicLong();
+
+  private static final LongAdder rejected = new LongAdder();
+
+  /**
+   * Record a query that starts after waiting in the queue.
+   *
+   * @param queueTimeNanos time waited in nanoseconds
+   */
+  public static void recordStart(long queueTimeNanos) {
+    long millis = TimeUnit.NANOSECONDS.toMillis(queueTimeNanos);
+    started.increment();
+    queueTimeMillis.add(millis);
+    maxQueueTimeMillis.accumulateAndGet(millis, Math::max);
+  }
+
+  /** Record a query rejected before it is queued. */
+  public static void recordRejection() {
+    rejected.increment();
+  }
+
+  /** Number of queries started since the node started. */
+  public static long startedCount() {
+    return started.sum();
+  }
+
+  /** Total time in milliseconds the started queries waited in the queue. */
+  public static long queueTimeMillis() {
+    return queueTimeMillis.sum();
+  }
+
+  /** Longest time in milliseconds a query waited in the queue. */
+  public static long maxQueueTimeMillis() {
+    return maxQueueTimeMillis.get();
+  }
+
+  /** Number of queries rejected since the node started. */
+  public static long rejectedCount() {
+    return rejected.sum();
+  }
+}
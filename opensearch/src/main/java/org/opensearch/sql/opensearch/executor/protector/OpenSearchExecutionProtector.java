@@ -6,7 +6,11 @@
 package org.opensearch.sql.opensearch.executor.protector;
 
 import lombok.RequiredArgsConstructor;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.monitor.QueryMemoryTracker;
 import org.opensearch.sql.monitor.ResourceMonitor;
+import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryBreaker;
 import org.opensearch.sql.opensearch.planner.physical.ADOperator;
 import org.opensearch.sql.opensearch.planner.physical.MLCommonsOperator;
 import org.opensearch.sql.opensearch.planner.physical.MLOperator;
@@ -37,8 +41,28 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   /** OpenSearch resource monitor. */
   private final ResourceMonitor resourceMonitor;
 
+  /** Settings, used to resolve memory budget of operators. Null if not provided. */
+  private final Settings settings;
+
+  /**
+   * Circuit breaker the buffering operators of each query reserve memory from. Memory is not
+   * accounted if not provided.
+   */
+  private final OpenSearchMemoryBreaker memoryBreaker;
+
+  public OpenSearchExecutionProtector(ResourceMonitor resourceMonitor) {
+    this(resourceMonitor, null);
+  }
+
+  public OpenSearchExecutionProtector(ResourceMonitor resourceMonitor, Settings settings) {
+    this(resourceMonitor, settings, null);
+  }
+
+  /** The memory tracker of the query is passed down to the operators as visitor context. */
   public PhysicalPlan protect(PhysicalPlan physicalPlan) {
-    return physicalPlan.accept(this, null);
+    QueryMemoryTracker memoryTracker =
+        memoryBreaker == null ? QueryMemoryTracker.NOOP : memoryBreaker.newTracker();
+    return physicalPlan.accept(this, memoryTracker);
   }
 
   /**
@@ -58,7 +82,12 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   @Override
   public PhysicalPlan visitAggregation(AggregationOperator node, Object context) {
     return new AggregationOperator(
-        visitInput(node.getInput(), context), node.getAggregatorList(), node.getGroupByExprList());
+        visitInput(node.getInput(), context),
+        node.getAggregatorList(),
+        node.getGroupByExprList(),
+        node.getStrategy(),
+        memoryTracker(context),
+        batchExecutionEnabled());
   }
 
   @Override
@@ -68,7 +97,8 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
         node.getCommandType(),
         node.getNoOfResults(),
         node.getFieldExprList(),
-        node.getGroupByExprList());
+        node.getGroupByExprList(),
+        memoryTracker(context));
   }
 
   @Override
@@ -123,7 +153,8 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
         node.getDedupeList(),
         node.getAllowedDuplication(),
         node.getKeepEmpty(),
-        node.getConsecutive());
+        node.getConsecutive(),
+        memoryTracker(context));
   }
 
   @Override
@@ -131,13 +162,19 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
     return new WindowOperator(
         doProtect(visitInput(node.getInput(), context)),
         node.getWindowFunction(),
-        node.getWindowDefinition());
+        node.getWindowDefinition(),
+        memoryTracker(context));
   }
 
   /** Decorate with {@link ResourceMonitorPlan}. */
   @Override
   public PhysicalPlan visitSort(SortOperator node, Object context) {
-    return doProtect(new SortOperator(visitInput(node.getInput(), context), node.getSortList()));
+    return doProtect(
+        new SortOperator(
+            visitInput(node.getInput(), context),
+            node.getSortList(),
+            sortMemoryLimit(),
+            memoryTracker(context)));
   }
 
   /** Decorate with {@link ResourceMonitorPlan}. */
@@ -220,4 +257,26 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   private boolean isProtected(PhysicalPlan node) {
     return (node instanceof ResourceMonitorPlan);
   }
+
+  private QueryMemoryTracker memoryTracker(Object context) {
+    return context instanceof QueryMemoryTracker tracker ? tracker : QueryMemoryTracker.NOOP;
+  }
+
+  /** Whether {@link AggregationOperator} drains vectorized inputs batch by batch. */
+  private boolean batchExecutionEnabled() {
+    if (settings == null) {
+      return false;
+    }
+    Boolean enabled = settings.getSettingValue(Settings.Key.QUERY_BATCH_EXECUTION_ENABLED);
+    return Boolean.TRUE.equals(enabled);
+  }
+
+  /** Memory budget of {@link SortOperator} in bytes, sort in memory only if not configured. */
+  private long sortMemoryLimit() {
+    if (settings == null) {
+      return 0L;
+    }
+    ByteSizeValue limit = settings.getSettingValue(Settings.Key.QUERY_SORT_MEMORY_LIMIT);
+    return limit == null ? 0L : limit.getBytes();
+  }
 }
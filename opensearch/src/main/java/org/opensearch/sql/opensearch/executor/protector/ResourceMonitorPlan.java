@@ -17,6 +17,7 @@ import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.planner.SerializablePlan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.batch.Batch;
 
 /** A PhysicalPlan which will run the delegate plan in resource protection manner. */
 @ToString
@@ -73,6 +74,20 @@ public class ResourceMonitorPlan extends PhysicalPlan implements SerializablePla
     return delegate.next();
   }
 
+  /** The resources are checked once per batch, a batch is about as many rows as a check. */
+  @Override
+  public Batch nextBatch(int maxSize) {
+    if (!this.monitor.isHealthy()) {
+      throw new IllegalStateException("insufficient resources to load next batch, quit.");
+    }
+    return delegate.nextBatch(maxSize);
+  }
+
+  @Override
+  public boolean isVectorized() {
+    return delegate.isVectorized();
+  }
+
   @Override
   public SerializablePlan getPlanForSerialization() {
     return (SerializablePlan) delegate;
@@ -0,0 +1,134 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.mapping;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.service.ClusterService;
+
+/**
+ * Node level cache of parsed index mappings, e.g. {@link IndexMapping}, shared by the queries. An
+ * entry is keyed by the index UUID and mapping version, so a re-created index or an updated mapping
+ * never hits a stale entry. The entries of the deleted indices and of the outdated mappings are
+ * evicted when the cluster metadata changes.
+ *
+ * <p>The mappings are still read by the get-mappings action, which resolves the index expression
+ * and checks the index permissions of the caller. A mapping is cached only if it is the mapping of
+ * the index in the local cluster state, so a mapping filtered for the caller is never shared.
+ */
+public class IndexMappingCache implements ClusterStateListener {
+
+  /** Cache which parses every mapping, for the clients without cluster service. */
+  public static final IndexMappingCache NONE = new IndexMappingCache(null);
+
+  /** Cluster service of the node, null if nothing is cached. */
+  private final ClusterService clusterService;
+
+  private final Map<Key, Object> cache = new ConcurrentHashMap<>();
+
+  private final LongAdder hits = new LongAdder();
+
+  private final LongAdder misses = new LongAdder();
+
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Constructor. The cache must be registered as cluster state listener to evict the outdated
+   * mappings.
+   *
+   * @param clusterService cluster service of the node
+   */
+  public IndexMappingCache(ClusterService clusterService) {
+    this.clusterService = clusterService;
+  }
+
+  /**
+   * Get the parsed mapping of an index, parse and cache it if absent.
+   *
+   * @param indexName concrete index name
+   * @param mapping mapping of the index returned by the get-mappings action
+   * @param type type of the parsed mapping, different types of the same mapping are cached apart
+   * @param parser function to parse the mapping
+   * @return parsed mapping
+   */
+  public <T> T get(
+      String indexName,
+      MappingMetadata mapping,
+      Class<T> type,
+      Function<MappingMetadata, T> parser) {
+    IndexMetadata indexMetadata =
+        clusterService == null ? null : clusterService.state().metadata().index(indexName);
+    if (indexMetadata == null || !mapping.equals(indexMetadata.mapping())) {
+      misses.increment();
+      return parser.apply(mapping);
+    }
+
+    Key key =
+        new Key(indexName, indexMetadata.getIndexUUID(), indexMetadata.getMappingVersion(), type);
+    Object parsed = cache.get(key);
+    if (parsed != null) {
+      hits.increment();
+      return type.cast(parsed);
+    }
+    misses.increment();
+    return type.cast(cache.computeIfAbsent(key, k -> parser.apply(mapping)));
+  }
+
+  @Override
+  public void clusterChanged(ClusterChangedEvent event) {
+    if (!event.metadataChanged() || cache.isEmpty()) {
+      return;
+    }
+    Metadata metadata = event.state().metadata();
+    cache
+        .keySet()
+        .removeIf(
+            key -> {
+              if (key.isCurrent(metadata.index(key.indexName()))) {
+                return false;
+              }
+              evictions.increment();
+              return true;
+            });
+  }
+
+  /** Number of mappings found in the cache. */
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  /** Number of mappings parsed because they were not found in the cache. */
+  public long missCount() {
+    return misses.sum();
+  }
+
+  /** Number of mappings evicted because their index was deleted or its mapping changed. */
+  public long evictionCount() {
+    return evictions.sum();
+  }
+
+  /** Number of parsed mappings in the cache. */
+  public int size() {
+    return cache.size();
+  }
+
+  private record Key(String indexName, String indexUuid, long mappingVersion, Class<?> type) {
+
+    /** Whether the key is the current mapping of the index, false if it was deleted. */
+    boolean isCurrent(IndexMetadata indexMetadata) {
+      return indexMetadata != null
+          && indexUuid.equals(indexMetadata.getIndexUUID())
+          && mappingVersion == indexMetadata.getMappingVersion();
+    }
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.monitor;
+
+import lombok.RequiredArgsConstructor;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.monitor.QueryMemoryTracker;
+
+/**
+ * The circuit breaker registered by the plugin, which accounts the memory buffered by the
+ * operators of all the queries running on the node.
+ */
+@RequiredArgsConstructor
+public class OpenSearchMemoryBreaker {
+
+  /** Name of the circuit breaker. */
+  public static final String NAME = "sql_query";
+
+  /** Circuit breaker, null if it was not registered, e.g. in standalone mode. */
+  private final CircuitBreaker breaker;
+
+  private final Settings settings;
+
+  /**
+   * Create the memory tracker of a new query.
+   *
+   * @return {@link QueryMemoryTracker#NOOP} if the circuit breaker is not registered
+   */
+  public QueryMemoryTracker newTracker() {
+    if (breaker == null) {
+      return QueryMemoryTracker.NOOP;
+    }
+    ByteSizeValue limit =
+        settings.getSettingValue(Settings.Key.QUERY_MEMORY_BREAKER_PER_QUERY_LIMIT);
+    return new OpenSearchMemoryTracker(breaker, limit == null ? 0L : limit.getBytes());
+  }
+}
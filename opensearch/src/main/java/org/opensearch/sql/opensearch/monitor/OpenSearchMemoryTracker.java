@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.monitor;
+
+import lombok.RequiredArgsConstructor;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
+import org.opensearch.sql.monitor.QueryMemoryTracker;
+
+/**
+ * {@link QueryMemoryTracker} of one query that charges the reservations to the circuit breaker of
+ * the plugin. The query fails if it reserves more than its own limit, or if the breaker, or its
+ * parent breaker, would trip.
+ */
+@RequiredArgsConstructor
+public class OpenSearchMemoryTracker implements QueryMemoryTracker {
+
+  /** Label of the reservations in the circuit breaker messages. */
+  private static final String LABEL = "<sql_query_rows>";
+
+  private final CircuitBreaker breaker;
+
+  /** Max bytes the query can reserve, no per query limit if not positive. */
+  private final long limitBytes;
+
+  private long reservedBytes = 0L;
+
+  @Override
+  public void reserve(long bytes) {
+    long newReservedBytes = reservedBytes + bytes;
+    if (limitBytes > 0 && newReservedBytes > limitBytes) {
+      throw new CircuitBreakingException(
+          String.format(
+              "[%s] Data too large, query would use [%d] bytes, which is larger than the per query"
+                  + " limit of [%d] bytes",
+              breaker.getName(), newReservedBytes, limitBytes),
+          newReservedBytes,
+          limitBytes,
+          breaker.getDurability());
+    }
+    breaker.addEstimateBytesAndMaybeBreak(bytes, LABEL);
+    reservedBytes = newReservedBytes;
+  }
+
+  @Override
+  public void release(long bytes) {
+    breaker.addWithoutBreaking(-bytes);
+    reservedBytes -= bytes;
+  }
+
+  @Override
+  public long reservedBytes() {
+    return reservedBytes;
+  }
+}
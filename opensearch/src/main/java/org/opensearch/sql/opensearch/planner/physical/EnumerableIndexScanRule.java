@@ -43,6 +43,7 @@ public class EnumerableIndexScanRule extends ConverterRule {
     final CalciteLogicalIndexScan scan = (CalciteLogicalIndexScan) rel;
     return new CalciteEnumerableIndexScan(
         scan.getCluster(),
+        scan.getTraitSet(),
         scan.getHints(),
         scan.getTable(),
         scan.getOsIndex(),
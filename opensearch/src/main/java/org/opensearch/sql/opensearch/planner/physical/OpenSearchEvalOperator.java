@@ -21,6 +21,7 @@ import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.expression.function.OpenSearchFunctions;
 import org.opensearch.sql.planner.physical.EvalOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.batch.Batch;
 import org.opensearch.transport.client.node.NodeClient;
 
 /**
@@ -39,6 +40,17 @@ public class OpenSearchEvalOperator extends EvalOperator {
     this.nodeClient = nodeClient;
   }
 
+  /** The OpenSearch functions are evaluated row at a time, so are the batches. */
+  @Override
+  public Batch nextBatch(int maxSize) {
+    return Batch.collect(this, maxSize);
+  }
+
+  @Override
+  public boolean isVectorized() {
+    return false;
+  }
+
   /**
    * Evaluate the expression in the {@link EvalOperator} with {@link Environment}.
    *
@@ -25,6 +25,10 @@ public interface OpenSearchIndexScanRule {
     return scan.getPushDownContext().isLimitPushed();
   }
 
+  static boolean isSortPushed(CalciteLogicalIndexScan scan) {
+    return scan.getPushDownContext().isSortPushed();
+  }
+
   /**
    * The LogicalSort is a LIMIT that should be pushed down when its fetch field is not null and its
    * collation is empty. For example: <code>sort name | head 5</code> should not be pushed down
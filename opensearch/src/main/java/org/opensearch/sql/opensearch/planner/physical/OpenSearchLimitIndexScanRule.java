@@ -40,7 +40,7 @@ public class OpenSearchLimitIndexScanRule extends RelRule<OpenSearchLimitIndexSc
     }
   }
 
-  private static Integer extractLimitValue(RexNode fetch) {
+  static Integer extractLimitValue(RexNode fetch) {
     // fetch is always a integer literal (specified in our PPL/SQL syntax)
     if (fetch instanceof RexLiteral) {
       return ((RexLiteral) fetch).getValueAs(Integer.class);
@@ -61,7 +61,7 @@ public class OpenSearchLimitIndexScanRule extends RelRule<OpenSearchLimitIndexSc
    * @param offset The <code>RexNode</code> representing the offset.
    * @return The extracted offset value, or <code>null</code> if it cannot be determined.
    */
-  private static Integer extractOffsetValue(RexNode offset) {
+  static Integer extractOffsetValue(RexNode offset) {
     if (Objects.isNull(offset)) {
       return 0;
     }
@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.planner.physical;
+
+import java.util.function.Predicate;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.logical.LogicalSort;
+import org.immutables.value.Value;
+import org.opensearch.sql.opensearch.storage.scan.CalciteLogicalIndexScan;
+
+/**
+ * Planner rule that push a {@link LogicalSort} with field collations down to {@link
+ * CalciteLogicalIndexScan}. If the sort has a fetch as well, for example <code>
+ * sort age | head 10</code>, the limit is pushed down together so that each shard only returns the
+ * top N documents.
+ */
+@Value.Enclosing
+public class OpenSearchSortIndexScanRule extends RelRule<OpenSearchSortIndexScanRule.Config> {
+
+  protected OpenSearchSortIndexScanRule(Config config) {
+    super(config);
+  }
+
+  @Override
+  public void onMatch(RelOptRuleCall call) {
+    final LogicalSort sort = call.rel(0);
+    final CalciteLogicalIndexScan scan = call.rel(1);
+
+    Integer limitValue = null;
+    Integer offsetValue = null;
+    if (sort.fetch != null) {
+      limitValue = OpenSearchLimitIndexScanRule.extractLimitValue(sort.fetch);
+      offsetValue = OpenSearchLimitIndexScanRule.extractOffsetValue(sort.offset);
+      if (limitValue == null || offsetValue == null) {
+        return;
+      }
+    } else if (sort.offset != null) {
+      // offset without fetch cannot be expressed by the request builder
+      return;
+    }
+
+    CalciteLogicalIndexScan newScan = scan.pushDownSort(sort.getCollation().getFieldCollations());
+    if (newScan != null && limitValue != null) {
+      newScan = newScan.pushDownLimit(limitValue, offsetValue);
+    }
+    if (newScan != null) {
+      call.transformTo(newScan);
+    }
+  }
+
+  /** Rule configuration. */
+  @Value.Immutable
+  public interface Config extends RelRule.Config {
+    OpenSearchSortIndexScanRule.Config DEFAULT =
+        ImmutableOpenSearchSortIndexScanRule.Config.builder()
+            .build()
+            .withOperandSupplier(
+                b0 ->
+                    b0.operand(LogicalSort.class)
+                        .predicate(sort -> !sort.getCollation().getFieldCollations().isEmpty())
+                        .oneInput(
+                            b1 ->
+                                b1.operand(CalciteLogicalIndexScan.class)
+                                    .predicate(
+                                        // Sort pushdown is skipped after a limit because the DSL
+                                        // always sorts before limiting, and after another sort
+                                        // because the sort builders would be appended as
+                                        // secondary keys rather than replace the pushed ones.
+                                        Predicate.not(OpenSearchIndexScanRule::isLimitPushed)
+                                            .and(
+                                                Predicate.not(
+                                                    OpenSearchIndexScanRule::isSortPushed))
+                                            .and(OpenSearchIndexScanRule::noAggregatePushed))
+                                    .noInputs()));
+
+    @Override
+    default OpenSearchSortIndexScanRule toRule() {
+      return new OpenSearchSortIndexScanRule(this);
+    }
+  }
+}
@@ -68,7 +68,10 @@ import org.opensearch.sql.opensearch.response.agg.StatsParser;
  */
 public class AggregateAnalyzer {
 
-  /** How many composite buckets should be returned. */
+  /**
+   * How many composite buckets are requested by the first page, the following pages are fetched
+   * with after_key, see {@link CompositeAggregationPaging}.
+   */
   public static final int AGGREGATION_BUCKET_SIZE = 1000;
 
   /** metadata field used when there is no argument. Only apply to COUNT. */
@@ -220,6 +223,7 @@ public class AggregateAnalyzer {
       case STDDEV_POP -> Pair.of(
           AggregationBuilders.extendedStats(aggField).field(argStr),
           new StatsParser(ExtendedStats::getStdDeviationPopulation, aggField));
+      case OTHER_FUNCTION -> createUserDefinedAggregation(aggCall, argStr, aggField);
         // TODO: below UDAF should support push down once implemented
         // https://github.com/opensearch-project/sql/issues/3385
         // case take
@@ -230,6 +234,19 @@ public class AggregateAnalyzer {
     };
   }
 
+  private static Pair<ValuesSourceAggregationBuilder<?>, MetricParser>
+      createUserDefinedAggregation(AggregateCall aggCall, String argStr, String aggField) {
+    // The cardinality aggregation uses the same sketch and default precision threshold. A given
+    // precision threshold or datetime type flag is an extra argument, which is not pushed down.
+    if ("distinct_count_approx".equals(aggCall.getAggregation().getName())
+        && aggCall.getArgList().size() == 1) {
+      return Pair.of(
+          AggregationBuilders.cardinality(aggField).field(argStr), new SingleValueParser(aggField));
+    }
+    throw new AggregateAnalyzerException(
+        String.format("unsupported aggregator %s", aggCall.getAggregation()));
+  }
+
   private static List<CompositeValuesSourceBuilder<?>> createCompositeBuckets(
       List<Integer> groupList, FieldExpressionCreator fieldExpressionCreator) {
 
@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import lombok.experimental.UtilityClass;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+/**
+ * Page through the buckets of a composite aggregation with after_key. The first page has the size
+ * set when the aggregation is built, and each following page doubles it up to {@link
+ * #MAX_PAGE_SIZE}, so that small group-bys are answered by one small request while large ones need
+ * few round trips.
+ */
+@UtilityClass
+public class CompositeAggregationPaging {
+
+  /** Max number of composite buckets requested by a page. */
+  public static final int MAX_PAGE_SIZE = 10000;
+
+  /**
+   * Copy a composite aggregation, so that the request paging through it doesn't change the
+   * aggregation shared by the plans built from it.
+   *
+   * @param aggregation aggregation pushed down
+   * @return copy of a composite aggregation, otherwise the aggregation itself
+   */
+  public static AggregationBuilder copy(AggregationBuilder aggregation) {
+    if (!(aggregation instanceof CompositeAggregationBuilder composite)) {
+      return aggregation;
+    }
+    CompositeAggregationBuilder copy =
+        new CompositeAggregationBuilder(composite.getName(), composite.sources())
+            .size(composite.size());
+    composite.getSubAggregations().forEach(copy::subAggregation);
+    composite.getPipelineAggregations().forEach(copy::subAggregation);
+    if (composite.getMetadata() != null) {
+      copy.setMetadata(composite.getMetadata());
+    }
+    return copy;
+  }
+
+  /**
+   * Move the composite aggregation of a search to the page following its response.
+   *
+   * @param sourceBuilder source of the search, changed to request the next page
+   * @param aggregations aggregations of the response, null if none
+   * @return true if there is a next page, false if the request has no composite aggregation or
+   *     the response returned its last buckets
+   */
+  public static boolean nextPage(SearchSourceBuilder sourceBuilder, Aggregations aggregations) {
+    CompositeAggregationBuilder composite = find(sourceBuilder);
+    if (composite == null || aggregations == null) {
+      return false;
+    }
+    CompositeAggregation result = aggregations.get(composite.getName());
+    // A page with fewer buckets than requested is the last one, no need to ask for an empty page
+    if (result == null
+        || result.afterKey() == null
+        || result.getBuckets().size() < composite.size()) {
+      return false;
+    }
+    composite.aggregateAfter(result.afterKey());
+    composite.size(Math.max(composite.size(), Math.min(composite.size() * 2, MAX_PAGE_SIZE)));
+    return true;
+  }
+
+  private static CompositeAggregationBuilder find(SearchSourceBuilder sourceBuilder) {
+    if (sourceBuilder.aggregations() == null) {
+      return null;
+    }
+    for (AggregationBuilder aggregation : sourceBuilder.aggregations().getAggregatorFactories()) {
+      if (aggregation instanceof CompositeAggregationBuilder composite) {
+        return composite;
+      }
+    }
+    return null;
+  }
+}
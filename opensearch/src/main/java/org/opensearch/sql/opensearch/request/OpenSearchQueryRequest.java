@@ -13,6 +13,7 @@ import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATA_FIE
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.EqualsAndHashCode;
@@ -31,6 +32,7 @@ import org.opensearch.search.SearchHits;
 import org.opensearch.search.SearchModule;
 import org.opensearch.search.builder.PointInTimeBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.slice.SliceBuilder;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
@@ -161,57 +163,95 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
       Function<SearchRequest, SearchResponse> searchAction,
       Function<SearchScrollRequest, SearchResponse> scrollAction) {
     if (this.pitId == null) {
-      // When SearchRequest doesn't contain PitId, fetch single page request
+      // When SearchRequest doesn't contain PitId, fetch single page request, or the pages of a
+      // composite aggregation one after another
       if (searchDone) {
         return new OpenSearchResponse(SearchHits.empty(), exprValueFactory, includes);
-      } else {
-        searchDone = true;
-        return new OpenSearchResponse(
-            searchAction.apply(
-                new SearchRequest().indices(indexName.getIndexNames()).source(sourceBuilder)),
-            exprValueFactory,
-            includes);
       }
+      return onResponse(searchAction.apply(nextSearchRequest()));
     } else {
       // Search with PIT instead of scroll API
       return searchWithPIT(searchAction);
     }
   }
 
+  @Override
+  public CompletableFuture<OpenSearchResponse> searchAsync(
+      Function<SearchRequest, CompletableFuture<SearchResponse>> searchAction,
+      Function<SearchScrollRequest, CompletableFuture<SearchResponse>> scrollAction) {
+    if (searchDone) {
+      return CompletableFuture.completedFuture(
+          new OpenSearchResponse(SearchHits.empty(), exprValueFactory, includes));
+    }
+    return searchAction.apply(nextSearchRequest()).thenApply(this::onResponse);
+  }
+
   public OpenSearchResponse searchWithPIT(Function<SearchRequest, SearchResponse> searchAction) {
-    OpenSearchResponse openSearchResponse;
     if (searchDone) {
-      openSearchResponse = new OpenSearchResponse(SearchHits.empty(), exprValueFactory, includes);
-    } else {
-      this.sourceBuilder.pointInTimeBuilder(new PointInTimeBuilder(this.pitId));
-      this.sourceBuilder.timeout(cursorKeepAlive);
-      // check for search after
-      if (searchAfter != null) {
-        this.sourceBuilder.searchAfter(searchAfter);
-      }
-      // Set sort field for search_after
-      if (this.sourceBuilder.sorts() == null) {
-        this.sourceBuilder.sort(DOC_FIELD_NAME, ASC);
-        // Workaround to preserve sort location more exactly,
-        // see https://github.com/opensearch-project/sql/pull/3061
-        this.sourceBuilder.sort(METADATA_FIELD_ID, ASC);
-      }
-      SearchRequest searchRequest = new SearchRequest().source(this.sourceBuilder);
-      this.searchResponse = searchAction.apply(searchRequest);
+      return new OpenSearchResponse(SearchHits.empty(), exprValueFactory, includes);
+    }
+    return onResponse(searchAction.apply(nextSearchRequest()));
+  }
 
-      openSearchResponse = new OpenSearchResponse(this.searchResponse, exprValueFactory, includes);
+  /** Build the search request of the next batch. */
+  private SearchRequest nextSearchRequest() {
+    if (this.pitId == null) {
+      return new SearchRequest().indices(indexName.getIndexNames()).source(sourceBuilder);
+    }
+    this.sourceBuilder.pointInTimeBuilder(new PointInTimeBuilder(this.pitId));
+    this.sourceBuilder.timeout(cursorKeepAlive);
+    // check for search after
+    if (searchAfter != null) {
+      this.sourceBuilder.searchAfter(searchAfter);
+    }
+    // Set sort field for search_after
+    if (this.sourceBuilder.sorts() == null) {
+      this.sourceBuilder.sort(DOC_FIELD_NAME, ASC);
+      // Workaround to preserve sort location more exactly,
+      // see https://github.com/opensearch-project/sql/pull/3061
+      this.sourceBuilder.sort(METADATA_FIELD_ID, ASC);
+    }
+    return new SearchRequest().source(this.sourceBuilder);
+  }
 
-      needClean = openSearchResponse.isEmpty();
-      searchDone = openSearchResponse.isEmpty();
-      SearchHit[] searchHits = this.searchResponse.getHits().getHits();
-      if (searchHits != null && searchHits.length > 0) {
-        searchAfter = searchHits[searchHits.length - 1].getSortValues();
-        this.sourceBuilder.searchAfter(searchAfter);
-      }
+  /** Move the request to the batch following the response. */
+  private OpenSearchResponse onResponse(SearchResponse response) {
+    if (this.pitId == null) {
+      searchDone = !CompositeAggregationPaging.nextPage(sourceBuilder, response.getAggregations());
+      return new OpenSearchResponse(response, exprValueFactory, includes);
+    }
+    this.searchResponse = response;
+    OpenSearchResponse openSearchResponse =
+        new OpenSearchResponse(this.searchResponse, exprValueFactory, includes);
+
+    needClean = openSearchResponse.isEmpty();
+    searchDone = openSearchResponse.isEmpty();
+    SearchHit[] searchHits = this.searchResponse.getHits().getHits();
+    if (searchHits != null && searchHits.length > 0) {
+      searchAfter = searchHits[searchHits.length - 1].getSortValues();
+      this.sourceBuilder.searchAfter(searchAfter);
     }
     return openSearchResponse;
   }
 
+  /**
+   * Create the request of one slice of this PIT search, see sliced search in OpenSearch. The slices
+   * share the PIT of this request, which is deleted when this request is cleaned.
+   *
+   * @param id slice id
+   * @param max number of slices
+   * @return request of the slice
+   */
+  public OpenSearchQueryRequest slice(int id, int max) {
+    return new OpenSearchQueryRequest(
+        indexName,
+        sourceBuilder.shallowCopy().slice(new SliceBuilder(id, max)),
+        exprValueFactory,
+        includes,
+        cursorKeepAlive,
+        pitId);
+  }
+
   @Override
   public void clean(Consumer<String> cleanAction) {
     try {
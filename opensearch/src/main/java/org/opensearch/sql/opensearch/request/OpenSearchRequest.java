@@ -6,6 +6,7 @@
 package org.opensearch.sql.opensearch.request;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.EqualsAndHashCode;
@@ -36,6 +37,19 @@ public interface OpenSearchRequest extends Writeable {
       Function<SearchRequest, SearchResponse> searchAction,
       Function<SearchScrollRequest, SearchResponse> scrollAction);
 
+  /**
+   * Apply the search action or scroll action on request without blocking the calling thread. The
+   * actions return the future of the response, and the request moves to the next batch once it
+   * completes, so the next search must not start before the returned future completes.
+   *
+   * @param searchAction asynchronous search action.
+   * @param scrollAction asynchronous scroll search action.
+   * @return future of OpenSearchResponse.
+   */
+  CompletableFuture<OpenSearchResponse> searchAsync(
+      Function<SearchRequest, CompletableFuture<SearchResponse>> searchAction,
+      Function<SearchScrollRequest, CompletableFuture<SearchResponse>> scrollAction);
+
   /**
    * Apply the cleanAction on request.
    *
@@ -188,7 +188,9 @@ public class OpenSearchRequestBuilder {
    */
   public void pushDownAggregation(
       Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> aggregationBuilder) {
-    aggregationBuilder.getLeft().forEach(sourceBuilder::aggregation);
+    aggregationBuilder.getLeft().stream()
+        .map(CompositeAggregationPaging::copy)
+        .forEach(sourceBuilder::aggregation);
     sourceBuilder.size(0);
     exprValueFactory.setParser(aggregationBuilder.getRight());
   }
@@ -330,6 +332,11 @@ public class OpenSearchRequestBuilder {
     return pageSize == null ? requestedTotalSize : pageSize;
   }
 
+  /** Whether the request is fetched page by page with a cursor. */
+  public boolean isPaginated() {
+    return pageSize != null;
+  }
+
   /** Initialize bool query for push down. */
   private void initBoolQueryFilter() {
     if (sourceBuilder.query() == null) {
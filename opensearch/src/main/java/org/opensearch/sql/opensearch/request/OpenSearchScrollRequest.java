@@ -8,6 +8,7 @@ package org.opensearch.sql.opensearch.request;
 import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.EqualsAndHashCode;
@@ -90,18 +91,30 @@ public class OpenSearchScrollRequest implements OpenSearchRequest {
   public OpenSearchResponse search(
       Function<SearchRequest, SearchResponse> searchAction,
       Function<SearchScrollRequest, SearchResponse> scrollAction) {
-    SearchResponse openSearchResponse;
-    if (isScroll()) {
-      openSearchResponse = scrollAction.apply(scrollRequest());
-    } else {
-      if (initialSearchRequest == null) {
-        // Probably a first page search (since there is no scroll set) called on a deserialized
-        // `OpenSearchScrollRequest`, which has no `initialSearchRequest`.
-        throw new UnsupportedOperationException("Misuse of OpenSearchScrollRequest");
-      }
-      openSearchResponse = searchAction.apply(initialSearchRequest);
+    SearchResponse response =
+        isScroll() ? scrollAction.apply(scrollRequest()) : searchAction.apply(firstSearchRequest());
+    return onResponse(response);
+  }
+
+  @Override
+  public CompletableFuture<OpenSearchResponse> searchAsync(
+      Function<SearchRequest, CompletableFuture<SearchResponse>> searchAction,
+      Function<SearchScrollRequest, CompletableFuture<SearchResponse>> scrollAction) {
+    CompletableFuture<SearchResponse> response =
+        isScroll() ? scrollAction.apply(scrollRequest()) : searchAction.apply(firstSearchRequest());
+    return response.thenApply(this::onResponse);
+  }
+
+  private SearchRequest firstSearchRequest() {
+    if (initialSearchRequest == null) {
+      // Probably a first page search (since there is no scroll set) called on a deserialized
+      // `OpenSearchScrollRequest`, which has no `initialSearchRequest`.
+      throw new UnsupportedOperationException("Misuse of OpenSearchScrollRequest");
     }
+    return initialSearchRequest;
+  }
 
+  private OpenSearchResponse onResponse(SearchResponse openSearchResponse) {
     var response = new OpenSearchResponse(openSearchResponse, exprValueFactory, includes);
     needClean = response.isEmpty();
     if (!needClean) {
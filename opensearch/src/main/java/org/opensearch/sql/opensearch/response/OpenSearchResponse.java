@@ -20,8 +20,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.text.Text;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
@@ -40,7 +42,7 @@ import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 public class OpenSearchResponse implements Iterable<ExprValue> {
 
   /** Search query result (non-aggregation). */
-  private final SearchHits hits;
+  @Getter private final SearchHits hits;
 
   /** Search aggregation result. */
   private final Aggregations aggregations;
@@ -116,12 +118,30 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
    */
   private void addParsedHitsToBuilder(
       ImmutableMap.Builder<String, ExprValue> builder, SearchHit hit) {
-    builder.putAll(
-        exprValueFactory
-            .construct(
-                hit.getSourceAsString(),
-                !(hit.getInnerHits() == null || hit.getInnerHits().isEmpty()))
-            .tupleValue());
+    boolean supportArrays = !(hit.getInnerHits() == null || hit.getInnerHits().isEmpty());
+    BytesReference source = hit.getSourceRef();
+    ExprValue value =
+        isJsonSource(source)
+            ? exprValueFactory.construct(source, includes, supportArrays)
+            : exprValueFactory.construct(hit.getSourceAsString(), supportArrays);
+    builder.putAll(value.tupleValue());
+  }
+
+  /**
+   * Source in JSON can be tokenized from its bytes directly, otherwise (e.g. SMILE or CBOR) it has
+   * to be converted to a JSON string first.
+   */
+  private static boolean isJsonSource(BytesReference source) {
+    if (source == null) {
+      return false;
+    }
+    for (int i = 0; i < source.length(); i++) {
+      byte b = source.get(i);
+      if (!Character.isWhitespace(b)) {
+        return b == '{';
+      }
+    }
+    return false;
   }
 
   /**
@@ -27,6 +27,7 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.SecureSetting;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.sql.common.setting.Settings;
 
@@ -119,6 +120,74 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<?> QUERY_SORT_MEMORY_LIMIT_SETTING =
+      Setting.memorySizeSetting(
+          Key.QUERY_SORT_MEMORY_LIMIT.getKeyValue(),
+          "5%",
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<ByteSizeValue> QUERY_MEMORY_BREAKER_LIMIT_SETTING =
+      Setting.memorySizeSetting(
+          Key.QUERY_MEMORY_BREAKER_LIMIT.getKeyValue(), "20%", Setting.Property.NodeScope);
+
+  public static final Setting<?> QUERY_MEMORY_BREAKER_PER_QUERY_LIMIT_SETTING =
+      Setting.memorySizeSetting(
+          Key.QUERY_MEMORY_BREAKER_PER_QUERY_LIMIT.getKeyValue(),
+          "10%",
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_ADMISSION_MAX_CONCURRENT_PER_USER_SETTING =
+      Setting.intSetting(
+          Key.QUERY_ADMISSION_MAX_CONCURRENT_PER_USER.getKeyValue(),
+          0,
+          0,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_ADMISSION_MAX_CONCURRENT_PER_INDEX_SETTING =
+      Setting.intSetting(
+          Key.QUERY_ADMISSION_MAX_CONCURRENT_PER_INDEX.getKeyValue(),
+          0,
+          0,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SCAN_PREFETCH_PAGES_SETTING =
+      Setting.intSetting(
+          Key.QUERY_SCAN_PREFETCH_PAGES.getKeyValue(),
+          0,
+          0,
+          8,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SCAN_SLICES_SETTING =
+      Setting.intSetting(
+          Key.QUERY_SCAN_SLICES.getKeyValue(),
+          1,
+          1,
+          64,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_EXECUTOR_VIRTUAL_THREADS_SETTING =
+      Setting.intSetting(
+          Key.QUERY_EXECUTOR_VIRTUAL_THREADS.getKeyValue(),
+          0,
+          0,
+          10000,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_BATCH_EXECUTION_ENABLED_SETTING =
+      Setting.boolSetting(
+          Key.QUERY_BATCH_EXECUTION_ENABLED.getKeyValue(),
+          false,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   public static final Setting<?> METRICS_ROLLING_WINDOW_SETTING =
       Setting.longSetting(
           Key.METRICS_ROLLING_WINDOW.getKeyValue(),
@@ -322,6 +391,54 @@ public class OpenSearchSettings extends Settings {
         Key.QUERY_SIZE_LIMIT,
         QUERY_SIZE_LIMIT_SETTING,
         new Updater(Key.QUERY_SIZE_LIMIT));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_SORT_MEMORY_LIMIT,
+        QUERY_SORT_MEMORY_LIMIT_SETTING,
+        new Updater(Key.QUERY_SORT_MEMORY_LIMIT));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_MEMORY_BREAKER_PER_QUERY_LIMIT,
+        QUERY_MEMORY_BREAKER_PER_QUERY_LIMIT_SETTING,
+        new Updater(Key.QUERY_MEMORY_BREAKER_PER_QUERY_LIMIT));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_ADMISSION_MAX_CONCURRENT_PER_USER,
+        QUERY_ADMISSION_MAX_CONCURRENT_PER_USER_SETTING,
+        new Updater(Key.QUERY_ADMISSION_MAX_CONCURRENT_PER_USER));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_ADMISSION_MAX_CONCURRENT_PER_INDEX,
+        QUERY_ADMISSION_MAX_CONCURRENT_PER_INDEX_SETTING,
+        new Updater(Key.QUERY_ADMISSION_MAX_CONCURRENT_PER_INDEX));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_SCAN_PREFETCH_PAGES,
+        QUERY_SCAN_PREFETCH_PAGES_SETTING,
+        new Updater(Key.QUERY_SCAN_PREFETCH_PAGES));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_SCAN_SLICES,
+        QUERY_SCAN_SLICES_SETTING,
+        new Updater(Key.QUERY_SCAN_SLICES));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_EXECUTOR_VIRTUAL_THREADS,
+        QUERY_EXECUTOR_VIRTUAL_THREADS_SETTING,
+        new Updater(Key.QUERY_EXECUTOR_VIRTUAL_THREADS));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_BATCH_EXECUTION_ENABLED,
+        QUERY_BATCH_EXECUTION_ENABLED_SETTING,
+        new Updater(Key.QUERY_BATCH_EXECUTION_ENABLED));
     register(
         settingBuilder,
         clusterSettings,
@@ -489,6 +606,14 @@ public class OpenSearchSettings extends Settings {
         .add(DEFAULT_PATTERN_METHOD_SETTING)
         .add(QUERY_MEMORY_LIMIT_SETTING)
         .add(QUERY_SIZE_LIMIT_SETTING)
+        .add(QUERY_SORT_MEMORY_LIMIT_SETTING)
+        .add(QUERY_MEMORY_BREAKER_PER_QUERY_LIMIT_SETTING)
+        .add(QUERY_ADMISSION_MAX_CONCURRENT_PER_USER_SETTING)
+        .add(QUERY_ADMISSION_MAX_CONCURRENT_PER_INDEX_SETTING)
+        .add(QUERY_SCAN_PREFETCH_PAGES_SETTING)
+        .add(QUERY_SCAN_SLICES_SETTING)
+        .add(QUERY_EXECUTOR_VIRTUAL_THREADS_SETTING)
+        .add(QUERY_BATCH_EXECUTION_ENABLED_SETTING)
         .add(METRICS_ROLLING_WINDOW_SETTING)
         .add(METRICS_ROLLING_INTERVAL_SETTING)
         .add(DATASOURCE_URI_HOSTS_DENY_LIST)
@@ -514,6 +639,7 @@ public class OpenSearchSettings extends Settings {
     return new ImmutableList.Builder<Setting<?>>()
         .add(DATASOURCE_MASTER_SECRET_KEY)
         .add(DATASOURCE_CONFIG)
+        .add(QUERY_MEMORY_BREAKER_LIMIT_SETTING)
         .build();
   }
 
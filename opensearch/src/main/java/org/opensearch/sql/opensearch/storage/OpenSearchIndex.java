@@ -209,7 +209,9 @@ public class OpenSearchIndex extends AbstractOpenSearchTable {
                     getMaxResultWindow(),
                     cursorKeepAlive,
                     client,
-                    cachedFieldOpenSearchTypes.isEmpty()));
+                    cachedFieldOpenSearchTypes.isEmpty()),
+                getPrefetchPages(requestBuilder),
+                getScanSlices(requestBuilder));
     return new OpenSearchIndexScanBuilder(builder, createScanOperator);
   }
 
@@ -261,6 +263,30 @@ public class OpenSearchIndex extends AbstractOpenSearchTable {
     return new OpenSearchRequestBuilder(createExprValueFactory(), settings);
   }
 
+  /**
+   * Number of search batches to prefetch for the request. Paginated requests are not prefetched,
+   * because the cursor must not run ahead of the pages returned to the client.
+   */
+  public int getPrefetchPages(OpenSearchRequestBuilder requestBuilder) {
+    if (requestBuilder.isPaginated()) {
+      return 0;
+    }
+    Integer prefetchPages = settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH_PAGES);
+    return prefetchPages == null ? 0 : prefetchPages;
+  }
+
+  /**
+   * Number of slices of a PIT search searched concurrently. Paginated requests are not sliced,
+   * because a cursor resumes a single search_after position.
+   */
+  public int getScanSlices(OpenSearchRequestBuilder requestBuilder) {
+    if (requestBuilder.isPaginated()) {
+      return 1;
+    }
+    Integer slices = settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES);
+    return slices == null ? 1 : slices;
+  }
+
   public OpenSearchRequest buildRequest(OpenSearchRequestBuilder requestBuilder) {
     final TimeValue cursorKeepAlive = settings.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE);
     return requestBuilder.build(
@@ -85,7 +85,7 @@ public abstract class AbstractCalciteIndexScan extends TableScan {
             (rowCount, action) ->
                 switch (action.type) {
                       case AGGREGATION -> mq.getRowCount((RelNode) action.digest);
-                      case PROJECT -> rowCount;
+                      case PROJECT, SORT -> rowCount;
                       case FILTER -> NumberUtil.multiply(
                           rowCount, RelMdUtil.guessSelectivity((RexNode) action.digest));
                       case LIMIT -> (Integer) action.digest;
@@ -99,6 +99,7 @@ public abstract class AbstractCalciteIndexScan extends TableScan {
 
     private boolean isAggregatePushed = false;
     private boolean isLimitPushed = false;
+    private boolean isSortPushed = false;
 
     @Override
     public PushDownContext clone() {
@@ -115,6 +116,9 @@ public abstract class AbstractCalciteIndexScan extends TableScan {
       if (pushDownAction.type == PushDownType.LIMIT) {
         isLimitPushed = true;
       }
+      if (pushDownAction.type == PushDownType.SORT) {
+        isSortPushed = true;
+      }
       return super.add(pushDownAction);
     }
 
@@ -127,13 +131,17 @@ public abstract class AbstractCalciteIndexScan extends TableScan {
     public boolean isLimitPushed() {
       return isLimitPushed;
     }
+
+    public boolean isSortPushed() {
+      return isSortPushed;
+    }
   }
 
   protected enum PushDownType {
     FILTER,
     PROJECT,
     AGGREGATION,
-    // SORT,
+    SORT,
     LIMIT,
     // HIGHLIGHT,
     // NESTED
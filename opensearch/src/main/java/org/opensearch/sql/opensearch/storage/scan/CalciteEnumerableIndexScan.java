@@ -21,6 +21,7 @@ import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptPlanner;
 import org.apache.calcite.plan.RelOptRule;
 import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelTraitSet;
 import org.apache.calcite.rel.hint.RelHint;
 import org.apache.calcite.rel.rules.CoreRules;
 import org.apache.calcite.rel.type.RelDataType;
@@ -39,11 +40,13 @@ public class CalciteEnumerableIndexScan extends AbstractCalciteIndexScan impleme
    * Creates an CalciteOpenSearchIndexScan.
    *
    * @param cluster Cluster
+   * @param traitSet Trait set, whose collation is kept if a sort is pushed down
    * @param table Table
    * @param osIndex OpenSearch index
    */
   public CalciteEnumerableIndexScan(
       RelOptCluster cluster,
+      RelTraitSet traitSet,
       List<RelHint> hints,
       RelOptTable table,
       OpenSearchIndex osIndex,
@@ -51,7 +54,7 @@ public class CalciteEnumerableIndexScan extends AbstractCalciteIndexScan impleme
       PushDownContext pushDownContext) {
     super(
         cluster,
-        cluster.traitSetOf(EnumerableConvention.INSTANCE),
+        traitSet.replace(EnumerableConvention.INSTANCE),
         hints,
         table,
         osIndex,
@@ -101,7 +104,9 @@ public class CalciteEnumerableIndexScan extends AbstractCalciteIndexScan impleme
             osIndex.getClient(),
             getFieldPath(),
             requestBuilder.getMaxResponseSize(),
-            osIndex.buildRequest(requestBuilder));
+            osIndex.buildRequest(requestBuilder),
+            osIndex.getPrefetchPages(requestBuilder),
+            osIndex.getScanSlices(requestBuilder));
       }
     };
   }
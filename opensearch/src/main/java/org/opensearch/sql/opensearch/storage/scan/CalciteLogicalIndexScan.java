@@ -5,7 +5,10 @@
 
 package org.opensearch.sql.opensearch.storage.scan;
 
+import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATA_FIELD_SCORE;
+
 import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -16,21 +19,32 @@ import org.apache.calcite.plan.RelOptPlanner;
 import org.apache.calcite.plan.RelOptRule;
 import org.apache.calcite.plan.RelOptTable;
 import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelCollationTraitDef;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelFieldCollation.NullDirection;
 import org.apache.calcite.rel.core.Aggregate;
 import org.apache.calcite.rel.core.Filter;
 import org.apache.calcite.rel.hint.RelHint;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.util.mapping.Mappings;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.sort.SortBuilder;
+import org.opensearch.search.sort.SortBuilders;
+import org.opensearch.search.sort.SortOrder;
 import org.opensearch.sql.calcite.utils.OpenSearchTypeFactory;
 import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.planner.physical.EnumerableIndexScanRule;
 import org.opensearch.sql.opensearch.planner.physical.OpenSearchIndexRules;
 import org.opensearch.sql.opensearch.request.AggregateAnalyzer;
@@ -67,6 +81,15 @@ public class CalciteLogicalIndexScan extends AbstractCalciteIndexScan {
   }
 
   public CalciteLogicalIndexScan copyWithNewSchema(RelDataType schema) {
+    return copyWithNewTraitsAndSchema(traitSet, schema);
+  }
+
+  /**
+   * Copy with the given traits, which callers changing the columns of the schema must adjust, e.g.
+   * the collation of a pushed down sort refers to the columns by index.
+   */
+  private CalciteLogicalIndexScan copyWithNewTraitsAndSchema(
+      RelTraitSet traitSet, RelDataType schema) {
     // Do shallow copy for requestBuilder, thus requestBuilder among different plans produced in the
     // optimization process won't affect each other.
     return new CalciteLogicalIndexScan(
@@ -120,7 +143,13 @@ public class CalciteLogicalIndexScan extends AbstractCalciteIndexScan {
       builder.add(fieldList.get(project));
     }
     RelDataType newSchema = builder.build();
-    CalciteLogicalIndexScan newScan = this.copyWithNewSchema(newSchema);
+    // Keep the collation of a pushed down sort on the projected columns. It is truncated at the
+    // first sort key projected away.
+    Mappings.TargetMapping mapping = Mappings.target(selectedColumns, fieldList.size());
+    RelTraitSet newTraitSet =
+        traitSet.replaceIf(
+            RelCollationTraitDef.INSTANCE, () -> RexUtil.apply(mapping, traitSet.getCollation()));
+    CalciteLogicalIndexScan newScan = this.copyWithNewTraitsAndSchema(newTraitSet, newSchema);
     Map<String, String> aliasMapping = this.osIndex.getAliasMapping();
     // For alias types, we need to push down its original path instead of the alias name.
     List<String> projectedFields =
@@ -137,7 +166,11 @@ public class CalciteLogicalIndexScan extends AbstractCalciteIndexScan {
 
   public CalciteLogicalIndexScan pushDownAggregate(Aggregate aggregate) {
     try {
-      CalciteLogicalIndexScan newScan = this.copyWithNewSchema(aggregate.getRowType());
+      // The aggregation buckets are not ordered by any pushed down sort
+      CalciteLogicalIndexScan newScan =
+          this.copyWithNewTraitsAndSchema(
+              traitSet.replaceIf(RelCollationTraitDef.INSTANCE, () -> RelCollations.EMPTY),
+              aggregate.getRowType());
       List<String> schema = this.getRowType().getFieldNames();
       Map<String, ExprType> fieldTypes = this.osIndex.getFieldTypes();
       List<String> outputFields = aggregate.getRowType().getFieldNames();
@@ -171,6 +204,77 @@ public class CalciteLogicalIndexScan extends AbstractCalciteIndexScan {
     return null;
   }
 
+  /**
+   * Push down the field collations of a sort as OpenSearch sort builders. Text fields are sorted by
+   * their keyword sub-field. The sort is not pushed down if any collation is on a field that
+   * OpenSearch cannot sort on, e.g. a text field without keyword sub-field or a metadata field
+   * other than _score.
+   */
+  public CalciteLogicalIndexScan pushDownSort(List<RelFieldCollation> collations) {
+    try {
+      List<String> schema = this.getRowType().getFieldNames();
+      Map<String, ExprType> fieldTypes = this.osIndex.getFieldTypes();
+      Map<String, String> aliasMapping = this.osIndex.getAliasMapping();
+      List<SortBuilder<?>> sortBuilders = new ArrayList<>();
+      List<String> digest = new ArrayList<>();
+      for (RelFieldCollation collation : collations) {
+        String fieldName = schema.get(collation.getFieldIndex());
+        SortOrder order = collation.getDirection().isDescending() ? SortOrder.DESC : SortOrder.ASC;
+        if (METADATA_FIELD_SCORE.equals(fieldName)) {
+          sortBuilders.add(SortBuilders.scoreSort().order(order));
+        } else {
+          NullDirection nullDirection =
+              collation.nullDirection == NullDirection.UNSPECIFIED
+                  ? collation.getDirection().defaultNullDirection()
+                  : collation.nullDirection;
+          String missing = nullDirection == NullDirection.FIRST ? "_first" : "_last";
+          sortBuilders.add(
+              SortBuilders.fieldSort(toSortField(fieldName, fieldTypes, aliasMapping))
+                  .order(order)
+                  .missing(missing));
+        }
+        digest.add(fieldName + " " + collation.shortString());
+      }
+      RelTraitSet newTraitSet =
+          traitSet.replaceIf(RelCollationTraitDef.INSTANCE, () -> RelCollations.of(collations));
+      CalciteLogicalIndexScan newScan =
+          new CalciteLogicalIndexScan(
+              getCluster(),
+              newTraitSet,
+              hints,
+              table,
+              osIndex,
+              getRowType(),
+              pushDownContext.clone());
+      newScan.pushDownContext.add(
+          PushDownAction.of(
+              PushDownType.SORT,
+              digest,
+              requestBuilder -> requestBuilder.pushDownSort(sortBuilders)));
+      return newScan;
+    } catch (Exception e) {
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("Cannot pushdown the sort {}", collations, e);
+      } else {
+        LOG.info("Cannot pushdown the sort {}, ", collations);
+      }
+    }
+    return null;
+  }
+
+  private static String toSortField(
+      String fieldName, Map<String, ExprType> fieldTypes, Map<String, String> aliasMapping) {
+    ExprType fieldType = fieldTypes.get(fieldName);
+    if (fieldType == null || fieldType == ExprCoreType.STRUCT || fieldType == ExprCoreType.ARRAY) {
+      throw new IllegalArgumentException("Cannot sort on field " + fieldName);
+    }
+    if (fieldType instanceof OpenSearchTextType textType && textType.getFields().isEmpty()) {
+      throw new IllegalArgumentException("Cannot sort on text field " + fieldName);
+    }
+    return OpenSearchTextType.convertTextToKeyword(
+        aliasMapping.getOrDefault(fieldName, fieldName), fieldType);
+  }
+
   public CalciteLogicalIndexScan pushDownLimit(Integer limit, Integer offset) {
     try {
       CalciteLogicalIndexScan newScan = this.copyWithNewSchema(getRowType());
@@ -0,0 +1,134 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+/**
+ * Fetch the search batches of an {@link OpenSearchRequest} ahead of consumption. While the current
+ * batch is being consumed, up to {@link #maxInFlight} following batches are requested in the
+ * background. Because each batch of a scroll or PIT request depends on the previous one, the
+ * background fetches are chained one after another rather than issued concurrently. Prefetch is
+ * disabled if {@link #maxInFlight} is not positive, in which case each batch is fetched
+ * synchronously on demand.
+ */
+public class OpenSearchBatchPrefetcher {
+
+  private final OpenSearchClient client;
+
+  private final OpenSearchRequest request;
+
+  /** Max number of batches requested ahead of consumption. */
+  private final int maxInFlight;
+
+  /** Batches requested but not yet consumed, in request order. */
+  private final Deque<CompletableFuture<OpenSearchResponse>> pending = new ArrayDeque<>();
+
+  /** Most recently requested batch, the next one is chained after it. */
+  private CompletableFuture<OpenSearchResponse> last;
+
+  /** Stop chaining new fetches once closed. */
+  private volatile boolean closed = false;
+
+  /**
+   * Constructor of {@link OpenSearchBatchPrefetcher}.
+   *
+   * @param client OpenSearch client
+   * @param request search request
+   * @param maxInFlight max number of batches requested ahead, no prefetch if not positive
+   */
+  public OpenSearchBatchPrefetcher(
+      OpenSearchClient client, OpenSearchRequest request, int maxInFlight) {
+    this.client = client;
+    this.request = request;
+    this.maxInFlight = maxInFlight;
+  }
+
+  /**
+   * Create the fetcher of the search batches of a request. A PIT search is split into slices
+   * searched concurrently if more than one slice is requested, see {@link
+   * OpenSearchSlicedPrefetcher}.
+   *
+   * @param client OpenSearch client
+   * @param request search request
+   * @param prefetchPages max number of batches requested ahead, no prefetch if not positive
+   * @param slices number of slices of a PIT search, no slicing if less than 2
+   * @return batch fetcher
+   */
+  public static OpenSearchBatchPrefetcher create(
+      OpenSearchClient client, OpenSearchRequest request, int prefetchPages, int slices) {
+    if (slices > 1
+        && request instanceof OpenSearchQueryRequest queryRequest
+        && OpenSearchSlicedPrefetcher.supports(queryRequest)) {
+      return new OpenSearchSlicedPrefetcher(client, queryRequest, prefetchPages, slices);
+    }
+    return new OpenSearchBatchPrefetcher(client, request, prefetchPages);
+  }
+
+  /**
+   * Get the next batch, then request the following batches in the background.
+   *
+   * @return search response of the next batch
+   */
+  public OpenSearchResponse fetchNextBatch() {
+    if (maxInFlight <= 0) {
+      return client.search(request);
+    }
+    fill();
+    OpenSearchResponse response = await(pending.poll());
+    fill();
+    return response;
+  }
+
+  /**
+   * Stop prefetching and wait for the batches in flight, so that the request is no longer mutated
+   * by background fetches when it is cleaned up.
+   */
+  public void close() {
+    closed = true;
+    for (CompletableFuture<OpenSearchResponse> future : pending) {
+      try {
+        future.join();
+      } catch (CompletionException e) {
+        // the batch is discarded, error is irrelevant after close
+      }
+    }
+    pending.clear();
+    last = null;
+  }
+
+  private void fill() {
+    while (!closed && pending.size() < maxInFlight) {
+      last =
+          (last == null)
+              ? client.searchAsync(request)
+              : last.thenCompose(
+                  previous ->
+                      (previous.isEmpty() || closed)
+                          ? CompletableFuture.completedFuture(previous)
+                          : client.searchAsync(request));
+      pending.add(last);
+    }
+  }
+
+  private OpenSearchResponse await(CompletableFuture<OpenSearchResponse> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException("Failed to fetch search batch", e.getCause());
+    }
+  }
+}
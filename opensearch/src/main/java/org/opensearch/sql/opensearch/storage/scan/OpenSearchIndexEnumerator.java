@@ -45,21 +45,44 @@ public class OpenSearchIndexEnumerator implements Enumerator<Object> {
 
   private ExprValue current;
 
+  /** Fetcher of search batches, which may prefetch following batches in the background. */
+  private final OpenSearchBatchPrefetcher prefetcher;
+
   public OpenSearchIndexEnumerator(
       OpenSearchClient client,
       List<String> fields,
       int maxResponseSize,
       OpenSearchRequest request) {
+    this(client, fields, maxResponseSize, request, 0);
+  }
+
+  public OpenSearchIndexEnumerator(
+      OpenSearchClient client,
+      List<String> fields,
+      int maxResponseSize,
+      OpenSearchRequest request,
+      int prefetchPages) {
+    this(client, fields, maxResponseSize, request, prefetchPages, 1);
+  }
+
+  public OpenSearchIndexEnumerator(
+      OpenSearchClient client,
+      List<String> fields,
+      int maxResponseSize,
+      OpenSearchRequest request,
+      int prefetchPages,
+      int slices) {
     this.client = client;
     this.fields = fields;
     this.request = request;
     this.maxResponseSize = maxResponseSize;
     this.queryCount = 0;
     this.current = null;
+    this.prefetcher = OpenSearchBatchPrefetcher.create(client, request, prefetchPages, slices);
   }
 
   private void fetchNextBatch() {
-    OpenSearchResponse response = client.search(request);
+    OpenSearchResponse response = prefetcher.fetchNextBatch();
     if (!response.isEmpty()) {
       iterator = response.iterator();
     } else if (iterator == null) {
@@ -109,6 +132,7 @@ public class OpenSearchIndexEnumerator implements Enumerator<Object> {
   @Override
   public void close() {
     reset();
+    prefetcher.close();
     client.cleanup(request);
   }
 }
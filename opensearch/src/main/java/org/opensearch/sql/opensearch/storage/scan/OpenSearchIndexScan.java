@@ -46,12 +46,45 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
   /** Search response for current batch. */
   private Iterator<ExprValue> iterator;
 
+  /** Number of search batches to prefetch in the background, no prefetch if not positive. */
+  private int prefetchPages;
+
+  /** Number of slices of a PIT search searched concurrently, no slicing if less than 2. */
+  private int slices;
+
+  /** Fetcher of search batches, created on open. */
+  private OpenSearchBatchPrefetcher prefetcher;
+
   /** Creates index scan based on a provided OpenSearchRequestBuilder. */
   public OpenSearchIndexScan(
       OpenSearchClient client, int maxResponseSize, OpenSearchRequest request) {
+    this(client, maxResponseSize, request, 0);
+  }
+
+  /**
+   * Creates index scan which prefetches the following search batches in the background while the
+   * current one is being consumed.
+   */
+  public OpenSearchIndexScan(
+      OpenSearchClient client, int maxResponseSize, OpenSearchRequest request, int prefetchPages) {
+    this(client, maxResponseSize, request, prefetchPages, 1);
+  }
+
+  /**
+   * Creates index scan which searches the slices of a PIT search concurrently, each slice being
+   * prefetched up to the given number of batches.
+   */
+  public OpenSearchIndexScan(
+      OpenSearchClient client,
+      int maxResponseSize,
+      OpenSearchRequest request,
+      int prefetchPages,
+      int slices) {
     this.maxResponseSize = maxResponseSize;
     this.client = client;
     this.request = request;
+    this.prefetchPages = prefetchPages;
+    this.slices = slices;
   }
 
   @TestOnly
@@ -64,6 +97,7 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
     super.open();
     iterator = Collections.emptyIterator();
     queryCount = 0;
+    prefetcher = OpenSearchBatchPrefetcher.create(client, request, prefetchPages, slices);
     fetchNextBatch();
   }
 
@@ -87,7 +121,7 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
   }
 
   private void fetchNextBatch() {
-    OpenSearchResponse response = client.search(request);
+    OpenSearchResponse response = prefetcher.fetchNextBatch();
     if (!response.isEmpty()) {
       iterator = response.iterator();
     }
@@ -97,6 +131,9 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
   public void close() {
     super.close();
 
+    if (prefetcher != null) {
+      prefetcher.close();
+    }
     client.cleanup(request);
   }
 
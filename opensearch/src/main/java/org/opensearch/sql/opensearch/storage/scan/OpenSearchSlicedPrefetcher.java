@@ -0,0 +1,357 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.ScoreSortBuilder;
+import org.opensearch.search.sort.SortBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+/**
+ * Fetch the search batches of a PIT request as slices searched concurrently, see sliced search in
+ * OpenSearch. Each slice pages through its own share of the documents with search_after, and is
+ * fetched up to {@link #maxBuffered} batches ahead of consumption. A slice whose buffer is full
+ * stops fetching until one of its batches is consumed, which bounds the memory held by the scan.
+ *
+ * <p>If no sort is pushed down, the batches are returned in the order they arrive. Otherwise every
+ * slice is sorted, and their hits are merged in sort order into batches of the page size.
+ */
+public class OpenSearchSlicedPrefetcher extends OpenSearchBatchPrefetcher {
+
+  private final OpenSearchClient client;
+
+  /** Request which owns the PIT shared by the slices. */
+  private final OpenSearchQueryRequest request;
+
+  private final List<Slice> slices = new ArrayList<>();
+
+  /** Max number of batches of a slice fetched but not yet consumed. */
+  private final int maxBuffered;
+
+  /** Order of the hits pushed down, null if the batches are returned in arrival order. */
+  private final Comparator<SearchHit> order;
+
+  /** Number of hits of a merged batch. */
+  private final int batchSize;
+
+  /** Cursors on the current batch of each slice not exhausted, by their next hit. */
+  private PriorityQueue<Cursor> cursors;
+
+  /** Max score of the batches merged so far. */
+  private float maxScore = Float.NaN;
+
+  /** Slice to poll first for a batch, so that the slices are consumed in turn. */
+  private int nextSlice = 0;
+
+  private boolean started = false;
+
+  private boolean closed = false;
+
+  /** First failure of a slice, thrown to the consumer. */
+  private Throwable failure;
+
+  /**
+   * Guards the state of the prefetcher and its slices. A lock rather than a monitor, so that a
+   * consumer running on a virtual thread unmounts while it waits for a batch.
+   */
+  private final ReentrantLock lock = new ReentrantLock();
+
+  /** Signalled when a batch arrives or a slice completes. */
+  private final Condition changed = lock.newCondition();
+
+  /**
+   * Constructor of {@link OpenSearchSlicedPrefetcher}.
+   *
+   * @param client OpenSearch client
+   * @param request PIT request, see {@link #supports(OpenSearchQueryRequest)}
+   * @param maxBuffered max number of batches of a slice fetched ahead, at least 1
+   * @param sliceCount number of slices
+   */
+  public OpenSearchSlicedPrefetcher(
+      OpenSearchClient client, OpenSearchQueryRequest request, int maxBuffered, int sliceCount) {
+    super(client, request, maxBuffered);
+    this.client = client;
+    this.request = request;
+    this.maxBuffered = Math.max(maxBuffered, 1);
+    this.batchSize = Math.max(request.getSourceBuilder().size(), 1);
+    this.order = hitOrder(request.getSourceBuilder().sorts());
+    for (int id = 0; id < sliceCount; id++) {
+      slices.add(new Slice(id, request.slice(id, sliceCount)));
+    }
+  }
+
+  /**
+   * Whether the request can be searched by slices: a PIT search from the first hit, which is not
+   * sliced yet and whose sorts, if any, are on fields or score.
+   *
+   * @param request search request
+   * @return true if it can be sliced
+   */
+  public static boolean supports(OpenSearchQueryRequest request) {
+    List<SortBuilder<?>> sorts = request.getSourceBuilder().sorts();
+    return request.getPitId() != null
+        && request.getSourceBuilder().from() <= 0
+        && request.getSourceBuilder().slice() == null
+        && (sorts == null
+            || sorts.stream()
+                .allMatch(
+                    sort -> sort instanceof FieldSortBuilder || sort instanceof ScoreSortBuilder));
+  }
+
+  @Override
+  public OpenSearchResponse fetchNextBatch() {
+    lock.lock();
+    try {
+      if (!started) {
+        started = true;
+        slices.forEach(this::fetch);
+      }
+      return order == null ? nextArrivedBatch() : nextMergedBatch();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Stop fetching and wait for the batches in flight, before the PIT is deleted. */
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      closed = true;
+      while (slices.stream().anyMatch(slice -> slice.fetching)) {
+        try {
+          changed.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+      }
+      slices.forEach(slice -> slice.buffered.clear());
+      cursors = null;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private OpenSearchResponse nextArrivedBatch() {
+    while (true) {
+      throwIfFailed();
+      for (int i = 0; i < slices.size(); i++) {
+        Slice slice = slices.get((nextSlice + i) % slices.size());
+        if (!slice.buffered.isEmpty()) {
+          nextSlice = (nextSlice + i + 1) % slices.size();
+          OpenSearchResponse response = slice.buffered.poll();
+          fetch(slice);
+          return response;
+        }
+      }
+      if (slices.stream().allMatch(slice -> slice.done)) {
+        return emptyBatch();
+      }
+      await();
+    }
+  }
+
+  private OpenSearchResponse nextMergedBatch() {
+    if (cursors == null) {
+      cursors =
+          new PriorityQueue<>(
+              Comparator.comparing(Cursor::current, order)
+                  .thenComparingInt(cursor -> cursor.slice.id));
+      for (Slice slice : slices) {
+        addCursor(slice);
+      }
+    }
+
+    List<SearchHit> merged = new ArrayList<>(batchSize);
+    while (merged.size() < batchSize && !cursors.isEmpty()) {
+      Cursor cursor = cursors.poll();
+      merged.add(cursor.hits[cursor.position++]);
+      if (cursor.position < cursor.hits.length) {
+        cursors.add(cursor);
+      } else {
+        addCursor(cursor.slice);
+      }
+    }
+    if (merged.isEmpty()) {
+      return emptyBatch();
+    }
+    return new OpenSearchResponse(
+        new SearchHits(merged.toArray(new SearchHit[0]), null, maxScore),
+        request.getExprValueFactory(),
+        request.getIncludes());
+  }
+
+  /** Wait for the next batch of the slice and add a cursor on it, unless the slice is done. */
+  private void addCursor(Slice slice) {
+    while (slice.buffered.isEmpty() && !slice.done) {
+      await();
+    }
+    throwIfFailed();
+    OpenSearchResponse response = slice.buffered.poll();
+    if (response == null) {
+      return;
+    }
+    fetch(slice);
+    SearchHits hits = response.getHits();
+    float batchMaxScore = hits.getMaxScore();
+    if (!Float.isNaN(batchMaxScore)) {
+      maxScore = Float.isNaN(maxScore) ? batchMaxScore : Math.max(maxScore, batchMaxScore);
+    }
+    cursors.add(new Cursor(slice, hits.getHits()));
+  }
+
+  /** Fetch the next batch of the slice in the background, unless it is done or its buffer full. */
+  private void fetch(Slice slice) {
+    if (closed
+        || failure != null
+        || slice.fetching
+        || slice.done
+        || slice.buffered.size() >= maxBuffered) {
+      return;
+    }
+    slice.fetching = true;
+    client
+        .searchAsync(slice.request)
+        .whenComplete((response, error) -> onFetched(slice, response, error));
+  }
+
+  private void onFetched(Slice slice, OpenSearchResponse response, Throwable error) {
+    lock.lock();
+    try {
+      slice.fetching = false;
+      if (error != null) {
+        failure = failure == null ? error : failure;
+        slice.done = true;
+      } else if (response.isEmpty()) {
+        slice.done = true;
+      } else if (!closed) {
+        slice.buffered.add(response);
+        fetch(slice);
+      }
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void await() {
+    throwIfFailed();
+    try {
+      changed.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while fetching search batch", e);
+    }
+    throwIfFailed();
+  }
+
+  private void throwIfFailed() {
+    if (failure != null) {
+      Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IllegalStateException("Failed to fetch search batch", cause);
+    }
+  }
+
+  private OpenSearchResponse emptyBatch() {
+    return new OpenSearchResponse(
+        SearchHits.empty(), request.getExprValueFactory(), request.getIncludes());
+  }
+
+  /**
+   * Order of the hits by their sort values, as sorted by OpenSearch. A missing value is sorted
+   * last unless the sort puts it first, values of numeric sorts already substitute missing values.
+   *
+   * @param sorts sorts pushed down, null if none
+   * @return comparator of hits, null if there is no sort
+   */
+  static Comparator<SearchHit> hitOrder(List<SortBuilder<?>> sorts) {
+    if (sorts == null || sorts.isEmpty()) {
+      return null;
+    }
+    Comparator<SearchHit> order = null;
+    for (int i = 0; i < sorts.size(); i++) {
+      SortBuilder<?> sort = sorts.get(i);
+      Comparator<Object> values = OpenSearchSlicedPrefetcher::compareSortValues;
+      if (sort.order() == SortOrder.DESC) {
+        values = values.reversed();
+      }
+      boolean missingFirst =
+          sort instanceof FieldSortBuilder fieldSort && "_first".equals(fieldSort.missing());
+      values = missingFirst ? Comparator.nullsFirst(values) : Comparator.nullsLast(values);
+
+      int index = i;
+      Comparator<SearchHit> key = Comparator.comparing(hit -> hit.getSortValues()[index], values);
+      order = (order == null) ? key : order.thenComparing(key);
+    }
+    return order;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static int compareSortValues(Object left, Object right) {
+    if (left instanceof Number l
+        && right instanceof Number r
+        && left.getClass() != right.getClass()) {
+      return Double.compare(l.doubleValue(), r.doubleValue());
+    }
+    return ((Comparable<Object>) left).compareTo(right);
+  }
+
+  /** One slice of the search, state guarded by the lock of the prefetcher. */
+  private static class Slice {
+    private final int id;
+
+    private final OpenSearchQueryRequest request;
+
+    /** Batches fetched but not yet consumed. */
+    private final Deque<OpenSearchResponse> buffered = new ArrayDeque<>();
+
+    private boolean fetching = false;
+
+    /** No more batch to fetch, because the last one was empty or failed. */
+    private boolean done = false;
+
+    Slice(int id, OpenSearchQueryRequest request) {
+      this.id = id;
+      this.request = request;
+    }
+  }
+
+  /** Position in a batch of hits of a slice. */
+  private static class Cursor {
+    private final Slice slice;
+
+    private final SearchHit[] hits;
+
+    private int position = 0;
+
+    Cursor(Slice slice, SearchHit[] hits) {
+      this.slice = slice;
+      this.hits = hits;
+    }
+
+    SearchHit current() {
+      return hits[position];
+    }
+  }
+}
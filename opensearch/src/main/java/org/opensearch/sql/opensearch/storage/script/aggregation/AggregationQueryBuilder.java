@@ -29,6 +29,7 @@ import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.request.CompositeAggregationPaging;
 import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.MetricParser;
 import org.opensearch.sql.opensearch.response.agg.NoBucketAggregationParser;
@@ -44,7 +45,10 @@ import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 @RequiredArgsConstructor
 public class AggregationQueryBuilder extends ExpressionNodeVisitor<AggregationBuilder, Object> {
 
-  /** How many composite buckets should be returned. */
+  /**
+   * How many composite buckets are requested by the first page, the following pages are fetched
+   * with after_key, see {@link CompositeAggregationPaging}.
+   */
   public static final int AGGREGATION_BUCKET_SIZE = 1000;
 
   /** Bucket Aggregation builder. */
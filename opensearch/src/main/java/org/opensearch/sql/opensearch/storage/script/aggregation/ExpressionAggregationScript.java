@@ -38,6 +38,22 @@ public class ExpressionAggregationScript extends AggregationScript {
     this.expressionScript = new ExpressionScript(expression);
   }
 
+  /** Constructor that shares the reference fields resolved by the template script. */
+  public ExpressionAggregationScript(
+      ExpressionScript template,
+      SearchLookup lookup,
+      LeafReaderContext context,
+      Map<String, Object> params) {
+    super(params, lookup, context);
+    this.expressionScript = new ExpressionScript(template);
+  }
+
+  @Override
+  public void setDocument(int docid) {
+    super.setDocument(docid);
+    expressionScript.setDocument(docid);
+  }
+
   @Override
   public Object execute() {
     var expr = expressionScript.execute(this::getDoc, this::evaluateExpression);
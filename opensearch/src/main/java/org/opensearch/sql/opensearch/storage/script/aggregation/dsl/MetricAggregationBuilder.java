@@ -24,6 +24,7 @@ import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.LiteralExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.aggregation.HyperLogLogPlusPlus;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.opensearch.response.agg.*;
 import org.opensearch.sql.opensearch.storage.script.filter.FilterQueryBuilder;
@@ -167,6 +168,17 @@ public class MetricAggregationBuilder
             condition,
             name,
             new SinglePercentileParser(name));
+      case "distinct_count_approx":
+        return make(
+            AggregationBuilders.cardinality(name)
+                .precisionThreshold(
+                    node.getArguments().size() >= 2
+                        ? node.getArguments().get(1).valueOf().integerValue()
+                        : HyperLogLogPlusPlus.DEFAULT_PRECISION_THRESHOLD),
+            expression,
+            condition,
+            name,
+            new SingleValueParser(name));
       default:
         throw new IllegalStateException(
             String.format("unsupported aggregator %s", node.getFunctionName().getFunctionName()));
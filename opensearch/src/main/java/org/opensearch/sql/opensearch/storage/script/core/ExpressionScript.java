@@ -6,9 +6,13 @@
 package org.opensearch.sql.opensearch.storage.script.core;
 
 import static java.util.stream.Collectors.toMap;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.time.chrono.ChronoZonedDateTime;
@@ -20,6 +24,11 @@ import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import lombok.EqualsAndHashCode;
 import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
@@ -33,7 +42,9 @@ import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 
 /**
  * Expression script executor that executes the expression on each document and determine if the
- * document is supposed to be filtered out or not.
+ * document is supposed to be filtered out or not. One instance is created per leaf reader, so the
+ * doc values of the referenced fields are looked up by name only on the first document and then
+ * advanced to each following document directly. The value environment is reused across documents.
  */
 @EqualsAndHashCode(callSuper = false)
 public class ExpressionScript {
@@ -47,6 +58,28 @@ public class ExpressionScript {
   /** Reference Fields. */
   @EqualsAndHashCode.Exclude private final Set<ReferenceExpression> fields;
 
+  /** Reference fields in a fixed order, aligned with {@link #docValueNames}. */
+  @EqualsAndHashCode.Exclude private final ReferenceExpression[] fieldRefs;
+
+  /** Doc value field name of each reference field. */
+  @EqualsAndHashCode.Exclude private final String[] docValueNames;
+
+  /** Doc values of each reference field in current leaf, loaded on the first document. */
+  @EqualsAndHashCode.Exclude private ScriptDocValues<?>[] docValues;
+
+  /** Document set by the script, -1 if never set. */
+  @EqualsAndHashCode.Exclude private int docId = -1;
+
+  /** Document the doc values are positioned on. */
+  @EqualsAndHashCode.Exclude private int loadedDocId = -1;
+
+  /** Values of reference fields on current document. */
+  @EqualsAndHashCode.Exclude private final Map<Expression, ExprValue> valueMap = new HashMap<>();
+
+  /** Encapsulate map data structure into Environment, reused across documents. */
+  @EqualsAndHashCode.Exclude
+  private final Environment<Expression, ExprValue> valueEnv = valueMap::get;
+
   /** Expression constructor. */
   public ExpressionScript(Expression expression) {
     this.expression = expression;
@@ -56,6 +89,35 @@ public class ExpressionScript {
     this.valueFactory =
         AccessController.doPrivileged(
             (PrivilegedAction<OpenSearchExprValueFactory>) () -> buildValueFactory(fields));
+    this.fieldRefs = fields.toArray(new ReferenceExpression[0]);
+    this.docValueNames = new String[fieldRefs.length];
+    for (int i = 0; i < fieldRefs.length; i++) {
+      docValueNames[i] =
+          OpenSearchTextType.convertTextToKeyword(fieldRefs[i].getAttr(), fieldRefs[i].type());
+    }
+  }
+
+  /**
+   * Create a script for another leaf reader, which shares the reference fields resolved by the
+   * given script but has its own doc values and value environment.
+   *
+   * @param template script to share reference fields with
+   */
+  public ExpressionScript(ExpressionScript template) {
+    this.expression = template.expression;
+    this.fields = template.fields;
+    this.valueFactory = template.valueFactory;
+    this.fieldRefs = template.fieldRefs;
+    this.docValueNames = template.docValueNames;
+  }
+
+  /**
+   * Set the current document of the leaf reader.
+   *
+   * @param docId document id
+   */
+  public void setDocument(int docId) {
+    this.docId = docId;
   }
 
   /**
@@ -71,10 +133,11 @@ public class ExpressionScript {
     return AccessController.doPrivileged(
         (PrivilegedAction<ExprValue>)
             () -> {
-              Environment<Expression, ExprValue> valueEnv =
-                  buildValueEnv(fields, valueFactory, docProvider);
-              ExprValue result = evaluator.apply(expression, valueEnv);
-              return result;
+              loadDocValues(docProvider);
+              for (int i = 0; i < fieldRefs.length; i++) {
+                valueMap.put(fieldRefs[i], getExprValue(fieldRefs[i], docValues[i]));
+              }
+              return evaluator.apply(expression, valueEnv);
             });
   }
 
@@ -105,30 +168,56 @@ public class ExpressionScript {
     return new OpenSearchExprValueFactory(typeEnv, false);
   }
 
-  private Environment<Expression, ExprValue> buildValueEnv(
-      Set<ReferenceExpression> fields,
-      OpenSearchExprValueFactory valueFactory,
-      Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
-
-    Map<Expression, ExprValue> valueEnv = new HashMap<>();
-    for (ReferenceExpression field : fields) {
-      String fieldName = field.getAttr();
-      ExprValue exprValue =
-          valueFactory.construct(fieldName, getDocValue(field, docProvider), false);
-      valueEnv.put(field, exprValue);
+  /**
+   * Look up the doc values by name on the first document, which positions them on it as well.
+   * Afterwards, only advance them if the document changed.
+   */
+  private void loadDocValues(Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
+    if (docValues == null) {
+      Map<String, ScriptDocValues<?>> doc = docProvider.get();
+      docValues = new ScriptDocValues<?>[docValueNames.length];
+      for (int i = 0; i < docValueNames.length; i++) {
+        docValues[i] = doc.get(docValueNames[i]);
+      }
+      loadedDocId = docId;
+    } else if (docId != loadedDocId) {
+      try {
+        for (ScriptDocValues<?> docValue : docValues) {
+          if (docValue != null) {
+            docValue.setNextDocId(docId);
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to load doc values of document " + docId, e);
+      }
+      loadedDocId = docId;
     }
-    // Encapsulate map data structure into anonymous Environment class
-    return valueEnv::get;
   }
 
-  private Object getDocValue(
-      ReferenceExpression field, Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
-    String fieldName = OpenSearchTextType.convertTextToKeyword(field.getAttr(), field.type());
-    ScriptDocValues<?> docValue = docProvider.get().get(fieldName);
+  private ExprValue getExprValue(ReferenceExpression field, ScriptDocValues<?> docValue) {
     if (docValue == null || docValue.isEmpty()) {
-      return null; // No way to differentiate null and missing from doc value
+      return ExprNullValue.of(); // No way to differentiate null and missing from doc value
     }
 
+    // Read numeric doc values as primitives, skipping value factory dispatch and number cast
+    ExprType type = field.type();
+    if (docValue instanceof ScriptDocValues.Longs) {
+      if (type == LONG) {
+        return new ExprLongValue(((ScriptDocValues.Longs) docValue).getValue());
+      } else if (type == INTEGER) {
+        return new ExprIntegerValue((int) ((ScriptDocValues.Longs) docValue).getValue());
+      }
+    } else if (docValue instanceof ScriptDocValues.Doubles) {
+      if (type == DOUBLE) {
+        return new ExprDoubleValue(((ScriptDocValues.Doubles) docValue).getValue());
+      } else if (type == FLOAT) {
+        return new ExprFloatValue((float) ((ScriptDocValues.Doubles) docValue).getValue());
+      }
+    }
+    return valueFactory.construct(field.getAttr(), getDocValue(field, docValue), false);
+  }
+
+  private Object getDocValue(ReferenceExpression field, ScriptDocValues<?> docValue) {
     Object value = docValue.get(0);
     if (value instanceof ChronoZonedDateTime) {
       return ((ChronoZonedDateTime<?>) value).toInstant();
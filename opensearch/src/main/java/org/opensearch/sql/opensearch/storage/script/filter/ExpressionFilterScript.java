@@ -36,6 +36,22 @@ class ExpressionFilterScript extends FilterScript {
     this.expressionScript = new ExpressionScript(expression);
   }
 
+  /** Constructor that shares the reference fields resolved by the template script. */
+  public ExpressionFilterScript(
+      ExpressionScript template,
+      SearchLookup lookup,
+      LeafReaderContext context,
+      Map<String, Object> params) {
+    super(params, lookup, context);
+    this.expressionScript = new ExpressionScript(template);
+  }
+
+  @Override
+  public void setDocument(int docid) {
+    super.setDocument(docid);
+    expressionScript.setDocument(docid);
+  }
+
   @Override
   public boolean execute() {
     return expressionScript.execute(this::getDoc, this::evaluateExpression).booleanValue();
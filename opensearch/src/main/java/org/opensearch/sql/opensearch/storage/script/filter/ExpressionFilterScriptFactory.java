@@ -10,6 +10,7 @@ import lombok.EqualsAndHashCode;
 import org.opensearch.script.FilterScript;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 /** Expression script factory that generates leaf factory. */
 @EqualsAndHashCode
@@ -18,8 +19,12 @@ public class ExpressionFilterScriptFactory implements FilterScript.Factory {
   /** Expression to execute. */
   private final Expression expression;
 
+  /** Script with reference fields resolved, shared by the scripts of all leaves. */
+  @EqualsAndHashCode.Exclude private final ExpressionScript template;
+
   public ExpressionFilterScriptFactory(Expression expression) {
     this.expression = expression;
+    this.template = new ExpressionScript(expression);
   }
 
   @Override
@@ -30,6 +35,6 @@ public class ExpressionFilterScriptFactory implements FilterScript.Factory {
 
   @Override
   public FilterScript.LeafFactory newFactory(Map<String, Object> params, SearchLookup lookup) {
-    return new ExpressionFilterScriptLeafFactory(expression, params, lookup);
+    return new ExpressionFilterScriptLeafFactory(template, params, lookup);
   }
 }
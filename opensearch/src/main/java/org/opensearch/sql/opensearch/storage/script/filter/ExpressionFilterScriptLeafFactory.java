@@ -9,13 +9,13 @@ import java.util.Map;
 import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.script.FilterScript;
 import org.opensearch.search.lookup.SearchLookup;
-import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 /** Expression script leaf factory that produces script executor for each leaf. */
 class ExpressionFilterScriptLeafFactory implements FilterScript.LeafFactory {
 
-  /** Expression to execute. */
-  private final Expression expression;
+  /** Script of the expression to execute, shared by the scripts of all leaves. */
+  private final ExpressionScript template;
 
   /** Parameters for the expression. */
   private final Map<String, Object> params;
@@ -24,14 +24,14 @@ class ExpressionFilterScriptLeafFactory implements FilterScript.LeafFactory {
   private final SearchLookup lookup;
 
   public ExpressionFilterScriptLeafFactory(
-      Expression expression, Map<String, Object> params, SearchLookup lookup) {
-    this.expression = expression;
+      ExpressionScript template, Map<String, Object> params, SearchLookup lookup) {
+    this.template = template;
     this.params = params;
     this.lookup = lookup;
   }
 
   @Override
   public FilterScript newInstance(LeafReaderContext ctx) {
-    return new ExpressionFilterScript(expression, lookup, ctx, params);
+    return new ExpressionFilterScript(template, lookup, ctx, params);
   }
 }
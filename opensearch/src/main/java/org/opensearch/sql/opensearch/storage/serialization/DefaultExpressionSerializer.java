@@ -8,21 +8,33 @@ package org.opensearch.sql.opensearch.storage.serialization;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.Base64;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 import org.opensearch.sql.expression.Expression;
 
-/** Default serializer that (de-)serialize expressions by JDK serialization. */
+/**
+ * Default serializer that (de-)serialize expressions by JDK serialization. The serialized bytes are
+ * deflated because class descriptors and function names repeat a lot in an expression tree, which
+ * makes the script code several times smaller. Code of plain JDK serialization produced by earlier
+ * versions is still accepted.
+ */
 public class DefaultExpressionSerializer implements ExpressionSerializer {
 
+  /** First two bytes of a JDK serialization stream. */
+  private static final int STREAM_MAGIC = 0xACED;
+
   @Override
   public String serialize(Expression expr) {
     try {
       ByteArrayOutputStream output = new ByteArrayOutputStream();
-      ObjectOutputStream objectOutput = new ObjectOutputStream(output);
-      objectOutput.writeObject(expr);
-      objectOutput.flush();
+      try (ObjectOutputStream objectOutput =
+          new ObjectOutputStream(new DeflaterOutputStream(output))) {
+        objectOutput.writeObject(expr);
+      }
       return Base64.getEncoder().encodeToString(output.toByteArray());
     } catch (IOException e) {
       throw new IllegalStateException("Failed to serialize expression: " + expr, e);
@@ -32,11 +44,19 @@ public class DefaultExpressionSerializer implements ExpressionSerializer {
   @Override
   public Expression deserialize(String code) {
     try {
-      ByteArrayInputStream input = new ByteArrayInputStream(Base64.getDecoder().decode(code));
+      byte[] bytes = Base64.getDecoder().decode(code);
+      InputStream input = new ByteArrayInputStream(bytes);
+      if (!isJdkStream(bytes)) {
+        input = new InflaterInputStream(input);
+      }
       ObjectInputStream objectInput = new ObjectInputStream(input);
       return (Expression) objectInput.readObject();
     } catch (Exception e) {
       throw new IllegalStateException("Failed to deserialize expression code: " + code, e);
     }
   }
+
+  private boolean isJdkStream(byte[] bytes) {
+    return bytes.length >= 2 && (((bytes[0] & 0xFF) << 8) | (bytes[1] & 0xFF)) == STREAM_MAGIC;
+  }
 }
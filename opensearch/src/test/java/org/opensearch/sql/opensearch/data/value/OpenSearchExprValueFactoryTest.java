@@ -49,6 +49,7 @@ import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.junit.jupiter.api.Test;
 import org.opensearch.OpenSearchParseException;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.geometry.utils.Geohash;
 import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprDateValue;
@@ -1061,6 +1062,36 @@ class OpenSearchExprValueFactoryTest {
     return construct.tupleValue();
   }
 
+  @Test
+  public void constructFromSourceBytes() {
+    String json = "{\"intV\":1,\"stringV\":\"a\",\"structV\":{\"id\":1,\"state\":\"WA\"}}";
+    assertEquals(
+        exprValueFactory.construct(json, false),
+        exprValueFactory.construct(new BytesArray(json), List.of(), false));
+  }
+
+  @Test
+  public void constructFromSourceBytesSkipsFieldsNotIncluded() {
+    Map<String, ExprValue> tuple =
+        exprValueFactory
+            .construct(
+                new BytesArray("{\"intV\":1,\"stringV\":\"a\",\"structV\":{\"id\":1}}"),
+                List.of("intV", "structV.id"),
+                false)
+            .tupleValue();
+    assertEquals(integerValue(1), tuple.get("intV"));
+    assertEquals(
+        ExprTupleValue.fromExprValueMap(Map.of("id", integerValue(1))), tuple.get("structV"));
+    assertFalse(tuple.containsKey("stringV"));
+  }
+
+  @Test
+  public void constructFromInvalidSourceBytes() {
+    assertThrows(
+        IllegalStateException.class,
+        () -> exprValueFactory.construct(new BytesArray("[1]"), List.of(), false));
+  }
+
   private ExprValue constructFromObject(String fieldName, Object value) {
     return exprValueFactory.construct(fieldName, value, false);
   }
@@ -9,16 +9,37 @@
 package org.opensearch.sql.opensearch.executor;
 
 import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.opensearch.sql.common.setting.Settings.Key.QUERY_EXECUTOR_VIRTUAL_THREADS;
 
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.sql.ast.tree.FetchCursor;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.executor.ExecutionEngine;
@@ -43,11 +64,29 @@ class OpenSearchQueryManagerTest {
 
   @Mock private ResponseListener<ExecutionEngine.QueryResponse> listener;
 
+  @Mock private QueryAdmissionController admissionController;
+
+  @Mock private NodeClient nodeClient;
+
+  @Mock private ThreadPool threadPool;
+
+  @Mock private ExecutorService executor;
+
+  @Mock private org.opensearch.sql.common.setting.Settings settings;
+
+  @BeforeEach
+  public void setUp() {
+    when(nodeClient.threadPool()).thenReturn(threadPool);
+  }
+
   @Test
   public void submitQuery() {
-    NodeClient nodeClient = mock(NodeClient.class);
-    ThreadPool threadPool = mock(ThreadPool.class);
-    when(nodeClient.threadPool()).thenReturn(threadPool);
+    when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+    when(threadPool.executor(OpenSearchQueryManager.SQL_WORKER_THREAD_POOL_NAME))
+        .thenReturn(executor);
+    Releasable admission = mock(Releasable.class);
+    when(admissionController.admit(null, Set.of())).thenReturn(admission);
+    runTasksOnSubmit();
 
     AtomicBoolean isRun = new AtomicBoolean(false);
     AbstractPlan queryPlan =
@@ -57,17 +96,162 @@ class OpenSearchQueryManagerTest {
             isRun.set(true);
           }
         };
+    new OpenSearchQueryManager(nodeClient, admissionController, settings).submit(queryPlan);
+
+    assertTrue(isRun.get());
+    verify(admission).close();
+  }
+
+  @Test
+  public void submitQueryOfAuthenticatedUser() {
+    ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+    threadContext.putTransient("_opendistro_security_user_info", "alice|backend|all_access|");
+    when(threadPool.getThreadContext()).thenReturn(threadContext);
+    when(threadPool.executor(OpenSearchQueryManager.SQL_WORKER_THREAD_POOL_NAME))
+        .thenReturn(executor);
+    when(admissionController.admit("alice", Set.of())).thenReturn(() -> {});
+    runTasksOnSubmit();
+
+    AtomicBoolean isRun = new AtomicBoolean(false);
+    AbstractPlan queryPlan =
+        new QueryPlan(queryId, queryType, plan, queryService, listener) {
+          @Override
+          public void execute() {
+            isRun.set(true);
+          }
+        };
+    new OpenSearchQueryManager(nodeClient, admissionController, settings).submit(queryPlan);
+
+    assertTrue(isRun.get());
+  }
+
+  @Test
+  public void submitCursorFetchToInteractivePool() {
+    when(threadPool.executor(OpenSearchQueryManager.SQL_INTERACTIVE_THREAD_POOL_NAME))
+        .thenReturn(executor);
+    runTasksOnSubmit();
+
+    AtomicBoolean isRun = new AtomicBoolean(false);
+    AbstractPlan queryPlan =
+        new QueryPlan(queryId, queryType, new FetchCursor("n:cursor"), queryService, listener) {
+          @Override
+          public void execute() {
+            isRun.set(true);
+          }
+        };
+    new OpenSearchQueryManager(nodeClient, admissionController, settings).submit(queryPlan);
+
+    assertTrue(isRun.get());
+    verifyNoInteractions(admissionController);
+  }
+
+  @Test
+  public void rejectQueryIfQueueIsFull() {
+    when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+    when(threadPool.executor(OpenSearchQueryManager.SQL_WORKER_THREAD_POOL_NAME))
+        .thenReturn(executor);
+    Releasable admission = mock(Releasable.class);
+    when(admissionController.admit(null, Set.of())).thenReturn(admission);
+    doThrow(new OpenSearchRejectedExecutionException("queue is full"))
+        .when(executor)
+        .execute(any());
+    long rejected = QueryQueueStats.rejectedCount();
+
+    OpenSearchQueryManager queryManager =
+        new OpenSearchQueryManager(nodeClient, admissionController, settings);
+    AbstractPlan queryPlan = new QueryPlan(queryId, queryType, plan, queryService, listener);
+    OpenSearchStatusException exception =
+        assertThrows(OpenSearchStatusException.class, () -> queryManager.submit(queryPlan));
+
+    assertEquals(RestStatus.TOO_MANY_REQUESTS, exception.status());
+    assertEquals(rejected + 1, QueryQueueStats.rejectedCount());
+    verify(admission).close();
+  }
+
+  @Test
+  public void submitQueryOnVirtualThread() throws InterruptedException {
+    ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+    threadContext.putHeader("request", "header");
+    when(threadPool.getThreadContext()).thenReturn(threadContext);
+    when(settings.getSettingValue(QUERY_EXECUTOR_VIRTUAL_THREADS)).thenReturn(1);
+    Releasable admission = mock(Releasable.class);
+    when(admissionController.admit(null, Set.of())).thenReturn(admission);
+
+    CountDownLatch done = new CountDownLatch(1);
+    AtomicBoolean isVirtual = new AtomicBoolean(false);
+    AtomicReference<String> header = new AtomicReference<>();
+    AbstractPlan queryPlan =
+        new QueryPlan(queryId, queryType, plan, queryService, listener) {
+          @Override
+          public void execute() {
+            isVirtual.set(Thread.currentThread().isVirtual());
+            header.set(threadContext.getHeader("request"));
+            done.countDown();
+          }
+        };
+    try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+      threadContext.putHeader("request", "query");
+      new OpenSearchQueryManager(nodeClient, admissionController, settings).submit(queryPlan);
+    }
+
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+    assertTrue(isVirtual.get());
+    assertEquals("query", header.get());
+    verify(admission, timeout(10000)).close();
+    verifyNoInteractions(executor);
+  }
 
+  @Test
+  public void submitQueryToWorkerPoolBeyondVirtualThreadLimit() throws InterruptedException {
+    when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+    when(threadPool.executor(OpenSearchQueryManager.SQL_WORKER_THREAD_POOL_NAME))
+        .thenReturn(executor);
+    when(settings.getSettingValue(QUERY_EXECUTOR_VIRTUAL_THREADS)).thenReturn(1);
+    when(admissionController.admit(null, Set.of())).thenReturn(() -> {});
+    runTasksOnSubmit();
+
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch started = new CountDownLatch(1);
+    AbstractPlan blocking =
+        new QueryPlan(queryId, queryType, plan, queryService, listener) {
+          @Override
+          public void execute() {
+            started.countDown();
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          }
+        };
+    AtomicBoolean isVirtual = new AtomicBoolean(true);
+    AbstractPlan queryPlan =
+        new QueryPlan(queryId, queryType, plan, queryService, listener) {
+          @Override
+          public void execute() {
+            isVirtual.set(Thread.currentThread().isVirtual());
+          }
+        };
+
+    OpenSearchQueryManager queryManager =
+        new OpenSearchQueryManager(nodeClient, admissionController, settings);
+    queryManager.submit(blocking);
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    queryManager.submit(queryPlan);
+    release.countDown();
+
+    assertFalse(isVirtual.get());
+    verify(executor).execute(any());
+  }
+
+  private void runTasksOnSubmit() {
     doAnswer(
             invocation -> {
               Runnable task = invocation.getArgument(0);
               task.run();
               return null;
             })
-        .when(threadPool)
-        .schedule(any(), any(), any());
-    new OpenSearchQueryManager(nodeClient).submit(queryPlan);
-
-    assertTrue(isRun.get());
+        .when(executor)
+        .execute(any());
   }
 }
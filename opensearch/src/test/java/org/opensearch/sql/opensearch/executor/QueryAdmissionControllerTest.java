@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.sql.common.setting.Settings;
+
+@ExtendWith(MockitoExtension.class)
+class QueryAdmissionControllerTest {
+
+  @Mock private Settings settings;
+
+  @Test
+  void admit_without_limits() {
+    mockLimits(0, 0);
+    QueryAdmissionController controller = new QueryAdmissionController(settings);
+
+    for (int i = 0; i < 10; i++) {
+      controller.admit("alice", List.of("logs"));
+    }
+    assertEquals(0, controller.running("user:alice"));
+    assertEquals(0, controller.running("index:logs"));
+  }
+
+  @Test
+  void reject_over_user_limit() {
+    mockLimits(2, 0);
+    QueryAdmissionController controller = new QueryAdmissionController(settings);
+    Releasable first = controller.admit("alice", List.of("logs"));
+    controller.admit("alice", List.of("metrics"));
+    controller.admit("bob", List.of("logs"));
+    long rejected = QueryQueueStats.rejectedCount();
+
+    OpenSearchStatusException exception =
+        assertThrows(
+            OpenSearchStatusException.class, () -> controller.admit("alice", List.of("logs")));
+    assertEquals(RestStatus.TOO_MANY_REQUESTS, exception.status());
+    assertEquals(rejected + 1, QueryQueueStats.rejectedCount());
+
+    first.close();
+    controller.admit("alice", List.of("logs"));
+    assertEquals(2, controller.running("user:alice"));
+  }
+
+  @Test
+  void reject_over_index_limit_without_admitting_other_keys() {
+    mockLimits(5, 1);
+    QueryAdmissionController controller = new QueryAdmissionController(settings);
+    controller.admit("alice", List.of("logs"));
+
+    assertThrows(
+        OpenSearchStatusException.class, () -> controller.admit("bob", List.of("metrics", "logs")));
+    assertEquals(0, controller.running("user:bob"));
+    assertEquals(0, controller.running("index:metrics"));
+    assertEquals(1, controller.running("index:logs"));
+  }
+
+  @Test
+  void release_only_once() {
+    mockLimits(1, 1);
+    QueryAdmissionController controller = new QueryAdmissionController(settings);
+    Releasable first = controller.admit("alice", List.of("logs"));
+    controller.admit("bob", List.of("metrics"));
+
+    first.close();
+    first.close();
+    assertEquals(0, controller.running("user:alice"));
+    assertEquals(1, controller.running("user:bob"));
+    assertEquals(0, controller.running("index:logs"));
+    assertEquals(1, controller.running("index:metrics"));
+  }
+
+  @Test
+  void unknown_user_is_only_limited_by_index() {
+    mockLimits(1, 2);
+    QueryAdmissionController controller = new QueryAdmissionController(settings);
+    controller.admit(null, List.of("logs"));
+    controller.admit(null, List.of("logs"));
+
+    assertThrows(OpenSearchStatusException.class, () -> controller.admit(null, List.of("logs")));
+  }
+
+  private void mockLimits(int perUser, int perIndex) {
+    when(settings.getSettingValue(Settings.Key.QUERY_ADMISSION_MAX_CONCURRENT_PER_USER))
+        .thenReturn(perUser);
+    when(settings.getSettingValue(Settings.Key.QUERY_ADMISSION_MAX_CONCURRENT_PER_INDEX))
+        .thenReturn(perIndex);
+  }
+}
@@ -6,13 +6,16 @@
 package org.opensearch.sql.opensearch.executor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +26,7 @@ import org.opensearch.sql.opensearch.executor.protector.ResourceMonitorPlan;
 import org.opensearch.sql.planner.SerializablePlan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.batch.Batch;
 
 @ExtendWith(MockitoExtension.class)
 class ResourceMonitorPlanTest {
@@ -82,6 +86,32 @@ class ResourceMonitorPlanTest {
     assertEquals("insufficient resources to load next row, quit.", exception.getMessage());
   }
 
+  @Test
+  void nextBatchSuccess() {
+    when(resourceMonitor.isHealthy()).thenReturn(true);
+    Batch batch = Batch.of(List.of());
+    when(plan.nextBatch(10)).thenReturn(batch);
+
+    assertSame(batch, monitorPlan.nextBatch(10));
+    verify(resourceMonitor, times(1)).isHealthy();
+  }
+
+  @Test
+  void nextBatchExceedResourceLimit() {
+    when(resourceMonitor.isHealthy()).thenReturn(false);
+
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> monitorPlan.nextBatch(10));
+    assertEquals("insufficient resources to load next batch, quit.", exception.getMessage());
+  }
+
+  @Test
+  void isVectorizedDelegated() {
+    when(plan.isVectorized()).thenReturn(true);
+
+    assertTrue(monitorPlan.isVectorized());
+  }
+
   @Test
   void hasNextSuccess() {
     monitorPlan.hasNext();
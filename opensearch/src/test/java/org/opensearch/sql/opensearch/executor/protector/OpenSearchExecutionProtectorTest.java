@@ -7,7 +7,9 @@ package org.opensearch.sql.opensearch.executor.protector;
 
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
 import static org.opensearch.sql.ast.tree.Trendline.TrendlineType.SMA;
@@ -56,10 +58,12 @@ import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.aggregation.AggregateWindowFunction;
 import org.opensearch.sql.expression.window.ranking.RankFunction;
+import org.opensearch.sql.monitor.QueryMemoryTracker;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryBreaker;
 import org.opensearch.sql.opensearch.planner.physical.ADOperator;
 import org.opensearch.sql.opensearch.planner.physical.MLCommonsOperator;
 import org.opensearch.sql.opensearch.planner.physical.MLOperator;
@@ -68,7 +72,9 @@ import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
+import org.opensearch.sql.planner.physical.AggregationOperator;
 import org.opensearch.sql.planner.physical.CursorCloseOperator;
+import org.opensearch.sql.planner.physical.DedupeOperator;
 import org.opensearch.sql.planner.physical.NestedOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanDSL;
@@ -221,6 +227,42 @@ class OpenSearchExecutionProtectorTest {
             window(sort(values(emptyList()), sortItem), avg, windowDefinition)));
   }
 
+  @Test
+  void test_pass_query_memory_tracker_to_operators() {
+    OpenSearchMemoryBreaker memoryBreaker = mock(OpenSearchMemoryBreaker.class);
+    QueryMemoryTracker memoryTracker = mock(QueryMemoryTracker.class);
+    when(memoryBreaker.newTracker()).thenReturn(memoryTracker);
+    OpenSearchExecutionProtector protector =
+        new OpenSearchExecutionProtector(resourceMonitor, settings, memoryBreaker);
+
+    AggregationOperator agg =
+        (AggregationOperator)
+            protector.protect(
+                PhysicalPlanDSL.agg(
+                    PhysicalPlanDSL.dedupe(values(), DSL.ref("age", INTEGER)),
+                    emptyList(),
+                    emptyList()));
+    assertSame(memoryTracker, agg.getMemoryTracker());
+    assertSame(memoryTracker, ((DedupeOperator) agg.getInput()).getMemoryTracker());
+    verify(memoryBreaker, times(1)).newTracker();
+  }
+
+  @Test
+  void test_pass_batch_execution_setting_to_aggregation() {
+    when(settings.getSettingValue(Settings.Key.QUERY_BATCH_EXECUTION_ENABLED)).thenReturn(true);
+    OpenSearchExecutionProtector protector =
+        new OpenSearchExecutionProtector(resourceMonitor, settings);
+
+    AggregationOperator agg =
+        (AggregationOperator)
+            protector.protect(PhysicalPlanDSL.agg(values(), emptyList(), emptyList()));
+    assertTrue(agg.isBatchExecution());
+    assertFalse(
+        ((AggregationOperator)
+                executionProtector.protect(PhysicalPlanDSL.agg(values(), emptyList(), emptyList())))
+            .isBatchExecution());
+  }
+
   @Test
   void test_without_protection() {
     Expression filterExpr = literal(ExprBooleanValue.of(true));
@@ -0,0 +1,188 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+
+@ExtendWith(MockitoExtension.class)
+class IndexMappingCacheTest {
+
+  private static final String MAPPING_V1 = "{\"properties\":{\"name\":{\"type\":\"keyword\"}}}";
+
+  private static final String MAPPING_V2 =
+      "{\"properties\":{\"name\":{\"type\":\"keyword\"},\"age\":{\"type\":\"integer\"}}}";
+
+  @Mock private ClusterService clusterService;
+
+  private final AtomicInteger parsed = new AtomicInteger();
+
+  private final Function<MappingMetadata, IndexMapping> parser =
+      mapping -> {
+        parsed.incrementAndGet();
+        return new IndexMapping(mapping);
+      };
+
+  private IndexMappingCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new IndexMappingCache(clusterService);
+  }
+
+  @Test
+  void parse_mapping_once_per_version() throws IOException {
+    IndexMetadata logs = index("logs", "uuid1", 1, MAPPING_V1);
+    when(clusterService.state()).thenReturn(state(logs));
+
+    IndexMapping first = cache.get("logs", logs.mapping(), IndexMapping.class, parser);
+    IndexMapping second = cache.get("logs", logs.mapping(), IndexMapping.class, parser);
+
+    assertSame(first, second);
+    assertEquals(1, parsed.get());
+    assertEquals(1, cache.hitCount());
+    assertEquals(1, cache.missCount());
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  void evict_mapping_when_updated() throws IOException {
+    IndexMetadata v1 = index("logs", "uuid1", 1, MAPPING_V1);
+    IndexMetadata v2 = index("logs", "uuid1", 2, MAPPING_V2);
+    ClusterState before = state(v1);
+    ClusterState after = state(v2);
+    when(clusterService.state()).thenReturn(before);
+    IndexMapping first = cache.get("logs", v1.mapping(), IndexMapping.class, parser);
+
+    cache.clusterChanged(new ClusterChangedEvent("test", after, before));
+    assertEquals(0, cache.size());
+    assertEquals(1, cache.evictionCount());
+
+    when(clusterService.state()).thenReturn(after);
+    IndexMapping second = cache.get("logs", v2.mapping(), IndexMapping.class, parser);
+    assertNotSame(first, second);
+    assertEquals(OpenSearchDataType.MappingType.Integer, typeOf(second, "age"));
+    assertEquals(2, parsed.get());
+  }
+
+  @Test
+  void evict_mapping_when_index_deleted_or_recreated() throws IOException {
+    IndexMetadata logs = index("logs", "uuid1", 1, MAPPING_V1);
+    IndexMetadata other = index("other", "uuid2", 1, MAPPING_V1);
+    ClusterState before = state(logs, other);
+    when(clusterService.state()).thenReturn(before);
+    cache.get("logs", logs.mapping(), IndexMapping.class, parser);
+    cache.get("other", other.mapping(), IndexMapping.class, parser);
+
+    ClusterState after = state(index("logs", "uuid3", 1, MAPPING_V1));
+    cache.clusterChanged(new ClusterChangedEvent("test", after, before));
+
+    assertEquals(0, cache.size());
+    assertEquals(2, cache.evictionCount());
+  }
+
+  @Test
+  void keep_mappings_if_metadata_unchanged() throws IOException {
+    IndexMetadata logs = index("logs", "uuid1", 1, MAPPING_V1);
+    ClusterState state = state(logs);
+    when(clusterService.state()).thenReturn(state);
+    cache.get("logs", logs.mapping(), IndexMapping.class, parser);
+
+    cache.clusterChanged(new ClusterChangedEvent("test", state, state));
+    ClusterState rebuilt =
+        ClusterState.builder(state).metadata(Metadata.builder(state.metadata())).build();
+    cache.clusterChanged(new ClusterChangedEvent("test", rebuilt, state));
+
+    assertEquals(1, cache.size());
+    assertEquals(0, cache.evictionCount());
+  }
+
+  @Test
+  void parse_without_caching_mapping_different_from_cluster_state() throws IOException {
+    IndexMetadata logs = index("logs", "uuid1", 1, MAPPING_V1);
+    IndexMetadata filtered = index("logs", "uuid1", 1, MAPPING_V2);
+    when(clusterService.state()).thenReturn(state(logs));
+
+    cache.get("logs", filtered.mapping(), IndexMapping.class, parser);
+    cache.get("logs", filtered.mapping(), IndexMapping.class, parser);
+    cache.get("unknown", filtered.mapping(), IndexMapping.class, parser);
+
+    assertEquals(3, parsed.get());
+    assertEquals(0, cache.size());
+    assertEquals(3, cache.missCount());
+  }
+
+  @Test
+  void cache_each_type_apart() throws IOException {
+    IndexMetadata logs = index("logs", "uuid1", 1, MAPPING_V1);
+    when(clusterService.state()).thenReturn(state(logs));
+
+    cache.get("logs", logs.mapping(), IndexMapping.class, parser);
+    String source = cache.get("logs", logs.mapping(), String.class, m -> m.source().toString());
+
+    assertEquals(logs.mapping().source().toString(), source);
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  void parse_every_mapping_without_cluster_service() throws IOException {
+    IndexMetadata logs = index("logs", "uuid1", 1, MAPPING_V1);
+    IndexMappingCache uncached = new IndexMappingCache(null);
+
+    uncached.get("logs", logs.mapping(), IndexMapping.class, parser);
+    uncached.get("logs", logs.mapping(), IndexMapping.class, parser);
+
+    assertEquals(2, parsed.get());
+    assertEquals(0, uncached.size());
+  }
+
+  private static OpenSearchDataType.MappingType typeOf(IndexMapping mapping, String field) {
+    return mapping.getFieldMappings().get(field).getMappingType();
+  }
+
+  private static IndexMetadata index(String name, String uuid, long version, String mapping)
+      throws IOException {
+    return IndexMetadata.builder(name)
+        .settings(
+            Settings.builder()
+                .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                .put(IndexMetadata.SETTING_INDEX_UUID, uuid))
+        .numberOfShards(1)
+        .numberOfReplicas(0)
+        .putMapping(mapping)
+        .mappingVersion(version)
+        .build();
+  }
+
+  private static ClusterState state(IndexMetadata... indices) {
+    Metadata.Builder metadata = Metadata.builder();
+    for (IndexMetadata index : indices) {
+      metadata.put(index, false);
+    }
+    return ClusterState.builder(ClusterName.DEFAULT).metadata(metadata).build();
+  }
+}
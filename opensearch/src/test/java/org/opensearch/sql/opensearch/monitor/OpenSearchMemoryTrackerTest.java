@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.monitor.QueryMemoryTracker;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchMemoryTrackerTest {
+
+  @Mock private CircuitBreaker breaker;
+
+  @Mock private Settings settings;
+
+  @Test
+  void reserve_and_release_from_breaker() {
+    OpenSearchMemoryTracker tracker = new OpenSearchMemoryTracker(breaker, 1000L);
+    tracker.reserve(600L);
+    tracker.release(200L);
+
+    assertEquals(400L, tracker.reservedBytes());
+    verify(breaker).addEstimateBytesAndMaybeBreak(600L, "<sql_query_rows>");
+    verify(breaker).addWithoutBreaking(-200L);
+  }
+
+  @Test
+  void reserve_over_per_query_limit_throws() {
+    when(breaker.getName()).thenReturn(OpenSearchMemoryBreaker.NAME);
+    when(breaker.getDurability()).thenReturn(CircuitBreaker.Durability.TRANSIENT);
+    OpenSearchMemoryTracker tracker = new OpenSearchMemoryTracker(breaker, 1000L);
+    tracker.reserve(600L);
+
+    CircuitBreakingException exception =
+        assertThrows(CircuitBreakingException.class, () -> tracker.reserve(600L));
+    assertTrue(exception.getMessage().contains("per query limit of [1000] bytes"));
+    assertEquals(600L, tracker.reservedBytes());
+    verify(breaker, never()).addEstimateBytesAndMaybeBreak(1200L, "<sql_query_rows>");
+  }
+
+  @Test
+  void reserve_without_per_query_limit() {
+    OpenSearchMemoryTracker tracker = new OpenSearchMemoryTracker(breaker, 0L);
+    tracker.reserve(Long.MAX_VALUE / 2);
+
+    assertEquals(Long.MAX_VALUE / 2, tracker.reservedBytes());
+  }
+
+  @Test
+  void breaker_trips() {
+    when(breaker.addEstimateBytesAndMaybeBreak(anyLong(), anyString()))
+        .thenThrow(new CircuitBreakingException("tripped", CircuitBreaker.Durability.TRANSIENT));
+    OpenSearchMemoryTracker tracker = new OpenSearchMemoryTracker(breaker, 1000L);
+
+    assertThrows(CircuitBreakingException.class, () -> tracker.reserve(100L));
+    assertEquals(0L, tracker.reservedBytes());
+  }
+
+  @Test
+  void new_tracker_with_per_query_limit() {
+    when(settings.getSettingValue(Settings.Key.QUERY_MEMORY_BREAKER_PER_QUERY_LIMIT))
+        .thenReturn(new ByteSizeValue(100L));
+    QueryMemoryTracker tracker = new OpenSearchMemoryBreaker(breaker, settings).newTracker();
+
+    assertThrows(CircuitBreakingException.class, () -> tracker.reserve(200L));
+  }
+
+  @Test
+  void new_tracker_without_breaker() {
+    assertSame(QueryMemoryTracker.NOOP, new OpenSearchMemoryBreaker(null, settings).newTracker());
+  }
+}
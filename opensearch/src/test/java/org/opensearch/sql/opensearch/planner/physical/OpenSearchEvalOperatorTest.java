@@ -5,6 +5,8 @@
 
 package org.opensearch.sql.opensearch.planner.physical;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -43,6 +45,7 @@ import org.opensearch.sql.expression.function.OpenSearchFunctions;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprTextValue;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.batch.Batch;
 import org.opensearch.transport.client.node.NodeClient;
 
 /** To assert the original behaviour of eval operator. */
@@ -134,4 +137,22 @@ public class OpenSearchEvalOperatorTest {
         evalOperator.next().keyValue("ipEnrichmentResult").tupleValue();
     assertSame("Canada", ipEnrichmentResult.get("country_name").stringValue());
   }
+
+  @Test
+  public void testNextBatchEvaluatesRowAtATime() {
+    when(input.hasNext()).thenReturn(true, false);
+    when(input.next()).thenReturn(DATE_ROW);
+
+    List<Pair<ReferenceExpression, Expression>> ageInAbs =
+        List.of(
+            ImmutablePair.of(
+                new ReferenceExpression("ageInAbs", ExprCoreType.LONG),
+                DSL.abs(new ReferenceExpression("age", ExprCoreType.LONG))));
+    OpenSearchEvalOperator evalOperator = new OpenSearchEvalOperator(input, ageInAbs, nodeClient);
+
+    assertFalse(evalOperator.isVectorized());
+    Batch batch = evalOperator.nextBatch(10);
+    assertEquals(1, batch.getSelectedCount());
+    assertEquals(32L, batch.rowAt(0).keyValue("ageInAbs").longValue());
+  }
 }
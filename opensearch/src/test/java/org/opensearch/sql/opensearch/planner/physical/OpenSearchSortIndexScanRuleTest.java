@@ -0,0 +1,210 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.planner.physical;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.calcite.utils.OpenSearchTypeFactory.TYPE_FACTORY;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import org.apache.calcite.plan.ConventionTraitDef;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.hep.HepPlanner;
+import org.apache.calcite.plan.hep.HepProgram;
+import org.apache.calcite.plan.volcano.VolcanoPlanner;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelCollationTraitDef;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.logical.LogicalProject;
+import org.apache.calcite.rel.logical.LogicalSort;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.tools.RelBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType.MappingType;
+import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
+import org.opensearch.sql.opensearch.storage.scan.CalciteLogicalIndexScan;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchSortIndexScanRuleTest {
+
+  private static final RelCollation SORT_BY_FIRST_FIELD = RelCollations.of(0);
+
+  @Mock private RelOptTable table;
+
+  @Mock private OpenSearchIndex osIndex;
+
+  @Mock private Settings settings;
+
+  @Mock private OpenSearchRequestBuilder requestBuilder;
+
+  private RelBuilder relBuilder;
+
+  private CalciteLogicalIndexScan scan;
+
+  @BeforeEach
+  void setUp() {
+    VolcanoPlanner planner = new VolcanoPlanner();
+    planner.addRelTraitDef(ConventionTraitDef.INSTANCE);
+    planner.addRelTraitDef(RelCollationTraitDef.INSTANCE);
+    RelOptCluster cluster = RelOptCluster.create(planner, new RexBuilder(TYPE_FACTORY));
+    relBuilder = RelBuilder.proto().create(cluster, null);
+    when(table.getRowType())
+        .thenReturn(
+            TYPE_FACTORY
+                .builder()
+                .add("age", SqlTypeName.INTEGER)
+                .add("name", SqlTypeName.VARCHAR)
+                .add("balance", SqlTypeName.BIGINT)
+                .build());
+    lenient().when(table.unwrap(OpenSearchIndex.class)).thenReturn(osIndex);
+    lenient()
+        .when(osIndex.getFieldTypes())
+        .thenReturn(
+            Map.of(
+                "age", OpenSearchDataType.of(MappingType.Integer),
+                "name", OpenSearchDataType.of(MappingType.Keyword),
+                "balance", OpenSearchDataType.of(MappingType.Long)));
+    lenient().when(osIndex.getAliasMapping()).thenReturn(Map.of());
+    lenient().when(osIndex.createRequestBuilder()).thenReturn(requestBuilder);
+    lenient().when(osIndex.getSettings()).thenReturn(settings);
+    lenient()
+        .when(settings.getSettingValue(Settings.Key.CALCITE_PUSHDOWN_ENABLED))
+        .thenReturn(false);
+    scan = new CalciteLogicalIndexScan(cluster, table, osIndex);
+  }
+
+  @Test
+  void push_down_sort_on_scan() {
+    RelNode optimized = optimize(LogicalSort.create(scan, SORT_BY_FIRST_FIELD, null, null));
+
+    CalciteLogicalIndexScan newScan = assertInstanceOf(CalciteLogicalIndexScan.class, optimized);
+    assertTrue(newScan.getPushDownContext().isSortPushed());
+    assertFalse(newScan.getPushDownContext().isLimitPushed());
+    assertEquals(SORT_BY_FIRST_FIELD, newScan.getTraitSet().getCollation());
+  }
+
+  @Test
+  void push_down_sort_on_scan_with_limit() {
+    RelNode optimized =
+        optimize(
+            LogicalSort.create(
+                scan,
+                SORT_BY_FIRST_FIELD,
+                null,
+                relBuilder.getRexBuilder().makeExactLiteral(BigDecimal.TEN)));
+
+    CalciteLogicalIndexScan newScan = assertInstanceOf(CalciteLogicalIndexScan.class, optimized);
+    assertTrue(newScan.getPushDownContext().isSortPushed());
+    assertTrue(newScan.getPushDownContext().isLimitPushed());
+  }
+
+  @Test
+  void no_push_down_sort_over_project_of_computed_expression() {
+    RelNode project =
+        relBuilder
+            .push(scan)
+            .project(
+                relBuilder.call(
+                    SqlStdOperatorTable.PLUS, relBuilder.field("age"), relBuilder.literal(1)))
+            .build();
+    RelNode optimized = optimize(LogicalSort.create(project, SORT_BY_FIRST_FIELD, null, null));
+
+    LogicalSort sort = assertInstanceOf(LogicalSort.class, optimized);
+    assertInstanceOf(LogicalProject.class, sort.getInput());
+    CalciteLogicalIndexScan newScan =
+        assertInstanceOf(CalciteLogicalIndexScan.class, sort.getInput().getInput(0));
+    assertFalse(newScan.getPushDownContext().isSortPushed());
+  }
+
+  @Test
+  void no_push_down_sort_after_aggregation() {
+    RelNode aggregate =
+        relBuilder.push(scan).aggregate(relBuilder.groupKey("name"), relBuilder.count()).build();
+    CalciteLogicalIndexScan aggregatedScan =
+        assertInstanceOf(CalciteLogicalIndexScan.class, optimize(aggregate));
+    assertTrue(aggregatedScan.getPushDownContext().isAggregatePushed());
+
+    RelNode optimized =
+        optimize(LogicalSort.create(aggregatedScan, SORT_BY_FIRST_FIELD, null, null));
+
+    LogicalSort sort = assertInstanceOf(LogicalSort.class, optimized);
+    CalciteLogicalIndexScan newScan =
+        assertInstanceOf(CalciteLogicalIndexScan.class, sort.getInput());
+    assertFalse(newScan.getPushDownContext().isSortPushed());
+  }
+
+  @Test
+  void push_down_project_after_sort_keeps_collation_on_projected_columns() {
+    // sort age | fields name, age | sort name
+    RelNode project =
+        relBuilder
+            .push(LogicalSort.create(scan, SORT_BY_FIRST_FIELD, null, null))
+            .project(relBuilder.field("name"), relBuilder.field("age"))
+            .build();
+    RelNode optimized = optimize(LogicalSort.create(project, SORT_BY_FIRST_FIELD, null, null));
+
+    LogicalSort sort = assertInstanceOf(LogicalSort.class, optimized);
+    CalciteLogicalIndexScan newScan =
+        assertInstanceOf(CalciteLogicalIndexScan.class, sort.getInput());
+    assertEquals(List.of("name", "age"), newScan.getRowType().getFieldNames());
+    assertEquals(RelCollations.of(1), newScan.getTraitSet().getCollation());
+  }
+
+  @Test
+  void push_down_aggregate_after_sort_clears_collation() {
+    // sort age | stats count() by name
+    RelNode aggregate =
+        relBuilder
+            .push(LogicalSort.create(scan, SORT_BY_FIRST_FIELD, null, null))
+            .aggregate(relBuilder.groupKey("name"), relBuilder.count())
+            .build();
+    CalciteLogicalIndexScan newScan =
+        assertInstanceOf(CalciteLogicalIndexScan.class, optimize(aggregate));
+
+    assertTrue(newScan.getPushDownContext().isAggregatePushed());
+    assertEquals(RelCollations.EMPTY, newScan.getTraitSet().getCollation());
+  }
+
+  @Test
+  void no_push_down_sort_after_limit() {
+    CalciteLogicalIndexScan limitedScan = scan.pushDownLimit(10, 0);
+
+    RelNode optimized = optimize(LogicalSort.create(limitedScan, SORT_BY_FIRST_FIELD, null, null));
+
+    LogicalSort sort = assertInstanceOf(LogicalSort.class, optimized);
+    CalciteLogicalIndexScan newScan =
+        assertInstanceOf(CalciteLogicalIndexScan.class, sort.getInput());
+    assertFalse(newScan.getPushDownContext().isSortPushed());
+    assertEquals(RelCollations.EMPTY, newScan.getTraitSet().getCollation());
+  }
+
+  private RelNode optimize(RelNode root) {
+    HepPlanner planner =
+        new HepPlanner(
+            HepProgram.builder()
+                .addRuleCollection(OpenSearchIndexRules.OPEN_SEARCH_INDEX_SCAN_RULES)
+                .build());
+    planner.setRoot(root);
+    return planner.findBestExp();
+  }
+}
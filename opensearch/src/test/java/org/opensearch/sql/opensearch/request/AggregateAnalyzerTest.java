@@ -20,13 +20,21 @@ import org.apache.calcite.rel.core.Aggregate;
 import org.apache.calcite.rel.core.AggregateCall;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rel.type.RelDataTypeSystem;
+import org.apache.calcite.schema.impl.AggregateFunctionImpl;
+import org.apache.calcite.sql.SqlIdentifier;
+import org.apache.calcite.sql.SqlKind;
 import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.parser.SqlParserPos;
+import org.apache.calcite.sql.type.ReturnTypes;
 import org.apache.calcite.sql.type.SqlTypeFactoryImpl;
 import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.sql.validate.SqlUserDefinedAggFunction;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.Optionality;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
 import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.sql.calcite.udf.udaf.DistinctCountApproxFunction;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType.MappingType;
@@ -264,6 +272,62 @@ class AggregateAnalyzerTest {
             });
   }
 
+  @Test
+  void analyze_aggCall_distinct_count_approx() throws ExpressionNotAnalyzableException {
+    SqlUserDefinedAggFunction distinctCountApprox =
+        new SqlUserDefinedAggFunction(
+            new SqlIdentifier("distinct_count_approx", SqlParserPos.ZERO),
+            SqlKind.OTHER_FUNCTION,
+            ReturnTypes.BIGINT,
+            null,
+            null,
+            AggregateFunctionImpl.create(DistinctCountApproxFunction.class),
+            false,
+            false,
+            Optionality.FORBIDDEN);
+    AggregateCall aggCall =
+        AggregateCall.create(
+            distinctCountApprox,
+            false,
+            false,
+            false,
+            ImmutableList.of(),
+            ImmutableList.of(1),
+            -1,
+            null,
+            RelCollations.EMPTY,
+            typeFactory.createSqlType(SqlTypeName.BIGINT),
+            "dc");
+    Aggregate aggregate = createMockAggregate(List.of(aggCall), ImmutableBitSet.of());
+    Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> result =
+        AggregateAnalyzer.analyze(aggregate, schema, fieldTypes, List.of("dc"));
+    assertEquals(
+        "[{\"dc\":{\"cardinality\":{\"field\":\"b.keyword\"}}}]", result.getLeft().toString());
+
+    // the precision threshold is an argument of the call which is not a field
+    AggregateCall thresholdCall =
+        AggregateCall.create(
+            distinctCountApprox,
+            false,
+            false,
+            false,
+            ImmutableList.of(),
+            ImmutableList.of(0, 1),
+            -1,
+            null,
+            RelCollations.EMPTY,
+            typeFactory.createSqlType(SqlTypeName.BIGINT),
+            "dc");
+    assertThrows(
+        ExpressionNotAnalyzableException.class,
+        () ->
+            AggregateAnalyzer.analyze(
+                createMockAggregate(List.of(thresholdCall), ImmutableBitSet.of()),
+                schema,
+                fieldTypes,
+                List.of("dc")));
+  }
+
   @Test
   void analyze_aggCall_TextWithoutKeyword() {
     AggregateCall aggCall =
@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+class CompositeAggregationPagingTest {
+
+  private static final Map<String, Object> AFTER_KEY = Map.of("name", "b");
+
+  private CompositeAggregationBuilder composite;
+
+  private SearchSourceBuilder sourceBuilder;
+
+  @BeforeEach
+  void setUp() {
+    composite =
+        AggregationBuilders.composite(
+                "composite_buckets", List.of(new TermsValuesSourceBuilder("name").field("name")))
+            .subAggregation(AggregationBuilders.avg("avg").field("age"))
+            .size(2);
+    sourceBuilder = new SearchSourceBuilder().size(0).aggregation(composite);
+  }
+
+  @Test
+  void request_next_page_after_full_page() {
+    assertTrue(CompositeAggregationPaging.nextPage(sourceBuilder, page(2)));
+
+    assertEquals(4, composite.size());
+    assertTrue(sourceBuilder.toString().contains("\"after\":{\"name\":\"b\"}"));
+  }
+
+  @Test
+  void double_page_size_up_to_max() {
+    composite.size(CompositeAggregationPaging.MAX_PAGE_SIZE - 1);
+
+    assertTrue(
+        CompositeAggregationPaging.nextPage(
+            sourceBuilder, page(CompositeAggregationPaging.MAX_PAGE_SIZE - 1)));
+    assertEquals(CompositeAggregationPaging.MAX_PAGE_SIZE, composite.size());
+  }
+
+  @Test
+  void stop_after_page_with_fewer_buckets_than_requested() {
+    assertFalse(CompositeAggregationPaging.nextPage(sourceBuilder, page(1)));
+
+    assertEquals(2, composite.size());
+    assertFalse(sourceBuilder.toString().contains("\"after\""));
+  }
+
+  @Test
+  void no_page_without_composite_aggregation() {
+    SearchSourceBuilder metricsOnly =
+        new SearchSourceBuilder().size(0).aggregation(AggregationBuilders.avg("avg").field("age"));
+
+    assertFalse(CompositeAggregationPaging.nextPage(metricsOnly, page(2)));
+    assertFalse(CompositeAggregationPaging.nextPage(new SearchSourceBuilder(), page(2)));
+    assertFalse(CompositeAggregationPaging.nextPage(sourceBuilder, null));
+  }
+
+  @Test
+  void page_through_copy_of_composite_aggregation() {
+    AggregationBuilder copy = CompositeAggregationPaging.copy(composite);
+    assertNotSame(composite, copy);
+    assertEquals(composite, copy);
+
+    SearchSourceBuilder copySource = new SearchSourceBuilder().size(0).aggregation(copy);
+    assertTrue(CompositeAggregationPaging.nextPage(copySource, page(2)));
+    assertNotEquals(composite, copy);
+    assertEquals(2, composite.size());
+  }
+
+  @Test
+  void copy_other_aggregation_as_is() {
+    AggregationBuilder avg = AggregationBuilders.avg("avg").field("age");
+
+    assertSame(avg, CompositeAggregationPaging.copy(avg));
+  }
+
+  private static Aggregations page(int buckets) {
+    CompositeAggregation page = mock(CompositeAggregation.class);
+    when(page.getName()).thenReturn("composite_buckets");
+    when(page.afterKey()).thenReturn(AFTER_KEY);
+    doReturn(Collections.nCopies(buckets, mock(CompositeAggregation.Bucket.class)))
+        .when(page)
+        .getBuckets();
+    return new Aggregations(List.of(page));
+  }
+}
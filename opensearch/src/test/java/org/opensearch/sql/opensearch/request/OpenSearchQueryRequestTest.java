@@ -12,6 +12,8 @@ import static org.opensearch.sql.opensearch.request.OpenSearchRequest.DEFAULT_QU
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.SneakyThrows;
@@ -30,6 +32,11 @@ import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.builder.PointInTimeBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
@@ -169,6 +176,56 @@ public class OpenSearchQueryRequestTest {
     verify(searchAction, times(1)).apply(any());
   }
 
+  @Test
+  void search_async() {
+    OpenSearchQueryRequest request =
+        new OpenSearchQueryRequest(
+            new OpenSearchRequest.IndexName("test"), sourceBuilder, factory, List.of());
+    CompletableFuture<SearchResponse> pending = new CompletableFuture<>();
+    when(searchHits.getHits()).thenReturn(new SearchHit[] {searchHit});
+    when(searchResponse.getHits()).thenReturn(searchHits);
+
+    CompletableFuture<OpenSearchResponse> response =
+        request.searchAsync(req -> pending, req -> fail("No scroll expected"));
+    assertFalse(response.isDone());
+    pending.complete(searchResponse);
+    assertFalse(response.join().isEmpty());
+
+    assertTrue(
+        request
+            .searchAsync(req -> fail("No more search expected"), req -> fail("No scroll expected"))
+            .join()
+            .isEmpty());
+  }
+
+  @Test
+  void search_composite_aggregation_page_by_page() {
+    CompositeAggregationBuilder composite =
+        AggregationBuilders.composite(
+                "composite_buckets", List.of(new TermsValuesSourceBuilder("name").field("name")))
+            .size(2);
+    OpenSearchQueryRequest request =
+        new OpenSearchQueryRequest(
+            new OpenSearchRequest.IndexName("test"),
+            new SearchSourceBuilder().size(0).aggregation(composite),
+            factory,
+            List.of());
+    CompositeAggregation page = mock(CompositeAggregation.class);
+    when(page.getName()).thenReturn("composite_buckets");
+    when(page.afterKey()).thenReturn(Map.of("name", "b"));
+    CompositeAggregation.Bucket bucket = mock(CompositeAggregation.Bucket.class);
+    doReturn(List.of(bucket, bucket)).doReturn(List.of(bucket)).when(page).getBuckets();
+    when(searchAction.apply(any())).thenReturn(searchResponse);
+    when(searchResponse.getHits()).thenReturn(SearchHits.empty());
+    when(searchResponse.getAggregations()).thenReturn(new Aggregations(List.of(page)));
+
+    assertFalse(request.search(searchAction, scrollAction).isEmpty());
+    assertFalse(request.search(searchAction, scrollAction).isEmpty());
+    assertTrue(request.search(searchAction, scrollAction).isEmpty());
+    verify(searchAction, times(2)).apply(any());
+    assertEquals(4, composite.size());
+  }
+
   @Test
   void search_with_pit() {
     OpenSearchQueryRequest request =
@@ -0,0 +1,182 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.calcite.utils.OpenSearchTypeFactory.TYPE_FACTORY;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.calcite.plan.Contexts;
+import org.apache.calcite.plan.ConventionTraitDef;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.volcano.VolcanoPlanner;
+import org.apache.calcite.rel.RelCollationTraitDef;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelFieldCollation.Direction;
+import org.apache.calcite.rel.RelFieldCollation.NullDirection;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.tools.RelBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.search.sort.SortBuilders;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType.MappingType;
+import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
+
+@ExtendWith(MockitoExtension.class)
+class CalciteLogicalIndexScanTest {
+
+  @Mock private RelOptTable table;
+
+  @Mock private OpenSearchIndex osIndex;
+
+  @Mock private OpenSearchRequestBuilder requestBuilder;
+
+  private RelBuilder relBuilder;
+
+  private CalciteLogicalIndexScan scan;
+
+  @BeforeEach
+  void setUp() {
+    VolcanoPlanner planner = new VolcanoPlanner();
+    planner.addRelTraitDef(ConventionTraitDef.INSTANCE);
+    planner.addRelTraitDef(RelCollationTraitDef.INSTANCE);
+    RelOptCluster cluster = RelOptCluster.create(planner, new RexBuilder(TYPE_FACTORY));
+    relBuilder =
+        RelBuilder.proto(Contexts.of(RelBuilder.Config.DEFAULT.withPruneInputOfAggregate(false)))
+            .create(cluster, null);
+    when(table.getRowType())
+        .thenReturn(
+            TYPE_FACTORY
+                .builder()
+                .add("age", SqlTypeName.INTEGER)
+                .add("name", SqlTypeName.VARCHAR)
+                .add("description", SqlTypeName.VARCHAR)
+                .add("_score", SqlTypeName.FLOAT)
+                .build());
+    when(osIndex.getFieldTypes())
+        .thenReturn(
+            Map.of(
+                "age", OpenSearchDataType.of(MappingType.Integer),
+                "name",
+                    OpenSearchDataType.of(
+                        MappingType.Text,
+                        Map.of("fields", Map.of("keyword", Map.of("type", "keyword")))),
+                "description", OpenSearchDataType.of(MappingType.Text)));
+    when(osIndex.getAliasMapping()).thenReturn(Map.of());
+    scan = new CalciteLogicalIndexScan(cluster, table, osIndex);
+  }
+
+  @Test
+  void push_down_sort_as_field_sort_with_missing_value() {
+    CalciteLogicalIndexScan newScan =
+        scan.pushDownSort(
+            List.of(
+                new RelFieldCollation(0, Direction.DESCENDING),
+                new RelFieldCollation(0, Direction.ASCENDING, NullDirection.FIRST)));
+
+    newScan.getPushDownContext().forEach(action -> action.apply(requestBuilder));
+    verify(requestBuilder)
+        .pushDownSort(
+            List.of(
+                SortBuilders.fieldSort("age").order(SortOrder.DESC).missing("_first"),
+                SortBuilders.fieldSort("age").order(SortOrder.ASC).missing("_first")));
+  }
+
+  @Test
+  void push_down_sort_on_keyword_sub_field_of_text_field() {
+    CalciteLogicalIndexScan newScan = scan.pushDownSort(List.of(new RelFieldCollation(1)));
+
+    newScan.getPushDownContext().forEach(action -> action.apply(requestBuilder));
+    verify(requestBuilder)
+        .pushDownSort(
+            List.of(SortBuilders.fieldSort("name.keyword").order(SortOrder.ASC).missing("_last")));
+  }
+
+  @Test
+  void push_down_sort_on_score_as_score_sort() {
+    CalciteLogicalIndexScan newScan =
+        scan.pushDownSort(List.of(new RelFieldCollation(3, Direction.DESCENDING)));
+
+    newScan.getPushDownContext().forEach(action -> action.apply(requestBuilder));
+    verify(requestBuilder).pushDownSort(List.of(SortBuilders.scoreSort().order(SortOrder.DESC)));
+  }
+
+  @Test
+  void cannot_push_down_sort_on_text_field_without_keyword() {
+    assertNull(scan.pushDownSort(List.of(new RelFieldCollation(2))));
+    assertTrue(scan.getPushDownContext().isEmpty());
+  }
+
+  @Test
+  void push_down_sort_keeps_collation_in_trait_set() {
+    List<RelFieldCollation> collations =
+        List.of(
+            new RelFieldCollation(1, Direction.DESCENDING),
+            new RelFieldCollation(0, Direction.ASCENDING));
+    CalciteLogicalIndexScan newScan = scan.pushDownSort(collations);
+
+    assertEquals(RelCollations.of(collations), newScan.getTraitSet().getCollation());
+    assertEquals(RelCollations.EMPTY, scan.getTraitSet().getCollation());
+    assertTrue(newScan.getPushDownContext().isSortPushed());
+    assertEquals(scan.getRowType(), newScan.getRowType());
+  }
+
+  @Test
+  void push_down_project_remaps_collation_to_projected_columns() {
+    CalciteLogicalIndexScan sortedScan =
+        scan.pushDownSort(
+            List.of(new RelFieldCollation(1), new RelFieldCollation(0, Direction.DESCENDING)));
+
+    CalciteLogicalIndexScan projectedScan = sortedScan.pushDownProject(List.of(2, 0, 1));
+    assertEquals(
+        RelCollations.of(
+            new RelFieldCollation(2), new RelFieldCollation(1, Direction.DESCENDING)),
+        projectedScan.getTraitSet().getCollation());
+  }
+
+  @Test
+  void push_down_project_truncates_collation_at_projected_away_column() {
+    CalciteLogicalIndexScan sortedScan =
+        scan.pushDownSort(List.of(new RelFieldCollation(1), new RelFieldCollation(0)));
+
+    assertEquals(
+        RelCollations.of(0),
+        sortedScan.pushDownProject(List.of(1, 2)).getTraitSet().getCollation());
+    assertEquals(
+        RelCollations.EMPTY,
+        sortedScan.pushDownProject(List.of(0, 2)).getTraitSet().getCollation());
+  }
+
+  @Test
+  void push_down_aggregate_clears_collation() {
+    CalciteLogicalIndexScan sortedScan = scan.pushDownSort(List.of(new RelFieldCollation(3)));
+    Aggregate aggregate =
+        (Aggregate)
+            relBuilder
+                .push(sortedScan)
+                .aggregate(relBuilder.groupKey("age"), relBuilder.count())
+                .build();
+
+    CalciteLogicalIndexScan aggregatedScan = sortedScan.pushDownAggregate(aggregate);
+    assertEquals(RelCollations.EMPTY, aggregatedScan.getTraitSet().getCollation());
+    assertEquals(2, aggregatedScan.getRowType().getFieldCount());
+  }
+}
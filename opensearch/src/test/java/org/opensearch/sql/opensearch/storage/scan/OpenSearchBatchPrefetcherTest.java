@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OpenSearchBatchPrefetcherTest {
+
+  @Mock private OpenSearchClient client;
+
+  @Mock private OpenSearchRequest request;
+
+  @Mock private OpenSearchResponse page1;
+
+  @Mock private OpenSearchResponse page2;
+
+  @Mock private OpenSearchResponse emptyPage;
+
+  @Test
+  void fetch_synchronously_if_prefetch_disabled() {
+    when(client.search(request)).thenReturn(page1);
+
+    OpenSearchBatchPrefetcher prefetcher = new OpenSearchBatchPrefetcher(client, request, 0);
+    assertSame(page1, prefetcher.fetchNextBatch());
+    verify(client, never()).searchAsync(request);
+  }
+
+  @Test
+  void prefetch_following_batches_in_order() {
+    when(page1.isEmpty()).thenReturn(false);
+    when(page2.isEmpty()).thenReturn(false);
+    when(emptyPage.isEmpty()).thenReturn(true);
+    when(client.searchAsync(request))
+        .thenReturn(CompletableFuture.completedFuture(page1))
+        .thenReturn(CompletableFuture.completedFuture(page2))
+        .thenReturn(CompletableFuture.completedFuture(emptyPage));
+
+    OpenSearchBatchPrefetcher prefetcher = new OpenSearchBatchPrefetcher(client, request, 2);
+    assertSame(page1, prefetcher.fetchNextBatch());
+    assertSame(page2, prefetcher.fetchNextBatch());
+    assertSame(emptyPage, prefetcher.fetchNextBatch());
+    // no more search once the last batch is empty
+    assertSame(emptyPage, prefetcher.fetchNextBatch());
+    verify(client, times(3)).searchAsync(request);
+    prefetcher.close();
+  }
+
+  @Test
+  void propagate_search_failure() {
+    CompletableFuture<OpenSearchResponse> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new IllegalStateException("search failed"));
+    when(client.searchAsync(request)).thenReturn(failed);
+
+    OpenSearchBatchPrefetcher prefetcher = new OpenSearchBatchPrefetcher(client, request, 1);
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, prefetcher::fetchNextBatch);
+    assertEquals("search failed", exception.getMessage());
+  }
+}
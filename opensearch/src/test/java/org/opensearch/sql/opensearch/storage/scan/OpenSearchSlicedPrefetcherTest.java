@@ -0,0 +1,223 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.apache.lucene.search.TotalHits;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.script.Script;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.ScriptSortBuilder;
+import org.opensearch.search.sort.SortBuilder;
+import org.opensearch.search.sort.SortBuilders;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OpenSearchSlicedPrefetcherTest {
+
+  @Mock private OpenSearchClient client;
+
+  @Mock private OpenSearchExprValueFactory factory;
+
+  /** Batches of each slice, by slice id, in search order. */
+  private final Map<Integer, Deque<long[]>> batches = new HashMap<>();
+
+  @Test
+  void return_batches_of_all_slices_without_sort() {
+    slice(0, new long[] {1});
+    slice(1, new long[] {2}, new long[] {3});
+    mockSearch();
+
+    OpenSearchBatchPrefetcher prefetcher =
+        OpenSearchBatchPrefetcher.create(client, request(10), 1, 2);
+    assertInstanceOf(OpenSearchSlicedPrefetcher.class, prefetcher);
+
+    List<Long> values = new ArrayList<>();
+    for (OpenSearchResponse response = prefetcher.fetchNextBatch();
+        !response.isEmpty();
+        response = prefetcher.fetchNextBatch()) {
+      values.addAll(sortValues(response));
+    }
+    values.sort(Long::compare);
+    assertEquals(List.of(1L, 2L, 3L), values);
+    prefetcher.close();
+  }
+
+  @Test
+  void merge_slices_in_sort_order() {
+    slice(0, new long[] {1, 4}, new long[] {6});
+    slice(1, new long[] {2, 3}, new long[] {5, 7});
+    mockSearch();
+
+    OpenSearchQueryRequest request = request(2);
+    request.getSourceBuilder().sort("n", SortOrder.ASC);
+    OpenSearchBatchPrefetcher prefetcher = OpenSearchBatchPrefetcher.create(client, request, 1, 2);
+
+    assertEquals(List.of(1L, 2L), sortValues(prefetcher.fetchNextBatch()));
+    assertEquals(List.of(3L, 4L), sortValues(prefetcher.fetchNextBatch()));
+    assertEquals(List.of(5L, 6L), sortValues(prefetcher.fetchNextBatch()));
+    assertEquals(List.of(7L), sortValues(prefetcher.fetchNextBatch()));
+    assertTrue(prefetcher.fetchNextBatch().isEmpty());
+    prefetcher.close();
+  }
+
+  @Test
+  void propagate_slice_failure() {
+    slice(0, new long[] {1});
+    CompletableFuture<OpenSearchResponse> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new IllegalStateException("search failed"));
+    when(client.searchAsync(any()))
+        .thenAnswer(
+            invocation ->
+                sliceId(invocation.getArgument(0)) == 1 ? failed : nextBatch(invocation));
+
+    OpenSearchQueryRequest request = request(10);
+    request.getSourceBuilder().sort("n", SortOrder.ASC);
+    OpenSearchBatchPrefetcher prefetcher = OpenSearchBatchPrefetcher.create(client, request, 1, 2);
+
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, prefetcher::fetchNextBatch);
+    assertEquals("search failed", exception.getMessage());
+    prefetcher.close();
+  }
+
+  @Test
+  void slice_pit_search_from_first_hit_only() {
+    assertTrue(OpenSearchSlicedPrefetcher.supports(request(10)));
+
+    OpenSearchQueryRequest withoutPit =
+        new OpenSearchQueryRequest("test", 10, factory, List.of());
+    assertFalse(OpenSearchSlicedPrefetcher.supports(withoutPit));
+    assertFalse(
+        OpenSearchBatchPrefetcher.create(client, withoutPit, 1, 2)
+            instanceof OpenSearchSlicedPrefetcher);
+
+    OpenSearchQueryRequest withOffset = request(10);
+    withOffset.getSourceBuilder().from(5);
+    assertFalse(OpenSearchSlicedPrefetcher.supports(withOffset));
+
+    OpenSearchQueryRequest withScriptSort = request(10);
+    withScriptSort
+        .getSourceBuilder()
+        .sort(SortBuilders.scriptSort(new Script("1"), ScriptSortBuilder.ScriptSortType.NUMBER));
+    assertFalse(OpenSearchSlicedPrefetcher.supports(withScriptSort));
+
+    assertFalse(
+        OpenSearchBatchPrefetcher.create(client, request(10), 1, 1)
+            instanceof OpenSearchSlicedPrefetcher);
+  }
+
+  @Test
+  void slice_request_shares_pit_of_request() {
+    OpenSearchQueryRequest request = request(10);
+    OpenSearchQueryRequest slice = request.slice(1, 3);
+
+    assertEquals("pit", slice.getPitId());
+    assertEquals(1, slice.getSourceBuilder().slice().getId());
+    assertEquals(3, slice.getSourceBuilder().slice().getMax());
+    assertNotSame(request.getSourceBuilder(), slice.getSourceBuilder());
+    assertNull(request.getSourceBuilder().slice());
+  }
+
+  @Test
+  void order_hits_by_sort_values() {
+    SearchHit one = hit(1L);
+    SearchHit two = hit(2L);
+    SearchHit missing = hit((Object) null);
+
+    List<SearchHit> hits = new ArrayList<>(List.of(missing, one, two));
+    hits.sort(hitOrder(SortBuilders.fieldSort("n").order(SortOrder.DESC)));
+    assertEquals(List.of(two, one, missing), hits);
+
+    hits.sort(hitOrder(SortBuilders.fieldSort("n").missing("_first")));
+    assertEquals(List.of(missing, one, two), hits);
+  }
+
+  private static Comparator<SearchHit> hitOrder(SortBuilder<?> sort) {
+    return OpenSearchSlicedPrefetcher.hitOrder(List.of(sort));
+  }
+
+  private OpenSearchQueryRequest request(int size) {
+    return new OpenSearchQueryRequest(
+        new OpenSearchRequest.IndexName("test"),
+        new SearchSourceBuilder().size(size),
+        factory,
+        List.of(),
+        TimeValue.timeValueMinutes(1),
+        "pit");
+  }
+
+  private void slice(int id, long[]... sliceBatches) {
+    batches.put(id, new ArrayDeque<>(Arrays.asList(sliceBatches)));
+  }
+
+  private void mockSearch() {
+    when(client.searchAsync(any())).thenAnswer(this::nextBatch);
+  }
+
+  private CompletableFuture<OpenSearchResponse> nextBatch(InvocationOnMock invocation) {
+    long[] values = batches.get(sliceId(invocation.getArgument(0))).poll();
+    SearchHit[] hits =
+        values == null
+            ? new SearchHit[0]
+            : Arrays.stream(values).mapToObj(value -> hit(value)).toArray(SearchHit[]::new);
+    return CompletableFuture.completedFuture(
+        new OpenSearchResponse(
+            new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1.0F),
+            factory,
+            List.of()));
+  }
+
+  private static int sliceId(OpenSearchRequest request) {
+    return ((OpenSearchQueryRequest) request).getSourceBuilder().slice().getId();
+  }
+
+  private static SearchHit hit(Object value) {
+    SearchHit hit = new SearchHit(0);
+    hit.sortValues(new Object[] {value}, new DocValueFormat[] {DocValueFormat.RAW});
+    return hit;
+  }
+
+  private static List<Long> sortValues(OpenSearchResponse response) {
+    return Arrays.stream(response.getHits().getHits())
+        .map(hit -> (Long) hit.getSortValues()[0])
+        .toList();
+  }
+}
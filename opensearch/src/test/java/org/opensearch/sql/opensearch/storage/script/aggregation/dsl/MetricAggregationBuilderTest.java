@@ -12,6 +12,7 @@ import static org.opensearch.sql.common.utils.StringUtils.format;
 import static org.opensearch.sql.data.type.ExprCoreType.ARRAY;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.expression.DSL.literal;
 import static org.opensearch.sql.expression.DSL.named;
@@ -37,6 +38,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.aggregation.AvgAggregator;
 import org.opensearch.sql.expression.aggregation.CountAggregator;
+import org.opensearch.sql.expression.aggregation.DistinctCountApproximateAggregator;
 import org.opensearch.sql.expression.aggregation.MaxAggregator;
 import org.opensearch.sql.expression.aggregation.MinAggregator;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
@@ -362,6 +364,26 @@ class MetricAggregationBuilderTest {
                         .distinct(true)))));
   }
 
+  @Test
+  void should_build_approximate_cardinality_aggregation() {
+    assertEquals(
+        format(
+            "{%n"
+                + "  \"distinct_count_approx(name, 100)\" : {%n"
+                + "    \"cardinality\" : {%n"
+                + "      \"field\" : \"name\",%n"
+                + "      \"precision_threshold\" : 100%n"
+                + "    }%n"
+                + "  }%n"
+                + "}"),
+        buildQuery(
+            Collections.singletonList(
+                named(
+                    "distinct_count_approx(name, 100)",
+                    new DistinctCountApproximateAggregator(
+                        Arrays.asList(ref("name", STRING), literal(100)), LONG)))));
+  }
+
   @Test
   void should_build_filtered_cardinality_aggregation() {
     assertEquals(
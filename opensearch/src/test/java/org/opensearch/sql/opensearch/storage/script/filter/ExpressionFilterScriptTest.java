@@ -13,6 +13,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.type.ExprCoreType.DATE;
 import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
@@ -29,6 +31,7 @@ import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedNumericDocValues;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -164,6 +167,31 @@ class ExpressionFilterScriptTest {
         .filterBy(literal(10));
   }
 
+  @Test
+  void can_advance_doc_values_across_documents() {
+    ScriptDocValues.Longs ages = new ScriptDocValues.Longs(new ArrayDocValues(30L, 10L, 25L));
+    LeafDocLookup leafDocLookup = mock(LeafDocLookup.class);
+    when(leafDocLookup.get("age"))
+        .thenAnswer(
+            invocation -> {
+              ages.setNextDocId(0);
+              return ages;
+            });
+    when(lookup.getLeafSearchLookup(any())).thenReturn(leafLookup);
+    when(leafLookup.doc()).thenReturn(leafDocLookup);
+
+    ExpressionFilterScript script =
+        new ExpressionFilterScript(
+            DSL.greater(ref("age", INTEGER), literal(20)), lookup, context, emptyMap());
+    script.setDocument(0);
+    Assertions.assertTrue(script.execute());
+    script.setDocument(1);
+    Assertions.assertFalse(script.execute());
+    script.setDocument(2);
+    Assertions.assertTrue(script.execute());
+    verify(leafDocLookup, times(1)).get("age");
+  }
+
   private ExprScriptAssertion assertThat() {
     return new ExprScriptAssertion(lookup, leafLookup, context);
   }
@@ -233,6 +261,53 @@ class ExpressionFilterScriptTest {
     }
   }
 
+  /** Single valued numeric doc values over an in-memory array. */
+  private static class ArrayDocValues extends SortedNumericDocValues {
+    private final long[] values;
+    private int doc = -1;
+
+    ArrayDocValues(long... values) {
+      this.values = values;
+    }
+
+    @Override
+    public long nextValue() {
+      return values[doc];
+    }
+
+    @Override
+    public int docValueCount() {
+      return 1;
+    }
+
+    @Override
+    public boolean advanceExact(int target) {
+      doc = target;
+      return target < values.length;
+    }
+
+    @Override
+    public int docID() {
+      return doc;
+    }
+
+    @Override
+    public int nextDoc() {
+      return advance(doc + 1);
+    }
+
+    @Override
+    public int advance(int target) {
+      doc = target < values.length ? target : NO_MORE_DOCS;
+      return doc;
+    }
+
+    @Override
+    public long cost() {
+      return values.length;
+    }
+  }
+
   private static class FakeScriptDocValues<T> extends ScriptDocValues<T> {
     private final List<T> values;
 
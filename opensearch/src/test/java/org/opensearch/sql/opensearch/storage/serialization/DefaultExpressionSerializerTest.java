@@ -7,10 +7,15 @@ package org.opensearch.sql.opensearch.storage.serialization;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.expression.DSL.literal;
 import static org.opensearch.sql.expression.DSL.ref;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Base64;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
@@ -54,6 +59,19 @@ class DefaultExpressionSerializerTest {
     assertEquals(original, actual);
   }
 
+  @Test
+  public void can_deserialize_uncompressed_code() throws IOException {
+    Expression original = DSL.abs(literal(30.0));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutput = new ObjectOutputStream(output)) {
+      objectOutput.writeObject(original);
+    }
+    String code = Base64.getEncoder().encodeToString(output.toByteArray());
+
+    assertEquals(original, serializer.deserialize(code));
+    assertTrue(serializer.serialize(original).length() < code.length());
+  }
+
   @Test
   public void cannot_serialize_illegal_expression() {
     Expression illegalExpr =
@@ -5,7 +5,6 @@
 
 package org.opensearch.sql.plugin;
 
-import static java.util.Collections.singletonList;
 import static org.opensearch.sql.datasource.model.DataSourceMetadata.defaultOpenSearchDataSourceMetadata;
 import static org.opensearch.sql.spark.data.constants.SparkConstants.SPARK_REQUEST_BUFFER_INDEX_NAME;
 
@@ -35,15 +34,18 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.SettingsFilter;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.env.Environment;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.indices.SystemIndexDescriptor;
+import org.opensearch.indices.breaker.BreakerSettings;
 import org.opensearch.jobscheduler.spi.JobSchedulerExtension;
 import org.opensearch.jobscheduler.spi.ScheduledJobParser;
 import org.opensearch.jobscheduler.spi.ScheduledJobRunner;
 import org.opensearch.plugins.ActionPlugin;
+import org.opensearch.plugins.CircuitBreakerPlugin;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.plugins.ScriptPlugin;
 import org.opensearch.plugins.SystemIndexPlugin;
@@ -70,11 +72,14 @@ import org.opensearch.sql.datasources.transport.TransportGetDataSourceAction;
 import org.opensearch.sql.datasources.transport.TransportPatchDataSourceAction;
 import org.opensearch.sql.datasources.transport.TransportUpdateDataSourceAction;
 import org.opensearch.sql.legacy.esdomain.LocalClusterState;
-import org.opensearch.sql.legacy.executor.AsyncRestExecutor;
 import org.opensearch.sql.legacy.metrics.Metrics;
 import org.opensearch.sql.legacy.plugin.RestSqlAction;
 import org.opensearch.sql.legacy.plugin.RestSqlStatsAction;
 import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
+import org.opensearch.sql.opensearch.executor.OpenSearchQueryManager;
+import org.opensearch.sql.opensearch.executor.QueryAdmissionController;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
+import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryBreaker;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.opensearch.storage.OpenSearchDataSourceFactory;
 import org.opensearch.sql.opensearch.storage.script.ExpressionScriptEngine;
@@ -111,12 +116,19 @@ import org.opensearch.transport.client.node.NodeClient;
 import org.opensearch.watcher.ResourceWatcherService;
 
 public class SQLPlugin extends Plugin
-    implements ActionPlugin, ScriptPlugin, SystemIndexPlugin, JobSchedulerExtension {
+    implements ActionPlugin,
+        ScriptPlugin,
+        SystemIndexPlugin,
+        JobSchedulerExtension,
+        CircuitBreakerPlugin {
 
   private static final Logger LOGGER = LogManager.getLogger(SQLPlugin.class);
 
   private ClusterService clusterService;
 
+  /** Node level cache of the parsed index mappings. */
+  private IndexMappingCache indexMappingCache;
+
   /** Settings should be inited when bootstrap the plugin. */
   private org.opensearch.sql.common.setting.Settings pluginSettings;
 
@@ -125,6 +137,9 @@ public class SQLPlugin extends Plugin
   private OpenSearchAsyncQueryScheduler asyncQueryScheduler;
   private Injector injector;
 
+  /** Circuit breaker of the plugin, set by OpenSearch before the components are created. */
+  private CircuitBreaker circuitBreaker;
+
   public String name() {
     return "sql";
   }
@@ -213,12 +228,18 @@ public class SQLPlugin extends Plugin
     this.clusterService = clusterService;
     this.pluginSettings = new OpenSearchSettings(clusterService.getClusterSettings());
     this.client = (NodeClient) client;
+    this.indexMappingCache = new IndexMappingCache(clusterService);
+    clusterService.addListener(indexMappingCache);
     this.dataSourceService = createDataSourceService();
     dataSourceService.createDataSource(defaultOpenSearchDataSourceMetadata());
     LocalClusterState.state().setClusterService(clusterService);
     LocalClusterState.state().setPluginSettings((OpenSearchSettings) pluginSettings);
     LocalClusterState.state().setClient(client);
+    LocalClusterState.state().setIndexMappingCache(indexMappingCache);
     ModulesBuilder modules = new ModulesBuilder();
+    OpenSearchMemoryBreaker memoryBreaker =
+        new OpenSearchMemoryBreaker(circuitBreaker, pluginSettings);
+    QueryAdmissionController admissionController = new QueryAdmissionController(pluginSettings);
     modules.add(new OpenSearchPluginModule());
     modules.add(
         b -> {
@@ -226,6 +247,9 @@ public class SQLPlugin extends Plugin
           b.bind(org.opensearch.sql.common.setting.Settings.class).toInstance(pluginSettings);
           b.bind(DataSourceService.class).toInstance(dataSourceService);
           b.bind(ClusterService.class).toInstance(clusterService);
+          b.bind(IndexMappingCache.class).toInstance(indexMappingCache);
+          b.bind(OpenSearchMemoryBreaker.class).toInstance(memoryBreaker);
+          b.bind(QueryAdmissionController.class).toInstance(admissionController);
         });
     modules.add(new AsyncExecutorServiceModule());
     injector = modules.createInjector();
@@ -249,7 +273,13 @@ public class SQLPlugin extends Plugin
         .loadJobResource(client, clusterService, threadPool, asyncQueryExecutorService);
 
     return ImmutableList.of(
-        dataSourceService, asyncQueryExecutorService, clusterManagerEventListener, pluginSettings);
+        dataSourceService,
+        asyncQueryExecutorService,
+        clusterManagerEventListener,
+        pluginSettings,
+        memoryBreaker,
+        admissionController,
+        indexMappingCache);
   }
 
   @Override
@@ -274,13 +304,20 @@ public class SQLPlugin extends Plugin
 
   @Override
   public List<ExecutorBuilder<?>> getExecutorBuilders(Settings settings) {
-    return singletonList(
+    int processors = OpenSearchExecutors.allocatedProcessors(settings);
+    return List.of(
         new FixedExecutorBuilder(
             settings,
-            AsyncRestExecutor.SQL_WORKER_THREAD_POOL_NAME,
-            OpenSearchExecutors.allocatedProcessors(settings),
+            OpenSearchQueryManager.SQL_WORKER_THREAD_POOL_NAME,
+            processors,
             1000,
-            null));
+            "thread_pool." + OpenSearchQueryManager.SQL_WORKER_THREAD_POOL_NAME),
+        new FixedExecutorBuilder(
+            settings,
+            OpenSearchQueryManager.SQL_INTERACTIVE_THREAD_POOL_NAME,
+            Math.max(1, processors / 2),
+            100,
+            "thread_pool." + OpenSearchQueryManager.SQL_INTERACTIVE_THREAD_POOL_NAME));
   }
 
   @Override
@@ -291,6 +328,21 @@ public class SQLPlugin extends Plugin
         .build();
   }
 
+  @Override
+  public BreakerSettings getCircuitBreaker(Settings settings) {
+    return new BreakerSettings(
+        OpenSearchMemoryBreaker.NAME,
+        OpenSearchSettings.QUERY_MEMORY_BREAKER_LIMIT_SETTING.get(settings).getBytes(),
+        1.0,
+        CircuitBreaker.Type.MEMORY,
+        CircuitBreaker.Durability.TRANSIENT);
+  }
+
+  @Override
+  public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+    this.circuitBreaker = circuitBreaker;
+  }
+
   @Override
   public ScriptEngine getScriptEngine(Settings settings, Collection<ScriptContext<?>> contexts) {
     return new ExpressionScriptEngine(new DefaultExpressionSerializer());
@@ -320,7 +372,7 @@ public class SQLPlugin extends Plugin
         new ImmutableSet.Builder<DataSourceFactory>()
             .add(
                 new OpenSearchDataSourceFactory(
-                    new OpenSearchNodeClient(this.client), pluginSettings))
+                    new OpenSearchNodeClient(this.client, indexMappingCache), pluginSettings))
             .add(new PrometheusStorageFactory(pluginSettings))
             .add(new GlueDataSourceFactory(pluginSettings))
             .add(new SecurityLakeDataSourceFactory(pluginSettings))
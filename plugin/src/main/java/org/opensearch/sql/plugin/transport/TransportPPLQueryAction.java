@@ -28,6 +28,9 @@ import org.opensearch.sql.datasources.service.DataSourceServiceImpl;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
+import org.opensearch.sql.opensearch.executor.QueryAdmissionController;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
+import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryBreaker;
 import org.opensearch.sql.opensearch.security.SecurityAccess;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.plugin.config.OpenSearchPluginModule;
@@ -61,6 +64,9 @@ public class TransportPPLQueryAction
       NodeClient client,
       ClusterService clusterService,
       DataSourceServiceImpl dataSourceService,
+      OpenSearchMemoryBreaker memoryBreaker,
+      QueryAdmissionController admissionController,
+      IndexMappingCache indexMappingCache,
       org.opensearch.common.settings.Settings clusterSettings) {
     super(PPLQueryAction.NAME, transportService, actionFilters, TransportPPLQueryRequest::new);
 
@@ -72,6 +78,9 @@ public class TransportPPLQueryAction
           b.bind(org.opensearch.sql.common.setting.Settings.class)
               .toInstance(new OpenSearchSettings(clusterService.getClusterSettings()));
           b.bind(DataSourceService.class).toInstance(dataSourceService);
+          b.bind(OpenSearchMemoryBreaker.class).toInstance(memoryBreaker);
+          b.bind(QueryAdmissionController.class).toInstance(admissionController);
+          b.bind(IndexMappingCache.class).toInstance(indexMappingCache);
         });
     this.injector = modules.createInjector();
     this.pplEnabled =
@@ -391,6 +391,7 @@ statsFunction
    | (DISTINCT_COUNT | DC) LT_PRTHS valueExpression RT_PRTHS    # distinctCountFunctionCall
    | takeAggFunction                                            # takeAggFunctionCall
    | percentileApproxFunction                                   # percentileApproxFunctionCall
+   | distinctCountApproxFunction                                # distinctCountApproxFunctionCall
    ;
 
 statsFunctionName
@@ -416,6 +417,11 @@ percentileApproxFunction
        COMMA percent = numericLiteral (COMMA compression = numericLiteral)? RT_PRTHS
    ;
 
+distinctCountApproxFunction
+   : (DISTINCT_COUNT_APPROX | ESTDC) LT_PRTHS aggField = valueExpression
+       (COMMA precisionThreshold = integerLiteral)? RT_PRTHS
+   ;
+
 numericLiteral
     : integerLiteral
     | decimalLiteral
@@ -1102,6 +1108,7 @@ keywordsCanBeId
    | statsFunctionName
    | windowFunctionName
    | DISTINCT_COUNT
+   | DISTINCT_COUNT_APPROX
    | ESTDC
    | ESTDC_ERROR
    | MEAN
@@ -216,6 +216,19 @@ public class AstExpressionBuilder extends OpenSearchPPLParserBaseVisitor<Unresol
         "percentile", visit(ctx.percentileApproxFunction().aggField), builder.build());
   }
 
+  @Override
+  public UnresolvedExpression visitDistinctCountApproxFunctionCall(
+      OpenSearchPPLParser.DistinctCountApproxFunctionCallContext ctx) {
+    OpenSearchPPLParser.DistinctCountApproxFunctionContext function =
+        ctx.distinctCountApproxFunction();
+    List<UnresolvedExpression> args =
+        function.precisionThreshold == null
+            ? ImmutableList.of()
+            : ImmutableList.of(
+                new UnresolvedArgument("precision_threshold", visit(function.precisionThreshold)));
+    return new AggregateFunction("distinct_count_approx", visit(function.aggField), args);
+  }
+
   @Override
   public UnresolvedExpression visitTakeAggFunctionCall(
       OpenSearchPPLParser.TakeAggFunctionCallContext ctx) {
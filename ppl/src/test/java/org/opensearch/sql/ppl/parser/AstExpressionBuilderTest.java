@@ -534,6 +534,33 @@ public class AstExpressionBuilderTest extends AstBuilderTest {
             defaultStatsArgs()));
   }
 
+  @Test
+  public void testDistinctCountApproxAggFuncExpr() {
+    assertEqual(
+        "source=t | stats distinct_count_approx(a)",
+        agg(
+            relation("t"),
+            exprList(
+                alias("distinct_count_approx(a)", aggregate("distinct_count_approx", field("a")))),
+            emptyList(),
+            emptyList(),
+            defaultStatsArgs()));
+    assertEqual(
+        "source=t | stats estdc(a, 100)",
+        agg(
+            relation("t"),
+            exprList(
+                alias(
+                    "estdc(a, 100)",
+                    aggregate(
+                        "distinct_count_approx",
+                        field("a"),
+                        unresolvedArg("precision_threshold", intLiteral(100))))),
+            emptyList(),
+            emptyList(),
+            defaultStatsArgs()));
+  }
+
   @Test
   public void testCountFuncCallExpr() {
     assertEqual(
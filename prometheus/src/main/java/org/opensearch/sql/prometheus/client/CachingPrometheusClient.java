@@ -0,0 +1,145 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.client;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.opensearch.sql.legacy.metrics.MetricName;
+import org.opensearch.sql.legacy.utils.MetricUtils;
+import org.opensearch.sql.prometheus.request.system.model.MetricMetadata;
+import org.opensearch.sql.prometheus.response.MatrixResultReader;
+
+/**
+ * {@link PrometheusClient} reusing the responses of another client. Labels and metric metadata are
+ * cached for a TTL, and range query results are read through a {@link QueryRangeCache} when the
+ * step is a whole number of seconds. Queries whose result depends on the requested range, through
+ * the {@code @ start()} or {@code @ end()} modifiers, are never read from the range cache.
+ * Exemplars and the JSON range query are not cached.
+ */
+public class CachingPrometheusClient implements PrometheusClient {
+
+  private static final String ALL_METRICS_KEY = "";
+
+  /** The @ start() and @ end() modifiers evaluate a selector at the bounds of the range. */
+  private static final Pattern RANGE_DEPENDENT_QUERY =
+      Pattern.compile("@\\s*(start|end)\\s*\\(\\s*\\)");
+
+  private final PrometheusClient delegate;
+
+  private final Cache<String, List<String>> labelsCache;
+
+  private final Cache<String, Map<String, List<MetricMetadata>>> metricsCache;
+
+  private final QueryRangeCache queryRangeCache;
+
+  /**
+   * Constructor.
+   *
+   * @param delegate client sending the requests to Prometheus
+   * @param metadataTtl time to live of the cached labels and metric metadata
+   * @param metadataMaxEntries maximum number of cached metric labels
+   * @param queryRangeCache cache of range query results, null to not cache them
+   * @param clock clock of the expiration of metadata
+   */
+  public CachingPrometheusClient(
+      PrometheusClient delegate,
+      Duration metadataTtl,
+      long metadataMaxEntries,
+      QueryRangeCache queryRangeCache,
+      Clock clock) {
+    this.delegate = delegate;
+    this.queryRangeCache = queryRangeCache;
+    this.labelsCache = metadataCache(metadataTtl, metadataMaxEntries, clock);
+    this.metricsCache = metadataCache(metadataTtl, 1, clock);
+  }
+
+  @Override
+  public JSONObject queryRange(String query, Long start, Long end, String step) throws IOException {
+    return delegate.queryRange(query, start, end, step);
+  }
+
+  @Override
+  public MatrixResultReader queryRangeStream(String query, Long start, Long end, String step)
+      throws IOException {
+    long stepMillis = QueryRangeSplitter.stepMillis(step);
+    if (queryRangeCache == null
+        || stepMillis <= 0
+        || stepMillis % 1000 != 0
+        || end < start
+        || RANGE_DEPENDENT_QUERY.matcher(query).find()) {
+      return delegate.queryRangeStream(query, start, end, step);
+    }
+    return queryRangeCache.read(
+        query,
+        start,
+        end,
+        stepMillis / 1000,
+        (rangeStart, rangeEnd) -> delegate.queryRangeStream(query, rangeStart, rangeEnd, step));
+  }
+
+  @Override
+  public List<String> getLabels(String metricName) throws IOException {
+    return get(labelsCache, metricName, () -> delegate.getLabels(metricName));
+  }
+
+  @Override
+  public Map<String, List<MetricMetadata>> getAllMetrics() throws IOException {
+    return get(metricsCache, ALL_METRICS_KEY, delegate::getAllMetrics);
+  }
+
+  @Override
+  public JSONArray queryExemplars(String query, Long start, Long end) throws IOException {
+    return delegate.queryExemplars(query, start, end);
+  }
+
+  static Ticker ticker(Clock clock) {
+    return new Ticker() {
+      @Override
+      public long read() {
+        return TimeUnit.MILLISECONDS.toNanos(clock.millis());
+      }
+    };
+  }
+
+  private static <V> Cache<String, V> metadataCache(Duration ttl, long maxEntries, Clock clock) {
+    return CacheBuilder.newBuilder()
+        .maximumSize(maxEntries)
+        .expireAfterWrite(ttl.toMillis(), TimeUnit.MILLISECONDS)
+        .ticker(ticker(clock))
+        .build();
+  }
+
+  private static <V> V get(Cache<String, V> cache, String key, Callable<V> loader)
+      throws IOException {
+    V cached = cache.getIfPresent(key);
+    if (cached != null) {
+      MetricUtils.incrementNumericalMetric(MetricName.PROMETHEUS_METADATA_CACHE_HIT_COUNT);
+      return cached;
+    }
+    MetricUtils.incrementNumericalMetric(MetricName.PROMETHEUS_METADATA_CACHE_MISS_COUNT);
+    try {
+      return cache.get(key, loader);
+    } catch (ExecutionException e) {
+      // the loaders only throw IOException
+      throw (IOException) e.getCause();
+    } catch (UncheckedExecutionException e) {
+      throw (RuntimeException) e.getCause();
+    }
+  }
+}
@@ -11,11 +11,25 @@ import java.util.Map;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.opensearch.sql.prometheus.request.system.model.MetricMetadata;
+import org.opensearch.sql.prometheus.response.MatrixResultReader;
 
 public interface PrometheusClient {
 
   JSONObject queryRange(String query, Long start, Long end, String step) throws IOException;
 
+  /**
+   * Run a range query and decode its matrix result while it is read, instead of parsing the whole
+   * response first. The caller must close the reader.
+   *
+   * @param query PromQL query
+   * @param start start of the range in epoch seconds
+   * @param end end of the range in epoch seconds
+   * @param step step of the range query
+   * @return reader of the series of the result
+   */
+  MatrixResultReader queryRangeStream(String query, Long start, Long end, String step)
+      throws IOException;
+
   List<String> getLabels(String metricName) throws IOException;
 
   Map<String, List<MetricMetadata>> getAllMetrics() throws IOException;
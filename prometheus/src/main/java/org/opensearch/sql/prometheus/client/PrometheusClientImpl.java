@@ -16,6 +16,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import okhttp3.Call;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
@@ -26,6 +27,8 @@ import org.json.JSONException;
 import org.json.JSONObject;
 import org.opensearch.sql.prometheus.exceptions.PrometheusClientException;
 import org.opensearch.sql.prometheus.request.system.model.MetricMetadata;
+import org.opensearch.sql.prometheus.response.JsonMatrixResultReader;
+import org.opensearch.sql.prometheus.response.MatrixResultReader;
 
 public class PrometheusClientImpl implements PrometheusClient {
 
@@ -35,13 +38,58 @@ public class PrometheusClientImpl implements PrometheusClient {
 
   private final URI uri;
 
+  /** Maximum number of steps of a range query request, range queries are not split if 0. */
+  private final int queryRangeSplitSteps;
+
+  /** Maximum number of sub-range requests in flight for a split range query. */
+  private final int queryRangeMaxConcurrency;
+
   public PrometheusClientImpl(OkHttpClient okHttpClient, URI uri) {
+    this(okHttpClient, uri, 0, 1);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param okHttpClient http client
+   * @param uri prometheus server uri
+   * @param queryRangeSplitSteps maximum number of steps of a range query request, 0 to not split
+   * @param queryRangeMaxConcurrency maximum number of sub-range requests in flight
+   */
+  public PrometheusClientImpl(
+      OkHttpClient okHttpClient, URI uri, int queryRangeSplitSteps, int queryRangeMaxConcurrency) {
     this.okHttpClient = okHttpClient;
     this.uri = uri;
+    this.queryRangeSplitSteps = queryRangeSplitSteps;
+    this.queryRangeMaxConcurrency = queryRangeMaxConcurrency;
   }
 
   @Override
   public JSONObject queryRange(String query, Long start, Long end, String step) throws IOException {
+    Request request = queryRangeRequest(query, start, end, step);
+    Response response = this.okHttpClient.newCall(request).execute();
+    JSONObject jsonObject = readResponse(response);
+    return jsonObject.getJSONObject("data");
+  }
+
+  @Override
+  public MatrixResultReader queryRangeStream(String query, Long start, Long end, String step)
+      throws IOException {
+    List<QueryRangeSplitter.Range> ranges =
+        QueryRangeSplitter.split(start, end, step, queryRangeSplitSteps);
+    if (ranges.size() == 1) {
+      Request request = queryRangeRequest(query, start, end, step);
+      return readMatrix(this.okHttpClient.newCall(request).execute());
+    }
+    List<Call> calls =
+        ranges.stream()
+            .map(range -> queryRangeRequest(query, range.start(), range.end(), step))
+            .map(this.okHttpClient::newCall)
+            .toList();
+    return new SplitQueryRangeReader(calls, queryRangeMaxConcurrency, this::readMatrix);
+  }
+
+  private Request queryRangeRequest(String query, Long start, Long end, String step) {
     String queryUrl =
         String.format(
             "%s/api/v1/query_range?query=%s&start=%s&end=%s&step=%s",
@@ -51,10 +99,7 @@ public class PrometheusClientImpl implements PrometheusClient {
             end,
             step);
     logger.debug("queryUrl: " + queryUrl);
-    Request request = new Request.Builder().url(queryUrl).build();
-    Response response = this.okHttpClient.newCall(request).execute();
-    JSONObject jsonObject = readResponse(response);
-    return jsonObject.getJSONObject("data");
+    return new Request.Builder().url(queryUrl).build();
   }
 
   @Override
@@ -111,6 +156,16 @@ public class PrometheusClientImpl implements PrometheusClient {
     return result;
   }
 
+  private MatrixResultReader readMatrix(Response response) throws IOException {
+    if (!response.isSuccessful()) {
+      response.close();
+      throw new PrometheusClientException(
+          String.format("Request to Prometheus is Unsuccessful with code : %s", response.code()));
+    }
+    return new JsonMatrixResultReader(
+        Objects.requireNonNull(response.body()).byteStream(), response);
+  }
+
   private JSONObject readResponse(Response response) throws IOException {
     if (response.isSuccessful()) {
       JSONObject jsonObject;
@@ -0,0 +1,267 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.client;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.opensearch.sql.legacy.metrics.MetricName;
+import org.opensearch.sql.legacy.utils.MetricUtils;
+import org.opensearch.sql.prometheus.response.MatrixResultReader;
+
+/**
+ * Cache of range query results aligned to step boundaries. Prometheus evaluates a range query at
+ * start, start + step, ... so the results of the same query and step on the same grid of
+ * evaluation timestamps can be reused across requests. For every query, step and grid the cache
+ * keeps one extent of contiguous evaluation timestamps, and a request overlapping it only fetches
+ * the head and tail outside of it, such as the new tail of a sliding window. The extent is trimmed
+ * to the last requested range, so it does not grow as the window slides. Results newer than the
+ * max freshness are never cached, since Prometheus may still ingest samples for them. The cache is
+ * bounded by the total number of cached samples, and extents not read for a while expire.
+ *
+ * <p>Lookups and samples read from the cache or fetched from Prometheus are counted in the plugin
+ * stats.
+ */
+public class QueryRangeCache {
+
+  /** Fetch the result of a range query from Prometheus. */
+  interface Fetcher {
+    MatrixResultReader fetch(long start, long end) throws IOException;
+  }
+
+  private record Key(String query, long step, long phase) {}
+
+  private final Cache<Key, Extent> extents;
+
+  private final Duration maxFreshness;
+
+  private final Clock clock;
+
+  /**
+   * Constructor.
+   *
+   * @param maxSamples maximum number of samples in the cache
+   * @param maxFreshness results newer than now minus maxFreshness are not cached
+   * @param expireAfterAccess extents not read for this duration are evicted
+   * @param clock clock of the freshness and of the expiration of extents
+   */
+  public QueryRangeCache(
+      long maxSamples, Duration maxFreshness, Duration expireAfterAccess, Clock clock) {
+    this.maxFreshness = maxFreshness;
+    this.clock = clock;
+    this.extents =
+        CacheBuilder.newBuilder()
+            .maximumWeight(maxSamples)
+            .<Key, Extent>weigher((key, extent) -> extent.weight())
+            .expireAfterAccess(expireAfterAccess.toMillis(), TimeUnit.MILLISECONDS)
+            .ticker(CachingPrometheusClient.ticker(clock))
+            .build();
+  }
+
+  /**
+   * Read the result of a range query, from the cache as much as possible.
+   *
+   * @param query PromQL query
+   * @param start start of the range in epoch seconds
+   * @param end end of the range in epoch seconds
+   * @param step step in seconds
+   * @param fetcher fetcher of the ranges missing in the cache
+   * @return reader of the result
+   */
+  MatrixResultReader read(String query, long start, long end, long step, Fetcher fetcher)
+      throws IOException {
+    Key key = new Key(query, step, Math.floorMod(start, step));
+    long last = end - Math.floorMod(end - start, step);
+    Extent cached = extents.getIfPresent(key);
+    Extent result;
+    if (cached != null && cached.start <= last + step && cached.end >= start - step) {
+      List<Extent> parts = new ArrayList<>();
+      if (start < cached.start) {
+        parts.add(fetch(fetcher, start, cached.start - step));
+      }
+      parts.add(cached);
+      if (last > cached.end) {
+        parts.add(fetch(fetcher, cached.end + step, last));
+      }
+      MetricUtils.incrementNumericalMetric(MetricName.PROMETHEUS_RANGE_CACHE_HIT_COUNT);
+      MetricUtils.incrementNumericalMetric(
+          MetricName.PROMETHEUS_RANGE_CACHE_SAMPLE_HIT_COUNT, cached.slice(start, last).samples());
+      result = Extent.concat(parts);
+    } else {
+      MetricUtils.incrementNumericalMetric(MetricName.PROMETHEUS_RANGE_CACHE_MISS_COUNT);
+      result = fetch(fetcher, start, last);
+    }
+
+    long freshStart = clock.instant().minus(maxFreshness).getEpochSecond();
+    long cacheableStart = Math.max(result.start, start);
+    long cacheableEnd = Math.min(result.end, freshStart - Math.floorMod(freshStart - start, step));
+    if (cacheableEnd >= cacheableStart) {
+      extents.put(key, result.slice(cacheableStart, cacheableEnd));
+    }
+    return result.slice(start, last).reader();
+  }
+
+  /** Total weight of the cached extents. */
+  @VisibleForTesting
+  long weight() {
+    return extents.asMap().values().stream().mapToLong(Extent::weight).sum();
+  }
+
+  private Extent fetch(Fetcher fetcher, long start, long end) throws IOException {
+    try (MatrixResultReader reader = fetcher.fetch(start, end)) {
+      Extent extent = Extent.read(reader, start, end);
+      MetricUtils.incrementNumericalMetric(
+          MetricName.PROMETHEUS_RANGE_CACHE_SAMPLE_MISS_COUNT, extent.samples());
+      return extent;
+    }
+  }
+
+  /** Samples of a series, in time order. */
+  private record Series(Map<String, String> labels, double[] timestamps, String[] values) {}
+
+  /** Result of a range query over contiguous evaluation timestamps, from start to end inclusive. */
+  private record Extent(long start, long end, List<Series> series) {
+
+    static Extent read(MatrixResultReader reader, long start, long end) throws IOException {
+      Map<Map<String, String>, SeriesBuilder> builders = new LinkedHashMap<>();
+      while (reader.nextSeries()) {
+        SeriesBuilder builder = builders.computeIfAbsent(reader.labels(), SeriesBuilder::new);
+        while (reader.nextSample()) {
+          builder.add(reader.timestamp(), reader.value());
+        }
+      }
+      return new Extent(start, end, builders.values().stream().map(SeriesBuilder::build).toList());
+    }
+
+    /** Concatenate adjacent extents given in time order, merging the series by labels. */
+    static Extent concat(List<Extent> parts) {
+      Map<Map<String, String>, SeriesBuilder> builders = new LinkedHashMap<>();
+      for (Extent part : parts) {
+        for (Series series : part.series) {
+          SeriesBuilder builder = builders.computeIfAbsent(series.labels(), SeriesBuilder::new);
+          for (int i = 0; i < series.timestamps().length; i++) {
+            builder.add(series.timestamps()[i], series.values()[i]);
+          }
+        }
+      }
+      return new Extent(
+          parts.get(0).start,
+          parts.get(parts.size() - 1).end,
+          builders.values().stream().map(SeriesBuilder::build).toList());
+    }
+
+    Extent slice(long from, long to) {
+      List<Series> sliced = new ArrayList<>();
+      for (Series current : series) {
+        int fromIndex = lowerBound(current.timestamps(), from);
+        int toIndex = lowerBound(current.timestamps(), to + 1);
+        if (fromIndex < toIndex) {
+          sliced.add(
+              new Series(
+                  current.labels(),
+                  Arrays.copyOfRange(current.timestamps(), fromIndex, toIndex),
+                  Arrays.copyOfRange(current.values(), fromIndex, toIndex)));
+        }
+      }
+      return new Extent(from, to, sliced);
+    }
+
+    int samples() {
+      int samples = 0;
+      for (Series current : series) {
+        samples += current.timestamps().length;
+      }
+      return samples;
+    }
+
+    /** Weight in the cache, the number of samples but at least one. */
+    int weight() {
+      return Math.max(samples(), 1);
+    }
+
+    MatrixResultReader reader() {
+      return new ExtentReader(series);
+    }
+
+    private static int lowerBound(double[] timestamps, double timestamp) {
+      int index = Arrays.binarySearch(timestamps, timestamp);
+      return index >= 0 ? index : -index - 1;
+    }
+  }
+
+  private static class SeriesBuilder {
+    private final Map<String, String> labels;
+    private double[] timestamps = new double[8];
+    private String[] values = new String[8];
+    private int size;
+
+    SeriesBuilder(Map<String, String> labels) {
+      this.labels = labels;
+    }
+
+    void add(double timestamp, String value) {
+      if (size == timestamps.length) {
+        timestamps = Arrays.copyOf(timestamps, size * 2);
+        values = Arrays.copyOf(values, size * 2);
+      }
+      timestamps[size] = timestamp;
+      values[size++] = value;
+    }
+
+    Series build() {
+      return new Series(labels, Arrays.copyOf(timestamps, size), Arrays.copyOf(values, size));
+    }
+  }
+
+  /** Reader of the series of an extent. */
+  private static class ExtentReader implements MatrixResultReader {
+    private final List<Series> series;
+    private int seriesIndex = -1;
+    private int sampleIndex;
+
+    ExtentReader(List<Series> series) {
+      this.series = series;
+    }
+
+    @Override
+    public boolean nextSeries() {
+      sampleIndex = -1;
+      return ++seriesIndex < series.size();
+    }
+
+    @Override
+    public Map<String, String> labels() {
+      return series.get(seriesIndex).labels();
+    }
+
+    @Override
+    public boolean nextSample() {
+      return ++sampleIndex < series.get(seriesIndex).timestamps().length;
+    }
+
+    @Override
+    public double timestamp() {
+      return series.get(seriesIndex).timestamps()[sampleIndex];
+    }
+
+    @Override
+    public String value() {
+      return series.get(seriesIndex).values()[sampleIndex];
+    }
+
+    @Override
+    public void close() {}
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Splits the [start, end] range of a range query into step aligned sub-ranges. Prometheus evaluates
+ * a range query at start, start + step, ... up to end, so sub-ranges starting on these evaluation
+ * timestamps return together exactly the samples of the whole range.
+ */
+@UtilityClass
+public class QueryRangeSplitter {
+
+  /** Sub-range of a range query, both bounds are inclusive epoch seconds. */
+  public record Range(long start, long end) {}
+
+  private static final Pattern SECONDS = Pattern.compile("\\d+(\\.\\d+)?");
+
+  private static final Pattern DURATION = Pattern.compile("(\\d+)(ms|s|m|h|d|w|y)");
+
+  private static final Map<String, Long> UNIT_MILLIS =
+      Map.of(
+          "ms", 1L,
+          "s", 1000L,
+          "m", 60_000L,
+          "h", 3_600_000L,
+          "d", 86_400_000L,
+          "w", 604_800_000L,
+          "y", 31_536_000_000L);
+
+  /**
+   * Split a range in sub-ranges of at most maxSteps evaluation steps each. The range is returned as
+   * is if splitting is disabled, or if the step is not a whole number of seconds.
+   *
+   * @param start start of the range in epoch seconds
+   * @param end end of the range in epoch seconds
+   * @param step step of the range query, in seconds or as a Prometheus duration
+   * @param maxSteps maximum number of steps of a sub-range, splitting is disabled if not positive
+   * @return sub-ranges in time order
+   */
+  public static List<Range> split(long start, long end, String step, int maxSteps) {
+    long stepMillis = stepMillis(step);
+    if (maxSteps <= 0 || stepMillis <= 0 || stepMillis % 1000 != 0 || end <= start) {
+      return List.of(new Range(start, end));
+    }
+    long stepSeconds = stepMillis / 1000;
+    long subRangeSeconds = stepSeconds * maxSteps;
+    List<Range> ranges = new ArrayList<>();
+    for (long subStart = start; subStart <= end; subStart += subRangeSeconds) {
+      ranges.add(new Range(subStart, Math.min(subStart + subRangeSeconds - stepSeconds, end)));
+    }
+    return ranges;
+  }
+
+  /**
+   * Parse the step of a range query.
+   *
+   * @param step float number of seconds, or Prometheus duration such as 1h30m
+   * @return step in milliseconds, or -1 if the step can't be parsed
+   */
+  static long stepMillis(String step) {
+    if (step == null || step.isEmpty()) {
+      return -1;
+    }
+    if (SECONDS.matcher(step).matches()) {
+      return (long) (Double.parseDouble(step) * 1000);
+    }
+    Matcher matcher = DURATION.matcher(step);
+    long millis = 0;
+    int position = 0;
+    while (position < step.length()) {
+      if (!matcher.region(position, step.length()).lookingAt()) {
+        return -1;
+      }
+      millis += Long.parseLong(matcher.group(1)) * UNIT_MILLIS.get(matcher.group(2));
+      position = matcher.end();
+    }
+    return millis;
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.client;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Response;
+import org.opensearch.sql.prometheus.response.MatrixResultReader;
+
+/**
+ * {@link MatrixResultReader} over the sub-ranges of a split range query. Up to maxConcurrency
+ * sub-range requests are in flight at a time, and their results are read in the order of the
+ * sub-ranges, so that the series of an earlier sub-range are all returned before the ones of a
+ * later sub-range. A series spanning several sub-ranges is returned once per sub-range.
+ */
+class SplitQueryRangeReader implements MatrixResultReader {
+
+  /** Decode the response of a sub-range request. */
+  interface ResponseDecoder {
+    MatrixResultReader decode(Response response) throws IOException;
+  }
+
+  private final List<Call> calls;
+
+  private final int maxConcurrency;
+
+  private final ResponseDecoder decoder;
+
+  private final Deque<CompletableFuture<Response>> inFlight = new ArrayDeque<>();
+
+  private int nextCall;
+
+  private MatrixResultReader current;
+
+  /**
+   * Constructor, sends the first sub-range requests.
+   *
+   * @param calls calls of the sub-range requests in time order
+   * @param maxConcurrency maximum number of requests in flight
+   * @param decoder decoder of the responses
+   */
+  SplitQueryRangeReader(List<Call> calls, int maxConcurrency, ResponseDecoder decoder) {
+    this.calls = calls;
+    this.maxConcurrency = Math.max(1, maxConcurrency);
+    this.decoder = decoder;
+    sendRequests();
+  }
+
+  @Override
+  public boolean nextSeries() throws IOException {
+    while (current == null || !current.nextSeries()) {
+      if (current != null) {
+        current.close();
+        current = null;
+      }
+      if (inFlight.isEmpty()) {
+        return false;
+      }
+      Response response = await(inFlight.poll());
+      sendRequests();
+      current = decoder.decode(response);
+    }
+    return true;
+  }
+
+  @Override
+  public Map<String, String> labels() {
+    return current.labels();
+  }
+
+  @Override
+  public boolean nextSample() throws IOException {
+    return current.nextSample();
+  }
+
+  @Override
+  public double timestamp() {
+    return current.timestamp();
+  }
+
+  @Override
+  public String value() {
+    return current.value();
+  }
+
+  @Override
+  public void close() {
+    if (current != null) {
+      current.close();
+      current = null;
+    }
+    // cancelled calls fail, responses already received or still coming are released
+    calls.forEach(Call::cancel);
+    nextCall = calls.size();
+    inFlight.forEach(response -> response.thenAccept(Response::close));
+    inFlight.clear();
+  }
+
+  private void sendRequests() {
+    while (inFlight.size() < maxConcurrency && nextCall < calls.size()) {
+      inFlight.add(enqueue(calls.get(nextCall++)));
+    }
+  }
+
+  private static CompletableFuture<Response> enqueue(Call call) {
+    CompletableFuture<Response> future = new CompletableFuture<>();
+    call.enqueue(
+        new Callback() {
+          @Override
+          public void onFailure(Call call, IOException e) {
+            future.completeExceptionally(e);
+          }
+
+          @Override
+          public void onResponse(Call call, Response response) {
+            future.complete(response);
+          }
+        });
+    return future;
+  }
+
+  private static Response await(CompletableFuture<Response> future) throws IOException {
+    try {
+      // bounded by the call timeout of the http client
+      return future.join();
+    } catch (CompletionException e) {
+      // only completed exceptionally by the failure of the call
+      throw (IOException) e.getCause();
+    }
+  }
+}
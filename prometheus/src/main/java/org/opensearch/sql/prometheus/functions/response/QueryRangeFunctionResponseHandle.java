@@ -6,21 +6,16 @@
 package org.opensearch.sql.prometheus.functions.response;
 
 import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.LABELS;
-import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.MATRIX_KEY;
-import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.METRIC_KEY;
-import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.RESULT_KEY;
-import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.RESULT_TYPE_KEY;
 import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.TIMESTAMP;
 import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUE;
-import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUES_KEY;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import java.util.Map;
 import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprDoubleValue;
 import org.opensearch.sql.data.model.ExprStringValue;
@@ -29,67 +24,62 @@ import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.prometheus.response.MatrixResultReader;
 
-/** Default implementation of QueryRangeFunctionResponseHandle. */
+/**
+ * Default implementation of QueryRangeFunctionResponseHandle. A series returned in several parts
+ * by a split range query is merged back into one row, in the order the series first appear.
+ */
 public class QueryRangeFunctionResponseHandle implements PrometheusFunctionResponseHandle {
 
-  private final JSONObject responseObject;
   private Iterator<ExprValue> responseIterator;
   private ExecutionEngine.Schema schema;
 
   /**
    * Constructor.
    *
-   * @param responseObject Prometheus responseObject.
+   * @param reader reader of the Prometheus response.
    */
-  public QueryRangeFunctionResponseHandle(JSONObject responseObject) {
-    this.responseObject = responseObject;
+  public QueryRangeFunctionResponseHandle(MatrixResultReader reader) throws IOException {
     constructSchema();
-    constructIterator();
+    constructIterator(reader);
   }
 
-  private void constructIterator() {
-    List<ExprValue> result = new ArrayList<>();
-    if (MATRIX_KEY.equals(responseObject.getString(RESULT_TYPE_KEY))) {
-      JSONArray itemArray = responseObject.getJSONArray(RESULT_KEY);
-      for (int i = 0; i < itemArray.length(); i++) {
-        LinkedHashMap<String, ExprValue> linkedHashMap = new LinkedHashMap<>();
-        JSONObject item = itemArray.getJSONObject(i);
-        linkedHashMap.put(LABELS, extractLabels(item.getJSONObject(METRIC_KEY)));
-        extractTimestampAndValues(item.getJSONArray(VALUES_KEY), linkedHashMap);
-        result.add(new ExprTupleValue(linkedHashMap));
+  private void constructIterator(MatrixResultReader reader) throws IOException {
+    Map<Map<String, String>, Series> seriesMap = new LinkedHashMap<>();
+    while (reader.nextSeries()) {
+      Series series = seriesMap.computeIfAbsent(reader.labels(), labels -> new Series());
+      while (reader.nextSample()) {
+        series.timestamps.add(
+            new ExprTimestampValue(Instant.ofEpochMilli((long) (reader.timestamp() * 1000))));
+        series.values.add(new ExprDoubleValue(Double.parseDouble(reader.value())));
       }
-    } else {
-      throw new RuntimeException(
-          String.format(
-              "Unexpected Result Type: %s during Prometheus "
-                  + "Response Parsing. 'matrix' resultType is expected",
-              responseObject.getString("resultType")));
     }
+    List<ExprValue> result = new ArrayList<>(seriesMap.size());
+    seriesMap.forEach(
+        (labels, series) -> {
+          LinkedHashMap<String, ExprValue> linkedHashMap = new LinkedHashMap<>();
+          linkedHashMap.put(LABELS, extractLabels(labels));
+          linkedHashMap.put(TIMESTAMP, new ExprCollectionValue(series.timestamps));
+          linkedHashMap.put(VALUE, new ExprCollectionValue(series.values));
+          result.add(new ExprTupleValue(linkedHashMap));
+        });
     this.responseIterator = result.iterator();
   }
 
-  private static void extractTimestampAndValues(
-      JSONArray values, LinkedHashMap<String, ExprValue> linkedHashMap) {
-    List<ExprValue> timestampList = new ArrayList<>();
-    List<ExprValue> valueList = new ArrayList<>();
-    for (int j = 0; j < values.length(); j++) {
-      JSONArray value = values.getJSONArray(j);
-      timestampList.add(
-          new ExprTimestampValue(Instant.ofEpochMilli((long) (value.getDouble(0) * 1000))));
-      valueList.add(new ExprDoubleValue(value.getDouble(1)));
-    }
-    linkedHashMap.put(TIMESTAMP, new ExprCollectionValue(timestampList));
-    linkedHashMap.put(VALUE, new ExprCollectionValue(valueList));
+  /** Samples of a series. */
+  private static class Series {
+    private final List<ExprValue> timestamps = new ArrayList<>();
+    private final List<ExprValue> values = new ArrayList<>();
   }
 
   private void constructSchema() {
     this.schema = new ExecutionEngine.Schema(getColumnList());
   }
 
-  private ExprValue extractLabels(JSONObject metric) {
+  private ExprValue extractLabels(Map<String, String> metric) {
     LinkedHashMap<String, ExprValue> labelsMap = new LinkedHashMap<>();
-    metric.keySet().forEach(key -> labelsMap.put(key, new ExprStringValue(metric.getString(key))));
+    metric.forEach((key, value) -> labelsMap.put(key, new ExprStringValue(value)));
     return new ExprTupleValue(labelsMap);
   }
 
@@ -14,13 +14,13 @@ import java.util.Locale;
 import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.json.JSONObject;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.prometheus.client.PrometheusClient;
 import org.opensearch.sql.prometheus.functions.response.PrometheusFunctionResponseHandle;
 import org.opensearch.sql.prometheus.functions.response.QueryRangeFunctionResponseHandle;
 import org.opensearch.sql.prometheus.request.PrometheusQueryRequest;
+import org.opensearch.sql.prometheus.response.MatrixResultReader;
 import org.opensearch.sql.storage.TableScanOperator;
 
 /** This a table scan operator to handle Query Range table function. */
@@ -41,14 +41,13 @@ public class QueryRangeFunctionTableScanOperator extends TableScanOperator {
         AccessController.doPrivileged(
             (PrivilegedAction<PrometheusFunctionResponseHandle>)
                 () -> {
-                  try {
-                    JSONObject responseObject =
-                        prometheusClient.queryRange(
-                            request.getPromQl(),
-                            request.getStartTime(),
-                            request.getEndTime(),
-                            request.getStep());
-                    return new QueryRangeFunctionResponseHandle(responseObject);
+                  try (MatrixResultReader reader =
+                      prometheusClient.queryRangeStream(
+                          request.getPromQl(),
+                          request.getStartTime(),
+                          request.getEndTime(),
+                          request.getStep())) {
+                    return new QueryRangeFunctionResponseHandle(reader);
                   } catch (IOException e) {
                     LOG.error(e.getMessage());
                     throw new RuntimeException(
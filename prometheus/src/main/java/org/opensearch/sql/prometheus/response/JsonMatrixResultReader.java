@@ -0,0 +1,268 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.response;
+
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.MATRIX_KEY;
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.METRIC_KEY;
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.RESULT_KEY;
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.RESULT_TYPE_KEY;
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUES_KEY;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.opensearch.sql.prometheus.exceptions.PrometheusClientException;
+
+/**
+ * {@link MatrixResultReader} pulling tokens from the JSON body of a range query response. Only the
+ * labels of the current series and the current sample are kept in memory. Both the whole response
+ * and its data object are accepted.
+ */
+public class JsonMatrixResultReader implements MatrixResultReader {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final Closeable source;
+
+  private final JsonParser parser;
+
+  private String status;
+
+  private String error;
+
+  private String resultType;
+
+  /** No more series in the result. */
+  private boolean resultEnd;
+
+  /** The parser is inside the object of the current series. */
+  private boolean seriesOpen;
+
+  /** The parser is inside the values array of the current series. */
+  private boolean inValues;
+
+  /** Samples read before the labels of the current series, if any. */
+  private List<Sample> bufferedSamples;
+
+  private int bufferedIndex;
+
+  private Map<String, String> labels;
+
+  private double timestamp;
+
+  private String value;
+
+  /**
+   * Constructor, reads the response until the first series.
+   *
+   * @param body response body
+   * @param source resource to release on close, such as the HTTP response
+   */
+  public JsonMatrixResultReader(InputStream body, Closeable source) throws IOException {
+    this.source = source;
+    this.parser = JSON_FACTORY.createParser(body);
+    try {
+      readHeader();
+    } catch (IOException | RuntimeException e) {
+      close();
+      throw e;
+    }
+  }
+
+  private void readHeader() throws IOException {
+    boolean found;
+    try {
+      found = parser.nextToken() == JsonToken.START_OBJECT && seekResult();
+    } catch (JsonProcessingException e) {
+      throw new PrometheusClientException(
+          "Prometheus returned unexpected body, please verify your prometheus server setup.");
+    }
+    checkStatus();
+    resultEnd = !found;
+  }
+
+  private boolean seekResult() throws IOException {
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken token = parser.nextToken();
+      switch (field) {
+        case "status" -> status = parser.getText();
+        case "error" -> error = parser.getText();
+        case "data" -> {
+          if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+          } else if (seekResult()) {
+            return true;
+          }
+        }
+        case RESULT_TYPE_KEY -> {
+          resultType = parser.getText();
+          checkResultType();
+        }
+        case RESULT_KEY -> {
+          checkStatus();
+          checkResultType();
+          return token == JsonToken.START_ARRAY;
+        }
+        default -> parser.skipChildren();
+      }
+    }
+    return false;
+  }
+
+  private void checkStatus() {
+    if (status != null && !"success".equals(status)) {
+      throw new PrometheusClientException(error);
+    }
+  }
+
+  private void checkResultType() {
+    if (!MATRIX_KEY.equals(resultType)) {
+      throw new RuntimeException(
+          String.format(
+              "Unexpected Result Type: %s during Prometheus "
+                  + "Response Parsing. 'matrix' resultType is expected",
+              resultType));
+    }
+  }
+
+  @Override
+  public boolean nextSeries() throws IOException {
+    if (resultEnd) {
+      return false;
+    }
+    finishSeries();
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      resultEnd = true;
+      return false;
+    }
+    seriesOpen = true;
+    labels = null;
+    bufferedSamples = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      parser.nextToken();
+      if (METRIC_KEY.equals(field)) {
+        labels = readLabels();
+      } else if (VALUES_KEY.equals(field) && labels != null) {
+        inValues = true;
+        return true;
+      } else if (VALUES_KEY.equals(field)) {
+        bufferedSamples = readSamples();
+        bufferedIndex = 0;
+      } else {
+        parser.skipChildren();
+      }
+    }
+    seriesOpen = false;
+    if (labels == null) {
+      labels = Map.of();
+    }
+    return true;
+  }
+
+  @Override
+  public Map<String, String> labels() {
+    return labels;
+  }
+
+  @Override
+  public boolean nextSample() throws IOException {
+    if (inValues) {
+      if (readSample()) {
+        return true;
+      }
+      inValues = false;
+      return false;
+    }
+    if (bufferedSamples != null && bufferedIndex < bufferedSamples.size()) {
+      Sample sample = bufferedSamples.get(bufferedIndex++);
+      timestamp = sample.timestamp();
+      value = sample.value();
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public double timestamp() {
+    return timestamp;
+  }
+
+  @Override
+  public String value() {
+    return value;
+  }
+
+  @Override
+  public void close() {
+    try {
+      parser.close();
+      source.close();
+    } catch (IOException e) {
+      // nothing left to read, the response is released anyway
+    }
+  }
+
+  /** Consume the rest of the current series object. */
+  private void finishSeries() throws IOException {
+    if (inValues) {
+      while (parser.nextToken() == JsonToken.START_ARRAY) {
+        parser.skipChildren();
+      }
+      inValues = false;
+    }
+    if (seriesOpen) {
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        parser.nextToken();
+        parser.skipChildren();
+      }
+      seriesOpen = false;
+    }
+  }
+
+  private Map<String, String> readLabels() throws IOException {
+    // HashMap keeps the label order of the JSONObject based decoding
+    Map<String, String> metric = new HashMap<>();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.currentName();
+      parser.nextToken();
+      metric.put(name, parser.getText());
+    }
+    return metric;
+  }
+
+  private List<Sample> readSamples() throws IOException {
+    List<Sample> samples = new ArrayList<>();
+    while (readSample()) {
+      samples.add(new Sample(timestamp, value));
+    }
+    return samples;
+  }
+
+  /** Read the next [timestamp, value] pair of a values array. */
+  private boolean readSample() throws IOException {
+    if (parser.nextToken() != JsonToken.START_ARRAY) {
+      return false;
+    }
+    parser.nextToken();
+    timestamp = parser.getDoubleValue();
+    parser.nextToken();
+    value = parser.getText();
+    parser.nextToken();
+    return true;
+  }
+
+  private record Sample(double timestamp, String value) {}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.response;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Reader of the matrix result of a Prometheus range query. Series and their samples are decoded
+ * while they are consumed, instead of building the whole response in memory first.
+ */
+public interface MatrixResultReader extends AutoCloseable {
+
+  /**
+   * Advance to the next series, skipping the samples left in the current one.
+   *
+   * @return false if there is no more series
+   */
+  boolean nextSeries() throws IOException;
+
+  /**
+   * Labels of the current series.
+   *
+   * @return label names to label values
+   */
+  Map<String, String> labels();
+
+  /**
+   * Advance to the next sample of the current series.
+   *
+   * @return false if there is no more sample in the current series
+   */
+  boolean nextSample() throws IOException;
+
+  /**
+   * Timestamp of the current sample.
+   *
+   * @return epoch seconds
+   */
+  double timestamp();
+
+  /**
+   * Value of the current sample, as formatted by Prometheus.
+   *
+   * @return value
+   */
+  String value();
+
+  /** Release the response the reader is decoding. */
+  @Override
+  void close();
+}
@@ -7,20 +7,14 @@ package org.opensearch.sql.prometheus.response;
 
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.LONG;
-import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.MATRIX_KEY;
-import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.METRIC_KEY;
-import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.RESULT_KEY;
-import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.RESULT_TYPE_KEY;
-import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUES_KEY;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.List;
-import lombok.NonNull;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import org.opensearch.sql.data.model.ExprDoubleValue;
 import org.opensearch.sql.data.model.ExprIntegerValue;
 import org.opensearch.sql.data.model.ExprLongValue;
@@ -33,71 +27,95 @@ import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.prometheus.storage.model.PrometheusResponseFieldNames;
 
-public class PrometheusResponse implements Iterable<ExprValue> {
+/**
+ * Rows of a range query, one per sample, decoded from a {@link MatrixResultReader} while they are
+ * iterated. Decoding failures are thrown as {@link UncheckedIOException}.
+ */
+public class PrometheusResponse implements Iterator<ExprValue>, AutoCloseable {
 
-  private final JSONObject responseObject;
+  private final MatrixResultReader reader;
 
   private final PrometheusResponseFieldNames prometheusResponseFieldNames;
 
+  /** Renamed labels of the current series, null before the first series. */
+  private Map<String, ExprValue> labels;
+
+  private boolean advanced;
+
+  private boolean hasNext;
+
   /**
    * Constructor.
    *
-   * @param responseObject Prometheus responseObject.
+   * @param reader reader of the Prometheus response.
    * @param prometheusResponseFieldNames data model which contains field names for the metric
    *     measurement and timestamp fieldName.
    */
   public PrometheusResponse(
-      JSONObject responseObject, PrometheusResponseFieldNames prometheusResponseFieldNames) {
-    this.responseObject = responseObject;
+      MatrixResultReader reader, PrometheusResponseFieldNames prometheusResponseFieldNames) {
+    this.reader = reader;
     this.prometheusResponseFieldNames = prometheusResponseFieldNames;
   }
 
-  @NonNull
   @Override
-  public Iterator<ExprValue> iterator() {
-    List<ExprValue> result = new ArrayList<>();
-    if (MATRIX_KEY.equals(responseObject.getString(RESULT_TYPE_KEY))) {
-      JSONArray itemArray = responseObject.getJSONArray(RESULT_KEY);
-      for (int i = 0; i < itemArray.length(); i++) {
-        JSONObject item = itemArray.getJSONObject(i);
-        JSONObject metric = item.getJSONObject(METRIC_KEY);
-        JSONArray values = item.getJSONArray(VALUES_KEY);
-        for (int j = 0; j < values.length(); j++) {
-          LinkedHashMap<String, ExprValue> linkedHashMap = new LinkedHashMap<>();
-          JSONArray val = values.getJSONArray(j);
-          linkedHashMap.put(
-              prometheusResponseFieldNames.getTimestampFieldName(),
-              new ExprTimestampValue(Instant.ofEpochMilli((long) (val.getDouble(0) * 1000))));
-          linkedHashMap.put(
-              prometheusResponseFieldNames.getValueFieldName(),
-              getValue(val, 1, prometheusResponseFieldNames.getValueType()));
-          insertLabels(linkedHashMap, metric);
-          result.add(new ExprTupleValue(linkedHashMap));
+  public boolean hasNext() {
+    if (!advanced) {
+      hasNext = advance();
+      advanced = true;
+    }
+    return hasNext;
+  }
+
+  @Override
+  public ExprValue next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    advanced = false;
+    LinkedHashMap<String, ExprValue> linkedHashMap = new LinkedHashMap<>();
+    linkedHashMap.put(
+        prometheusResponseFieldNames.getTimestampFieldName(),
+        new ExprTimestampValue(Instant.ofEpochMilli((long) (reader.timestamp() * 1000))));
+    linkedHashMap.put(
+        prometheusResponseFieldNames.getValueFieldName(),
+        getValue(reader.value(), prometheusResponseFieldNames.getValueType()));
+    linkedHashMap.putAll(labels);
+    return new ExprTupleValue(linkedHashMap);
+  }
+
+  @Override
+  public void close() {
+    reader.close();
+  }
+
+  private boolean advance() {
+    try {
+      while (labels == null || !reader.nextSample()) {
+        if (!reader.nextSeries()) {
+          return false;
         }
+        labels = insertLabels(reader.labels());
       }
-    } else {
-      throw new RuntimeException(
-          String.format(
-              "Unexpected Result Type: %s during Prometheus "
-                  + "Response Parsing. 'matrix' resultType is expected",
-              responseObject.getString(RESULT_TYPE_KEY)));
+      return true;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
     }
-    return result.iterator();
   }
 
-  private void insertLabels(LinkedHashMap<String, ExprValue> linkedHashMap, JSONObject metric) {
-    for (String key : metric.keySet()) {
-      linkedHashMap.put(getKey(key), new ExprStringValue(metric.getString(key)));
-    }
+  private Map<String, ExprValue> insertLabels(Map<String, String> metric) {
+    LinkedHashMap<String, ExprValue> linkedHashMap = new LinkedHashMap<>();
+    metric.forEach((key, value) -> linkedHashMap.put(getKey(key), new ExprStringValue(value)));
+    return linkedHashMap;
   }
 
-  private ExprValue getValue(JSONArray jsonArray, Integer index, ExprType exprType) {
+  private ExprValue getValue(String value, ExprType exprType) {
+    double doubleValue = Double.parseDouble(value);
     if (INTEGER.equals(exprType)) {
-      return new ExprIntegerValue(jsonArray.getInt(index));
+      return new ExprIntegerValue((int) doubleValue);
     } else if (LONG.equals(exprType)) {
-      return new ExprLongValue(jsonArray.getLong(index));
+      return new ExprLongValue((long) doubleValue);
     }
-    return new ExprDoubleValue(jsonArray.getDouble(index));
+    return new ExprDoubleValue(doubleValue);
   }
 
   private String getKey(String key) {
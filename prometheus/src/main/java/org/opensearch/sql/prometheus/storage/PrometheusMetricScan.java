@@ -6,24 +6,27 @@
 package org.opensearch.sql.prometheus.storage;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
-import java.util.Iterator;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.json.JSONObject;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.prometheus.client.PrometheusClient;
 import org.opensearch.sql.prometheus.request.PrometheusQueryRequest;
+import org.opensearch.sql.prometheus.response.MatrixResultReader;
 import org.opensearch.sql.prometheus.response.PrometheusResponse;
 import org.opensearch.sql.prometheus.storage.model.PrometheusResponseFieldNames;
 import org.opensearch.sql.storage.TableScanOperator;
 
-/** Prometheus metric scan operator. */
+/**
+ * Prometheus metric scan operator. Rows are decoded from the range query response while they are
+ * consumed.
+ */
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
 @ToString(onlyExplicitlyIncluded = true)
 public class PrometheusMetricScan extends TableScanOperator {
@@ -33,7 +36,7 @@ public class PrometheusMetricScan extends TableScanOperator {
   @EqualsAndHashCode.Include @Getter @Setter @ToString.Include
   private PrometheusQueryRequest request;
 
-  private Iterator<ExprValue> iterator;
+  private PrometheusResponse response;
 
   @Setter private PrometheusResponseFieldNames prometheusResponseFieldNames;
 
@@ -53,35 +56,49 @@ public class PrometheusMetricScan extends TableScanOperator {
   @Override
   public void open() {
     super.open();
-    this.iterator =
+    this.response =
         AccessController.doPrivileged(
-            (PrivilegedAction<Iterator<ExprValue>>)
+            (PrivilegedAction<PrometheusResponse>)
                 () -> {
                   try {
-                    JSONObject responseObject =
-                        prometheusClient.queryRange(
+                    MatrixResultReader reader =
+                        prometheusClient.queryRangeStream(
                             request.getPromQl(),
                             request.getStartTime(),
                             request.getEndTime(),
                             request.getStep());
-                    return new PrometheusResponse(responseObject, prometheusResponseFieldNames)
-                        .iterator();
+                    return new PrometheusResponse(reader, prometheusResponseFieldNames);
                   } catch (IOException e) {
-                    LOG.error(e.getMessage());
-                    throw new RuntimeException(
-                        "Error fetching data from prometheus server. " + e.getMessage());
+                    throw fetchError(e);
                   }
                 });
   }
 
   @Override
   public boolean hasNext() {
-    return iterator.hasNext();
+    try {
+      return response.hasNext();
+    } catch (UncheckedIOException e) {
+      throw fetchError(e.getCause());
+    }
   }
 
   @Override
   public ExprValue next() {
-    return iterator.next();
+    return response.next();
+  }
+
+  @Override
+  public void close() {
+    super.close();
+    if (response != null) {
+      response.close();
+    }
+  }
+
+  private RuntimeException fetchError(IOException e) {
+    LOG.error(e.getMessage());
+    return new RuntimeException("Error fetching data from prometheus server. " + e.getMessage());
   }
 
   @Override
@@ -14,6 +14,8 @@ import java.net.URISyntaxException;
 import java.net.UnknownHostException;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -28,8 +30,10 @@ import org.opensearch.sql.datasource.model.DataSourceMetadata;
 import org.opensearch.sql.datasource.model.DataSourceType;
 import org.opensearch.sql.datasources.auth.AuthenticationType;
 import org.opensearch.sql.datasources.utils.DatasourceValidationUtils;
+import org.opensearch.sql.prometheus.client.CachingPrometheusClient;
 import org.opensearch.sql.prometheus.client.PrometheusClient;
 import org.opensearch.sql.prometheus.client.PrometheusClientImpl;
+import org.opensearch.sql.prometheus.client.QueryRangeCache;
 import org.opensearch.sql.storage.DataSourceFactory;
 import org.opensearch.sql.storage.StorageEngine;
 
@@ -43,6 +47,25 @@ public class PrometheusStorageFactory implements DataSourceFactory {
   public static final String REGION = "prometheus.auth.region";
   public static final String ACCESS_KEY = "prometheus.auth.access_key";
   public static final String SECRET_KEY = "prometheus.auth.secret_key";
+  public static final String QUERY_RANGE_SPLIT_STEPS = "prometheus.query_range.split_steps";
+  public static final String QUERY_RANGE_MAX_CONCURRENCY =
+      "prometheus.query_range.max_concurrency";
+
+  public static final String METADATA_CACHE_TTL_SECONDS = "prometheus.cache.metadata.ttl_seconds";
+  public static final String METADATA_CACHE_MAX_ENTRIES = "prometheus.cache.metadata.max_entries";
+  public static final String QUERY_RANGE_CACHE_MAX_SAMPLES =
+      "prometheus.cache.query_range.max_samples";
+  public static final String QUERY_RANGE_CACHE_MAX_FRESHNESS_SECONDS =
+      "prometheus.cache.query_range.max_freshness_seconds";
+  public static final String QUERY_RANGE_CACHE_EXPIRE_AFTER_ACCESS_SECONDS =
+      "prometheus.cache.query_range.expire_after_access_seconds";
+
+  private static final int DEFAULT_QUERY_RANGE_MAX_CONCURRENCY = 4;
+  private static final int DEFAULT_METADATA_CACHE_TTL_SECONDS = 60;
+  private static final int DEFAULT_METADATA_CACHE_MAX_ENTRIES = 1000;
+  private static final int DEFAULT_QUERY_RANGE_CACHE_MAX_SAMPLES = 100_000;
+  private static final int DEFAULT_QUERY_RANGE_CACHE_MAX_FRESHNESS_SECONDS = 600;
+  private static final int DEFAULT_QUERY_RANGE_CACHE_EXPIRE_AFTER_ACCESS_SECONDS = 3600;
 
   private final Settings settings;
 
@@ -83,12 +106,21 @@ public class PrometheusStorageFactory implements DataSourceFactory {
     PrometheusClient prometheusClient;
     prometheusClient =
         AccessController.doPrivileged(
-            (PrivilegedAction<PrometheusClientImpl>)
+            (PrivilegedAction<PrometheusClient>)
                 () -> {
                   try {
                     validateDataSourceConfigProperties(requiredConfig);
-                    return new PrometheusClientImpl(
-                        getHttpClient(requiredConfig), new URI(requiredConfig.get(URI)));
+                    return getCachingClient(
+                        requiredConfig,
+                        new PrometheusClientImpl(
+                            getHttpClient(requiredConfig),
+                            new URI(requiredConfig.get(URI)),
+                            getIntProperty(requiredConfig, QUERY_RANGE_SPLIT_STEPS, 0, 0),
+                            getIntProperty(
+                                requiredConfig,
+                                QUERY_RANGE_MAX_CONCURRENCY,
+                                DEFAULT_QUERY_RANGE_MAX_CONCURRENCY,
+                                1)));
                   } catch (URISyntaxException | UnknownHostException e) {
                     throw new IllegalArgumentException(
                         String.format("Invalid URI in prometheus properties: %s", e.getMessage()));
@@ -97,6 +129,56 @@ public class PrometheusStorageFactory implements DataSourceFactory {
     return new PrometheusStorageEngine(prometheusClient);
   }
 
+  private static PrometheusClient getCachingClient(
+      Map<String, String> config, PrometheusClient prometheusClient) {
+    int maxSamples =
+        getIntProperty(
+            config, QUERY_RANGE_CACHE_MAX_SAMPLES, DEFAULT_QUERY_RANGE_CACHE_MAX_SAMPLES, 0);
+    QueryRangeCache queryRangeCache =
+        maxSamples == 0
+            ? null
+            : new QueryRangeCache(
+                maxSamples,
+                Duration.ofSeconds(
+                    getIntProperty(
+                        config,
+                        QUERY_RANGE_CACHE_MAX_FRESHNESS_SECONDS,
+                        DEFAULT_QUERY_RANGE_CACHE_MAX_FRESHNESS_SECONDS,
+                        0)),
+                Duration.ofSeconds(
+                    getIntProperty(
+                        config,
+                        QUERY_RANGE_CACHE_EXPIRE_AFTER_ACCESS_SECONDS,
+                        DEFAULT_QUERY_RANGE_CACHE_EXPIRE_AFTER_ACCESS_SECONDS,
+                        1)),
+                Clock.systemUTC());
+    return new CachingPrometheusClient(
+        prometheusClient,
+        Duration.ofSeconds(
+            getIntProperty(
+                config, METADATA_CACHE_TTL_SECONDS, DEFAULT_METADATA_CACHE_TTL_SECONDS, 0)),
+        getIntProperty(config, METADATA_CACHE_MAX_ENTRIES, DEFAULT_METADATA_CACHE_MAX_ENTRIES, 1),
+        queryRangeCache,
+        Clock.systemUTC());
+  }
+
+  private static int getIntProperty(
+      Map<String, String> config, String key, int defaultValue, int minValue) {
+    if (config.get(key) == null) {
+      return defaultValue;
+    }
+    try {
+      int value = Integer.parseInt(config.get(key));
+      if (value >= minValue) {
+        return value;
+      }
+    } catch (NumberFormatException e) {
+      // fall through to the error below
+    }
+    throw new IllegalArgumentException(
+        String.format("%s must be an integer not less than %d", key, minValue));
+  }
+
   private OkHttpClient getHttpClient(Map<String, String> config) {
     OkHttpClient.Builder okHttpClient = new OkHttpClient.Builder();
     okHttpClient.callTimeout(1, TimeUnit.MINUTES);
@@ -0,0 +1,319 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.prometheus.utils.TestUtils.getJson;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.SneakyThrows;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.legacy.metrics.MetricName;
+import org.opensearch.sql.legacy.metrics.Metrics;
+import org.opensearch.sql.prometheus.exceptions.PrometheusClientException;
+import org.opensearch.sql.prometheus.response.MatrixResultReader;
+
+class CachingPrometheusClientTest {
+
+  private MockWebServer mockWebServer;
+
+  private final List<String> requests = new ArrayList<>();
+
+  private final TestClock clock = new TestClock(Instant.ofEpochSecond(10_000));
+
+  @BeforeEach
+  void setUp() throws IOException {
+    mockWebServer = new MockWebServer();
+    mockWebServer.setDispatcher(new PrometheusDispatcher());
+    mockWebServer.start();
+    Metrics.getInstance().registerDefaultMetrics();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    mockWebServer.shutdown();
+    Metrics.getInstance().clear();
+  }
+
+  @Test
+  void testSlidingWindowOnlyFetchesNewRanges() throws IOException {
+    PrometheusClient client = client(rangeCache(Duration.ofMinutes(10)));
+
+    assertEquals(timestamps(100, 200), read(client, 100, 200));
+    assertEquals(List.of("100-200"), requests);
+    assertEquals(timestamps(100, 200), read(client, 100, 205));
+    assertEquals(List.of("100-200"), requests);
+
+    assertEquals(timestamps(150, 250), read(client, 150, 250));
+    // the cached extent was trimmed to 150-250 by the previous read
+    assertEquals(timestamps(50, 150), read(client, 50, 150));
+    assertEquals(List.of("100-200", "210-250", "50-140"), requests);
+    assertEquals(timestamps(40, 60), read(client, 40, 60));
+    assertEquals(List.of("100-200", "210-250", "50-140", "40-40"), requests);
+
+    // the series of job=early is only returned before 50
+    assertEquals(List.of("early", "node"), jobs(client, 40, 60));
+    assertEquals(List.of("node"), jobs(client, 50, 60));
+    assertEquals(4, requests.size());
+
+    assertEquals(6, metric(MetricName.PROMETHEUS_RANGE_CACHE_HIT_COUNT));
+    assertEquals(1, metric(MetricName.PROMETHEUS_RANGE_CACHE_MISS_COUNT));
+    assertEquals(26, metric(MetricName.PROMETHEUS_RANGE_CACHE_SAMPLE_HIT_COUNT));
+    assertEquals(28, metric(MetricName.PROMETHEUS_RANGE_CACHE_SAMPLE_MISS_COUNT));
+  }
+
+  @Test
+  void testSlidingWindowKeepsCachedExtentBounded() throws IOException {
+    QueryRangeCache rangeCache = rangeCache(Duration.ofMinutes(10));
+    PrometheusClient client = client(rangeCache);
+    for (long start = 100; start <= 1000; start += 50) {
+      assertEquals(timestamps(start, start + 100), read(client, start, start + 100));
+      assertEquals(11, rangeCache.weight());
+    }
+    assertEquals(18, metric(MetricName.PROMETHEUS_RANGE_CACHE_HIT_COUNT));
+    assertEquals(1, metric(MetricName.PROMETHEUS_RANGE_CACHE_MISS_COUNT));
+    // every read after the first only fetches the 5 new samples of the tail
+    assertEquals(11 + 18 * 5, metric(MetricName.PROMETHEUS_RANGE_CACHE_SAMPLE_MISS_COUNT));
+  }
+
+  @Test
+  void testExtentsExpireAfterAccess() throws IOException {
+    PrometheusClient client =
+        client(new QueryRangeCache(1000, Duration.ofMinutes(10), Duration.ofMinutes(5), clock));
+    read(client, 100, 200);
+    clock.instant = clock.instant.plusSeconds(200);
+    read(client, 100, 200);
+    clock.instant = clock.instant.plusSeconds(301);
+    read(client, 100, 200);
+    assertEquals(List.of("100-200", "100-200"), requests);
+  }
+
+  @Test
+  void testRangeDependentQueriesNotCached() throws IOException {
+    PrometheusClient client = client(rangeCache(Duration.ofMinutes(10)));
+    for (int i = 0; i < 2; i++) {
+      client.queryRangeStream("up @ start()", 100L, 200L, "10s").close();
+      client.queryRangeStream("rate(up[1m] @end( ))", 100L, 200L, "10s").close();
+    }
+    assertEquals(4, requests.size());
+    assertEquals(0, metric(MetricName.PROMETHEUS_RANGE_CACHE_MISS_COUNT));
+  }
+
+  @Test
+  void testRequestsOnAnotherGridOrOutsideOfTheCachedExtent() throws IOException {
+    PrometheusClient client = client(rangeCache(Duration.ofMinutes(10)));
+    read(client, 100, 200);
+    assertEquals(timestamps(105, 125), read(client, 105, 125));
+    read(client, 300, 400);
+    read(client, 0, 50);
+    read(client, 0, 50);
+    assertEquals(List.of("100-200", "105-125", "300-400", "0-50"), requests);
+  }
+
+  @Test
+  void testRecentResultsAreNotCached() throws IOException {
+    clock.instant = Instant.ofEpochSecond(200);
+    PrometheusClient client = client(rangeCache(Duration.ofSeconds(60)));
+    read(client, 0, 200);
+    read(client, 0, 200);
+    read(client, 150, 200);
+    // on another grid, the whole range is newer than the max freshness
+    read(client, 155, 195);
+    read(client, 155, 195);
+    assertEquals(List.of("0-200", "150-200", "150-200", "155-195", "155-195"), requests);
+  }
+
+  @Test
+  void testQueriesNotCached() throws IOException {
+    PrometheusClient client = client(rangeCache(Duration.ofMinutes(10)));
+    for (int i = 0; i < 2; i++) {
+      client.queryRangeStream("up", 0L, 1L, "0.5").close();
+      client.queryRangeStream("up", 0L, 10L, "1M").close();
+      client.queryRangeStream("up", 10L, 0L, "10s").close();
+      client(null).queryRangeStream("up", 0L, 10L, "10s").close();
+      client.queryRange("up", 0L, 10L, "10s");
+      client.queryExemplars("up", 0L, 10L);
+    }
+    assertEquals(12, requests.size());
+  }
+
+  @Test
+  void testMetadataCachedForTtl() throws IOException {
+    CachingPrometheusClient client = client(null);
+    assertEquals(List.of("call", "code"), client.getLabels("up"));
+    assertEquals(List.of("call", "code"), client.getLabels("up"));
+    assertEquals(2, client.getAllMetrics().size());
+    assertEquals(2, client.getAllMetrics().size());
+    assertEquals(List.of("/api/v1/labels", "/api/v1/metadata"), requests);
+
+    clock.instant = clock.instant.plusSeconds(61);
+    client.getLabels("up");
+    client.getAllMetrics();
+    assertEquals(4, requests.size());
+    assertEquals(2, metric(MetricName.PROMETHEUS_METADATA_CACHE_HIT_COUNT));
+    assertEquals(4, metric(MetricName.PROMETHEUS_METADATA_CACHE_MISS_COUNT));
+  }
+
+  @Test
+  void testMetadataErrorsAreNotCached() {
+    CachingPrometheusClient client = client(null);
+    assertThrows(PrometheusClientException.class, () -> client.getLabels("error"));
+    assertThrows(IOException.class, () -> client.getLabels("disconnect"));
+    assertThrows(PrometheusClientException.class, () -> client.getLabels("error"));
+    // disconnected requests may be retried by the HTTP client, so they are not recorded
+    assertEquals(2, requests.stream().filter("/api/v1/labels"::equals).count());
+  }
+
+  private CachingPrometheusClient client(QueryRangeCache queryRangeCache) {
+    return new CachingPrometheusClient(
+        new PrometheusClientImpl(new OkHttpClient(), mockWebServer.url("").uri().normalize()),
+        Duration.ofMinutes(1),
+        10,
+        queryRangeCache,
+        clock);
+  }
+
+  private QueryRangeCache rangeCache(Duration maxFreshness) {
+    return new QueryRangeCache(1000, maxFreshness, Duration.ofHours(1), clock);
+  }
+
+  private static long metric(MetricName name) {
+    return (Long) Metrics.getInstance().getNumericalMetric(name).getValue();
+  }
+
+  private static List<Double> read(PrometheusClient client, long start, long end)
+      throws IOException {
+    List<Double> timestamps = new ArrayList<>();
+    try (MatrixResultReader reader = client.queryRangeStream("up", start, end, "10s")) {
+      while (reader.nextSeries()) {
+        if ("node".equals(reader.labels().get("job"))) {
+          while (reader.nextSample()) {
+            assertEquals(String.valueOf((long) reader.timestamp()), reader.value());
+            timestamps.add(reader.timestamp());
+          }
+        }
+      }
+    }
+    return timestamps;
+  }
+
+  private static List<String> jobs(PrometheusClient client, long start, long end)
+      throws IOException {
+    List<String> jobs = new ArrayList<>();
+    try (MatrixResultReader reader = client.queryRangeStream("up", start, end, "10s")) {
+      while (reader.nextSeries()) {
+        jobs.add(reader.labels().get("job"));
+      }
+    }
+    return jobs;
+  }
+
+  private static List<Double> timestamps(long start, long end) {
+    List<Double> timestamps = new ArrayList<>();
+    for (long t = start; t <= end; t += 10) {
+      timestamps.add((double) t);
+    }
+    return timestamps;
+  }
+
+  /** Local stand-in of the Prometheus HTTP API. */
+  private class PrometheusDispatcher extends Dispatcher {
+    @Override
+    @SneakyThrows
+    public MockResponse dispatch(RecordedRequest request) {
+      HttpUrl url = Objects.requireNonNull(request.getRequestUrl());
+      String path = url.encodedPath();
+      if ("disconnect".equals(url.queryParameter("match[]"))) {
+        return new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST);
+      }
+      if (!path.equals("/api/v1/query_range") || !"10s".equals(url.queryParameter("step"))) {
+        requests.add(path);
+      }
+      switch (path) {
+        case "/api/v1/labels":
+          if ("error".equals(url.queryParameter("match[]"))) {
+            return new MockResponse().setResponseCode(400);
+          }
+          return new MockResponse().setBody(getJson("get_labels_response.json"));
+        case "/api/v1/metadata":
+          return new MockResponse().setBody(getJson("all_metrics_response.json"));
+        case "/api/v1/query_exemplars":
+          return new MockResponse().setBody(getJson("query_exemplars_response.json"));
+        default:
+          long start = Long.parseLong(url.queryParameter("start"));
+          long end = Long.parseLong(url.queryParameter("end"));
+          if ("10s".equals(url.queryParameter("step"))) {
+            requests.add(start + "-" + end);
+          }
+          return new MockResponse().setBody(matrix(start, end));
+      }
+    }
+
+    private String matrix(long start, long end) {
+      StringBuilder node = new StringBuilder();
+      StringBuilder early = new StringBuilder();
+      for (long t = start; t <= end; t += 10) {
+        String sample = String.format("[%d,\"%d\"]", t, t);
+        node.append(node.isEmpty() ? "" : ",").append(sample);
+        if (t < 50) {
+          early.append(early.isEmpty() ? "" : ",").append(sample);
+        }
+      }
+      String result = series("node", node);
+      if (!early.isEmpty()) {
+        result = series("early", early) + "," + result;
+      }
+      return "{\"status\":\"success\",\"data\":{\"resultType\":\"matrix\",\"result\":["
+          + result
+          + "]}}";
+    }
+
+    private String series(String job, StringBuilder values) {
+      return String.format("{\"metric\":{\"job\":\"%s\"},\"values\":[%s]}", job, values);
+    }
+  }
+
+  private static class TestClock extends Clock {
+    private Instant instant;
+
+    TestClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
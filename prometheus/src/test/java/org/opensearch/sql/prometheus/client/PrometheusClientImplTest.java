@@ -6,6 +6,7 @@
 package org.opensearch.sql.prometheus.client;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -20,14 +21,18 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import lombok.SneakyThrows;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.junit.jupiter.api.AfterEach;
@@ -37,6 +42,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.prometheus.exceptions.PrometheusClientException;
 import org.opensearch.sql.prometheus.request.system.model.MetricMetadata;
+import org.opensearch.sql.prometheus.response.MatrixResultReader;
 
 @ExtendWith(MockitoExtension.class)
 public class PrometheusClientImplTest {
@@ -121,6 +127,149 @@ public class PrometheusClientImplTest {
     verifyQueryRangeCall(recordedRequest);
   }
 
+  @Test
+  @SneakyThrows
+  void testQueryRangeStream() {
+    MockResponse mockResponse =
+        new MockResponse()
+            .addHeader("Content-Type", "application/json; charset=utf-8")
+            .setBody(getJson("query_range_response.json"));
+    mockWebServer.enqueue(mockResponse);
+    try (MatrixResultReader reader =
+        prometheusClient.queryRangeStream(QUERY, STARTTIME, ENDTIME, STEP)) {
+      assertTrue(reader.nextSeries());
+      assertEquals(
+          Map.of("__name__", "up", "job", "prometheus", "instance", "localhost:9090"),
+          reader.labels());
+      assertTrue(reader.nextSample());
+      assertEquals(1435781430.781, reader.timestamp());
+      assertEquals("1", reader.value());
+      assertFalse(reader.nextSample());
+      assertTrue(reader.nextSeries());
+      assertEquals("node", reader.labels().get("job"));
+      assertTrue(reader.nextSample());
+      assertEquals("0", reader.value());
+      assertFalse(reader.nextSeries());
+    }
+    RecordedRequest recordedRequest = mockWebServer.takeRequest();
+    verifyQueryRangeCall(recordedRequest);
+  }
+
+  @Test
+  @SneakyThrows
+  void testQueryRangeStreamWith2xxStatusAndError() {
+    MockResponse mockResponse =
+        new MockResponse()
+            .addHeader("Content-Type", "application/json; charset=utf-8")
+            .setBody(getJson("error_response.json"));
+    mockWebServer.enqueue(mockResponse);
+    PrometheusClientException prometheusClientException =
+        assertThrows(
+            PrometheusClientException.class,
+            () -> prometheusClient.queryRangeStream(QUERY, STARTTIME, ENDTIME, STEP));
+    assertEquals("Error", prometheusClientException.getMessage());
+  }
+
+  @Test
+  @SneakyThrows
+  void testQueryRangeStreamWithNonJsonResponse() {
+    MockResponse mockResponse =
+        new MockResponse()
+            .addHeader("Content-Type", "application/json; charset=utf-8")
+            .setBody(getJson("non_json_response.json"));
+    mockWebServer.enqueue(mockResponse);
+    PrometheusClientException prometheusClientException =
+        assertThrows(
+            PrometheusClientException.class,
+            () -> prometheusClient.queryRangeStream(QUERY, STARTTIME, ENDTIME, STEP));
+    assertEquals(
+        "Prometheus returned unexpected body, please verify your prometheus server setup.",
+        prometheusClientException.getMessage());
+  }
+
+  @Test
+  @SneakyThrows
+  void testQueryRangeStreamWithNon2xxError() {
+    mockWebServer.enqueue(new MockResponse().setResponseCode(400));
+    PrometheusClientException prometheusClientException =
+        assertThrows(
+            PrometheusClientException.class,
+            () -> prometheusClient.queryRangeStream(QUERY, STARTTIME, ENDTIME, STEP));
+    assertEquals(
+        "Request to Prometheus is Unsuccessful with code : 400",
+        prometheusClientException.getMessage());
+  }
+
+  @Test
+  @SneakyThrows
+  void testQueryRangeStreamSplitIntoSubRanges() {
+    // respond with a sample at the start of each sub-range, whatever the order of the requests
+    mockWebServer.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(RecordedRequest request) {
+            return new MockResponse()
+                .setBody(
+                    String.format(
+                        "{\"status\":\"success\",\"data\":{\"resultType\":\"matrix\","
+                            + "\"result\":[{\"metric\":{\"job\":\"node\"},"
+                            + "\"values\":[[%s,\"1\"]]}]}}",
+                        request.getRequestUrl().queryParameter("start")));
+          }
+        });
+    PrometheusClient splittingClient =
+        new PrometheusClientImpl(new OkHttpClient(), mockWebServer.url("").uri().normalize(), 2, 2);
+
+    List<Double> timestamps = new ArrayList<>();
+    try (MatrixResultReader reader = splittingClient.queryRangeStream(QUERY, 0L, 50L, "10s")) {
+      while (reader.nextSeries()) {
+        assertEquals(Map.of("job", "node"), reader.labels());
+        while (reader.nextSample()) {
+          timestamps.add(reader.timestamp());
+          assertEquals("1", reader.value());
+        }
+      }
+    }
+    assertEquals(List.of(0.0, 20.0, 40.0), timestamps);
+
+    List<String> ranges = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      HttpUrl httpUrl = mockWebServer.takeRequest().getRequestUrl();
+      assertNotNull(httpUrl);
+      ranges.add(httpUrl.queryParameter("start") + "-" + httpUrl.queryParameter("end"));
+    }
+    assertEquals(Set.of("0-10", "20-30", "40-50"), new HashSet<>(ranges));
+  }
+
+  @Test
+  @SneakyThrows
+  void testQueryRangeStreamSubRangeFailure() {
+    mockWebServer.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(RecordedRequest request) {
+            if ("0".equals(request.getRequestUrl().queryParameter("start"))) {
+              return new MockResponse().setBody(getQueryRangeResponse());
+            }
+            return new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST);
+          }
+        });
+    PrometheusClient splittingClient =
+        new PrometheusClientImpl(new OkHttpClient(), mockWebServer.url("").uri().normalize(), 2, 2);
+
+    MatrixResultReader reader = splittingClient.queryRangeStream(QUERY, 0L, 50L, "10s");
+    assertTrue(reader.nextSeries());
+    assertTrue(reader.nextSample());
+    assertEquals("1", reader.value());
+    assertTrue(reader.nextSeries());
+    assertThrows(IOException.class, reader::nextSeries);
+    reader.close();
+
+    MatrixResultReader closedReader = splittingClient.queryRangeStream(QUERY, 0L, 50L, "10s");
+    assertTrue(closedReader.nextSeries());
+    closedReader.close();
+  }
+
   @Test
   @SneakyThrows
   void testGetLabel() {
@@ -185,6 +334,11 @@ public class PrometheusClientImplTest {
     mockWebServer.shutdown();
   }
 
+  @SneakyThrows
+  private String getQueryRangeResponse() {
+    return getJson("query_range_response.json");
+  }
+
   private void verifyQueryRangeCall(RecordedRequest recordedRequest) {
     HttpUrl httpUrl = recordedRequest.getRequestUrl();
     assertEquals("GET", recordedRequest.getMethod());
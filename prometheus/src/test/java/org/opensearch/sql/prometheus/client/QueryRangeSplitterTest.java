@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.prometheus.client.QueryRangeSplitter.Range;
+
+class QueryRangeSplitterTest {
+
+  @Test
+  void testSplitOnSteps() {
+    assertEquals(
+        List.of(new Range(0, 10), new Range(20, 30), new Range(40, 50)),
+        QueryRangeSplitter.split(0, 50, "10s", 2));
+    assertEquals(
+        List.of(new Range(0, 10), new Range(20, 30), new Range(40, 45)),
+        QueryRangeSplitter.split(0, 45, "10s", 2));
+    assertEquals(
+        List.of(new Range(0, 0), new Range(3600, 3600), new Range(7200, 7200)),
+        QueryRangeSplitter.split(0, 7200, "1h", 1));
+    assertEquals(List.of(new Range(0, 50)), QueryRangeSplitter.split(0, 50, "10", 6));
+  }
+
+  @Test
+  void testNoSplit() {
+    assertEquals(List.of(new Range(0, 50)), QueryRangeSplitter.split(0, 50, "10s", 0));
+    assertEquals(List.of(new Range(0, 50)), QueryRangeSplitter.split(0, 50, "0.5", 2));
+    assertEquals(List.of(new Range(0, 50)), QueryRangeSplitter.split(0, 50, "1M", 2));
+    assertEquals(List.of(new Range(50, 50)), QueryRangeSplitter.split(50, 50, "10s", 2));
+  }
+
+  @Test
+  void testStepMillis() {
+    assertEquals(1500, QueryRangeSplitter.stepMillis("1.5"));
+    assertEquals(250, QueryRangeSplitter.stepMillis("250ms"));
+    assertEquals(5_400_000, QueryRangeSplitter.stepMillis("1h30m"));
+    assertEquals(-1, QueryRangeSplitter.stepMillis("1h30"));
+    assertEquals(-1, QueryRangeSplitter.stepMillis(null));
+    assertEquals(-1, QueryRangeSplitter.stepMillis(""));
+  }
+}
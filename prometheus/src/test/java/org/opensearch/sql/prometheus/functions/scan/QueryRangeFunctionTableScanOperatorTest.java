@@ -18,15 +18,15 @@ import static org.opensearch.sql.prometheus.constants.TestConstants.STEP;
 import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.LABELS;
 import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.TIMESTAMP;
 import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUE;
-import static org.opensearch.sql.prometheus.utils.TestUtils.getJson;
+import static org.opensearch.sql.prometheus.utils.TestUtils.getQueryRangeReader;
 
 import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.SneakyThrows;
-import org.json.JSONObject;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -60,8 +60,8 @@ class QueryRangeFunctionTableScanOperatorTest {
     QueryRangeFunctionTableScanOperator queryRangeFunctionTableScanOperator =
         new QueryRangeFunctionTableScanOperator(prometheusClient, prometheusQueryRequest);
 
-    when(prometheusClient.queryRange(any(), any(), any(), any()))
-        .thenReturn(new JSONObject(getJson("query_range_result.json")));
+    when(prometheusClient.queryRangeStream(any(), any(), any(), any()))
+        .thenReturn(getQueryRangeReader("query_range_result.json"));
     queryRangeFunctionTableScanOperator.open();
     Assertions.assertTrue(queryRangeFunctionTableScanOperator.hasNext());
     LinkedHashMap<String, ExprValue> labelsMap =
@@ -118,6 +118,38 @@ class QueryRangeFunctionTableScanOperatorTest {
     Assertions.assertFalse(queryRangeFunctionTableScanOperator.hasNext());
   }
 
+  @Test
+  @SneakyThrows
+  void testQueryResponseOfSubRangesMergedBySeries() {
+    PrometheusQueryRequest prometheusQueryRequest = new PrometheusQueryRequest();
+    prometheusQueryRequest.setPromQl(QUERY);
+    prometheusQueryRequest.setStartTime(STARTTIME);
+    prometheusQueryRequest.setEndTime(ENDTIME);
+    prometheusQueryRequest.setStep(STEP);
+
+    QueryRangeFunctionTableScanOperator queryRangeFunctionTableScanOperator =
+        new QueryRangeFunctionTableScanOperator(prometheusClient, prometheusQueryRequest);
+
+    when(prometheusClient.queryRangeStream(any(), any(), any(), any()))
+        .thenReturn(getQueryRangeReader("query_range_split_result.json"));
+    queryRangeFunctionTableScanOperator.open();
+    ExprValue firstRow = queryRangeFunctionTableScanOperator.next();
+    assertEquals(
+        new ExprStringValue("prometheus"), firstRow.tupleValue().get(LABELS).keyValue("job"));
+    assertEquals(
+        new ExprCollectionValue(
+            List.of(
+                new ExprTimestampValue(Instant.ofEpochMilli(1435781430781L)),
+                new ExprTimestampValue(Instant.ofEpochMilli(1435781445781L)))),
+        firstRow.tupleValue().get(TIMESTAMP));
+    assertEquals(
+        new ExprCollectionValue(List.of(new ExprDoubleValue(1), new ExprDoubleValue(2))),
+        firstRow.tupleValue().get(VALUE));
+    ExprValue secondRow = queryRangeFunctionTableScanOperator.next();
+    assertEquals(new ExprStringValue("node"), secondRow.tupleValue().get(LABELS).keyValue("job"));
+    Assertions.assertFalse(queryRangeFunctionTableScanOperator.hasNext());
+  }
+
   @Test
   @SneakyThrows
   void testEmptyQueryWithNoMatrixKeyInResultJson() {
@@ -130,8 +162,8 @@ class QueryRangeFunctionTableScanOperatorTest {
     QueryRangeFunctionTableScanOperator queryRangeFunctionTableScanOperator =
         new QueryRangeFunctionTableScanOperator(prometheusClient, prometheusQueryRequest);
 
-    when(prometheusClient.queryRange(any(), any(), any(), any()))
-        .thenReturn(new JSONObject(getJson("no_matrix_query_range_result.json")));
+    when(prometheusClient.queryRangeStream(any(), any(), any(), any()))
+        .thenAnswer(invocation -> getQueryRangeReader("no_matrix_query_range_result.json"));
     RuntimeException runtimeException =
         assertThrows(RuntimeException.class, queryRangeFunctionTableScanOperator::open);
     assertEquals(
@@ -152,8 +184,8 @@ class QueryRangeFunctionTableScanOperatorTest {
     QueryRangeFunctionTableScanOperator queryRangeFunctionTableScanOperator =
         new QueryRangeFunctionTableScanOperator(prometheusClient, prometheusQueryRequest);
 
-    when(prometheusClient.queryRange(any(), any(), any(), any()))
-        .thenReturn(new JSONObject(getJson("query_range_result.json")));
+    when(prometheusClient.queryRangeStream(any(), any(), any(), any()))
+        .thenReturn(getQueryRangeReader("query_range_result.json"));
     queryRangeFunctionTableScanOperator.open();
     ArrayList<ExecutionEngine.Schema.Column> columns = new ArrayList<>();
     columns.add(new ExecutionEngine.Schema.Column(LABELS, LABELS, ExprCoreType.STRUCT));
@@ -175,7 +207,7 @@ class QueryRangeFunctionTableScanOperatorTest {
     QueryRangeFunctionTableScanOperator queryRangeFunctionTableScanOperator =
         new QueryRangeFunctionTableScanOperator(prometheusClient, prometheusQueryRequest);
 
-    when(prometheusClient.queryRange(any(), any(), any(), any()))
+    when(prometheusClient.queryRangeStream(any(), any(), any(), any()))
         .thenThrow(new IOException("Error Message"));
     RuntimeException runtimeException =
         assertThrows(RuntimeException.class, queryRangeFunctionTableScanOperator::open);
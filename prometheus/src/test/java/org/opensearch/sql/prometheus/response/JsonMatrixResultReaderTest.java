@@ -0,0 +1,109 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.response;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.prometheus.exceptions.PrometheusClientException;
+
+class JsonMatrixResultReaderTest {
+
+  @Test
+  void testSkipUnreadSamplesAndUnknownFields() throws IOException {
+    AtomicBoolean closed = new AtomicBoolean();
+    JsonMatrixResultReader reader =
+        reader(
+            "{\"status\":\"success\",\"data\":{\"resultType\":\"matrix\",\"result\":["
+                + "{\"metric\":{\"job\":\"a\"},\"values\":[[1,\"1\"],[2,\"2\"]],\"other\":[{}]},"
+                + "{\"metric\":{\"job\":\"b\"},\"values\":[[3,\"3\"]]}]},\"warnings\":[]}",
+            closed);
+    assertTrue(reader.nextSeries());
+    assertEquals(Map.of("job", "a"), reader.labels());
+    assertTrue(reader.nextSample());
+    assertEquals(1.0, reader.timestamp());
+    assertTrue(reader.nextSeries());
+    assertEquals(Map.of("job", "b"), reader.labels());
+    assertTrue(reader.nextSample());
+    assertEquals(3.0, reader.timestamp());
+    assertEquals("3", reader.value());
+    assertFalse(reader.nextSample());
+    assertFalse(reader.nextSeries());
+    assertFalse(reader.nextSeries());
+
+    reader.close();
+    assertTrue(closed.get());
+  }
+
+  @Test
+  void testValuesBeforeMetric() throws IOException {
+    JsonMatrixResultReader reader =
+        reader(
+            "{\"resultType\":\"matrix\",\"result\":["
+                + "{\"values\":[[1,\"1\"],[2,\"NaN\"]],\"metric\":{\"job\":\"a\"}},{}]}",
+            new AtomicBoolean());
+    assertTrue(reader.nextSeries());
+    assertEquals(Map.of("job", "a"), reader.labels());
+    assertTrue(reader.nextSample());
+    assertEquals("1", reader.value());
+    assertTrue(reader.nextSample());
+    assertEquals(2.0, reader.timestamp());
+    assertEquals("NaN", reader.value());
+    assertFalse(reader.nextSample());
+    assertTrue(reader.nextSeries());
+    assertEquals(Map.of(), reader.labels());
+    assertFalse(reader.nextSample());
+    assertFalse(reader.nextSeries());
+  }
+
+  @Test
+  void testResponseWithoutResult() throws IOException {
+    assertFalse(hasSeries("[]"));
+    assertFalse(hasSeries("{\"status\":\"success\",\"data\":null}"));
+    assertFalse(hasSeries("{\"data\":{\"resultType\":\"matrix\"},\"status\":\"success\"}"));
+    assertFalse(hasSeries("{\"resultType\":\"matrix\",\"result\":null}"));
+  }
+
+  @Test
+  void testCloseIgnoresReleaseFailure() throws IOException {
+    JsonMatrixResultReader reader =
+        new JsonMatrixResultReader(
+            new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)),
+            () -> {
+              throw new IOException("already closed");
+            });
+    reader.close();
+  }
+
+  @Test
+  void testErrorClosesResponse() {
+    AtomicBoolean closed = new AtomicBoolean();
+    PrometheusClientException exception =
+        assertThrows(
+            PrometheusClientException.class,
+            () -> reader("{\"status\":\"error\",\"error\":\"bad_data\"}", closed));
+    assertEquals("bad_data", exception.getMessage());
+    assertTrue(closed.get());
+  }
+
+  private static boolean hasSeries(String json) throws IOException {
+    return reader(json, new AtomicBoolean()).nextSeries();
+  }
+
+  private static JsonMatrixResultReader reader(String json, AtomicBoolean closed)
+      throws IOException {
+    return new JsonMatrixResultReader(
+        new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), () -> closed.set(true));
+  }
+}
@@ -8,6 +8,7 @@ package org.opensearch.sql.prometheus.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.LONG;
@@ -18,14 +19,14 @@ import static org.opensearch.sql.prometheus.constants.TestConstants.STARTTIME;
 import static org.opensearch.sql.prometheus.constants.TestConstants.STEP;
 import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.TIMESTAMP;
 import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUE;
-import static org.opensearch.sql.prometheus.utils.TestUtils.getJson;
+import static org.opensearch.sql.prometheus.utils.TestUtils.getQueryRangeReader;
 
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.NoSuchElementException;
 import lombok.SneakyThrows;
-import org.json.JSONObject;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,6 +40,7 @@ import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.prometheus.client.PrometheusClient;
+import org.opensearch.sql.prometheus.response.MatrixResultReader;
 import org.opensearch.sql.prometheus.storage.model.PrometheusResponseFieldNames;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +48,8 @@ public class PrometheusMetricScanTest {
 
   @Mock private PrometheusClient prometheusClient;
 
+  @Mock private MatrixResultReader reader;
+
   @Test
   @SneakyThrows
   void testQueryResponseIterator() {
@@ -55,8 +59,8 @@ public class PrometheusMetricScanTest {
     prometheusMetricScan.getRequest().setEndTime(ENDTIME);
     prometheusMetricScan.getRequest().setStep(STEP);
 
-    when(prometheusClient.queryRange(any(), any(), any(), any()))
-        .thenReturn(new JSONObject(getJson("query_range_result.json")));
+    when(prometheusClient.queryRangeStream(any(), any(), any(), any()))
+        .thenReturn(getQueryRangeReader("query_range_result.json"));
     prometheusMetricScan.open();
     Assertions.assertTrue(prometheusMetricScan.hasNext());
     ExprTupleValue firstRow =
@@ -101,8 +105,8 @@ public class PrometheusMetricScanTest {
     prometheusMetricScan.getRequest().setEndTime(ENDTIME);
     prometheusMetricScan.getRequest().setStep(STEP);
 
-    when(prometheusClient.queryRange(any(), any(), any(), any()))
-        .thenReturn(new JSONObject(getJson("query_range_result.json")));
+    when(prometheusClient.queryRangeStream(any(), any(), any(), any()))
+        .thenReturn(getQueryRangeReader("query_range_result.json"));
     prometheusMetricScan.open();
     Assertions.assertTrue(prometheusMetricScan.hasNext());
     ExprTupleValue firstRow =
@@ -147,8 +151,8 @@ public class PrometheusMetricScanTest {
     prometheusMetricScan.getRequest().setEndTime(ENDTIME);
     prometheusMetricScan.getRequest().setStep(STEP);
 
-    when(prometheusClient.queryRange(any(), any(), any(), any()))
-        .thenReturn(new JSONObject(getJson("query_range_result.json")));
+    when(prometheusClient.queryRangeStream(any(), any(), any(), any()))
+        .thenReturn(getQueryRangeReader("query_range_result.json"));
     prometheusMetricScan.open();
     Assertions.assertTrue(prometheusMetricScan.hasNext());
     ExprTupleValue firstRow =
@@ -195,8 +199,8 @@ public class PrometheusMetricScanTest {
     prometheusMetricScan.getRequest().setEndTime(ENDTIME);
     prometheusMetricScan.getRequest().setStep(STEP);
 
-    when(prometheusClient.queryRange(any(), any(), any(), any()))
-        .thenReturn(new JSONObject(getJson("query_range_result.json")));
+    when(prometheusClient.queryRangeStream(any(), any(), any(), any()))
+        .thenReturn(getQueryRangeReader("query_range_result.json"));
     prometheusMetricScan.open();
     Assertions.assertTrue(prometheusMetricScan.hasNext());
     ExprTupleValue firstRow =
@@ -236,10 +240,11 @@ public class PrometheusMetricScanTest {
     prometheusMetricScan.getRequest().setEndTime(ENDTIME);
     prometheusMetricScan.getRequest().setStep(STEP);
 
-    when(prometheusClient.queryRange(any(), any(), any(), any()))
-        .thenReturn(new JSONObject(getJson("empty_query_range_result.json")));
+    when(prometheusClient.queryRangeStream(any(), any(), any(), any()))
+        .thenReturn(getQueryRangeReader("empty_query_range_result.json"));
     prometheusMetricScan.open();
     Assertions.assertFalse(prometheusMetricScan.hasNext());
+    assertThrows(NoSuchElementException.class, prometheusMetricScan::next);
   }
 
   @Test
@@ -251,8 +256,8 @@ public class PrometheusMetricScanTest {
     prometheusMetricScan.getRequest().setEndTime(ENDTIME);
     prometheusMetricScan.getRequest().setStep(STEP);
 
-    when(prometheusClient.queryRange(any(), any(), any(), any()))
-        .thenReturn(new JSONObject(getJson("no_matrix_query_range_result.json")));
+    when(prometheusClient.queryRangeStream(any(), any(), any(), any()))
+        .thenAnswer(invocation -> getQueryRangeReader("no_matrix_query_range_result.json"));
     RuntimeException runtimeException =
         Assertions.assertThrows(RuntimeException.class, prometheusMetricScan::open);
     assertEquals(
@@ -270,12 +275,33 @@ public class PrometheusMetricScanTest {
     prometheusMetricScan.getRequest().setEndTime(ENDTIME);
     prometheusMetricScan.getRequest().setStep(STEP);
 
-    when(prometheusClient.queryRange(any(), any(), any(), any()))
+    when(prometheusClient.queryRangeStream(any(), any(), any(), any()))
         .thenThrow(new IOException("Error Message"));
     RuntimeException runtimeException =
         assertThrows(RuntimeException.class, prometheusMetricScan::open);
     assertEquals(
         "Error fetching data from prometheus server. Error Message", runtimeException.getMessage());
+    prometheusMetricScan.close();
+  }
+
+  @Test
+  @SneakyThrows
+  void testQueryResponseReadError() {
+    PrometheusMetricScan prometheusMetricScan = new PrometheusMetricScan(prometheusClient);
+    prometheusMetricScan.getRequest().setPromQl(QUERY);
+    prometheusMetricScan.getRequest().setStartTime(STARTTIME);
+    prometheusMetricScan.getRequest().setEndTime(ENDTIME);
+    prometheusMetricScan.getRequest().setStep(STEP);
+
+    when(prometheusClient.queryRangeStream(any(), any(), any(), any())).thenReturn(reader);
+    when(reader.nextSeries()).thenThrow(new IOException("Error Message"));
+    prometheusMetricScan.open();
+    RuntimeException runtimeException =
+        assertThrows(RuntimeException.class, prometheusMetricScan::hasNext);
+    assertEquals(
+        "Error fetching data from prometheus server. Error Message", runtimeException.getMessage());
+    prometheusMetricScan.close();
+    verify(reader).close();
   }
 
   @Test
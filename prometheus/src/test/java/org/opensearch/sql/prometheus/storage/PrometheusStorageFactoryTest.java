@@ -67,6 +67,68 @@ public class PrometheusStorageFactoryTest {
     Assertions.assertTrue(storageEngine instanceof PrometheusStorageEngine);
   }
 
+  @Test
+  @SneakyThrows
+  void testGetStorageEngineWithQueryRangeSplit() {
+    when(settings.getSettingValue(Settings.Key.DATASOURCES_URI_HOSTS_DENY_LIST))
+        .thenReturn(Collections.emptyList());
+    PrometheusStorageFactory prometheusStorageFactory = new PrometheusStorageFactory(settings);
+    HashMap<String, String> properties = new HashMap<>();
+    properties.put("prometheus.uri", "http://localhost:9090");
+    properties.put("prometheus.query_range.split_steps", "1000");
+    properties.put("prometheus.query_range.max_concurrency", "2");
+    StorageEngine storageEngine = prometheusStorageFactory.getStorageEngine(properties);
+    Assertions.assertTrue(storageEngine instanceof PrometheusStorageEngine);
+  }
+
+  @Test
+  @SneakyThrows
+  void testGetStorageEngineWithCacheProperties() {
+    when(settings.getSettingValue(Settings.Key.DATASOURCES_URI_HOSTS_DENY_LIST))
+        .thenReturn(Collections.emptyList());
+    PrometheusStorageFactory prometheusStorageFactory = new PrometheusStorageFactory(settings);
+    HashMap<String, String> properties = new HashMap<>();
+    properties.put("prometheus.uri", "http://localhost:9090");
+    properties.put("prometheus.cache.metadata.ttl_seconds", "0");
+    properties.put("prometheus.cache.metadata.max_entries", "10");
+    properties.put("prometheus.cache.query_range.max_samples", "0");
+    StorageEngine storageEngine = prometheusStorageFactory.getStorageEngine(properties);
+    Assertions.assertTrue(storageEngine instanceof PrometheusStorageEngine);
+
+    properties.put("prometheus.cache.query_range.max_samples", "1000");
+    properties.put("prometheus.cache.query_range.max_freshness_seconds", "60");
+    properties.put("prometheus.cache.query_range.expire_after_access_seconds", "600");
+    storageEngine = prometheusStorageFactory.getStorageEngine(properties);
+    Assertions.assertTrue(storageEngine instanceof PrometheusStorageEngine);
+  }
+
+  @Test
+  @SneakyThrows
+  void testGetStorageEngineWithInvalidQueryRangeConcurrency() {
+    when(settings.getSettingValue(Settings.Key.DATASOURCES_URI_HOSTS_DENY_LIST))
+        .thenReturn(Collections.emptyList());
+    PrometheusStorageFactory prometheusStorageFactory = new PrometheusStorageFactory(settings);
+    HashMap<String, String> properties = new HashMap<>();
+    properties.put("prometheus.uri", "http://localhost:9090");
+    properties.put("prometheus.query_range.max_concurrency", "0");
+    IllegalArgumentException exception =
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> prometheusStorageFactory.getStorageEngine(properties));
+    Assertions.assertEquals(
+        "prometheus.query_range.max_concurrency must be an integer not less than 1",
+        exception.getMessage());
+
+    properties.put("prometheus.query_range.max_concurrency", "two");
+    exception =
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> prometheusStorageFactory.getStorageEngine(properties));
+    Assertions.assertEquals(
+        "prometheus.query_range.max_concurrency must be an integer not less than 1",
+        exception.getMessage());
+  }
+
   @Test
   @SneakyThrows
   void testGetStorageEngineWithMissingURI() {
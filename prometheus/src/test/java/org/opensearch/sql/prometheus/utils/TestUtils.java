@@ -5,8 +5,12 @@
 
 package org.opensearch.sql.prometheus.utils;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
+import org.opensearch.sql.prometheus.response.JsonMatrixResultReader;
+import org.opensearch.sql.prometheus.response.MatrixResultReader;
 
 public class TestUtils {
 
@@ -22,4 +26,16 @@ public class TestUtils {
     return new String(
         Objects.requireNonNull(classLoader.getResourceAsStream(filename)).readAllBytes());
   }
+
+  /**
+   * Get a reader of the range query response in a file of the resources folder.
+   *
+   * @param filename filename.
+   * @return MatrixResultReader.
+   * @throws IOException IOException.
+   */
+  public static MatrixResultReader getQueryRangeReader(String filename) throws IOException {
+    return new JsonMatrixResultReader(
+        new ByteArrayInputStream(getJson(filename).getBytes(StandardCharsets.UTF_8)), () -> {});
+  }
 }
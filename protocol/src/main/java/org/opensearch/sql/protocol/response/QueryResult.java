@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.protocol.response;
 
+import java.util.AbstractCollection;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -90,6 +91,25 @@ public class QueryResult implements Iterable<Object[]> {
         .iterator();
   }
 
+  /**
+   * Rows of the results as a collection view, each row is converted only when iterated.
+   *
+   * @return collection of rows
+   */
+  public Collection<Object[]> rows() {
+    return new AbstractCollection<>() {
+      @Override
+      public Iterator<Object[]> iterator() {
+        return QueryResult.this.iterator();
+      }
+
+      @Override
+      public int size() {
+        return QueryResult.this.size();
+      }
+    };
+  }
+
   private String getColumnName(Column column) {
     return (column.getAlias() != null) ? column.getAlias() : column.getName();
   }
@@ -50,6 +50,26 @@ public class ErrorFormatter {
         (PrivilegedAction<String>) () -> PRETTY_PRINT_GSON.toJson(jsonObject));
   }
 
+  /** Util method to write JSON of the object in compact printing to the given writer. */
+  public static void compactJsonify(Object jsonObject, Appendable writer) {
+    AccessController.doPrivileged(
+        (PrivilegedAction<Void>)
+            () -> {
+              GSON.toJson(jsonObject, writer);
+              return null;
+            });
+  }
+
+  /** Util method to write JSON of the object in pretty printing to the given writer. */
+  public static void prettyJsonify(Object jsonObject, Appendable writer) {
+    AccessController.doPrivileged(
+        (PrivilegedAction<Void>)
+            () -> {
+              PRETTY_PRINT_GSON.toJson(jsonObject, writer);
+              return null;
+            });
+  }
+
   @RequiredArgsConstructor
   @Getter
   public static class JsonError {
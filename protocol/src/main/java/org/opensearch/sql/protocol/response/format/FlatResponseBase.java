@@ -6,13 +6,21 @@
 package org.opensearch.sql.protocol.response.format;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import org.opensearch.sql.protocol.response.QueryResult;
 
+/**
+ * Flat response with one line per row. Rows are formatted and written one at a time, so that no
+ * copy of the whole result set is held besides the query result itself.
+ */
 @Getter
 public class FlatResponseBase {
   protected static final String INTERLINE_SEPARATOR = System.lineSeparator();
@@ -21,26 +29,44 @@ public class FlatResponseBase {
   protected final String separator;
 
   private final List<String> headers;
-  private final List<List<String>> data;
 
   FlatResponseBase(QueryResult response, String separator) {
     this.response = response;
     this.separator = separator;
     this.headers = getOriginalHeaders(response);
-    this.data = getOriginalData(response);
   }
 
   public String format() {
-    List<String> headersAndData = new ArrayList<>();
-    headersAndData.add(getHeaderLine());
-    headersAndData.addAll(getDataLines());
-    return String.join(INTERLINE_SEPARATOR, headersAndData);
+    StringWriter writer = new StringWriter();
+    try {
+      format(writer);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return writer.toString();
+  }
+
+  /**
+   * Write header line and data lines to the given writer.
+   *
+   * @param writer writer
+   */
+  public void format(Writer writer) throws IOException {
+    writer.write(getHeaderLine());
+    for (List<String> line : formattedLines()) {
+      writer.write(INTERLINE_SEPARATOR);
+      writer.write(getDataLine(line));
+    }
   }
 
   protected String getHeaderLine() {
     return String.join(separator, headers);
   }
 
+  protected String getDataLine(List<String> line) {
+    return String.join(separator, line);
+  }
+
   private List<String> getOriginalHeaders(QueryResult response) {
     ImmutableList.Builder<String> headers = ImmutableList.builder();
     response.columnNameTypes().forEach((column, type) -> headers.add(column));
@@ -48,23 +74,22 @@ public class FlatResponseBase {
     return formatHeaders(result);
   }
 
-  protected List<String> getDataLines() {
-    return data.stream().map(v -> String.join(separator, v)).collect(Collectors.toList());
+  private List<String> getOriginalLine(Object[] row) {
+    List<String> line = new ArrayList<>(row.length);
+    // replace null values with empty string
+    for (Object val : row) {
+      line.add(val == null ? "" : val.toString());
+    }
+    return line;
   }
 
-  private List<List<String>> getOriginalData(QueryResult response) {
-    ImmutableList.Builder<List<String>> dataLines = new ImmutableList.Builder<>();
-    response
-        .iterator()
-        .forEachRemaining(
-            row -> {
-              ImmutableList.Builder<String> line = new ImmutableList.Builder<>();
-              // replace null values with empty string
-              Arrays.asList(row).forEach(val -> line.add(val == null ? "" : val.toString()));
-              dataLines.add(line.build());
-            });
-    List<List<String>> result = dataLines.build();
-    return formatData(result);
+  /**
+   * Lazily format each row of the query result.
+   *
+   * @return formatted cells of each row
+   */
+  protected Iterable<List<String>> formattedLines() {
+    return () -> Iterators.transform(response.iterator(), row -> formatLine(getOriginalLine(row)));
   }
 
   protected List<String> formatHeaders(List<String> headers) {
@@ -73,13 +98,8 @@ public class FlatResponseBase {
         .collect(Collectors.toList());
   }
 
-  protected List<List<String>> formatData(List<List<String>> lines) {
-    List<List<String>> result = new ArrayList<>();
-    for (List<String> line : lines) {
-      result.add(
-          line.stream().map(cell -> quoteIfRequired(separator, cell)).collect(Collectors.toList()));
-    }
-    return result;
+  protected List<String> formatLine(List<String> line) {
+    return line.stream().map(cell -> quoteIfRequired(separator, cell)).collect(Collectors.toList());
   }
 
   protected String quoteIfRequired(String separator, String cell) {
@@ -18,22 +18,24 @@ public class FlatResponseWithPrettifier extends FlatResponseBase {
     calculateMaxWidths();
   }
 
+  /** Scan the result once to find the max width of each column before any line is written. */
   private void calculateMaxWidths() {
     int columns = getHeaders().size();
     maxWidths = new int[columns];
 
     for (int i = 0; i < columns; i++) {
-      int maxWidth = getHeaders().get(i).length();
-      for (List<String> row : getData()) {
-        maxWidth = Math.max(maxWidth, row.get(i).length());
+      maxWidths[i] = getHeaders().get(i).length();
+    }
+    for (List<String> row : formattedLines()) {
+      for (int i = 0; i < columns; i++) {
+        maxWidths[i] = Math.max(maxWidths[i], row.get(i).length());
       }
-      maxWidths[i] = maxWidth;
     }
   }
 
   @Override
-  protected List<String> getDataLines() {
-    return getData().stream().map(this::prettyFormatLine).collect(Collectors.toList());
+  protected String getDataLine(List<String> line) {
+    return prettyFormatLine(line);
   }
 
   @Override
@@ -1,7 +1,6 @@
 package org.opensearch.sql.protocol.response.format;
 
 import com.google.common.collect.ImmutableSet;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -28,16 +27,11 @@ public class FlatResponseWithSanitizer extends FlatResponseBase {
   }
 
   @Override
-  protected List<List<String>> formatData(List<List<String>> lines) {
-    List<List<String>> result = new ArrayList<>();
-    for (List<String> line : lines) {
-      result.add(
-          line.stream()
-              .map(this::sanitizeCell)
-              .map(cell -> quoteIfRequired(separator, cell))
-              .collect(Collectors.toList()));
-    }
-    return result;
+  protected List<String> formatLine(List<String> line) {
+    return line.stream()
+        .map(this::sanitizeCell)
+        .map(cell -> quoteIfRequired(separator, cell))
+        .collect(Collectors.toList());
   }
 
   private String sanitizeCell(String cell) {
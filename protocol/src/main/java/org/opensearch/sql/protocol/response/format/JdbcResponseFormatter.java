@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import java.util.Collection;
 import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
@@ -36,7 +37,7 @@ public class JdbcResponseFormatter extends JsonResponseFormatter<QueryResult> {
 
     // Fetch schema and data rows
     response.getSchema().getColumns().forEach(col -> json.column(fetchColumn(col)));
-    json.datarows(fetchDataRows(response));
+    json.datarows(response.rows());
 
     // Populate other fields
     json.total(response.size()).size(response.size()).status(200);
@@ -67,15 +68,6 @@ public class JdbcResponseFormatter extends JsonResponseFormatter<QueryResult> {
     return type.legacyTypeName().toLowerCase();
   }
 
-  private Object[][] fetchDataRows(QueryResult response) {
-    Object[][] rows = new Object[response.size()][];
-    int i = 0;
-    for (Object[] values : response) {
-      rows[i++] = values;
-    }
-    return rows;
-  }
-
   private int getStatus(Throwable t) {
     return (t instanceof SyntaxCheckException || t instanceof QueryEngineException) ? 400 : 503;
   }
@@ -87,7 +79,7 @@ public class JdbcResponseFormatter extends JsonResponseFormatter<QueryResult> {
     @Singular("column")
     private final List<Column> schema;
 
-    private final Object[][] datarows;
+    private final Collection<Object[]> datarows;
     private final long total;
     private final long size;
     private final int status;
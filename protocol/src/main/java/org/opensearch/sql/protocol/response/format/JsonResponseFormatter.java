@@ -11,6 +11,9 @@ import static org.opensearch.sql.protocol.response.format.ErrorFormatter.prettyF
 import static org.opensearch.sql.protocol.response.format.ErrorFormatter.prettyJsonify;
 import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
 
+import com.google.gson.JsonIOException;
+import java.io.IOException;
+import java.io.Writer;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import lombok.RequiredArgsConstructor;
@@ -39,6 +42,23 @@ public abstract class JsonResponseFormatter<R> implements ResponseFormatter<R> {
     return jsonify(buildJsonObject(response));
   }
 
+  @Override
+  public void format(R response, Writer writer) throws IOException {
+    Object jsonObject = buildJsonObject(response);
+    try {
+      if (style == PRETTY) {
+        prettyJsonify(jsonObject, writer);
+      } else {
+        compactJsonify(jsonObject, writer);
+      }
+    } catch (JsonIOException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
   @Override
   public String format(Throwable t) {
     return AccessController.doPrivileged(
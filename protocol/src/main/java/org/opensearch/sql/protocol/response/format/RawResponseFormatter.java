@@ -5,6 +5,8 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import java.io.IOException;
+import java.io.Writer;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 /** Response formatter to format response to raw format. */
@@ -34,13 +36,12 @@ public class RawResponseFormatter implements ResponseFormatter<QueryResult> {
 
   @Override
   public String format(QueryResult response) {
-    FlatResponseBase flatResponse;
-    if (pretty) {
-      flatResponse = new FlatResponseWithPrettifier(response, separator);
-    } else {
-      flatResponse = new FlatResponseBase(response, separator);
-    }
-    return flatResponse.format();
+    return flatResponse(response).format();
+  }
+
+  @Override
+  public void format(QueryResult response, Writer writer) throws IOException {
+    flatResponse(response).format(writer);
   }
 
   @Override
@@ -52,4 +53,11 @@ public class RawResponseFormatter implements ResponseFormatter<QueryResult> {
   public String contentType() {
     return CONTENT_TYPE;
   }
+
+  private FlatResponseBase flatResponse(QueryResult response) {
+    if (pretty) {
+      return new FlatResponseWithPrettifier(response, separator);
+    }
+    return new FlatResponseBase(response, separator);
+  }
 }
@@ -5,6 +5,9 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import java.io.IOException;
+import java.io.Writer;
+
 /** Response formatter to format response to different formats. */
 public interface ResponseFormatter<R> {
 
@@ -16,6 +19,17 @@ public interface ResponseFormatter<R> {
    */
   String format(R response);
 
+  /**
+   * Format response and write it to the given writer. Formatters able to emit content row by row
+   * override this to avoid building the whole response as one string.
+   *
+   * @param response response
+   * @param writer writer of the response content
+   */
+  default void format(R response, Writer writer) throws IOException {
+    writer.write(format(response));
+  }
+
   /**
    * Format an exception into string.
    *
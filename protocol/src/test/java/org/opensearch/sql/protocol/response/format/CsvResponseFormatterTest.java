@@ -17,6 +17,8 @@ import static org.opensearch.sql.protocol.response.format.CsvResponseFormatter.C
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprTupleValue;
@@ -45,6 +47,25 @@ public class CsvResponseFormatterTest {
     assertEquals(format(expected), formatter.format(response));
   }
 
+  @Test
+  void formatResponseToWriter() throws IOException {
+    ExecutionEngine.Schema schema =
+        new ExecutionEngine.Schema(
+            ImmutableList.of(
+                new ExecutionEngine.Schema.Column("name", "name", STRING),
+                new ExecutionEngine.Schema.Column("age", "age", INTEGER)));
+    QueryResult response =
+        new QueryResult(
+            schema,
+            Arrays.asList(
+                tupleValue(ImmutableMap.of("name", "John", "age", 20)),
+                tupleValue(ImmutableMap.of("name", "Smith", "age", 30))));
+    CsvResponseFormatter formatter = new CsvResponseFormatter();
+    StringWriter writer = new StringWriter();
+    formatter.format(response, writer);
+    assertEquals(format("name,age%nJohn,20%nSmith,30"), writer.toString());
+  }
+
   @Test
   void sanitizeHeaders() {
     ExecutionEngine.Schema schema =
@@ -21,6 +21,8 @@ import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.Map;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -149,6 +151,22 @@ class JdbcResponseFormatterTest {
         formatter.format(response));
   }
 
+  @Test
+  void format_response_to_writer() throws IOException {
+    QueryResult response =
+        new QueryResult(
+            new Schema(
+                ImmutableList.of(
+                    new Column("name", null, STRING), new Column("age", null, INTEGER))),
+            Arrays.asList(
+                tupleValue(ImmutableMap.of("name", "John", "age", 20)),
+                tupleValue(ImmutableMap.of("name", "Smith", "age", 30))));
+
+    StringWriter writer = new StringWriter();
+    formatter.format(response, writer);
+    assertEquals(formatter.format(response), writer.toString());
+  }
+
   @Test
   void format_client_error_response_due_to_syntax_exception() {
     assertJsonEquals(